@@ -0,0 +1,87 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.*;
+
+import io.github.biglipbob.FMOD.dsp.DSPFFT;
+
+import org.openjdk.jmh.annotations.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+/**
+ * Shared fixture of the benchmarks: a no-output system playing a paused looping user sound through an FFT DSP.
+ * <p>
+ * The {@code backend} parameter picks {@code stub} ({@link FMODStubFFI}, wrapper overhead only) or a real libfmod
+ * through {@code jna} or {@code panama}. JMH forks one JVM per parameter value, as the backend can only be installed once per process.
+ * Direct mapping of the JNA backend is toggled with {@code -jvmArgsAppend -Dfmod.direct=false}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FMODBenchmarkState {
+
+    /// Stub answering just enough for the wrapper paths under test to complete.
+    static final class Stub extends FMODStubFFI {
+        private final Memory spectrum = new Memory(new FMODSpectrumData().size());
+
+        Stub() {
+            spectrum.clear(); // No channel, so reading it never follows a spectrum pointer
+        }
+
+        @Override public int FMOD_Channel_GetMixMatrix(Pointer channel, Pointer matrix, IntByReference outChannels, IntByReference inChannels, int inChannelHop) {
+            outChannels.setValue(2);
+            inChannels.setValue(2);
+            return FMOD_OK;
+        }
+
+        @Override public int FMOD_DSP_GetParameterData(Pointer dsp, int index, PointerByReference data, IntByReference length, Pointer valueStr, int valueStrLen) {
+            data.setValue(spectrum);
+            length.setValue((int) spectrum.size());
+            return FMOD_OK;
+        }
+    }
+
+    @Param({"stub"})
+    public String backend;
+
+    FMODSystem system;
+    FMODSound sound;
+    FMODChannel channel;
+    DSPFFT fft;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (FMOD.CALL == null) {
+            if (backend.equals("stub")) FMOD.initializeFMOD(new Stub());
+            else FMOD.initializeFMOD(FMODBackend.valueOf(backend.toUpperCase(Locale.ROOT)));
+        }
+        system = FMOD.createSystemWithOutput(32, FMOD_INIT_NORMAL, FMOD_OUTPUTTYPE_NOSOUND);
+        sound = system.createSound((Pointer) null, FMOD_OPENUSER | FMOD_LOOP_NORMAL, userSoundInfo());
+        channel = system.playSound(sound, null, true);
+        fft = new DSPFFT(system);
+        channel.addDSP(0, fft);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.tryStop();
+        fft.close();
+        sound.close();
+        system.close();
+    }
+
+    /// One second of silent 16-bit stereo, enough to back channels and measure sound creation without touching the disk.
+    static FMODCreateSoundExInfo userSoundInfo() {
+        FMODCreateSoundExInfo exInfo = new FMODCreateSoundExInfo();
+        exInfo.format = FMOD_SOUND_FORMAT_PCM16;
+        exInfo.numchannels = 2;
+        exInfo.defaultfrequency = 48000;
+        exInfo.length = 48000 * 2 * 2;
+        return exInfo;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.biglipbob.FMOD;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs the JMH suites with the GC profiler always attached, so every result reports B/op ({@code gc.alloc.rate.norm}) next to ns/op.
+ * Accepts the usual JMH command line, ie {@code java -jar benchmarks.jar Channel -p backend=stub,jna}.
+ */
+public final class FMODBenchmarks {
+
+    private FMODBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.concurrent.TimeUnit;
+
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.*;
+
+import static io.github.biglipbob.FMOD.FMODCallbacks.FMODChannelCallback;
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+/// Java side of a channel callback, from the FFI entry point to the user dispatcher. Needs no backend as FMOD only calls in.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FMODCallbackBenchmark {
+
+    private final FMODChannelCallbackAdapter adapter = new FMODChannelCallbackAdapter(new FMODChannelCallback());
+    private final Pointer channel = FMODStubFFI.CHANNEL, virtual = new Pointer(1);
+
+    @Benchmark
+    public int dispatchEnd() {
+        return adapter.invoke(channel, FMOD_CHANNELCONTROL_CHANNEL, FMOD_CHANNELCONTROL_CALLBACK_END, null, null);
+    }
+
+    @Benchmark
+    public int dispatchVirtualVoice() {
+        return adapter.invoke(channel, FMOD_CHANNELCONTROL_CHANNEL, FMOD_CHANNELCONTROL_CALLBACK_VIRTUALVOICE, virtual, null);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.biglipbob.FMOD;
+
+import org.openjdk.jmh.annotations.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.FMOD_TIMEUNIT_PCM;
+
+/// Per-channel calls issued every frame for every voice.
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FMODChannelBenchmark extends FMODBenchmarkState {
+
+    private final float[][] matrix = {{1, 0}, {0, 1}};
+
+    @Benchmark
+    public void setVolume() {
+        channel.setVolume(0.5f);
+    }
+
+    @Benchmark
+    public boolean isPlaying() {
+        return channel.isPlaying();
+    }
+
+    @Benchmark
+    public int getPosition() {
+        return channel.getPosition(FMOD_TIMEUNIT_PCM);
+    }
+
+    @Benchmark
+    public float[][] getMixMatrix() {
+        return channel.getMixMatrix();
+    }
+
+    @Benchmark
+    public void setMixMatrix() {
+        channel.setMixMatrix(matrix);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.biglipbob.FMOD;
+
+import org.openjdk.jmh.annotations.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.FMOD_DSP_FFT_RMS;
+
+/// DSP parameter reads, as polled by meters and visualizers.
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FMODDSPBenchmark extends FMODBenchmarkState {
+
+    @Benchmark
+    public float getParameterValueFloat() {
+        return fft.getParameterValueFloat(FMOD_DSP_FFT_RMS);
+    }
+
+    @Benchmark
+    public FMODSpectrumData getSpectrumData() {
+        return fft.getSpectrumData();
+    }
+}
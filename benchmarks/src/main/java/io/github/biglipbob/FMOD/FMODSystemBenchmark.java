@@ -0,0 +1,21 @@
+package io.github.biglipbob.FMOD;
+
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+/// Object creation through the system, released right away so native memory stays flat.
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FMODSystemBenchmark extends FMODBenchmarkState {
+
+    private final FMODCreateSoundExInfo exInfo = userSoundInfo();
+
+    @Benchmark
+    public void createSound() {
+        system.createSound((Pointer) null, FMOD_OPENUSER, exInfo).close();
+    }
+}
@@ -3,12 +3,17 @@ package io.github.biglipbob.FMOD;
 import java.lang.ref.Cleaner;
 import java.io.File;
 import java.util.*;
+import java.util.function.Consumer;
 
 import com.sun.jna.*;
-import com.sun.jna.ptr.PointerByReference;
+import com.sun.jna.ptr.*;
+
+import io.github.biglipbob.utils.Tuplet;
 
 import static io.github.biglipbob.FMOD.FMODConstants.*;
 
+import org.jetbrains.annotations.*;
+
 /**
  * The {@code FMOD} class provides a Java Native Access interface to the FMOD audio engine native library.
  * <p>
@@ -22,15 +27,22 @@ import static io.github.biglipbob.FMOD.FMODConstants.*;
 public class FMOD {
 
     static final Cleaner CLEANER = Cleaner.create();
-    static final Map<Pointer, Object> USERDATA = new HashMap<>();
+    static final FMODLongMap<Object> USERDATA = new FMODLongMap<>(64); // By native address, read lock-free from FMOD threads
     private static final String SEARCH_PATH = "fmod";
-    static FMODFFI CALL = null;
+    static volatile FMODFFI CALL = null; // Volatile as FMODMetrics swaps it while other threads call FMOD
+    static volatile boolean DIRECT = false; // Routes the hottest calls through FMODDirect, only ever set alongside the JNA backend
 
     private FMOD() {
     }
 
     /// To be used to initialize in advance to be able to report errors, or lazily inside FMOD's System Create (everything sprawls from it) (or Debug calls)
     public static void initializeFMOD() {
+        if (CALL != null) return;
+        initializeFMOD(FMODBackend.valueOf(System.getProperty("fmod.backend", FMODBackend.JNA.name()).toUpperCase(Locale.ROOT)));
+    }
+
+    /// Initializes FMOD through the given binding backend, only the first initialization is effective.
+    public static synchronized void initializeFMOD(FMODBackend backend) {
         if (CALL != null) return;
         String libPath = System.getProperty("user.dir") + File.separator + SEARCH_PATH + File.separator + System.getProperty("os.name").substring(0, 3).toLowerCase() + '-' + System.getProperty("os.arch");
 
@@ -38,7 +50,25 @@ public class FMOD {
         System.setProperty("java.library.path", basePath != null ? basePath + File.pathSeparator + libPath : libPath); // Windows requires vcruntime140_app.dll as FMOD is dynamically linked against
 
         NativeLibrary.addSearchPath("fmod", libPath);
-        CALL = Native.load("fmod", FMODFFI.class, Collections.singletonMap(Library.OPTION_STRING_ENCODING, "UTF-8")); // Yet another fix for Windows, as FMOD exclusively uses UTF-8 which is good
+        Map<String, ?> options = Collections.singletonMap(Library.OPTION_STRING_ENCODING, "UTF-8"); // Yet another fix for Windows, as FMOD exclusively uses UTF-8 which is good
+        NativeLibrary library = NativeLibrary.getInstance("fmod", options);
+        CALL = switch (backend) {
+            case JNA -> Native.load("fmod", FMODFFI.class, options);
+            case PANAMA -> new FMODPanamaFFI(FMODPanamaFFI.lookup(library));
+        };
+        DIRECT = backend == FMODBackend.JNA && Boolean.parseBoolean(System.getProperty("fmod.direct", "true")) && FMODDirect.register(library);
+    }
+
+    /// Installs an already bound backend (ie a stub, or {@link FMODPanamaFFI} over a fake native library) in place of libfmod.
+    static synchronized void initializeFMOD(FMODFFI backend) {
+        if (CALL != null) throw new IllegalStateException("FMOD is already initialized");
+        CALL = backend;
+    }
+
+    /// Associates a user value with a native object by address, dropping it for null.
+    static void putUserData(Pointer ptr, @Nullable Object userdata) {
+        if (userdata != null) USERDATA.put(Pointer.nativeValue(ptr), userdata);
+        else USERDATA.remove(Pointer.nativeValue(ptr));
     }
 
     static Memory createMixMatrixMemory(float[][] matrix) {
@@ -64,27 +94,26 @@ public class FMOD {
     }
 
     /// Creates an instance of the FMOD system.
-    public static FMODSystem createSystem(int maxChannels, int flags) { // Because code before this/super() is experimental
-        initializeFMOD();
-
-        PointerByReference systemRef = new PointerByReference();
-        int result;
-        synchronized (FMOD.class) {
-            result = CALL.FMOD_System_Create(systemRef, FMODConstants.FMOD_VERSION);
-        }
-        if (result != FMODConstants.FMOD_OK)
-            throw new FMODException("FMOD_System_Create", result);
-        Pointer ptr = systemRef.getValue();
+    public static FMODSystem createSystem(int maxChannels, int flags) {
+        return createSystem(maxChannels, flags, system -> {
+        });
+    }
 
-        result = CALL.FMOD_System_Init(ptr, maxChannels, flags, null);
-        if (result != FMODConstants.FMOD_OK)
-            throw new FMODException("FMOD_System_Init", result);
+    /// Creates an instance of the FMOD system.
+    public static FMODSystem createSystem(int maxChannels, int flags, int sampleRate, int bufferSize, int bufferCount) {
+        return createSystem(maxChannels, flags, system -> {
+            system.setSampleRate(sampleRate);
+            system.setDSPBufferSize(bufferSize, bufferCount);
+        });
+    }
 
-        return new FMODSystem(ptr);
+    /// Creates an instance mixing through the given output type (ie FMOD_OUTPUTTYPE_NOSOUND_NRT for offline work).
+    public static FMODSystem createSystemWithOutput(int maxChannels, int flags, int outputType) {
+        return createSystem(maxChannels, flags, system -> system.setOutput(outputType));
     }
 
-    /// Creates an instance of the FMOD system.
-    public static FMODSystem createSystem(int maxChannels, int flags, int sampleRate, int bufferSize, int bufferCount) { // Because code before this/super() is experimental
+    /// Creates a system, applies the pre-initialization settings then initializes it, releasing it if any step fails.
+    private static FMODSystem createSystem(int maxChannels, int flags, Consumer<FMODSystem> configure) { // Because code before this/super() is experimental
         initializeFMOD();
 
         PointerByReference systemRef = new PointerByReference();
@@ -94,17 +123,16 @@ public class FMOD {
         }
         if (result != FMODConstants.FMOD_OK)
             throw new FMODException("FMOD_System_Create", result);
-        Pointer ptr = systemRef.getValue();
-
-        FMODSystem system = new FMODSystem(ptr);
 
-        system.setSampleRate(sampleRate);
-        system.setDSPBufferSize(bufferSize, bufferCount);
-
-        result = CALL.FMOD_System_Init(ptr, maxChannels, flags, null);
-        if (result != FMODConstants.FMOD_OK) {
-            system.close(); // Just to make sure
-            throw new FMODException("FMOD_System_Init", result);
+        FMODSystem system = new FMODSystem(systemRef.getValue());
+        try {
+            configure.accept(system);
+            result = CALL.FMOD_System_Init(system.ptr, maxChannels, flags, null);
+            if (result != FMODConstants.FMOD_OK)
+                throw new FMODException("FMOD_System_Init", result);
+        } catch (RuntimeException e) {
+            system.close();
+            throw e;
         }
 
         return system;
@@ -120,6 +148,25 @@ public class FMOD {
         return createSystem(maxChannels, FMOD_INIT_PROFILE_ENABLE);
     }
 
+    /// Creates an instance driven by a dedicated owner thread, see {@link FMODSystem#startOwnerThread(int, long)}. FMOD's internal locking is kept
+    /// as wrappers may still be called from any thread: passing FMOD_INIT_THREAD_UNSAFE requires routing every call through {@link FMODSystem#getCommandQueue()}.
+    public static FMODSystem createSystemWithOwnerThread(int maxChannels, int flags, int queueCapacity, long updatePeriodNanos) {
+        FMODSystem system = createSystem(maxChannels, flags);
+        system.startOwnerThread(queueCapacity, updatePeriodNanos);
+        return system;
+    }
+
+    /// Retrieves the current and maximum number of bytes allocated by FMOD, blocking to include allocations in flight if asked to.
+    public static Tuplet<Integer> getMemoryStats(boolean blocking) {
+        initializeFMOD();
+
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference currentRef = scratch.int0, maxRef = scratch.int1;
+        int result = CALL.FMOD_Memory_GetStats(currentRef, maxRef, blocking ? 1 : 0);
+        if (result != FMODConstants.FMOD_OK) throw new FMODException("FMOD_Memory_GetStats", result);
+        return new Tuplet<>(currentRef.getValue(), maxRef.getValue());
+    }
+
     /// Initializes debugging on console.
     public static void debugConsole() {
         initializeFMOD();
@@ -0,0 +1,15 @@
+package io.github.biglipbob.FMOD;
+
+/**
+ * The {@code FMODBackend} enum selects the binding layer used to reach the native FMOD library.
+ * <p>
+ * It is picked once at startup, either explicitly through {@link FMOD#initializeFMOD(FMODBackend)}
+ * or through the {@code fmod.backend} system property (defaults to {@link #JNA}).
+ * </p>
+ */
+public enum FMODBackend {
+    /// JNA interface proxy, marshalling arguments through reflection on every call.
+    JNA,
+    /// Foreign Function & Memory downcall handles, requires {@code --enable-native-access} to silence the restricted method warnings.
+    PANAMA
+}
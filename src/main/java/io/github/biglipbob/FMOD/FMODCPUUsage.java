@@ -0,0 +1,23 @@
+package io.github.biglipbob.FMOD;
+
+import com.sun.jna.*;
+import java.util.*;
+
+/// Mirror of FMOD_CPU_USAGE, the time spent by each FMOD thread in percent of a core, see FMODSystemRef::getCPUUsage.
+@SuppressWarnings({"unused"})
+public class FMODCPUUsage extends Structure {
+    public float dsp;
+    public float stream;
+    public float geometry;
+    public float update;
+    public float convolution1;
+    public float convolution2;
+
+    public FMODCPUUsage() {
+        super();
+    }
+
+    @Override protected List<String> getFieldOrder() {
+        return Arrays.asList("dsp", "stream", "geometry", "update", "convolution1", "convolution2");
+    }
+}
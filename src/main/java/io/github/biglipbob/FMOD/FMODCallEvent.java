@@ -0,0 +1,23 @@
+package io.github.biglipbob.FMOD;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event of a single FMOD call, emitted by {@link FMODMetrics} while enabled.
+ * Only calls lasting longer than the threshold (1 ms unless overridden in the recording settings) are committed, keeping recordings cheap.
+ */
+@Name("io.github.biglipbob.FMOD.Call")
+@Label("FMOD Call")
+@Category({"FMOD", "FFI"})
+@Description("A call into the FMOD native library")
+@Threshold("1 ms")
+@StackTrace(false)
+final class FMODCallEvent extends Event {
+
+    @Label("Function")
+    String function;
+
+    @Label("Result")
+    @Description("FMOD_RESULT code, 0 being FMOD_OK")
+    int result;
+}
@@ -0,0 +1,269 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.invoke.*;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.LockSupport;
+
+import com.sun.jna.*;
+
+import static io.github.biglipbob.FMOD.FMODCallbacks.FMODChannelCallback;
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+import static io.github.biglipbob.FMOD.FMODFFI.FMODChannelCallbackFFI;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODCallbackQueue} delivers channel callbacks off FMOD's threads, through a bounded lock-free ring of compact event records.
+ * <p>
+ * Channels registered with {@link FMODChannel#setCallback(FMODChannelCallback, FMODCallbackQueue)} share one native callback which only
+ * writes the channel address, the callback type and two data words into preallocated slots, never running user code nor throwing
+ * on FMOD's thread. A single consumer then delivers the events to each channel's {@link FMODChannelCallback}: a virtual thread
+ * ({@link #startVirtualThread()}), an executor ({@link #start(Executor)}), or {@link FMODSystem#update()} once
+ * {@link FMODSystem#setCallbackQueue(FMODCallbackQueue)}d. Listener exceptions go to the consumer's uncaught exception handler.
+ * </p>
+ * <p>
+ * Events arriving while the ring is full are dropped and counted, see {@link #getDropped()} and {@link #getHighWaterMark()} to size it.
+ * A dropped end event still forgets its channel's listener and user value.
+ * </p>
+ * <p>
+ * A queue stays reachable from a static set while FMOD may call into it, until it is closed and no channel is registered anymore.
+ * </p>
+ */
+public final class FMODCallbackQueue implements AutoCloseable {
+
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle TAIL, HEAD;
+    private static final Set<FMODCallbackQueue> PINNED = ConcurrentHashMap.newKeySet(); // FMOD may call into a queue for as long as channels hold its callback
+    private static final int FREE = 0, MANUAL = 1, CLAIMED = 2; // Consumer roles
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(FMODCallbackQueue.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(FMODCallbackQueue.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long[] sequences; // Vyukov's per slot turn counters
+    private final long[] channels, data1, data2;
+    private final int[] types;
+    private final int mask;
+    @SuppressWarnings("unused") private volatile long tail; // Claimed by producers through TAIL
+    @SuppressWarnings("unused") private volatile long head; // Advanced by the consumer only, read by producers for the high-water mark
+
+    private final FMODLongMap<FMODChannelCallback> listeners = new FMODLongMap<>(64);
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong highWaterMark = new AtomicLong();
+    private final AtomicInteger consumer = new AtomicInteger(FREE);
+    private final AtomicBoolean draining = new AtomicBoolean(); // Held by a manual drain()
+    private volatile @Nullable Thread waiting; // Parked consumer to wake up
+    private volatile boolean closed;
+
+    final FMODChannelCallbackFFI callback = this::enqueue; // Shared by every registered channel
+
+    public FMODCallbackQueue(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        sequences = new long[capacity];
+        for (int i = 0; i < capacity; i++) sequences[i] = i;
+        channels = new long[capacity];
+        data1 = new long[capacity];
+        data2 = new long[capacity];
+        types = new int[capacity];
+        mask = capacity - 1;
+        Native.setCallbackThreadInitializer(callback, new CallbackThreadInitializer(true, false, "FMOD Callbacks")); // Stay attached between events
+        PINNED.add(this);
+    }
+
+    // ---------------------------------------- //
+    // Channels
+    // ---------------------------------------- //
+
+    synchronized void register(Pointer channel, FMODChannelCallback listener) {
+        listeners.put(Pointer.nativeValue(channel), listener);
+        PINNED.add(this); // Again, if closed and unpinned since
+    }
+
+    void unregister(Pointer channel) {
+        forget(Pointer.nativeValue(channel));
+    }
+
+    /// Drops the listener of a channel, unpinning a closed queue once none is left.
+    private synchronized void forget(long address) {
+        listeners.remove(address);
+        if (closed && listeners.size() == 0) PINNED.remove(this);
+    }
+
+    // ---------------------------------------- //
+    // Producers, on FMOD's threads
+    // ---------------------------------------- //
+
+    private int enqueue(Pointer channelControl, int controlType, int callbackType, Pointer commandData1, Pointer commandData2) {
+        long word1, word2 = 0;
+        switch (callbackType) { // Data pointers are only valid during the call, their values are copied
+            case FMOD_CHANNELCONTROL_CALLBACK_VIRTUALVOICE, FMOD_CHANNELCONTROL_CALLBACK_SYNCPOINT -> word1 = Pointer.nativeValue(commandData1);
+            case FMOD_CHANNELCONTROL_CALLBACK_OCCLUSION -> {
+                word1 = commandData1.getInt(0); // Raw float bits
+                word2 = commandData2.getInt(0);
+            }
+            default -> word1 = 0;
+        }
+        long address = Pointer.nativeValue(channelControl);
+        if (!offer(address, callbackType, word1, word2)) {
+            dropped.increment();
+            if (callbackType == FMOD_CHANNELCONTROL_CALLBACK_END) { // Would never be forgotten otherwise
+                forget(address);
+                FMOD.USERDATA.remove(address);
+            }
+        }
+        return FMOD_OK;
+    }
+
+    private boolean offer(long channel, int type, long word1, long word2) {
+        if (closed) return false;
+        long pos = (long) TAIL.getVolatile(this);
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = (long) SEQUENCE.getAcquire(sequences, index) - pos;
+            if (diff == 0) {
+                if (TAIL.weakCompareAndSet(this, pos, pos + 1)) {
+                    channels[index] = channel;
+                    types[index] = type;
+                    data1[index] = word1;
+                    data2[index] = word2;
+                    SEQUENCE.setRelease(sequences, index, pos + 1); // Publishes the event
+                    long size = pos + 1 - (long) HEAD.getAcquire(this);
+                    if (highWaterMark.get() < size) highWaterMark.accumulateAndGet(size, Math::max);
+                    Thread consumer = waiting;
+                    if (consumer != null) LockSupport.unpark(consumer);
+                    return true;
+                }
+                pos = (long) TAIL.getVolatile(this);
+            } else if (diff < 0) return false; // Full, the consumer has not delivered this slot's previous turn yet
+            else pos = (long) TAIL.getVolatile(this);
+        }
+    }
+
+    // ---------------------------------------- //
+    // Consumer
+    // ---------------------------------------- //
+
+    /// Delivers every pending event on the calling thread, returns how many were.
+    /// Only for a queue neither started nor set on a system, and never from two threads at once.
+    public int drain() {
+        if (!consumer.compareAndSet(FREE, MANUAL) && consumer.get() != MANUAL) throw new IllegalStateException("Already consumed elsewhere");
+        if (!draining.compareAndSet(false, true)) throw new IllegalStateException("Already being drained");
+        try {
+            return deliverPending();
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    /// Delivers every pending event, by the claimed consumer only.
+    int deliverPending() {
+        int ran = 0;
+        for (long head = (long) HEAD.getOpaque(this); ; head++, ran++) {
+            int index = (int) head & mask;
+            if ((long) SEQUENCE.getAcquire(sequences, index) != head + 1) break;
+            long channel = channels[index], word1 = data1[index], word2 = data2[index];
+            int type = types[index];
+            SEQUENCE.setRelease(sequences, index, head + mask + 1); // Hands the slot back to producers for the next turn
+            HEAD.setRelease(this, head + 1);
+            deliver(channel, type, word1, word2);
+        }
+        return ran;
+    }
+
+    private void deliver(long address, int type, long word1, long word2) {
+        boolean end = type == FMOD_CHANNELCONTROL_CALLBACK_END;
+        FMODChannelCallback listener = listeners.get(address);
+        if (end) forget(address);
+        if (listener == null) { // Unregistered since
+            if (end) FMOD.USERDATA.remove(address);
+            return;
+        }
+        FMODChannel channel = FMODHandles.intern(new Pointer(address), FMODChannel.class, FMODChannel::new);
+        try {
+            switch (type) {
+                case FMOD_CHANNELCONTROL_CALLBACK_END -> listener.onSoundEnd(channel);
+                case FMOD_CHANNELCONTROL_CALLBACK_VIRTUALVOICE -> listener.onVirtualVoice(channel, word1 != 0);
+                case FMOD_CHANNELCONTROL_CALLBACK_SYNCPOINT -> listener.onSyncPoint(channel, (int) word1);
+                case FMOD_CHANNELCONTROL_CALLBACK_OCCLUSION -> listener.onOcclusion(channel, Float.intBitsToFloat((int) word1), Float.intBitsToFloat((int) word2));
+                default -> {
+                }
+            }
+        } catch (Throwable t) { // A faulty listener must not take the consumer down
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+        } finally {
+            if (end) FMOD.USERDATA.remove(address); // The handle is dead past this point
+        }
+    }
+
+    /// Claims the single consumer role.
+    void claim() {
+        if (!consumer.compareAndSet(FREE, CLAIMED)) throw new IllegalStateException("Already consumed elsewhere");
+    }
+
+    /// Delivers events on a task submitted to the executor, until closed.
+    public FMODCallbackQueue start(Executor executor) {
+        claim();
+        executor.execute(this::consume);
+        return this;
+    }
+
+    /// Delivers events on a dedicated virtual thread, until closed.
+    public FMODCallbackQueue startVirtualThread() {
+        claim();
+        Thread.ofVirtual().name("FMOD Callbacks").start(this::consume);
+        return this;
+    }
+
+    private void consume() {
+        Thread current = Thread.currentThread();
+        while (!closed) {
+            if (deliverPending() != 0) continue;
+            waiting = current;
+            if (deliverPending() == 0 && !closed) LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(10)); // Bounded in case a wake-up was missed
+            waiting = null;
+        }
+    }
+
+    // ---------------------------------------- //
+    // Statistics
+    // ---------------------------------------- //
+
+    /// Events dropped as the ring was full.
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /// Most events ever pending at once.
+    public long getHighWaterMark() {
+        return highWaterMark.get();
+    }
+
+    /// Approximate number of pending events.
+    public int size() {
+        return (int) Math.max(0, (long) TAIL.getVolatile(this) - (long) HEAD.getVolatile(this));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /// Stops the consumer started by this queue, pending and later events are dropped. The native callback stays valid for channels still registered,
+    /// the queue being unpinned once the last of them ends or is given another callback.
+    @Override public void close() {
+        synchronized (this) {
+            closed = true;
+            if (listeners.size() == 0) PINNED.remove(this);
+        }
+        Thread consumer = waiting;
+        if (consumer != null) LockSupport.unpark(consumer);
+    }
+}
@@ -31,14 +31,19 @@ class FMODChannelCallbackAdapter implements FMODChannelCallbackFFI {
     public int invoke(Pointer channelControl, int controlType, int callbackType, Pointer commandData1, Pointer commandData2) {
         if (controlType != FMOD_CHANNELCONTROL_CHANNEL)
             throw new IllegalStateException("Invalid ChannelControl type: " + controlType);
+        FMODChannel channel = FMODHandles.intern(channelControl, FMODChannel.class, FMODChannel::new);
         return switch (callbackType) {
-            case FMOD_CHANNELCONTROL_CALLBACK_END -> dispatcher.onSoundEnd(new FMODChannel(channelControl));
+            case FMOD_CHANNELCONTROL_CALLBACK_END -> {
+                int result = dispatcher.onSoundEnd(channel);
+                FMOD.USERDATA.remove(Pointer.nativeValue(channelControl)); // The handle is dead past this point
+                yield result;
+            }
             case FMOD_CHANNELCONTROL_CALLBACK_VIRTUALVOICE ->
-                    dispatcher.onVirtualVoice(new FMODChannel(channelControl), Pointer.nativeValue(commandData1) != 0);
+                    dispatcher.onVirtualVoice(channel, Pointer.nativeValue(commandData1) != 0);
             case FMOD_CHANNELCONTROL_CALLBACK_SYNCPOINT ->
-                    dispatcher.onSyncPoint(new FMODChannel(channelControl), (int) Pointer.nativeValue(commandData1));
+                    dispatcher.onSyncPoint(channel, (int) Pointer.nativeValue(commandData1));
             case FMOD_CHANNELCONTROL_CALLBACK_OCCLUSION ->
-                    dispatcher.onOcclusion(new FMODChannel(channelControl), commandData1.getFloat(0), commandData2.getFloat(0));
+                    dispatcher.onOcclusion(channel, commandData1.getFloat(0), commandData2.getFloat(0));
             default -> throw new IllegalStateException("Unknown ChannelC callback type: " + callbackType);
         };
     }
@@ -56,7 +61,7 @@ class FMODChannelGroupCallbackAdapter implements FMODChannelGroupCallbackFFI {
             throw new IllegalStateException("Invalid ChannelControl type: " + controlType);
         return switch (callbackType) {
             case FMOD_CHANNELCONTROL_CALLBACK_OCCLUSION ->
-                    dispatcher.onOcclusion(new FMODChannelGroupRef(channelControl), commandData1.getFloat(0), commandData2.getFloat(0));
+                    dispatcher.onOcclusion(FMODHandles.intern(channelControl, FMODChannelGroupRef.class, FMODChannelGroupRef::new), commandData1.getFloat(0), commandData2.getFloat(0));
             case FMOD_CHANNELCONTROL_CALLBACK_END, FMOD_CHANNELCONTROL_CALLBACK_VIRTUALVOICE,
                  FMOD_CHANNELCONTROL_CALLBACK_SYNCPOINT ->
                     throw new IllegalArgumentException("Channel Callback triggered for ChannelGroup instance");
@@ -5,6 +5,7 @@ import com.sun.jna.*;
 import io.github.biglipbob.utils.*;
 
 import static io.github.biglipbob.FMOD.FMODCallbacks.FMODChannelCallback;
+import static io.github.biglipbob.FMOD.FMODFFI.FMODChannelCallbackFFI;
 import static io.github.biglipbob.FMOD.FMODConstants.*;
 import static io.github.biglipbob.FMOD.FMOD.*;
 
@@ -21,6 +22,13 @@ import org.jetbrains.annotations.*;
 public class FMODChannel implements FMODChannelControl {
     final Pointer ptr; // Managed by FMOD internally - Thus not AutoCloseable - Neither Ref
     private final FMODChannelCallbackAdapter callbackStore = new FMODChannelCallbackAdapter(null);
+    private @Nullable FMODCallbackQueue callbackQueue;
+
+    /// Drops the user value of a channel once it ends, installed while no user callback is.
+    private static final FMODChannelCallbackFFI USERDATA_RELEASER = (channelControl, controlType, callbackType, commandData1, commandData2) -> {
+        if (callbackType == FMOD_CHANNELCONTROL_CALLBACK_END) USERDATA.remove(Pointer.nativeValue(channelControl));
+        return FMOD_OK;
+    };
 
     FMODChannel(Pointer channel) {
         this.ptr = channel;
@@ -32,7 +40,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the playback frequency or playback rate.
     public float getFrequency() {
-        FloatByReference frequencyRef = new FloatByReference();
+        FloatByReference frequencyRef = FMODScratch.get().float0;
         int result = CALL.FMOD_Channel_GetFrequency(ptr, frequencyRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetFrequency", result);
         return frequencyRef.getValue();
@@ -46,7 +54,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the priority used for virtual voice ordering.
     public int getPriority() {
-        IntByReference priorityRef = new IntByReference();
+        IntByReference priorityRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetPriority(ptr, priorityRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetPriority", result);
         return priorityRef.getValue();
@@ -66,10 +74,10 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the current playback position using the specified time unit.
     public int getPosition(int timeUnit) {
-        IntByReference posRef = new IntByReference();
-        int result = CALL.FMOD_Channel_GetPosition(ptr, posRef, timeUnit);
+        FMODScratch scratch = FMODScratch.get();
+        int result = DIRECT ? FMODDirect.FMOD_Channel_GetPosition(Pointer.nativeValue(ptr), scratch.int0Address, timeUnit) : CALL.FMOD_Channel_GetPosition(ptr, scratch.int0, timeUnit);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetPosition", result);
-        return posRef.getValue();
+        return scratch.int0.getValue();
     }
 
     /// Retrieves the current playback position in milliseconds.
@@ -83,22 +91,22 @@ public class FMODChannel implements FMODChannelControl {
     }
 
     /// Retrieves the ChannelGroup this object outputs to.
-    public FMODChannelGroup getChannelGroup() {
-        PointerByReference groupRef = new PointerByReference();
+    public FMODChannelGroupRef getChannelGroup() {
+        PointerByReference groupRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Channel_GetChannelGroup(ptr, groupRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetChannelGroup", result);
-        return new FMODChannelGroup(groupRef.getValue());
+        return FMODHandles.intern(groupRef.getValue(), FMODChannelGroupRef.class, FMODChannelGroupRef::new);
     }
 
     /// Sets the ChannelGroup this object outputs to.
-    public void setChannelGroup(FMODChannelGroup group) {
+    public void setChannelGroup(FMODChannelGroupRef group) {
         int result = CALL.FMOD_Channel_SetChannelGroup(ptr, group.ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_SetChannelGroup", result);
     }
 
     /// Retrieves the number of times to loop before stopping.
     public int getLoopCount() {
-        IntByReference loopCountRef = new IntByReference();
+        IntByReference loopCountRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetLoopCount(ptr, loopCountRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetLoopCount", result);
         return loopCountRef.getValue();
@@ -126,7 +134,8 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the loop start and end points.
     public Tuplet<Integer> getLoopPoints(int startUnit, int endUnit) {
-        IntByReference startRef = new IntByReference(), endRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference startRef = scratch.int0, endRef = scratch.int1;
         int result = CALL.FMOD_Channel_GetLoopPoints(ptr, startRef, startUnit, endRef, endUnit);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_getLoopPoints", result);
         return new Tuplet<>(startRef.getValue(), endRef.getValue());
@@ -160,24 +169,23 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves whether the Channel is being emulated by the virtual voice system.
     public boolean isVirtual() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_IsVirtual(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_IsVirtual", result);
         return ref.getValue() != 0;
     }
 
     /// Retrieves the currently playing Sound.
-    public @Nullable FMODSound getCurrentSound() {
-        PointerByReference soundRef = new PointerByReference();
+    public @Nullable FMODSoundRef getCurrentSound() {
+        PointerByReference soundRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Channel_GetCurrentSound(ptr, soundRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetCurrentSound", result);
-        Pointer soundPtr = soundRef.getValue();
-        return (soundPtr == null) ? null : new FMODSound(soundPtr);
+        return FMODHandles.intern(soundRef.getValue(), FMODSoundRef.class, FMODSoundRef::new);
     }
 
     /// Retrieves the INDEX of this object in the System Channel pool.
     public int getIndex() {
-        IntByReference indexRef = new IntByReference();
+        IntByReference indexRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetIndex(ptr, indexRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetIndex", result);
         return indexRef.getValue();
@@ -185,7 +193,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Checks whether the Channel is valid (ie not stolen or reclaimed)
     public boolean isValid() {
-        IntByReference playingRef = new IntByReference();
+        IntByReference playingRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_IsPlaying(ptr, playingRef); // lightest "test" call available
         if (result == FMOD_ERR_INVALID_HANDLE || result == FMOD_ERR_CHANNEL_STOLEN) return false; // Channel has been reclaimed by FMOD, expected here
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_IsPlaying", result);
@@ -194,10 +202,10 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves whether the Channel is playing.
     public boolean isPlaying() {
-        IntByReference ref = new IntByReference();
-        int result = CALL.FMOD_Channel_IsPlaying(ptr, ref);
+        FMODScratch scratch = FMODScratch.get();
+        int result = DIRECT ? FMODDirect.FMOD_Channel_IsPlaying(Pointer.nativeValue(ptr), scratch.int0Address) : CALL.FMOD_Channel_IsPlaying(ptr, scratch.int0);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_IsPlaying", result);
-        return (ref.getValue() != 0);
+        return (scratch.int0.getValue() != 0);
     }
 
     // ---------------------------------------- //
@@ -206,7 +214,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the paused state.
     public boolean getPaused() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetPaused(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetPaused", result);
         return (ref.getValue() != 0);
@@ -214,13 +222,13 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Sets the paused state.
     public void setPaused(boolean paused) {
-        int result = CALL.FMOD_Channel_SetPaused(ptr, paused ? 1 : 0);
+        int result = DIRECT ? FMODDirect.FMOD_Channel_SetPaused(Pointer.nativeValue(ptr), paused ? 1 : 0) : CALL.FMOD_Channel_SetPaused(ptr, paused ? 1 : 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_SetPaused", result);
     }
 
     /// Retrieves the volume level.
     public float getVolume() {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_Channel_GetVolume(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetVolume", result);
         return ref.getValue();
@@ -228,13 +236,13 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Sets the volume level.
     public void setVolume(float volume) {
-        int result = CALL.FMOD_Channel_SetVolume(ptr, volume);
+        int result = DIRECT ? FMODDirect.FMOD_Channel_SetVolume(Pointer.nativeValue(ptr), volume) : CALL.FMOD_Channel_SetVolume(ptr, volume);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_SetVolume", result);
     }
 
     /// Retrieves whether volume changes are ramped or instantaneous.
     public boolean getVolumeRamp() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetVolumeRamp(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetVolumeRamp", result);
         return (ref.getValue() != 0);
@@ -248,7 +256,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the relative pitch / playback rate.
     public float getPitch() {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_Channel_GetPitch(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetPitch", result);
         return ref.getValue();
@@ -262,7 +270,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the muteUnmute state.
     public boolean getMute() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetMute(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetMute", result);
         return (ref.getValue() != 0);
@@ -276,7 +284,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the playback mode bits that control how this object behaves.
     public int getMode() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetMode(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetMode", result);
         return ref.getValue();
@@ -294,11 +302,11 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the DSP unit at the specified INDEX in the DSP chain.
     public FMODDSPRef getDSP(int index) {
-        PointerByReference dspRef = new PointerByReference();
+        PointerByReference dspRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Channel_GetDSP(ptr, index, dspRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDSP", result);
         if (dspRef.getValue() == null) return null;
-        return new FMODDSP(dspRef.getValue());
+        return FMODHandles.intern(dspRef.getValue(), FMODDSPRef.class, FMODDSPRef::new);
     }
 
     /// Sets the INDEX in the DSP chain of the specified DSP.
@@ -321,7 +329,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the number of DSP units in the DSP chain.
     public int getNumDSPs() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetNumDSPs(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetNumDSPs", result);
         return ref.getValue();
@@ -329,7 +337,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the INDEX of a DSP inside the DSP chain.
     public int getDSPIndex(FMODDSPRef dsp) {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetDSPIndex(ptr, dsp.ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDSPIndex", result);
         return ref.getValue();
@@ -341,7 +349,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the DSP clock value for this Channel.
     public long getDSPClockCurrent() {
-        LongByReference ref = new LongByReference();
+        LongByReference ref = FMODScratch.get().long0;
         int result = CALL.FMOD_Channel_GetDSPClock(ptr, ref, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDSPClock", result);
         return ref.getValue();
@@ -349,7 +357,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the DSP clock value for the parent ChannelGroup.
     public long getDSPClockParent() {
-        LongByReference ref = new LongByReference();
+        LongByReference ref = FMODScratch.get().long0;
         int result = CALL.FMOD_Channel_GetDSPClock(ptr, null, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDSPClock", result);
         return ref.getValue();
@@ -357,7 +365,8 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the DSP clock values (current and parent).
     public Tuplet<Long> getDSPClock() {
-        LongByReference currentRef = new LongByReference(), parentRef = new LongByReference();
+        FMODScratch scratch = FMODScratch.get();
+        LongByReference currentRef = scratch.long0, parentRef = scratch.long1;
         int result = CALL.FMOD_Channel_GetDSPClock(ptr, currentRef, parentRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDSPClock", result);
         return new Tuplet<>(currentRef.getValue(), parentRef.getValue());
@@ -374,8 +383,9 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves a sample accurate start (and/or stop) time relative to the parent ChannelGroup DSP clock.
     public Triple<Long, Long, Boolean> getDelay() {
-        LongByReference startRef = new LongByReference(), endRef = new LongByReference();
-        IntByReference onStopRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        LongByReference startRef = scratch.long0, endRef = scratch.long1;
+        IntByReference onStopRef = scratch.int0;
         int result = CALL.FMOD_Channel_GetDelay(ptr, startRef, endRef, onStopRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDelay", result);
         return new Triple<>(startRef.getValue(), endRef.getValue(), onStopRef.getValue() != 0);
@@ -383,7 +393,8 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves sample accurate start (and/or stop) times relative to the parent ChannelGroup DSP clock.
     public Tuplet<Long> getDelays() {
-        LongByReference startRef = new LongByReference(), endRef = new LongByReference();
+        FMODScratch scratch = FMODScratch.get();
+        LongByReference startRef = scratch.long0, endRef = scratch.long1;
         int result = CALL.FMOD_Channel_GetDelay(ptr, startRef, endRef, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDelay", result);
         return new Tuplet<>(startRef.getValue(), endRef.getValue());
@@ -391,7 +402,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves sample accurate start time relative to the parent ChannelGroup DSP clock.
     public long getStartDelay() {
-        LongByReference startRef = new LongByReference();
+        LongByReference startRef = FMODScratch.get().long0;
         int result = CALL.FMOD_Channel_GetDelay(ptr, startRef, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDelay", result);
         return startRef.getValue();
@@ -399,7 +410,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves sample accurate stop time relative to the parent ChannelGroup DSP clock.
     public long getStopDelay() {
-        LongByReference stop = new LongByReference();
+        LongByReference stop = FMODScratch.get().long0;
         int result = CALL.FMOD_Channel_GetDelay(ptr, null, stop, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetDelay", result);
         return stop.getValue();
@@ -425,7 +436,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves information about stored fade points.
     public int getFadePointCount() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetFadePoints(ptr, ref, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetFadePoints", result);
         return ref.getValue();
@@ -443,7 +454,7 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves all stored fade point information.
     public Tuple<int[], float[]> getFadePoints() {
-        IntByReference countRef = new IntByReference();
+        IntByReference countRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Channel_GetFadePoints(ptr, countRef, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetFadePoints", result);
         int count = countRef.getValue();
@@ -478,7 +489,8 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the size of the mix matrix.
     public Tuplet<Integer> getMixMatrixSize() {
-        IntByReference outRef = new IntByReference(), inRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference outRef = scratch.int0, inRef = scratch.int1;
         int result = CALL.FMOD_Channel_GetMixMatrix(ptr, null, outRef, inRef, 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetMixMatrix", result);
         return new Tuplet<>(outRef.getValue(), inRef.getValue());
@@ -486,7 +498,8 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Retrieves the two-dimensional pan matrix mapping input channels to output speakers.
     public float[][] getMixMatrix() {
-        IntByReference outRef = new IntByReference(), inRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference outRef = scratch.int0, inRef = scratch.int1;
         int result = CALL.FMOD_Channel_GetMixMatrix(ptr, null, outRef, inRef, 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetMixMatrix", result);
         int out = outRef.getValue(), in = inRef.getValue();
@@ -511,47 +524,162 @@ public class FMODChannel implements FMODChannelControl {
 
     /// Sets the callback for ChannelControl level notifications.
     public void setCallback(FMODChannelCallback callback) {
+        FMODCallbackQueue previous = callbackQueue;
+        callbackQueue = null;
         callbackStore.dispatcher = callback;
-        int result = CALL.FMOD_Channel_SetCallback(ptr, callback != null ? callbackStore : null);
+        FMODChannelCallbackFFI installed = callback != null ? callbackStore : USERDATA.get(Pointer.nativeValue(ptr)) != null ? USERDATA_RELEASER : null;
+        int result = CALL.FMOD_Channel_SetCallback(ptr, installed);
+        if (previous != null && (result == FMOD_OK || result == FMOD_ERR_INVALID_HANDLE)) previous.unregister(ptr); // Once FMOD no longer calls into it
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_SetCallback", result);
+    }
+
+    /// Sets the callback for ChannelControl level notifications, delivered by the consumer of a queue rather than on FMOD's thread.
+    public void setCallback(FMODChannelCallback callback, FMODCallbackQueue queue) {
+        FMODCallbackQueue previous = callbackQueue;
+        callbackQueue = queue;
+        callbackStore.dispatcher = null;
+        queue.register(ptr, callback);
+        int result = CALL.FMOD_Channel_SetCallback(ptr, queue.callback);
+        if (previous != null && previous != queue && (result == FMOD_OK || result == FMOD_ERR_INVALID_HANDLE)) previous.unregister(ptr); // Once FMOD no longer calls into it
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_SetCallback", result);
     }
 
     /// Retrieves the System that created this object.
     public FMODSystemRef getSystem() {
-        PointerByReference ref = new PointerByReference();
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Channel_GetSystemObject(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetSystemObject", result);
-        return new FMODSystemRef(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODSystemRef.class, FMODSystemRef::new);
     }
 
     /// Gets the calculated audibility based on all attenuation factors.
     public float getAudibility() {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_Channel_GetAudibility(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetAudibility", result);
         return ref.getValue();
     }
 
     /// Retrieves a user value associated with this object.
-    Object getUserData() {
-        PointerByReference ref = new PointerByReference();
+    @Nullable Object getUserData() {
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Channel_GetUserData(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_GetUserData", result);
-        return USERDATA.get(ref.getValue());
+        return USERDATA.get(Pointer.nativeValue(ref.getValue()));
     }
 
     /// Sets a user value associated with this object.
-    void setUserData(Object userdata) {
-        USERDATA.put(ptr, userdata);
+    void setUserData(@Nullable Object userdata) {
+        putUserData(ptr, userdata);
         int result = CALL.FMOD_Channel_SetUserData(ptr, ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_Channel_SetUserData", result);
+        if (userdata != null && callbackStore.dispatcher == null && callbackQueue == null) {
+            result = CALL.FMOD_Channel_SetCallback(ptr, USERDATA_RELEASER); // Otherwise the user callback drops it
+            if (result != FMOD_OK) throw new FMODException("FMOD_Channel_SetCallback", result);
+        }
     }
 
 
     // ---------------------------------------- //
-    // Spatialization and 3D properties: Ignored
+    // Spatialization and 3D properties
     // ---------------------------------------- //
 
+    /// Sets the 3D position and velocity used to apply panning, attenuation and doppler, as {x, y, z} triplets (either may be null).
+    public void set3DAttributes(float @Nullable [] pos, float @Nullable [] vel) {
+        if (pos != null && pos.length < 3 || vel != null && vel.length < 3) throw new IllegalArgumentException("Vectors must have 3 components"); // Read as is by native code
+        if (DIRECT) {
+            int result = FMODDirect.FMOD_Channel_Set3DAttributes(Pointer.nativeValue(ptr), pos, vel);
+            if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DAttributes", result);
+            return;
+        }
+        FMODScratch scratch = FMODScratch.get();
+        if (pos != null) scratch.vector0.write(0, pos, 0, 3);
+        if (vel != null) scratch.vector1.write(0, vel, 0, 3);
+        int result = CALL.FMOD_Channel_Set3DAttributes(ptr, pos != null ? scratch.vector0 : null, vel != null ? scratch.vector1 : null);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DAttributes", result);
+    }
+
+    /// Retrieves the 3D position and velocity into {x, y, z} triplets (either may be null).
+    public void get3DAttributes(float @Nullable [] pos, float @Nullable [] vel) {
+        FMODScratch scratch = FMODScratch.get();
+        int result = CALL.FMOD_Channel_Get3DAttributes(ptr, pos != null ? scratch.vector0 : null, vel != null ? scratch.vector1 : null);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Get3DAttributes", result);
+        if (pos != null) scratch.vector0.read(0, pos, 0, 3);
+        if (vel != null) scratch.vector1.read(0, vel, 0, 3);
+    }
+
+    /// Sets the minimum and maximum distances used to calculate the 3D roll-off attenuation.
+    public void set3DMinMaxDistance(float min, float max) {
+        int result = CALL.FMOD_Channel_Set3DMinMaxDistance(ptr, min, max);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DMinMaxDistance", result);
+    }
+
+    /// Retrieves the minimum and maximum distances used to calculate the 3D roll-off attenuation.
+    public Tuplet<Float> get3DMinMaxDistance() {
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference minRef = scratch.float0, maxRef = scratch.float1;
+        int result = CALL.FMOD_Channel_Get3DMinMaxDistance(ptr, minRef, maxRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Get3DMinMaxDistance", result);
+        return new Tuplet<>(minRef.getValue(), maxRef.getValue());
+    }
+
+    /// Sets the 3D attenuation factors for the direct and reverb paths.
+    public void set3DOcclusion(float directOcclusion, float reverbOcclusion) {
+        int result = CALL.FMOD_Channel_Set3DOcclusion(ptr, directOcclusion, reverbOcclusion);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DOcclusion", result);
+    }
+
+    /// Retrieves the 3D attenuation factors for the direct and reverb paths.
+    public Tuplet<Float> get3DOcclusion() {
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference directRef = scratch.float0, reverbRef = scratch.float1;
+        int result = CALL.FMOD_Channel_Get3DOcclusion(ptr, directRef, reverbRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Get3DOcclusion", result);
+        return new Tuplet<>(directRef.getValue(), reverbRef.getValue());
+    }
+
+    /// Sets the spread of a 3D sound in speaker space.
+    public void set3DSpread(float angle) {
+        int result = CALL.FMOD_Channel_Set3DSpread(ptr, angle);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DSpread", result);
+    }
+
+    /// Retrieves the spread of a 3D sound in speaker space.
+    public float get3DSpread() {
+        FloatByReference angleRef = FMODScratch.get().float0;
+        int result = CALL.FMOD_Channel_Get3DSpread(ptr, angleRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Get3DSpread", result);
+        return angleRef.getValue();
+    }
+
+    /// Sets the blend between 3D panning and 2D panning.
+    public void set3DLevel(float level) {
+        int result = CALL.FMOD_Channel_Set3DLevel(ptr, level);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DLevel", result);
+    }
+
+    /// Retrieves the blend between 3D panning and 2D panning.
+    public float get3DLevel() {
+        FloatByReference levelRef = FMODScratch.get().float0;
+        int result = CALL.FMOD_Channel_Get3DLevel(ptr, levelRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Get3DLevel", result);
+        return levelRef.getValue();
+    }
+
+    /// Sets the amount by which doppler is scaled.
+    public void set3DDopplerLevel(float level) {
+        int result = CALL.FMOD_Channel_Set3DDopplerLevel(ptr, level);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DDopplerLevel", result);
+    }
+
+    /// Retrieves the amount by which doppler is scaled.
+    public float get3DDopplerLevel() {
+        FloatByReference levelRef = FMODScratch.get().float0;
+        int result = CALL.FMOD_Channel_Get3DDopplerLevel(ptr, levelRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Get3DDopplerLevel", result);
+        return levelRef.getValue();
+    }
+
     // ---------------------------------------- //
     // Filtering: Ignored
     // ---------------------------------------- //
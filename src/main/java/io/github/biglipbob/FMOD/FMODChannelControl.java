@@ -4,6 +4,8 @@ import io.github.biglipbob.utils.*;
 
 import static io.github.biglipbob.FMOD.FMODConstants.*;
 
+import org.jetbrains.annotations.*;
+
 public interface FMODChannelControl {
 
     // Playback
@@ -154,11 +156,45 @@ public interface FMODChannelControl {
 
     // Miscellaneous
 
+    // Spatialization
+
+    /// Sets the 3D position and velocity used to apply panning, attenuation and doppler, as {x, y, z} triplets (either may be null).
+    void set3DAttributes(float @Nullable [] pos, float @Nullable [] vel);
+
+    /// Retrieves the 3D position and velocity into {x, y, z} triplets (either may be null).
+    void get3DAttributes(float @Nullable [] pos, float @Nullable [] vel);
+
+    /// Sets the minimum and maximum distances used to calculate the 3D roll-off attenuation.
+    void set3DMinMaxDistance(float min, float max);
+
+    /// Retrieves the minimum and maximum distances used to calculate the 3D roll-off attenuation.
+    Tuplet<Float> get3DMinMaxDistance();
+
+    /// Sets the 3D attenuation factors for the direct and reverb paths.
+    void set3DOcclusion(float directOcclusion, float reverbOcclusion);
+
+    /// Retrieves the 3D attenuation factors for the direct and reverb paths.
+    Tuplet<Float> get3DOcclusion();
+
+    /// Sets the spread of a 3D sound in speaker space.
+    void set3DSpread(float angle);
+
+    /// Retrieves the spread of a 3D sound in speaker space.
+    float get3DSpread();
+
+    /// Sets the blend between 3D panning and 2D panning.
+    void set3DLevel(float level);
+
+    /// Retrieves the blend between 3D panning and 2D panning.
+    float get3DLevel();
+
+    /// Sets the amount by which doppler is scaled.
+    void set3DDopplerLevel(float level);
+
+    /// Retrieves the amount by which doppler is scaled.
+    float get3DDopplerLevel();
+
 	/* Spatialization - Skip
-	/// Sets the 3D position and velocity used to apply panning, attenuation and doppler.
-	void set3DAttributes();
-	/// Retrieves the 3D position and velocity used to apply panning, attenuation and doppler.
-	void get3DAttributes();
 	/// Sets the orientation of a 3D cone shape, used for simulated occlusion.
 	void set3DConeOrientation();
 	/// Retrieves the orientation of a 3D cone shape, used for simulated occlusion.
@@ -174,25 +210,5 @@ public interface FMODChannelControl {
 	/// Sets an override value for the 3D distance filter.
 	void set3DDistanceFilter();
 	/// Retrieves the override values for the 3D distance filter.
-	void get3DDistanceFilter();
-	/// Sets the amount by which doppler is scaled.
-	void set3DDopplerLevel();
-	/// Retrieves the amount by which doppler is scaled.
-	void get3DDopplerLevel();
-	/// Sets the blend between 3D panning and 2D panning.
-	void set3DLevel();
-	/// Retrieves the blend between 3D panning and 2D panning.
-	void get3DLevel();
-	/// Sets the minimum and maximum distances used to calculate the 3D roll-off attenuation.
-	void set3DMinMaxDistance();
-	/// Retrieves the minimum and maximum distances used to calculate the 3D roll-off attenuation.
-	void get3DMinMaxDistance();
-	/// Sets the 3D attenuation factors for the direct and reverb paths.
-	void set3DOcclusion();
-	/// Retrieves the 3D attenuation factors for the direct and reverb paths.
-	void get3DOcclusion();
-	/// Sets the spread of a 3D sound in speaker space.
-	void set3DSpread();
-	/// Retrieves the spread of a 3D sound in speaker space.
-	void get3DSpread(); */
+	void get3DDistanceFilter(); */
 }
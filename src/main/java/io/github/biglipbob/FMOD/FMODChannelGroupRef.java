@@ -33,15 +33,15 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Adds a ChannelGroup as an input to this group.
     public FMODDSPConnection addGroup(FMODChannelGroupRef group, boolean propagateDspClock) {
-        PointerByReference connRef = new PointerByReference();
+        PointerByReference connRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_ChannelGroup_AddGroup(ptr, group.ptr, propagateDspClock ? 1 : 0, connRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_AddGroup", result);
-        return new FMODDSPConnection(connRef.getValue());
+        return FMODHandles.intern(connRef.getValue(), FMODDSPConnection.class, FMODDSPConnection::new);
     }
 
     /// Retrieves the number of ChannelGroups that feed into this group.
     public int getNumGroups() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetNumGroups(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetNumGroups", result);
         return ref.getValue();
@@ -49,19 +49,18 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the ChannelGroup at the specified INDEX in the list of group inputs.
     public FMODChannelGroupRef getGroup(int index) {
-        PointerByReference grRef = new PointerByReference();
+        PointerByReference grRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_ChannelGroup_GetGroup(ptr, index, grRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetGroup", result);
-        return new FMODChannelGroupRef(grRef.getValue());
+        return FMODHandles.intern(grRef.getValue(), FMODChannelGroupRef.class, FMODChannelGroupRef::new);
     }
 
     /// Retrieves the parent ChannelGroup this object outputs to.
     public @Nullable FMODChannelGroupRef getParentGroup() { // Always a Ref since the owner is someone else
-        PointerByReference grRef = new PointerByReference();
+        PointerByReference grRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_ChannelGroup_GetParentGroup(ptr, grRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetParentGroup", result);
-        Pointer groupPtr = grRef.getValue();
-        return groupPtr != null ? new FMODChannelGroupRef(groupPtr) : null;
+        return FMODHandles.intern(grRef.getValue(), FMODChannelGroupRef.class, FMODChannelGroupRef::new);
     }
 
     public boolean isMasterGroup() {
@@ -74,7 +73,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the number of Channels that feed into this group.
     public int getNumChannels() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetNumChannels(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetNumChannels", result);
         return ref.getValue();
@@ -82,11 +81,11 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the Channel at the specified INDEX in the list of Channel inputs.
     public FMODChannel getChannel(int index) {
-        PointerByReference chRef = new PointerByReference();
+        PointerByReference chRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_ChannelGroup_GetChannel(ptr, index, chRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetChannel", result);
         if (chRef.getValue() == null) return null;
-        return new FMODChannel(chRef.getValue());
+        return FMODHandles.intern(chRef.getValue(), FMODChannel.class, FMODChannel::new);
     }
 
     // ---------------------------------------- //
@@ -109,14 +108,14 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves whether the ChannelGroup is playing.
     public boolean isPlaying() {
-        IntByReference ref = new IntByReference();
-        int result = CALL.FMOD_ChannelGroup_IsPlaying(ptr, ref);
+        FMODScratch scratch = FMODScratch.get();
+        int result = DIRECT ? FMODDirect.FMOD_ChannelGroup_IsPlaying(Pointer.nativeValue(ptr), scratch.int0Address) : CALL.FMOD_ChannelGroup_IsPlaying(ptr, scratch.int0);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_IsPlaying", result);
-        return (ref.getValue() != 0);
+        return (scratch.int0.getValue() != 0);
     }
 
     public boolean isValid() {
-        IntByReference playingRef = new IntByReference();
+        IntByReference playingRef = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_IsPlaying(ptr, playingRef);
         if (result == FMOD_ERR_INVALID_HANDLE) return false;
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_IsPlaying", result);
@@ -125,7 +124,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the paused state.
     public boolean getPaused() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetPaused(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetPaused", result);
         return (ref.getValue() != 0);
@@ -133,7 +132,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Sets the paused state.
     public void setPaused(boolean paused) {
-        int result = CALL.FMOD_ChannelGroup_SetPaused(ptr, paused ? 1 : 0);
+        int result = DIRECT ? FMODDirect.FMOD_ChannelGroup_SetPaused(Pointer.nativeValue(ptr), paused ? 1 : 0) : CALL.FMOD_ChannelGroup_SetPaused(ptr, paused ? 1 : 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_SetPaused", result);
     }
 
@@ -143,7 +142,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the volume level.
     public float getVolume() {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_ChannelGroup_GetVolume(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetVolume", result);
         return ref.getValue();
@@ -151,13 +150,13 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Sets the volume level.
     public void setVolume(float volume) {
-        int result = CALL.FMOD_ChannelGroup_SetVolume(ptr, volume);
+        int result = DIRECT ? FMODDirect.FMOD_ChannelGroup_SetVolume(Pointer.nativeValue(ptr), volume) : CALL.FMOD_ChannelGroup_SetVolume(ptr, volume);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_SetVolume", result);
     }
 
     /// Retrieves whether volume changes are ramped or instantaneous.
     public boolean getVolumeRamp() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetVolumeRamp(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetVolumeRamp", result);
         return (ref.getValue() != 0);
@@ -175,11 +174,11 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the DSP unit at the specified INDEX in the DSP chain.
     public FMODDSPRef getDSP(int index) {
-        PointerByReference dspRef = new PointerByReference();
+        PointerByReference dspRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_ChannelGroup_GetDSP(ptr, index, dspRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetDSP", result);
         if (dspRef.getValue() == null) return null;
-        return new FMODDSP(dspRef.getValue());
+        return FMODHandles.intern(dspRef.getValue(), FMODDSPRef.class, FMODDSPRef::new);
     }
 
     /// Sets the INDEX in the DSP chain of the specified DSP.
@@ -202,7 +201,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the number of DSP units in the DSP chain.
     public int getNumDSPs() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetNumDSPs(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetNumDSPs", result);
         return ref.getValue();
@@ -210,7 +209,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the INDEX of a DSP inside the ChannelGroup's DSP chain.
     public int getDSPIndex(FMODDSPRef dsp) {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetDSPIndex(ptr, dsp.ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetDSPIndex", result);
         return ref.getValue();
@@ -222,7 +221,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the DSP clock value for this ChannelGroup.
     public long getDSPClockCurrent() {
-        LongByReference ref = new LongByReference();
+        LongByReference ref = FMODScratch.get().long0;
         int result = CALL.FMOD_ChannelGroup_GetDSPClock(ptr, ref, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetDSPClock", result);
         return ref.getValue();
@@ -230,7 +229,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the DSP clock value for the parent ChannelGroup.
     public long getDSPClockParent() {
-        LongByReference ref = new LongByReference();
+        LongByReference ref = FMODScratch.get().long0;
         int result = CALL.FMOD_ChannelGroup_GetDSPClock(ptr, null, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetDSPClock", result);
         return ref.getValue();
@@ -238,7 +237,8 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the DSP clock values (current and parent).
     public Tuplet<Long> getDSPClock() {
-        LongByReference currentRef = new LongByReference(), parentRef = new LongByReference();
+        FMODScratch scratch = FMODScratch.get();
+        LongByReference currentRef = scratch.long0, parentRef = scratch.long1;
         int result = CALL.FMOD_ChannelGroup_GetDSPClock(ptr, currentRef, parentRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetDSPClock", result);
         return new Tuplet<>(currentRef.getValue(), parentRef.getValue());
@@ -252,8 +252,9 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves a sample accurate start (and/or stop) time relative to the parent ChannelGroup DSP clock.
     public Triple<Long, Long, Boolean> getDelay() {
-        LongByReference currentRef = new LongByReference(), parentRef = new LongByReference();
-        IntByReference stopRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        LongByReference currentRef = scratch.long0, parentRef = scratch.long1;
+        IntByReference stopRef = scratch.int0;
         int result = CALL.FMOD_ChannelGroup_GetDelay(ptr, currentRef, parentRef, stopRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetDelay", result);
         return new Triple<>(currentRef.getValue(), parentRef.getValue(), stopRef.getValue() != 0);
@@ -261,7 +262,8 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves sample accurate start (and/or stop) times relative to the parent ChannelGroup DSP clock.
     public Tuplet<Long> getDelays() {
-        LongByReference currentRef = new LongByReference(), parentRef = new LongByReference();
+        FMODScratch scratch = FMODScratch.get();
+        LongByReference currentRef = scratch.long0, parentRef = scratch.long1;
         int result = CALL.FMOD_ChannelGroup_GetDelay(ptr, currentRef, parentRef, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetDelay", result);
         return new Tuplet<>(currentRef.getValue(), parentRef.getValue());
@@ -287,7 +289,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves information about stored fade points.
     public int getFadePointCount() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetFadePoints(ptr, ref, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetFadePoints", result);
         return ref.getValue();
@@ -305,7 +307,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves all stored fade point information.
     public Tuple<int[], float[]> getFadePoints() {
-        IntByReference countRef = new IntByReference();
+        IntByReference countRef = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetFadePoints(ptr, countRef, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetFadePoints", result);
         int count = countRef.getValue();
@@ -331,15 +333,15 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the System that created this object.
     public FMODSystemRef getSystem() {
-        PointerByReference ref = new PointerByReference();
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_ChannelGroup_GetSystemObject(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetSystemObject", result);
-        return new FMODSystemRef(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODSystemRef.class, FMODSystemRef::new);
     }
 
     /// Gets the calculated audibility based on all attenuation factors.
     public float getAudibility() {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_ChannelGroup_GetAudibility(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetAudibility", result);
         return ref.getValue();
@@ -347,7 +349,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the relative pitch / playback rate.
     public float getPitch() {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_ChannelGroup_GetPitch(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetPitch", result);
         return ref.getValue();
@@ -361,7 +363,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the muteUnmute state.
     public boolean getMute() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetMute(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetMute", result);
         return (ref.getValue() != 0);
@@ -375,7 +377,7 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the playback mode bits that control how this object behaves.
     public int getMode() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_ChannelGroup_GetMode(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetMode", result);
         return ref.getValue();
@@ -395,6 +397,102 @@ public class FMODChannelGroupRef implements FMODChannelControl {
     }
 
 
+    /// Sets the 3D position and velocity used to apply panning, attenuation and doppler, as {x, y, z} triplets (either may be null).
+    public void set3DAttributes(float @Nullable [] pos, float @Nullable [] vel) {
+        if (pos != null && pos.length < 3 || vel != null && vel.length < 3) throw new IllegalArgumentException("Vectors must have 3 components"); // Read as is by native code
+        if (DIRECT) {
+            int result = FMODDirect.FMOD_ChannelGroup_Set3DAttributes(Pointer.nativeValue(ptr), pos, vel);
+            if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Set3DAttributes", result);
+            return;
+        }
+        FMODScratch scratch = FMODScratch.get();
+        if (pos != null) scratch.vector0.write(0, pos, 0, 3);
+        if (vel != null) scratch.vector1.write(0, vel, 0, 3);
+        int result = CALL.FMOD_ChannelGroup_Set3DAttributes(ptr, pos != null ? scratch.vector0 : null, vel != null ? scratch.vector1 : null);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Set3DAttributes", result);
+    }
+
+    /// Retrieves the 3D position and velocity into {x, y, z} triplets (either may be null).
+    public void get3DAttributes(float @Nullable [] pos, float @Nullable [] vel) {
+        FMODScratch scratch = FMODScratch.get();
+        int result = CALL.FMOD_ChannelGroup_Get3DAttributes(ptr, pos != null ? scratch.vector0 : null, vel != null ? scratch.vector1 : null);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Get3DAttributes", result);
+        if (pos != null) scratch.vector0.read(0, pos, 0, 3);
+        if (vel != null) scratch.vector1.read(0, vel, 0, 3);
+    }
+
+    /// Sets the minimum and maximum distances used to calculate the 3D roll-off attenuation.
+    public void set3DMinMaxDistance(float min, float max) {
+        int result = CALL.FMOD_ChannelGroup_Set3DMinMaxDistance(ptr, min, max);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Set3DMinMaxDistance", result);
+    }
+
+    /// Retrieves the minimum and maximum distances used to calculate the 3D roll-off attenuation.
+    public Tuplet<Float> get3DMinMaxDistance() {
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference minRef = scratch.float0, maxRef = scratch.float1;
+        int result = CALL.FMOD_ChannelGroup_Get3DMinMaxDistance(ptr, minRef, maxRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Get3DMinMaxDistance", result);
+        return new Tuplet<>(minRef.getValue(), maxRef.getValue());
+    }
+
+    /// Sets the 3D attenuation factors for the direct and reverb paths.
+    public void set3DOcclusion(float directOcclusion, float reverbOcclusion) {
+        int result = CALL.FMOD_ChannelGroup_Set3DOcclusion(ptr, directOcclusion, reverbOcclusion);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Set3DOcclusion", result);
+    }
+
+    /// Retrieves the 3D attenuation factors for the direct and reverb paths.
+    public Tuplet<Float> get3DOcclusion() {
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference directRef = scratch.float0, reverbRef = scratch.float1;
+        int result = CALL.FMOD_ChannelGroup_Get3DOcclusion(ptr, directRef, reverbRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Get3DOcclusion", result);
+        return new Tuplet<>(directRef.getValue(), reverbRef.getValue());
+    }
+
+    /// Sets the spread of a 3D sound in speaker space.
+    public void set3DSpread(float angle) {
+        int result = CALL.FMOD_ChannelGroup_Set3DSpread(ptr, angle);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Set3DSpread", result);
+    }
+
+    /// Retrieves the spread of a 3D sound in speaker space.
+    public float get3DSpread() {
+        FloatByReference angleRef = FMODScratch.get().float0;
+        int result = CALL.FMOD_ChannelGroup_Get3DSpread(ptr, angleRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Get3DSpread", result);
+        return angleRef.getValue();
+    }
+
+    /// Sets the blend between 3D panning and 2D panning.
+    public void set3DLevel(float level) {
+        int result = CALL.FMOD_ChannelGroup_Set3DLevel(ptr, level);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Set3DLevel", result);
+    }
+
+    /// Retrieves the blend between 3D panning and 2D panning.
+    public float get3DLevel() {
+        FloatByReference levelRef = FMODScratch.get().float0;
+        int result = CALL.FMOD_ChannelGroup_Get3DLevel(ptr, levelRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Get3DLevel", result);
+        return levelRef.getValue();
+    }
+
+    /// Sets the amount by which doppler is scaled.
+    public void set3DDopplerLevel(float level) {
+        int result = CALL.FMOD_ChannelGroup_Set3DDopplerLevel(ptr, level);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Set3DDopplerLevel", result);
+    }
+
+    /// Retrieves the amount by which doppler is scaled.
+    public float get3DDopplerLevel() {
+        FloatByReference levelRef = FMODScratch.get().float0;
+        int result = CALL.FMOD_ChannelGroup_Get3DDopplerLevel(ptr, levelRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_Get3DDopplerLevel", result);
+        return levelRef.getValue();
+    }
+
     /// Sets the left/right pan level.
     public void setPan(float pan) {
         int result = CALL.FMOD_ChannelGroup_SetPan(ptr, pan);
@@ -415,7 +513,8 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves a 2-dimensional pan matrix that maps the signal from input channels (columns) to output speakers (rows).
     public float[][] getMixMatrix() {
-        IntByReference outRef = new IntByReference(), inRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference outRef = scratch.int0, inRef = scratch.int1;
         int result = CALL.FMOD_ChannelGroup_GetMixMatrix(ptr, null, outRef, inRef, 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetMixMatrix", result);
         int out = outRef.getValue(), in = inRef.getValue();
@@ -436,23 +535,24 @@ public class FMODChannelGroupRef implements FMODChannelControl {
 
     /// Retrieves the size of the two-dimensional pan matrix.
     public Tuplet<Integer> getMixMatrixSize() {
-        IntByReference outRef = new IntByReference(), inRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference outRef = scratch.int0, inRef = scratch.int1;
         int result = CALL.FMOD_ChannelGroup_GetMixMatrix(ptr, null, outRef, inRef, 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetMixMatrix", result);
         return new Tuplet<>(outRef.getValue(), inRef.getValue());
     }
 
     /// Retrieves a user value associated with this object.
-    Object getUserData() {
-        PointerByReference ref = new PointerByReference();
+    @Nullable Object getUserData() {
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_ChannelGroup_GetUserData(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_GetUserData", result);
-        return USERDATA.get(ref.getValue());
+        return USERDATA.get(Pointer.nativeValue(ref.getValue()));
     }
 
     /// Sets a user value associated with this object.
-    void setUserData(Object userdata) {
-        USERDATA.put(ptr, userdata);
+    void setUserData(@Nullable Object userdata) {
+        putUserData(ptr, userdata);
         int result = CALL.FMOD_ChannelGroup_SetUserData(ptr, ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_ChannelGroup_SetUserData", result);
     }
@@ -0,0 +1,204 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.invoke.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODCommandQueue} is a bounded lock-free multi-producer single-consumer ring of commands for an {@link FMODSystem}
+ * driven by a dedicated owner thread.
+ * <p>
+ * Any thread may enqueue commands without taking a lock, the owner thread runs them in batches right before each
+ * {@code FMOD_System_Update}. Wrappers do not check which thread calls them: a system created with {@code FMOD_INIT_THREAD_UNSAFE}
+ * must have every call routed through this queue.
+ * See {@link FMODSystem#startOwnerThread(int, long)} and {@link FMOD#createSystemWithOwnerThread(int, int, int, long)}.
+ * </p>
+ * <p>
+ * Once shut down, commands are rejected with a {@link RejectedExecutionException} and the futures of
+ * {@link #submit(Supplier) submitted} commands left pending complete exceptionally with it.
+ * </p>
+ */
+public final class FMODCommandQueue implements Executor {
+
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle TAIL;
+    private static final long CLOSED = 1L << 62; // Tail bit set by the owner on shutdown, failing every later claim
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findVarHandle(FMODCommandQueue.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Runnable[] commands;
+    private final long[] sequences; // Vyukov's per slot turn counters
+    private final int mask;
+    @SuppressWarnings("unused") private volatile long tail; // Claimed by producers through TAIL
+    private long head; // Owner thread only
+
+    Thread owner;
+    volatile boolean shutdown;
+
+    FMODCommandQueue(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        commands = new Runnable[capacity];
+        sequences = new long[capacity];
+        for (int i = 0; i < capacity; i++) sequences[i] = i;
+        mask = capacity - 1;
+    }
+
+    // ---------------------------------------- //
+    // Producers
+    // ---------------------------------------- //
+
+    /// Enqueues a command without ever waiting, returns false if the ring is full or shut down.
+    public boolean offer(Runnable command) {
+        if (shutdown) return false;
+        long pos = (long) TAIL.getVolatile(this);
+        while (true) {
+            if ((pos & CLOSED) != 0) return false;
+            int index = (int) pos & mask;
+            long diff = (long) SEQUENCE.getAcquire(sequences, index) - pos;
+            if (diff == 0) {
+                if (TAIL.weakCompareAndSet(this, pos, pos + 1)) {
+                    commands[index] = command;
+                    SEQUENCE.setRelease(sequences, index, pos + 1); // Publishes the command
+                    return true;
+                }
+                pos = (long) TAIL.getVolatile(this);
+            } else if (diff < 0) return false; // Full, the owner has not consumed this slot's previous turn yet
+            else pos = (long) TAIL.getVolatile(this);
+        }
+    }
+
+    /// Enqueues a command, spinning while the ring is full. Commands issued from the owner thread itself run immediately.
+    @Override public void execute(Runnable command) {
+        if (shutdown) throw rejected();
+        if (Thread.currentThread() == owner) {
+            command.run();
+            return;
+        }
+        while (!offer(command)) {
+            if (shutdown) throw rejected();
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+    }
+
+    /// Enqueues a command producing a value, completed on the owner thread.
+    public <T> CompletableFuture<T> submit(Supplier<T> command) {
+        Submission<T> submission = new Submission<>(command);
+        execute(submission);
+        return submission.future;
+    }
+
+    /// A submitted command, whose future is completed exceptionally if the command is dropped on shutdown.
+    private record Submission<T>(Supplier<T> command, CompletableFuture<T> future) implements Runnable {
+        Submission(Supplier<T> command) {
+            this(command, new CompletableFuture<>());
+        }
+
+        @Override public void run() {
+            try {
+                future.complete(command.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    private static RejectedExecutionException rejected() {
+        return new RejectedExecutionException("FMOD system owner thread is shut down");
+    }
+
+    /// Approximate number of pending commands.
+    public int size() {
+        return (int) Math.max(0, ((long) TAIL.getVolatile(this) & ~CLOSED) - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // ---------------------------------------- //
+    // Owner
+    // ---------------------------------------- //
+
+    private @Nullable Runnable poll() {
+        int index = (int) head & mask;
+        if ((long) SEQUENCE.getAcquire(sequences, index) != head + 1) return null;
+        Runnable command = commands[index];
+        commands[index] = null;
+        SEQUENCE.setRelease(sequences, index, head + mask + 1); // Hands the slot back to producers for the next turn
+        head++;
+        return command;
+    }
+
+    /// Runs at most one ring's worth of pending commands, so producers can't starve the update, returns how many ran.
+    int drain() {
+        int ran = 0;
+        for (int limit = mask + 1; ran < limit && !shutdown; ran++) {
+            Runnable command = poll();
+            if (command == null) break;
+            try {
+                command.run();
+            } catch (Throwable t) { // A faulty command must not take the owner thread down
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+        }
+        return ran;
+    }
+
+    void run(FMODSystem system, long periodNanos) {
+        try {
+            while (!shutdown) {
+                try {
+                    system.update();
+                } catch (RuntimeException e) { // A failed update must not take the owner thread down either
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+                LockSupport.parkNanos(this, periodNanos);
+            }
+        } finally {
+            shutdown = true;
+            rejectPending();
+        }
+    }
+
+    /// Closes the ring to producers, then drops every command claimed before, failing the submitted ones.
+    private void rejectPending() {
+        long end = (long) TAIL.getAndBitwiseOr(this, CLOSED) & ~CLOSED;
+        while (head < end) {
+            Runnable command = poll();
+            if (command == null) { // Claimed but not published yet
+                Thread.onSpinWait();
+                continue;
+            }
+            if (command instanceof Submission<?> submission) submission.future.completeExceptionally(rejected());
+        }
+    }
+
+    /// Stops the owner thread and waits for it, pending commands are rejected.
+    void stop() {
+        shutdown = true;
+        Thread thread = owner;
+        if (thread == null || thread == Thread.currentThread()) return;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+}
@@ -1,6 +1,6 @@
 package io.github.biglipbob.FMOD;
 
-import java.lang.ref.Cleaner;
+import java.lang.ref.*;
 import com.sun.jna.Pointer;
 
 import static io.github.biglipbob.FMOD.FMODConstants.FMOD_OK;
@@ -22,7 +22,22 @@ public class FMODDSP extends FMODDSPRef implements AutoCloseable {
 
     FMODDSP(Pointer ptr) {
         super(ptr);
-        cleanable = CLEANER.register(this, () -> release(ptr));
+        FMODHandles.Handle handle = FMODHandles.register(this, ptr);
+        cleanable = CLEANER.register(this, () -> {
+            handle.released(); // Before releasing, so the address is never handed out dead
+            release(ptr);
+        });
+    }
+
+    /// Keeps the given object (ie the callbacks FMOD calls into) reachable until the DSP is released.
+    FMODDSP(Pointer ptr, Object pinned) {
+        super(ptr);
+        FMODHandles.Handle handle = FMODHandles.register(this, ptr);
+        cleanable = CLEANER.register(this, () -> {
+            handle.released();
+            release(ptr);
+            Reference.reachabilityFence(pinned);
+        });
     }
 
     public FMODDSP(FMODSystemRef system, int dspType) {
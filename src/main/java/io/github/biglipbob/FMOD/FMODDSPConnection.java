@@ -8,6 +8,8 @@ import io.github.biglipbob.utils.Tuplet;
 import static io.github.biglipbob.FMOD.FMODConstants.FMOD_OK;
 import static io.github.biglipbob.FMOD.FMOD.*;
 
+import org.jetbrains.annotations.*;
+
 /**
  * The {@code FMODDSPConnection} class represents a connection between two DSP units.
  * It allows for chaining and routing of audio effects.
@@ -67,19 +69,19 @@ public class FMODDSPConnection {
     }
 
     /// Retrieves the connection's input DSP unit.
-    public FMODDSP getInput() {
+    public FMODDSPRef getInput() {
         PointerByReference ref = new PointerByReference();
         int result = CALL.FMOD_DSPConnection_GetInput(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSPConnection_GetInput", result);
-        return new FMODDSP(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODDSPRef.class, FMODDSPRef::new);
     }
 
     /// Retrieves the connection's output DSP unit.
-    public FMODDSP getOutput() {
+    public FMODDSPRef getOutput() {
         PointerByReference ref = new PointerByReference();
         int result = CALL.FMOD_DSPConnection_GetOutput(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSPConnection_GetOutput", result);
-        return new FMODDSP(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODDSPRef.class, FMODDSPRef::new);
     }
 
     /// Retrieves the type of the connection between two DSP units.
@@ -91,16 +93,16 @@ public class FMODDSPConnection {
     }
 
     /// Retrieves a user value associated with this object.
-    Object getUserData() {
+    @Nullable Object getUserData() {
         PointerByReference ref = new PointerByReference();
         int result = CALL.FMOD_DSPConnection_GetUserData(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSPConnection_GetUserData", result);
-        return USERDATA.get(ref.getValue());
+        return USERDATA.get(Pointer.nativeValue(ref.getValue()));
     }
 
     /// Sets a user value associated with this object.
-    void setUserData(Object userdata) {
-        USERDATA.put(ptr, userdata);
+    void setUserData(@Nullable Object userdata) {
+        putUserData(ptr, userdata);
         int result = CALL.FMOD_DSPConnection_SetUserData(ptr, ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSPConnection_SetUserData", result);
     }
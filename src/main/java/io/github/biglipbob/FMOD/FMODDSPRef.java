@@ -32,31 +32,33 @@ public class FMODDSPRef {
 
     /// Adds a DSP unit as an input to this object.
     public FMODDSPConnection addInput(FMODDSPRef dsp, int connectionType) {
-        PointerByReference connRef = new PointerByReference();
+        PointerByReference connRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_DSP_AddInput(ptr, dsp.ptr, connRef, connectionType);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_AddInput", result);
-        return new FMODDSPConnection(ptr);
+        return FMODHandles.intern(connRef.getValue(), FMODDSPConnection.class, FMODDSPConnection::new);
     }
 
     /// Retrieves the DSP unit at the specified INDEX in the input list.
     public Tuple<FMODDSPRef, FMODDSPConnection> getInput(int index) {
-        PointerByReference dspRef = new PointerByReference(), connRef = new PointerByReference();
+        FMODScratch scratch = FMODScratch.get();
+        PointerByReference dspRef = scratch.pointer0, connRef = scratch.pointer1;
         int result = CALL.FMOD_DSP_GetInput(ptr, index, dspRef, connRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetInput", result);
-        return new Tuple<>(new FMODDSPRef(dspRef.getValue()), new FMODDSPConnection(connRef.getValue()));
+        return new Tuple<>(FMODHandles.intern(dspRef.getValue(), FMODDSPRef.class, FMODDSPRef::new), FMODHandles.intern(connRef.getValue(), FMODDSPConnection.class, FMODDSPConnection::new));
     }
 
     /// Retrieves the DSP unit at the specified INDEX in the output list.
     public Tuple<FMODDSPRef, FMODDSPConnection> getOutput(int index) {
-        PointerByReference dspRef = new PointerByReference(), connRef = new PointerByReference();
+        FMODScratch scratch = FMODScratch.get();
+        PointerByReference dspRef = scratch.pointer0, connRef = scratch.pointer1;
         int result = CALL.FMOD_DSP_GetOutput(ptr, index, dspRef, connRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetOutput", result);
-        return new Tuple<>(new FMODDSPRef(dspRef.getValue()), new FMODDSPConnection(connRef.getValue()));
+        return new Tuple<>(FMODHandles.intern(dspRef.getValue(), FMODDSPRef.class, FMODDSPRef::new), FMODHandles.intern(connRef.getValue(), FMODDSPConnection.class, FMODDSPConnection::new));
     }
 
     /// Retrieves the number of DSP units in the input list.
     public int getNumInputs() {
-        IntByReference numInputs = new IntByReference();
+        IntByReference numInputs = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetNumInputs(ptr, numInputs);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetNumInputs", result);
         return numInputs.getValue();
@@ -64,7 +66,7 @@ public class FMODDSPRef {
 
     /// Retrieves the number of DSP units in the output list.
     public int getNumOutputs() {
-        IntByReference numOutputs = new IntByReference();
+        IntByReference numOutputs = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetNumOutputs(ptr, numOutputs);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetNumOutputs", result);
         return numOutputs.getValue();
@@ -91,7 +93,7 @@ public class FMODDSPRef {
 
     /// Retrieves the number of parameters exposed by this unit.
     public int getNumParameters() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetNumParameters(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetNumParameters", result);
         return ref.getValue();
@@ -99,7 +101,7 @@ public class FMODDSPRef {
 
     /// Retrieves information about a specified parameter.
     public FMODParameterInfo getParameterInfo(int index) {
-        PointerByReference infoRef = new PointerByReference();
+        PointerByReference infoRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_DSP_GetParameterInfo(ptr, index, infoRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterInfo", result);
         return new FMODParameterInfo(infoRef.getValue());
@@ -107,16 +109,16 @@ public class FMODDSPRef {
 
     /// Sets a floating point parameter by INDEX.
     public void setParameterFloat(int index, float value) {
-        int result = CALL.FMOD_DSP_SetParameterFloat(ptr, index, value);
+        int result = DIRECT ? FMODDirect.FMOD_DSP_SetParameterFloat(Pointer.nativeValue(ptr), index, value) : CALL.FMOD_DSP_SetParameterFloat(ptr, index, value);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_SetParameterFloat", result);
     }
 
     /// Retrieves a floating point parameter by INDEX.
     public float getParameterValueFloat(int index) {
-        FloatByReference ref = new FloatByReference();
-        int result = CALL.FMOD_DSP_GetParameterFloat(ptr, index, ref, null, 0);
+        FMODScratch scratch = FMODScratch.get();
+        int result = DIRECT ? FMODDirect.FMOD_DSP_GetParameterFloat(Pointer.nativeValue(ptr), index, scratch.float0Address, null, 0) : CALL.FMOD_DSP_GetParameterFloat(ptr, index, scratch.float0, null, 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterFloat", result);
-        return ref.getValue();
+        return scratch.float0.getValue();
     }
 
     /// Sets an integer parameter by INDEX.
@@ -127,7 +129,7 @@ public class FMODDSPRef {
 
     /// Retrieves an integer parameter by INDEX.
     public int getParameterValueInt(int index) {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetParameterInt(ptr, index, ref, null, 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterInt", result);
         return ref.getValue();
@@ -141,7 +143,7 @@ public class FMODDSPRef {
 
     /// Retrieves a boolean parameter by INDEX.
     public boolean getParameterValueBool(int index) {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetParameterBool(ptr, index, ref, null, 0);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterBool", result);
         return ref.getValue() != 0;
@@ -190,7 +192,7 @@ public class FMODDSPRef {
     /// Retrieves the name of a data parameter.
     public String getParameterNameData(int index) {
         try (Memory buffer = new Memory(FMOD_DSP_GETPARAM_VALUESTR_LENGTH)) {
-            IntByReference ref = new IntByReference();
+            IntByReference ref = FMODScratch.get().int0;
             int result = CALL.FMOD_DSP_GetParameterData(ptr, index, null, ref, buffer, (int) buffer.size());
             if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterData", result);
             return buffer.getString(0);
@@ -199,8 +201,9 @@ public class FMODDSPRef {
 
     /// Retrieves a binary data parameter value as a Structure.
     protected <T extends Structure> T getParameterValueData(int index, Class<T> type) {
-        PointerByReference dataRef = new PointerByReference();
-        IntByReference lengthRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        PointerByReference dataRef = scratch.pointer0;
+        IntByReference lengthRef = scratch.int0;
         int result = CALL.FMOD_DSP_GetParameterData(ptr, index, dataRef, lengthRef, null, 0);
         if (result != FMODConstants.FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterData", result);
         T inst = Structure.newInstance(type, dataRef.getValue());
@@ -212,8 +215,9 @@ public class FMODDSPRef {
 
     /// Retrieves a binary data parameter value with a specified size.
     protected Pointer getParameterValueDataSized(int index, int size) {
-        PointerByReference dataRef = new PointerByReference();
-        IntByReference lengthRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        PointerByReference dataRef = scratch.pointer0;
+        IntByReference lengthRef = scratch.int0;
         int result = CALL.FMOD_DSP_GetParameterData(ptr, index, dataRef, lengthRef, null, 0);
         if (result != FMODConstants.FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterData", result);
         if (size != lengthRef.getValue())
@@ -233,7 +237,8 @@ public class FMODDSPRef {
 
     /// Retrieves the PCM input format this DSP will receive when processing.
     public Triplet<Integer> getChannelFormat() {
-        IntByReference formatRef = new IntByReference(), typeRef = new IntByReference(), speakerRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference formatRef = scratch.int0, typeRef = scratch.int1, speakerRef = scratch.int2;
         int result = CALL.FMOD_DSP_GetChannelFormat(ptr, formatRef, typeRef, speakerRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetChannelFormat", result);
         return new Triplet<>(formatRef.getValue(), typeRef.getValue(), speakerRef.getValue());
@@ -244,7 +249,7 @@ public class FMODDSPRef {
     }
 
     public int getChannelFormatRate() {
-        IntByReference formatRef = new IntByReference();
+        IntByReference formatRef = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetChannelFormat(ptr, formatRef, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetChannelFormat", result);
         return formatRef.getValue();
@@ -252,7 +257,8 @@ public class FMODDSPRef {
 
     /// Retrieves the output format this DSP produces when processing based on the input specified.
     public Triplet<Integer> getOutputChannelFormat(int inMask, int inChannels, int inSpeakerMode) {
-        IntByReference outMask = new IntByReference(), outChannels = new IntByReference(), outSpeakerMode = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference outMask = scratch.int0, outChannels = scratch.int1, outSpeakerMode = scratch.int2;
         int result = CALL.FMOD_DSP_GetOutputChannelFormat(ptr, inMask, inChannels, inSpeakerMode, outMask, outChannels, outSpeakerMode);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetChannelFormat", result);
         return new Triplet<>(outMask.getValue(), outChannels.getValue(), outSpeakerMode.getValue());
@@ -270,8 +276,9 @@ public class FMODDSPRef {
 
     /// Retrieves the input and output signal metering enabled states.
     public Tuplet<Boolean> getMeteringEnabled() {
-        IntByReference inRef = new IntByReference();
-        IntByReference outRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference inRef = scratch.int0;
+        IntByReference outRef = scratch.int1;
         int result = CALL.FMOD_DSP_GetMeteringEnabled(ptr, inRef, outRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetMeteringEnabled", result);
         return new Tuplet<>(inRef.getValue() != 0, outRef.getValue() != 0);
@@ -311,7 +318,7 @@ public class FMODDSPRef {
 
     /// Retrieves the processing active state.
     public boolean getActive() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetActive(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetActive", result);
         return ref.getValue() != 0;
@@ -325,7 +332,7 @@ public class FMODDSPRef {
 
     /// Retrieves the processing bypass state.
     public boolean getBypass() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetBypass(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetBypass", result);
         return ref.getValue() != 0;
@@ -345,7 +352,8 @@ public class FMODDSPRef {
 
     /// Retrieves the scale of the wet and dry signal components.
     public Triplet<Float> getWetDryMix() {
-        FloatByReference pre = new FloatByReference(), post = new FloatByReference(), dry = new FloatByReference();
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference pre = scratch.float0, post = scratch.float1, dry = scratch.float2;
         int result = CALL.FMOD_DSP_GetWetDryMix(ptr, pre, post, dry);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetWetDryMix", result);
         return new Triplet<>(pre.getValue(), post.getValue(), dry.getValue());
@@ -353,7 +361,7 @@ public class FMODDSPRef {
 
     /// Retrieves the idle state.
     public boolean getIdle() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetIdle(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetIdle", result);
         return ref.getValue() != 0;
@@ -374,7 +382,7 @@ public class FMODDSPRef {
 
     /// Retrieves the pre-defined type of FMOD registered DSP unit.
     public int getType() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_DSP_GetType(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetType", result);
         return ref.getValue();
@@ -382,8 +390,9 @@ public class FMODDSPRef {
 
     /// Retrieves information about this DSP unit.
     public FMODDSPInfo getInfo() {
+        FMODScratch scratch = FMODScratch.get();
         try (Memory nameBuf = new Memory(32)) {
-            IntByReference verRef = new IntByReference(), chanRef = new IntByReference(), widthRef = new IntByReference(), heightRef = new IntByReference();
+            IntByReference verRef = scratch.int0, chanRef = scratch.int1, widthRef = scratch.int2, heightRef = scratch.int3;
             int result = CALL.FMOD_DSP_GetInfo(ptr, nameBuf, verRef, chanRef, widthRef, heightRef);
             if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetType", result);
             return new FMODDSPInfo(nameBuf.getString(0), verRef.getValue(), chanRef.getValue(), widthRef.getValue(), heightRef.getValue());
@@ -392,23 +401,24 @@ public class FMODDSPRef {
 
     /// Retrieves statistics on the mixer thread CPU usage for this unit.
     public Tuplet<Integer> getCPUUsage() {
-        IntByReference exclRef = new IntByReference(), inclRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference exclRef = scratch.int0, inclRef = scratch.int1;
         int result = CALL.FMOD_DSP_GetCPUUsage(ptr, exclRef, inclRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetCPUUsage", result);
         return new Tuplet<>(exclRef.getValue(), inclRef.getValue());
     }
 
     /// Retrieves a user value associated with this object.
-    Object getUserData() {
-        PointerByReference ref = new PointerByReference();
+    @Nullable Object getUserData() {
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_DSP_GetUserData(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetUserData", result);
-        return USERDATA.get(ref.getValue());
+        return USERDATA.get(Pointer.nativeValue(ref.getValue()));
     }
 
     /// Sets a user value associated with this object.
-    void setUserData(Object userdata) {
-        USERDATA.put(ptr, userdata);
+    void setUserData(@Nullable Object userdata) {
+        putUserData(ptr, userdata);
         int result = CALL.FMOD_DSP_SetUserData(ptr, ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_SetUserData", result);
     }
@@ -421,9 +431,9 @@ public class FMODDSPRef {
 
     /// Retrieves the parent System object.
     public FMODSystemRef getSystem() {
-        PointerByReference ref = new PointerByReference();
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_DSP_GetSystemObject(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetSystemObject", result);
-        return new FMODSystemRef(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODSystemRef.class, FMODSystemRef::new);
     }
 }
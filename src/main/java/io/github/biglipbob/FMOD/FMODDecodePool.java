@@ -0,0 +1,110 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+/**
+ * The {@code FMODDecodePool} decodes files in parallel across N non-realtime FMOD systems ({@code FMOD_OUTPUTTYPE_NOSOUND_NRT}), one per worker.
+ * <p>
+ * Jobs are scheduled on a work-stealing {@link ForkJoinPool} whose worker threads each lazily own a system, so no system is ever shared between threads.
+ * Every job opens its file with {@code FMOD_OPENONLY}, drains it through a {@link FMODPcmDecoder} and publishes interleaved {@link Block}s
+ * to its subscriber: a worker blocks while the subscriber's buffer is full, throttling decoding to the consumer's pace.
+ * The pool never grows past its parallelism to compensate for such blocked workers, bounding the number of systems.
+ * </p>
+ */
+public final class FMODDecodePool implements AutoCloseable {
+
+    /// A block of interleaved samples decoded from a file.
+    public record Block(String path, float[] samples, int frames, int channels, float frequency) {
+    }
+
+    private static final class Worker extends ForkJoinWorkerThread {
+        private FMODSystem system;
+
+        Worker(ForkJoinPool pool) {
+            super(pool);
+            setName("FMOD Decode Worker " + getPoolIndex());
+            setDaemon(true);
+        }
+
+        FMODSystem system() {
+            if (system == null) system = FMOD.createSystemWithOutput(1, 0, FMOD_OUTPUTTYPE_NOSOUND_NRT);
+            return system;
+        }
+
+        @Override protected void onTermination(Throwable exception) {
+            try {
+                if (system != null) system.close();
+            } finally {
+                super.onTermination(exception);
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final Executor deliveryExecutor;
+    private final int blockFrames, bufferCapacity;
+
+    /// Builds a pool of the given number of systems, each job buffering up to bufferCapacity blocks of blockFrames frames ahead of its subscriber.
+    public FMODDecodePool(int workers, int blockFrames, int bufferCapacity, Executor deliveryExecutor) {
+        if (workers <= 0 || blockFrames <= 0 || bufferCapacity <= 0) throw new IllegalArgumentException("Sizes must be positive");
+        this.pool = new ForkJoinPool(workers, Worker::new, null, true, 0, workers, 1, p -> true, 1, TimeUnit.HOURS);
+        this.deliveryExecutor = deliveryExecutor;
+        this.blockFrames = blockFrames;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    /// One system per available core, blocks delivered on the common pool.
+    public FMODDecodePool(int blockFrames, int bufferCapacity) {
+        this(Runtime.getRuntime().availableProcessors(), blockFrames, bufferCapacity, ForkJoinPool.commonPool());
+    }
+
+    /// Decodes a file on the pool, publishing its blocks to the subscriber. The future completes once the last block has been handed over.
+    public CompletableFuture<Void> decode(String path, Flow.Subscriber<? super Block> subscriber) {
+        SubmissionPublisher<Block> publisher = new SubmissionPublisher<>(deliveryExecutor, bufferCapacity);
+        publisher.subscribe(subscriber); // Before any block is submitted, as nothing is replayed
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        pool.execute(() -> {
+            try {
+                decode(((Worker) Thread.currentThread()).system(), path, publisher);
+                publisher.close();
+                done.complete(null);
+            } catch (Throwable t) {
+                publisher.closeExceptionally(t);
+                done.completeExceptionally(t);
+            }
+        });
+        return done;
+    }
+
+    private void decode(FMODSystem system, String path, SubmissionPublisher<Block> publisher) {
+        try (FMODSound sound = system.createSound(path, FMOD_OPENONLY)) {
+            FMODPcmDecoder decoder = new FMODPcmDecoder(sound, blockFrames);
+            int channels = decoder.getChannels();
+            float frequency = sound.getFrequency();
+            while (!publisher.isClosed() && publisher.hasSubscribers()) { // Cancelled subscriptions stop the job
+                float[] samples = new float[blockFrames * channels]; // Handed over, thus not reusable
+                int frames = decoder.read(samples);
+                if (frames < 0) break;
+                if (frames < blockFrames) samples = Arrays.copyOf(samples, frames * channels);
+                publisher.submit(new Block(path, samples, frames, channels, frequency)); // Blocks while the subscriber lags behind
+            }
+        }
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /// Number of queued jobs not yet picked up by a worker.
+    public long getQueuedJobs() {
+        return pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+    }
+
+    /// Stops accepting jobs, waits for the running ones and releases every system.
+    @Override public void close() {
+        pool.close();
+    }
+}
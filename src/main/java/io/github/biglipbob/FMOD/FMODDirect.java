@@ -0,0 +1,73 @@
+package io.github.biglipbob.FMOD;
+
+import com.sun.jna.*;
+
+/**
+ * JNA direct mapping of the hottest FMOD entry points, bypassing the {@link FMODFFI} interface proxy.
+ * <p>
+ * Handles and out parameters are passed as raw addresses ({@link Pointer#nativeValue(Pointer)}, {@link FMODScratch}),
+ * inputs as primitive arrays, which JNA marshals without any reflective dispatch nor allocation. Only used when {@link FMOD#DIRECT} is set.
+ * </p>
+ */
+final class FMODDirect {
+
+    private FMODDirect() {
+    }
+
+    /// Binds the natives below against the already loaded library, returns false if it could not be done (ie 32-bit or missing symbols)
+    static boolean register(NativeLibrary library) {
+        if (Native.POINTER_SIZE != 8) return false; // Handles are passed as long
+        try {
+            Native.register(FMODDirect.class, library);
+            return true;
+        } catch (LinkageError | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // ---------------------------------------- //
+    // System
+    // ---------------------------------------- //
+
+    static native int FMOD_System_Update(long system);
+
+    // ---------------------------------------- //
+    // Channel
+    // ---------------------------------------- //
+
+    static native int FMOD_Channel_IsPlaying(long channel, long isPlayingBool);
+
+    static native int FMOD_Channel_SetVolume(long channel, float volume);
+
+    static native int FMOD_Channel_SetPaused(long channel, int pausedBool);
+
+    static native int FMOD_Channel_Set3DAttributes(long channel, float[] pos, float[] vel);
+
+    static native int FMOD_Channel_Set3DAttributes(long channel, long pos, long vel);
+
+    static native int FMOD_Channel_GetPosition(long channel, long position, int posType);
+
+    // ---------------------------------------- //
+    // ChannelGroup
+    // ---------------------------------------- //
+
+    static native int FMOD_ChannelGroup_IsPlaying(long channelGroup, long isPlayingBool);
+
+    static native int FMOD_ChannelGroup_SetVolume(long channelGroup, float volume);
+
+    static native int FMOD_ChannelGroup_SetPaused(long channelGroup, int pausedBool);
+
+    static native int FMOD_ChannelGroup_Set3DAttributes(long channelGroup, float[] pos, float[] vel);
+
+    // ---------------------------------------- //
+    // DSP
+    // ---------------------------------------- //
+
+    static native int FMOD_DSP_SetParameterFloat(long dsp, int index, float value);
+
+    static native int FMOD_DSP_GetParameterFloat(long dsp, int index, long value, Pointer valueStr, int valueStrLen);
+
+    static native int FMOD_DSP_GetParameterData(long dsp, int index, long data, long length, Pointer valueStr, int valueStrLen);
+
+    static native int FMOD_DSP_GetMeteringInfo(long dsp, long inputInfo, long outputInfo);
+}
@@ -0,0 +1,128 @@
+package io.github.biglipbob.FMOD;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import com.sun.jna.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODEmitterBatch} applies the 3D attributes of many channels at once, laid out as structure of arrays.
+ * <p>
+ * Positions and velocities live in two flat {x, y, z} arrays indexed by emitter slot, written in place by the caller
+ * ({@link #positions()}, {@link #velocities()}) or bulk loaded from off-heap buffers.
+ * {@link #apply()} pushes every emitter which changed since the last apply inside a single {@link FMODSystemRef#lockDSP()} window,
+ * through one reused native vector block, so a frame costs one lock and one FFI call per moving emitter and allocates nothing.
+ * Slots whose channel finished or was stolen are cleared on the way.
+ * </p>
+ */
+public final class FMODEmitterBatch {
+
+    private final FMODSystemRef system;
+    private final FMODChannel[] channels;
+    private final float[] positions, velocities;
+    private final float[] appliedPositions, appliedVelocities; // As of the last apply, NaN for never applied
+    private final Memory vectors = new Memory(24);
+    private final Pointer velocity = vectors.share(12);
+    private final long vectorsAddress = Pointer.nativeValue(vectors);
+    private int size; // One past the highest assigned slot
+
+    public FMODEmitterBatch(FMODSystemRef system, int capacity) {
+        this.system = system;
+        this.channels = new FMODChannel[capacity];
+        this.positions = new float[capacity * 3];
+        this.velocities = new float[capacity * 3];
+        this.appliedPositions = new float[capacity * 3];
+        this.appliedVelocities = new float[capacity * 3];
+        Arrays.fill(appliedPositions, Float.NaN);
+    }
+
+    public int getCapacity() {
+        return channels.length;
+    }
+
+    // ---------------------------------------- //
+    // Slots
+    // ---------------------------------------- //
+
+    /// Assigns a channel to a slot (null to free it), its attributes are pushed on the next apply.
+    public void setChannel(int slot, @Nullable FMODChannel channel) {
+        channels[slot] = channel;
+        Arrays.fill(appliedPositions, slot * 3, slot * 3 + 3, Float.NaN);
+        if (channel != null) size = Math.max(size, slot + 1);
+    }
+
+    public @Nullable FMODChannel getChannel(int slot) {
+        return channels[slot];
+    }
+
+    public void setPosition(int slot, float x, float y, float z) {
+        positions[slot * 3] = x;
+        positions[slot * 3 + 1] = y;
+        positions[slot * 3 + 2] = z;
+    }
+
+    public void setVelocity(int slot, float x, float y, float z) {
+        velocities[slot * 3] = x;
+        velocities[slot * 3 + 1] = y;
+        velocities[slot * 3 + 2] = z;
+    }
+
+    /// The live {x, y, z} positions of every slot, writable in place.
+    public float[] positions() {
+        return positions;
+    }
+
+    /// The live {x, y, z} velocities of every slot, writable in place.
+    public float[] velocities() {
+        return velocities;
+    }
+
+    /// Bulk loads count consecutive {x, y, z} positions and velocities (null to leave them) starting at a slot, ie from off-heap simulation state.
+    public void load(int slot, int count, FloatBuffer positions, @Nullable FloatBuffer velocities) {
+        positions.get(positions.position(), this.positions, slot * 3, count * 3);
+        if (velocities != null) velocities.get(velocities.position(), this.velocities, slot * 3, count * 3);
+    }
+
+    // ---------------------------------------- //
+    // Apply
+    // ---------------------------------------- //
+
+    /// Pushes every changed emitter to FMOD under a single DSP lock, returns how many were updated.
+    public int apply() {
+        int updated = 0;
+        system.lockDSP();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                FMODChannel channel = channels[slot];
+                if (channel == null) continue;
+                int from = slot * 3, to = from + 3;
+                if (Arrays.equals(positions, from, to, appliedPositions, from, to) && Arrays.equals(velocities, from, to, appliedVelocities, from, to)) continue;
+                int result = set3DAttributes(channel, from);
+                if (result == FMOD_ERR_INVALID_HANDLE || result == FMOD_ERR_CHANNEL_STOLEN) {
+                    channels[slot] = null; // Finished or reused by FMOD
+                    continue;
+                }
+                if (result != FMOD_OK) throw new FMODException("FMOD_Channel_Set3DAttributes", result);
+                System.arraycopy(positions, from, appliedPositions, from, 3);
+                System.arraycopy(velocities, from, appliedVelocities, from, 3);
+                updated++;
+            }
+        } finally {
+            system.unlockDSP();
+        }
+        while (size > 0 && channels[size - 1] == null) size--;
+        return updated;
+    }
+
+    private int set3DAttributes(FMODChannel channel, int from) {
+        vectors.write(0, positions, from, 3);
+        vectors.write(12, velocities, from, 3);
+        if (DIRECT) return FMODDirect.FMOD_Channel_Set3DAttributes(Pointer.nativeValue(channel.ptr), vectorsAddress, vectorsAddress + 12);
+        return CALL.FMOD_Channel_Set3DAttributes(channel.ptr, vectors, velocity);
+    }
+}
@@ -789,28 +789,44 @@ interface FMODFFI extends Library {
         void invoke(int level, String file, int line, String message);
     }
 
-    interface FMODFileOpenCallbackFFI extends Callback { // Don't care
-        int invoke(String name, int unicode, PointerByReference file);
+    interface FMODFileOpenCallbackFFI extends Callback {
+        int invoke(Pointer name, Pointer fileSize, Pointer handle, Pointer userData);
     }
 
-    interface FMODFileCloseCallbackFFI extends Callback { // Don't care
-        int invoke(Pointer file);
+    interface FMODFileCloseCallbackFFI extends Callback {
+        int invoke(Pointer handle, Pointer userData);
     }
 
-    interface FMODFileReadCallbackFFI extends Callback { // Don't care
-        int invoke(Pointer file, Pointer buffer, int sizeBytes, IntByReference bytesRead);
+    interface FMODFileReadCallbackFFI extends Callback {
+        int invoke(Pointer handle, Pointer buffer, int sizeBytes, Pointer bytesRead, Pointer userData);
     }
 
-    interface FMODFileSeekCallbackFFI extends Callback { // Don't care
-        int invoke(Pointer file, int offset, int whence);
+    interface FMODFileSeekCallbackFFI extends Callback {
+        int invoke(Pointer handle, int pos, Pointer userData);
     }
 
-    interface FMODFileAsyncReadCallbackFFI extends Callback { // Don't care
-        int invoke(Pointer file, Pointer buffer, int sizeBytes, IntByReference bytesRead, Pointer callbackData);
+    interface FMODFileAsyncReadCallbackFFI extends Callback {
+        int invoke(Pointer info, Pointer userData);
     }
 
-    interface FMODFileAsyncCancelCallbackFFI extends Callback { // Don't care
-        int invoke(Pointer file, Pointer callbackData);
+    interface FMODFileAsyncCancelCallbackFFI extends Callback {
+        int invoke(Pointer info, Pointer userData);
+    }
+
+    interface FMODFileAsyncDoneFFI extends Callback {
+        void invoke(Pointer info, int result);
+    }
+
+    interface FMODSoundNonBlockCallbackFFI extends Callback {
+        int invoke(Pointer sound, int result);
+    }
+
+    interface FMODSoundPcmReadCallbackFFI extends Callback {
+        int invoke(Pointer sound, Pointer data, int dataLen);
+    }
+
+    interface FMODSoundPcmSetPosCallbackFFI extends Callback {
+        int invoke(Pointer sound, int subSound, int position, int posType);
     }
 
     interface FMODSystemCallbackFFI extends Callback { // Don't care
@@ -829,6 +845,22 @@ interface FMODFFI extends Library {
         int invoke(Pointer channelControl, int controlType, int callbackType, Pointer commandData1, Pointer commandData2);
     }
 
+    interface FMODDSPReadCallbackFFI extends Callback {
+        int invoke(Pointer dspState, Pointer inBuffer, Pointer outBuffer, int length, int inChannels, Pointer outChannels);
+    }
+
+    interface FMODDSPSetParamFloatCallbackFFI extends Callback {
+        int invoke(Pointer dspState, int index, float value);
+    }
+
+    interface FMODDSPSetParamIntCallbackFFI extends Callback { // Also FMOD_BOOL ones
+        int invoke(Pointer dspState, int index, int value);
+    }
+
+    interface FMODDSPGetParamCallbackFFI extends Callback { // float, int and FMOD_BOOL ones only differ by the type value points to
+        int invoke(Pointer dspState, int index, Pointer value, Pointer valueStr);
+    }
+
     interface FMODDSPCallbackFFI extends Callback { // Don't care
         int invoke(Pointer dsp, int type, Pointer commandData);
     }
@@ -0,0 +1,231 @@
+package io.github.biglipbob.FMOD;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.jna.*;
+
+import static io.github.biglipbob.FMOD.FMODFFI.*;
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODFileSystem} class replaces FMOD's own file I/O with Java NIO, see {@link FMODSystemRef#setFileSystem(FMODFileSystem, int)}.
+ * <p>
+ * Files resolve to a {@link Source}, a window over a {@link FileChannel}, so sounds can be streamed straight out of pack or archive files.
+ * All reads are positional and land directly in FMOD's buffer viewed as a {@link ByteBuffer}.
+ * When built with an executor, FMOD's asynchronous read callbacks are serviced on it (ie {@link Executors#newVirtualThreadPerTaskExecutor()}),
+ * otherwise FMOD's file thread reads synchronously.
+ * </p>
+ *
+ * <p>For more details, refer to the FMOD File System documentation:
+ * <a href="https://www.fmod.com/docs/2.03/api/core-api-system.html#system_setfilesystem">FMOD System::setFileSystem</a>
+ * </p>
+ */
+public class FMODFileSystem {
+
+    /// A readable window of a channel, the channel is closed along with the file if owned.
+    public record Source(FileChannel channel, long offset, long length, boolean ownsChannel) {
+        public Source {
+            if (offset < 0 || length < 0) throw new IllegalArgumentException("Negative window");
+            if (0xFFFFFFFFL < length) throw new IllegalArgumentException("FMOD file sizes are limited to 4GB");
+        }
+
+        /// The whole channel, owned.
+        public static Source of(FileChannel channel) throws IOException {
+            return new Source(channel, 0, channel.size(), true);
+        }
+    }
+
+    private static final class OpenFile {
+        final Source source;
+        long position; // Synchronous reads only, FMOD serializes them per handle
+
+        OpenFile(Source source) {
+            this.source = source;
+        }
+    }
+
+    private static final class AsyncRead implements Runnable {
+        static final int QUEUED = 0, RUNNING = 1, FINISHED = 2;
+        final Pointer info;
+        final OpenFile file;
+        final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        AsyncRead(Pointer info, OpenFile file) {
+            this.info = info;
+            this.file = file;
+        }
+
+        @Override public void run() {
+            if (!state.compareAndSet(QUEUED, RUNNING)) return; // Cancelled
+            int offset = info.getInt(INFO_OFFSET), size = info.getInt(INFO_SIZEBYTES);
+            int[] read = {0};
+            int result = read(file, Integer.toUnsignedLong(offset), info.getPointer(INFO_BUFFER), size, read);
+            info.setInt(INFO_BYTESREAD, read[0]);
+            done(info, result);
+            state.set(FINISHED);
+        }
+    }
+
+    // FMOD_ASYNCREADINFO layout
+    private static final long INFO_HANDLE = 0, INFO_OFFSET = Native.POINTER_SIZE, INFO_SIZEBYTES = INFO_OFFSET + 4,
+            INFO_USERDATA = (INFO_OFFSET + 12 + Native.POINTER_SIZE - 1) & -Native.POINTER_SIZE, INFO_BUFFER = INFO_USERDATA + Native.POINTER_SIZE,
+            INFO_BYTESREAD = INFO_BUFFER + Native.POINTER_SIZE, INFO_DONE = (INFO_BYTESREAD + 4 + Native.POINTER_SIZE - 1) & -Native.POINTER_SIZE;
+
+    /// Keeps installed file systems and thus their callbacks reachable for as long as the system lives.
+    private static final Map<Pointer, FMODFileSystem> INSTALLED = new ConcurrentHashMap<>();
+
+    private final @Nullable Executor executor;
+    private final AtomicLong handles = new AtomicLong(1);
+    private final Map<Long, OpenFile> files = new ConcurrentHashMap<>();
+    private final Map<Long, AsyncRead> reads = new ConcurrentHashMap<>(); // Keyed by FMOD_ASYNCREADINFO address
+
+    final FMODFileOpenCallbackFFI openCallback = this::onOpen;
+    final FMODFileCloseCallbackFFI closeCallback = this::onClose;
+    final FMODFileReadCallbackFFI readCallback = this::onRead;
+    final FMODFileSeekCallbackFFI seekCallback = this::onSeek;
+    final FMODFileAsyncReadCallbackFFI asyncReadCallback = this::onAsyncRead;
+    final FMODFileAsyncCancelCallbackFFI asyncCancelCallback = this::onAsyncCancel;
+
+    /// Synchronous reads on FMOD's own file thread.
+    public FMODFileSystem() {
+        this(null);
+    }
+
+    /// Asynchronous reads serviced on the given executor.
+    public FMODFileSystem(@Nullable Executor executor) {
+        this.executor = executor;
+    }
+
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
+    /// Resolves a name passed to createSound/createStream into a source, or null if it does not exist. Defaults to the platform file system.
+    protected @Nullable Source open(String name) throws IOException {
+        Path path = Path.of(name);
+        return Files.isRegularFile(path) ? Source.of(FileChannel.open(path, StandardOpenOption.READ)) : null;
+    }
+
+    static void install(Pointer system, @Nullable FMODFileSystem fileSystem) {
+        if (fileSystem != null) INSTALLED.put(system, fileSystem);
+        else INSTALLED.remove(system);
+    }
+
+    // ---------------------------------------- //
+    // Callbacks (FMOD file threads)
+    // ---------------------------------------- //
+
+    private int onOpen(Pointer name, Pointer fileSize, Pointer handle, Pointer userData) {
+        Source source;
+        try {
+            source = open(name.getString(0, StandardCharsets.UTF_8.name()));
+        } catch (IOException | RuntimeException e) {
+            return FMOD_ERR_FILE_BAD;
+        }
+        if (source == null) return FMOD_ERR_FILE_NOTFOUND;
+        long id = handles.getAndIncrement();
+        files.put(id, new OpenFile(source));
+        fileSize.setInt(0, (int) source.length());
+        handle.setPointer(0, new Pointer(id));
+        return FMOD_OK;
+    }
+
+    private int onClose(Pointer handle, Pointer userData) {
+        OpenFile file = files.remove(Pointer.nativeValue(handle));
+        if (file == null) return FMOD_ERR_INVALID_PARAM;
+        if (!file.source.ownsChannel()) return FMOD_OK;
+        try {
+            file.source.channel().close();
+            return FMOD_OK;
+        } catch (IOException e) {
+            return FMOD_ERR_FILE_BAD;
+        }
+    }
+
+    private int onRead(Pointer handle, Pointer buffer, int sizeBytes, Pointer bytesRead, Pointer userData) {
+        OpenFile file = files.get(Pointer.nativeValue(handle));
+        if (file == null) return FMOD_ERR_INVALID_PARAM;
+        int[] read = {0};
+        int result = read(file, file.position, buffer, sizeBytes, read);
+        file.position += read[0];
+        bytesRead.setInt(0, read[0]);
+        return result;
+    }
+
+    private int onSeek(Pointer handle, int pos, Pointer userData) {
+        OpenFile file = files.get(Pointer.nativeValue(handle));
+        if (file == null) return FMOD_ERR_INVALID_PARAM;
+        long position = Integer.toUnsignedLong(pos);
+        if (file.source.length() < position) return FMOD_ERR_FILE_COULDNOTSEEK;
+        file.position = position;
+        return FMOD_OK;
+    }
+
+    private int onAsyncRead(Pointer info, Pointer userData) {
+        OpenFile file = files.get(Pointer.nativeValue(info.getPointer(INFO_HANDLE)));
+        if (file == null) return FMOD_ERR_INVALID_PARAM;
+        AsyncRead read = new AsyncRead(info, file);
+        reads.put(Pointer.nativeValue(info), read);
+        try {
+            executor.execute(() -> {
+                try {
+                    read.run();
+                } finally {
+                    reads.remove(Pointer.nativeValue(info), read);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reads.remove(Pointer.nativeValue(info), read);
+            return FMOD_ERR_FILE_BAD;
+        }
+        return FMOD_OK;
+    }
+
+    private int onAsyncCancel(Pointer info, Pointer userData) {
+        AsyncRead read = reads.remove(Pointer.nativeValue(info));
+        if (read == null) return FMOD_OK; // Already done
+        if (read.state.compareAndSet(AsyncRead.QUEUED, AsyncRead.FINISHED)) {
+            done(info, FMOD_ERR_FILE_DISKEJECTED); // Never ran, FMOD still awaits the completion
+            return FMOD_OK;
+        }
+        while (read.state.get() != AsyncRead.FINISHED) Thread.onSpinWait(); // FMOD frees the info on return, let the running read land first
+        return FMOD_OK;
+    }
+
+    // ---------------------------------------- //
+    // I/O
+    // ---------------------------------------- //
+
+    /// Reads up to size bytes at a position of the source straight into FMOD's buffer.
+    private static int read(OpenFile file, long position, Pointer buffer, int size, int[] read) {
+        Source source = file.source;
+        long remaining = source.length() - position;
+        if (remaining <= 0) return FMOD_ERR_FILE_EOF;
+        int wanted = (int) Math.min(Integer.toUnsignedLong(size), remaining);
+        ByteBuffer target = buffer.getByteBuffer(0, wanted);
+        try {
+            while (target.hasRemaining()) {
+                int n = source.channel().read(target, source.offset() + position + target.position());
+                if (n < 0) break;
+            }
+        } catch (IOException e) {
+            read[0] = target.position();
+            return FMOD_ERR_FILE_BAD;
+        }
+        read[0] = target.position();
+        return read[0] < Integer.toUnsignedLong(size) ? FMOD_ERR_FILE_EOF : FMOD_OK;
+    }
+
+    private static void done(Pointer info, int result) {
+        Function.getFunction(info.getPointer(INFO_DONE)).invoke(Void.class, new Object[]{info, result});
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.ref.Cleaner;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.*;
+
+import io.github.biglipbob.utils.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.FMOD_OK;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODGeometry} class owns an FMOD geometry object, a set of polygons occluding sounds between a source and the listener.
+ * <p>
+ * Polygons are added one at a time or in bulk from an indexed triangle mesh with {@link #addMesh}, which pushes every triangle
+ * through a single reused native vertex block. A built geometry can be serialized with {@link #save()} and restored with
+ * {@link FMODSystemRef#loadGeometry(byte[])}, see {@link FMODGeometryCache}.
+ * </p>
+ *
+ * <p>For more details, refer to the FMOD Geometry API documentation:
+ * <a href="https://www.fmod.com/docs/2.03/api/core-api-geometry.html">FMOD Geometry API</a>
+ * </p>
+ */
+public class FMODGeometry implements AutoCloseable {
+    final Pointer ptr;
+    final Cleaner.Cleanable cleanable;
+
+    FMODGeometry(Pointer ptr) {
+        this.ptr = ptr;
+        cleanable = CLEANER.register(this, () -> release(ptr));
+    }
+
+    private static void release(Pointer ptr) {
+        int result = CALL.FMOD_Geometry_Release(ptr);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_Release", result);
+    }
+
+    /// Releases the memory for the object.
+    @Override public void close() {
+        cleanable.clean();
+    }
+
+    // ---------------------------------------- //
+    // Polygons
+    // ---------------------------------------- //
+
+    /// Adds a polygon from {x, y, z} vertex triplets, returns its index.
+    public int addPolygon(float directOcclusion, float reverbOcclusion, boolean doubleSided, float[] vertices) {
+        if (vertices.length % 3 != 0 || vertices.length < 9) throw new IllegalArgumentException("A polygon needs at least 3 vertices");
+        try (Memory buffer = new Memory(4L * vertices.length)) {
+            buffer.write(0, vertices, 0, vertices.length);
+            IntByReference indexRef = FMODScratch.get().int0;
+            int result = CALL.FMOD_Geometry_AddPolygon(ptr, directOcclusion, reverbOcclusion, doubleSided ? 1 : 0, vertices.length / 3, buffer, indexRef);
+            if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_AddPolygon", result);
+            return indexRef.getValue();
+        }
+    }
+
+    /// Adds every triangle of an indexed mesh ({x, y, z} vertex triplets, 3 indices per triangle) with the same attributes, returns the first polygon index.
+    public int addMesh(float[] vertices, int[] indices, float directOcclusion, float reverbOcclusion, boolean doubleSided) {
+        if (indices.length % 3 != 0) throw new IllegalArgumentException("Indices must describe whole triangles");
+        IntByReference indexRef = FMODScratch.get().int0;
+        int first = -1;
+        try (Memory triangle = new Memory(36)) {
+            for (int i = 0; i < indices.length; i += 3) {
+                triangle.write(0, vertices, indices[i] * 3, 3);
+                triangle.write(12, vertices, indices[i + 1] * 3, 3);
+                triangle.write(24, vertices, indices[i + 2] * 3, 3);
+                int result = CALL.FMOD_Geometry_AddPolygon(ptr, directOcclusion, reverbOcclusion, doubleSided ? 1 : 0, 3, triangle, indexRef);
+                if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_AddPolygon", result);
+                if (first < 0) first = indexRef.getValue();
+            }
+        }
+        return first;
+    }
+
+    /// Retrieves the number of polygons in this object.
+    public int getNumPolygons() {
+        IntByReference polygonsRef = FMODScratch.get().int0;
+        int result = CALL.FMOD_Geometry_GetNumPolygons(ptr, polygonsRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_GetNumPolygons", result);
+        return polygonsRef.getValue();
+    }
+
+    /// Retrieves the maximum number of polygons and vertices allocatable for this object.
+    public Tuplet<Integer> getMaxPolygons() {
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference polygonsRef = scratch.int0, verticesRef = scratch.int1;
+        int result = CALL.FMOD_Geometry_GetMaxPolygons(ptr, polygonsRef, verticesRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_GetMaxPolygons", result);
+        return new Tuplet<>(polygonsRef.getValue(), verticesRef.getValue());
+    }
+
+    /// Sets individual attributes for a polygon inside a geometry object.
+    public void setPolygonAttributes(int index, float directOcclusion, float reverbOcclusion, boolean doubleSided) {
+        int result = CALL.FMOD_Geometry_SetPolygonAttributes(ptr, index, directOcclusion, reverbOcclusion, doubleSided ? 1 : 0);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_SetPolygonAttributes", result);
+    }
+
+    /// Retrieves the attributes for a polygon.
+    public Triple<Float, Float, Boolean> getPolygonAttributes(int index) {
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference directRef = scratch.float0, reverbRef = scratch.float1;
+        IntByReference doubleSidedRef = scratch.int0;
+        int result = CALL.FMOD_Geometry_GetPolygonAttributes(ptr, index, directRef, reverbRef, doubleSidedRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_GetPolygonAttributes", result);
+        return new Triple<>(directRef.getValue(), reverbRef.getValue(), doubleSidedRef.getValue() != 0);
+    }
+
+    // ---------------------------------------- //
+    // Object manipulation
+    // ---------------------------------------- //
+
+    /// Sets whether an object is processed by the geometry engine.
+    public void setActive(boolean active) {
+        int result = CALL.FMOD_Geometry_SetActive(ptr, active ? 1 : 0);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_SetActive", result);
+    }
+
+    /// Retrieves whether an object is processed by the geometry engine.
+    public boolean getActive() {
+        IntByReference activeRef = FMODScratch.get().int0;
+        int result = CALL.FMOD_Geometry_GetActive(ptr, activeRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_GetActive", result);
+        return activeRef.getValue() != 0;
+    }
+
+    /// Sets the position of the object in world space, as an {x, y, z} triplet.
+    public void setPosition(float[] position) {
+        Pointer vector = FMODScratch.get().vector0;
+        vector.write(0, position, 0, 3);
+        int result = CALL.FMOD_Geometry_SetPosition(ptr, vector);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_SetPosition", result);
+    }
+
+    /// Retrieves the position of the object in world space into an {x, y, z} triplet.
+    public void getPosition(float[] position) {
+        Pointer vector = FMODScratch.get().vector0;
+        int result = CALL.FMOD_Geometry_GetPosition(ptr, vector);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_GetPosition", result);
+        vector.read(0, position, 0, 3);
+    }
+
+    /// Sets the 3D orientation of the object, as {x, y, z} triplets (either may be null to leave it unchanged).
+    public void setRotation(float @Nullable [] forward, float @Nullable [] up) {
+        FMODScratch scratch = FMODScratch.get();
+        if (forward != null) scratch.vector0.write(0, forward, 0, 3);
+        if (up != null) scratch.vector1.write(0, up, 0, 3);
+        int result = CALL.FMOD_Geometry_SetRotation(ptr, forward != null ? scratch.vector0 : null, up != null ? scratch.vector1 : null);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_SetRotation", result);
+    }
+
+    /// Sets the relative scale of the object, as an {x, y, z} triplet.
+    public void setScale(float[] scale) {
+        Pointer vector = FMODScratch.get().vector0;
+        vector.write(0, scale, 0, 3);
+        int result = CALL.FMOD_Geometry_SetScale(ptr, vector);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_SetScale", result);
+    }
+
+    // ---------------------------------------- //
+    // Serialization
+    // ---------------------------------------- //
+
+    /// Saves the geometry object as a serialized binary block, to be loaded back through FMODSystemRef::loadGeometry.
+    public byte[] save() {
+        IntByReference sizeRef = FMODScratch.get().int0;
+        int result = CALL.FMOD_Geometry_Save(ptr, null, sizeRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_Save", result);
+        int size = sizeRef.getValue();
+        try (Memory data = new Memory(Math.max(1, size))) {
+            result = CALL.FMOD_Geometry_Save(ptr, data, sizeRef);
+            if (result != FMOD_OK) throw new FMODException("FMOD_Geometry_Save", result);
+            return data.getByteArray(0, size);
+        }
+    }
+}
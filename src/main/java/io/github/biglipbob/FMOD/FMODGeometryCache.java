@@ -0,0 +1,94 @@
+package io.github.biglipbob.FMOD;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.HexFormat;
+
+import io.github.biglipbob.utils.Tuplet;
+
+/**
+ * The {@code FMODGeometryCache} persists built geometry objects on disk, keyed by a hash of their source mesh.
+ * <p>
+ * {@link #load} hashes the mesh, its attributes and the FMOD version (SHA-256), then loads the matching {@link FMODGeometry#save()} blob
+ * when one exists, otherwise builds the geometry with {@link FMODGeometry#addMesh} and writes the blob for the next startup.
+ * Blobs are written to a temporary file first then atomically moved into place, and unreadable ones are rebuilt.
+ * </p>
+ */
+public final class FMODGeometryCache {
+
+    private static final String EXTENSION = ".fmodgeo";
+
+    private final FMODSystemRef system;
+    private final Path directory;
+    private final Tuplet<Integer> version;
+
+    public FMODGeometryCache(FMODSystemRef system, Path directory) throws IOException {
+        this.system = system;
+        this.directory = Files.createDirectories(directory);
+        this.version = system.getVersion();
+    }
+
+    /// Loads the geometry of a triangle mesh from the cache, building and caching it on a miss.
+    public FMODGeometry load(float[] vertices, int[] indices, float directOcclusion, float reverbOcclusion, boolean doubleSided) throws IOException {
+        Path file = directory.resolve(hash(vertices, indices, directOcclusion, reverbOcclusion, doubleSided) + EXTENSION);
+        if (Files.isRegularFile(file)) {
+            try {
+                return system.loadGeometry(Files.readAllBytes(file));
+            } catch (FMODException e) {
+                Files.deleteIfExists(file); // Corrupt or from an incompatible build, rebuilt below
+            }
+        }
+
+        FMODGeometry geometry = system.createGeometry(indices.length / 3, indices.length);
+        try {
+            geometry.addMesh(vertices, indices, directOcclusion, reverbOcclusion, doubleSided);
+            Path temporary = Files.createTempFile(directory, null, EXTENSION + ".tmp");
+            try {
+                Files.write(temporary, geometry.save());
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException | RuntimeException e) {
+            geometry.close();
+            throw e;
+        }
+        return geometry;
+    }
+
+    /// Removes every cached blob.
+    public void clear() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) Files.deleteIfExists(file);
+        }
+    }
+
+    private String hash(float[] vertices, int[] indices, float directOcclusion, float reverbOcclusion, boolean doubleSided) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // Mandatory on every platform
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(8192).order(ByteOrder.LITTLE_ENDIAN);
+        chunk.putInt(version.first()).putInt(version.second()).putInt(vertices.length).putInt(indices.length);
+        chunk.putFloat(directOcclusion).putFloat(reverbOcclusion).put((byte) (doubleSided ? 1 : 0));
+        for (float vertex : vertices) {
+            if (chunk.remaining() < 4) flush(digest, chunk);
+            chunk.putFloat(vertex);
+        }
+        for (int index : indices) {
+            if (chunk.remaining() < 4) flush(digest, chunk);
+            chunk.putInt(index);
+        }
+        flush(digest, chunk);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void flush(MessageDigest digest, ByteBuffer chunk) {
+        digest.update(chunk.flip());
+        chunk.clear();
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.ref.*;
+import java.util.function.Function;
+
+import com.sun.jna.Pointer;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * Registry of the canonical wrapper of every native handle, so getters and callbacks hand back the same instance rather than a new one per call.
+ * <p>
+ * Wrappers are held weakly by address in an {@link FMODLongMap}, readable without locking. Owning wrappers register themselves on creation
+ * and unregister when released, so looking up an owned object returns its owner (as a Ref) instead of a second wrapper whose cleaner would
+ * release it again. Handles of any other origin are wrapped in non-owning Ref classes. FMOD handles are unique process-wide,
+ * so a single registry serves every system; stale entries of collected wrappers are expunged as new handles come in.
+ * </p>
+ */
+final class FMODHandles {
+
+    /// Weak link from an address to its wrapper, unregistered by the owner once released.
+    static final class Handle extends WeakReference<Object> {
+        final long address;
+
+        private Handle(Object wrapper, long address) {
+            super(wrapper, COLLECTED);
+            this.address = address;
+        }
+
+        /// Removes this mapping unless the address was taken over since.
+        void unregister() {
+            HANDLES.remove(address, this);
+        }
+
+        /// Forgets everything tied to the address of a released object: this mapping and its user value.
+        void released() {
+            unregister();
+            FMOD.USERDATA.remove(address);
+        }
+    }
+
+    private static final FMODLongMap<Handle> HANDLES = new FMODLongMap<>(256);
+    private static final ReferenceQueue<Object> COLLECTED = new ReferenceQueue<>();
+
+    private FMODHandles() {
+    }
+
+    /// Canonical wrapper of a handle (null for a null handle), wrapping it with the factory unless a live wrapper of that type exists.
+    static <T> @Nullable T intern(@Nullable Pointer ptr, Class<T> type, Function<Pointer, T> factory) {
+        if (ptr == null) return null;
+        long address = Pointer.nativeValue(ptr);
+        Handle handle = HANDLES.get(address);
+        Object wrapper = handle != null ? handle.get() : null;
+        if (type.isInstance(wrapper)) return type.cast(wrapper);
+
+        expunge();
+        synchronized (HANDLES) { // Raced by another thread interning the same handle
+            handle = HANDLES.get(address);
+            wrapper = handle != null ? handle.get() : null;
+            if (type.isInstance(wrapper)) return type.cast(wrapper);
+            T created = factory.apply(ptr);
+            HANDLES.put(address, new Handle(created, address)); // Replaces a wrapper of another kind, ie from a recycled address
+            return created;
+        }
+    }
+
+    /// Registers a freshly created owning wrapper as the canonical one for its handle.
+    static Handle register(Object wrapper, Pointer ptr) {
+        expunge();
+        long address = Pointer.nativeValue(ptr);
+        Handle handle = new Handle(wrapper, address);
+        HANDLES.put(address, handle);
+        return handle;
+    }
+
+    /// Drops the mappings of collected wrappers.
+    private static void expunge() {
+        for (Reference<?> collected; (collected = COLLECTED.poll()) != null; ) ((Handle) collected).unregister();
+    }
+}
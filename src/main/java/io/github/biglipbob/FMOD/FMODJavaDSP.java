@@ -0,0 +1,238 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.invoke.*;
+import java.lang.ref.WeakReference;
+import java.nio.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.PointerByReference;
+
+import static io.github.biglipbob.FMOD.FMODFFI.*;
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+/**
+ * The {@code FMODJavaDSP} class is the base of DSP units implemented in Java and run inside FMOD's mixer, created through {@code FMOD_System_CreateDSP}.
+ * <p>
+ * Subclasses implement {@link #process(FloatBuffer, FloatBuffer, int, int)}, which is handed FMOD's own interleaved buffers wrapped
+ * as {@link FloatBuffer}s, without any copy. Parameters are declared up front as {@link Parameter}s and show up as regular DSP parameters,
+ * their current values being readable from the mixer thread through {@link #getFloat(int)}, {@link #getInt(int)} and {@link #getBool(int)}.
+ * The native description and its callbacks stay pinned until FMOD has released the DSP.
+ * </p>
+ *
+ * <p>For more details, refer to the FMOD DSP plug-in documentation:
+ * <a href="https://www.fmod.com/docs/2.03/api/plugin-api-dsp.html">FMOD DSP Plug-in API</a>
+ * </p>
+ */
+public abstract class FMODJavaDSP extends FMODDSP {
+
+    /// A parameter declaration, see the static factories.
+    public record Parameter(int type, String name, String label, String description, float min, float max, float defaultValue) {
+        public static Parameter ofFloat(String name, String label, String description, float min, float max, float defaultValue) {
+            return new Parameter(FMOD_DSP_PARAMETER_TYPE_FLOAT, name, label, description, min, max, defaultValue);
+        }
+
+        public static Parameter ofInt(String name, String label, String description, int min, int max, int defaultValue) {
+            return new Parameter(FMOD_DSP_PARAMETER_TYPE_INT, name, label, description, min, max, defaultValue);
+        }
+
+        public static Parameter ofBool(String name, String description, boolean defaultValue) {
+            return new Parameter(FMOD_DSP_PARAMETER_TYPE_BOOL, name, "", description, 0, 1, defaultValue ? 1 : 0);
+        }
+    }
+
+    private final Binding binding;
+
+    protected FMODJavaDSP(FMODSystemRef system, String name, Parameter... parameters) {
+        this(system, new Binding(name, parameters));
+    }
+
+    private FMODJavaDSP(FMODSystemRef system, Binding binding) {
+        super(binding.create(system), binding);
+        this.binding = binding;
+        binding.owner = new WeakReference<>(this); // Weak, as the cleaner pins the binding until release
+    }
+
+    /// Called on the mixer thread for every block, in and out hold length frames of interleaved samples.
+    /// Both buffers share the same channel count unless the DSP's channel format was changed.
+    protected abstract void process(FloatBuffer in, FloatBuffer out, int length, int channels);
+
+    // ---------------------------------------- //
+    // Parameters values
+    // ---------------------------------------- //
+
+    protected final float getFloat(int index) {
+        return (float) Binding.VALUES.getOpaque(binding.values, index);
+    }
+
+    protected final int getInt(int index) {
+        return (int) getFloat(index);
+    }
+
+    protected final boolean getBool(int index) {
+        return getFloat(index) != 0;
+    }
+
+    // ---------------------------------------- //
+    // Native side
+    // ---------------------------------------- //
+
+    /// The native description, its parameters and callbacks, kept reachable by the cleaner until FMOD released the DSP.
+    private static final class Binding {
+        static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(float[].class);
+        static final int P = Native.POINTER_SIZE;
+
+        // FMOD_DSP_DESCRIPTION layout
+        static final int DESC_NAME = 4, DESC_VERSION = 36, DESC_NUMINPUTS = 40, DESC_NUMOUTPUTS = 44, DESC_READ = 48 + 3 * P,
+                DESC_NUMPARAMETERS = 48 + 6 * P, DESC_PARAMDESC = align(DESC_NUMPARAMETERS + 4), DESC_SETFLOAT = DESC_PARAMDESC + P,
+                DESC_SETINT = DESC_SETFLOAT + P, DESC_SETBOOL = DESC_SETINT + P, DESC_GETFLOAT = DESC_SETBOOL + 2 * P,
+                DESC_GETINT = DESC_GETFLOAT + P, DESC_GETBOOL = DESC_GETINT + P, DESC_SIZE = DESC_PARAMDESC + 14 * P;
+        // FMOD_DSP_PARAMETER_DESC layout, the union is sized by its float member
+        static final int PARAM_NAME = 4, PARAM_LABEL = 20, PARAM_DESCRIPTION = align(36), PARAM_UNION = PARAM_DESCRIPTION + P,
+                PARAM_SIZE = PARAM_UNION + align(align(16 + 4) + 2 * P);
+
+        final Parameter[] parameters;
+        final float[] values;
+        final List<Memory> memory = new ArrayList<>(); // Description strings, parameter descriptions and their table
+        final Memory description = new Memory(DESC_SIZE);
+        volatile WeakReference<FMODJavaDSP> owner = new WeakReference<>(null);
+
+        final FMODDSPReadCallbackFFI read = this::read;
+        final FMODDSPSetParamFloatCallbackFFI setFloat = (state, index, value) -> set(index, value);
+        final FMODDSPSetParamIntCallbackFFI setInt = (state, index, value) -> set(index, value);
+        final FMODDSPSetParamIntCallbackFFI setBool = (state, index, value) -> set(index, value != 0 ? 1 : 0);
+        final FMODDSPGetParamCallbackFFI getFloat = (state, index, value, valueStr) -> get(index, value, valueStr, FMOD_DSP_PARAMETER_TYPE_FLOAT);
+        final FMODDSPGetParamCallbackFFI getInt = (state, index, value, valueStr) -> get(index, value, valueStr, FMOD_DSP_PARAMETER_TYPE_INT);
+        final FMODDSPGetParamCallbackFFI getBool = (state, index, value, valueStr) -> get(index, value, valueStr, FMOD_DSP_PARAMETER_TYPE_BOOL);
+
+        private FloatBuffer inView, outView; // Re-wrapped only when FMOD hands out different buffers
+        private long inAddress, outAddress;
+
+        Binding(String name, Parameter[] parameters) {
+            this.parameters = parameters.clone();
+            this.values = new float[parameters.length];
+            for (int i = 0; i < parameters.length; i++) values[i] = parameters[i].defaultValue();
+            Native.setCallbackThreadInitializer(read, new CallbackThreadInitializer(true, false, "FMOD Mixer")); // Stay attached to the JVM between blocks
+
+            description.clear();
+            description.setInt(0, FMOD_PLUGIN_SDK_VERSION);
+            writeString(description, DESC_NAME, name, 32);
+            description.setInt(DESC_VERSION, 1);
+            description.setInt(DESC_NUMINPUTS, 1);
+            description.setInt(DESC_NUMOUTPUTS, 1);
+            description.setPointer(DESC_READ, CallbackReference.getFunctionPointer(read));
+            description.setInt(DESC_NUMPARAMETERS, parameters.length);
+            if (0 < parameters.length) {
+                Memory table = new Memory((long) P * parameters.length);
+                for (int i = 0; i < parameters.length; i++) table.setPointer((long) P * i, describe(parameters[i]));
+                memory.add(table);
+                description.setPointer(DESC_PARAMDESC, table);
+            }
+            description.setPointer(DESC_SETFLOAT, CallbackReference.getFunctionPointer(setFloat));
+            description.setPointer(DESC_SETINT, CallbackReference.getFunctionPointer(setInt));
+            description.setPointer(DESC_SETBOOL, CallbackReference.getFunctionPointer(setBool));
+            description.setPointer(DESC_GETFLOAT, CallbackReference.getFunctionPointer(getFloat));
+            description.setPointer(DESC_GETINT, CallbackReference.getFunctionPointer(getInt));
+            description.setPointer(DESC_GETBOOL, CallbackReference.getFunctionPointer(getBool));
+        }
+
+        Pointer create(FMODSystemRef system) {
+            PointerByReference dspRef = FMODScratch.get().pointer0;
+            int result = CALL.FMOD_System_CreateDSP(system.ptr, description, dspRef);
+            if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateDSP", result);
+            return dspRef.getValue();
+        }
+
+        private Memory describe(Parameter parameter) {
+            Memory desc = new Memory(PARAM_SIZE);
+            desc.clear();
+            desc.setInt(0, parameter.type());
+            writeString(desc, PARAM_NAME, parameter.name(), 16);
+            writeString(desc, PARAM_LABEL, parameter.label(), 16);
+            byte[] bytes = parameter.description().getBytes(StandardCharsets.UTF_8);
+            Memory text = new Memory(bytes.length + 1);
+            writeString(text, 0, parameter.description(), bytes.length + 1);
+            desc.setPointer(PARAM_DESCRIPTION, text);
+            switch (parameter.type()) {
+                case FMOD_DSP_PARAMETER_TYPE_FLOAT -> {
+                    desc.setFloat(PARAM_UNION, parameter.min());
+                    desc.setFloat(PARAM_UNION + 4, parameter.max());
+                    desc.setFloat(PARAM_UNION + 8, parameter.defaultValue());
+                    desc.setInt(PARAM_UNION + 12, FMOD_DSP_PARAMETER_FLOAT_MAPPING_TYPE_AUTO);
+                }
+                case FMOD_DSP_PARAMETER_TYPE_INT -> {
+                    desc.setInt(PARAM_UNION, (int) parameter.min());
+                    desc.setInt(PARAM_UNION + 4, (int) parameter.max());
+                    desc.setInt(PARAM_UNION + 8, (int) parameter.defaultValue());
+                }
+                case FMOD_DSP_PARAMETER_TYPE_BOOL -> desc.setInt(PARAM_UNION, (int) parameter.defaultValue());
+                default -> throw new IllegalArgumentException("Unsupported parameter type: " + parameter.type());
+            }
+            memory.add(text);
+            memory.add(desc);
+            return desc;
+        }
+
+        // ---------------------------------------- //
+        // Callbacks (mixer thread)
+        // ---------------------------------------- //
+
+        private int read(Pointer state, Pointer inBuffer, Pointer outBuffer, int length, int inChannels, Pointer outChannels) {
+            int channels = outChannels.getInt(0);
+            if (inView == null || inAddress != Pointer.nativeValue(inBuffer) || inView.capacity() != length * inChannels) {
+                inView = view(inBuffer, length * inChannels);
+                inAddress = Pointer.nativeValue(inBuffer);
+            }
+            if (outView == null || outAddress != Pointer.nativeValue(outBuffer) || outView.capacity() != length * channels) {
+                outView = view(outBuffer, length * channels);
+                outAddress = Pointer.nativeValue(outBuffer);
+            }
+            FloatBuffer in = inView.clear(), out = outView.clear();
+            FMODJavaDSP dsp = owner.get();
+            try {
+                if (dsp != null) dsp.process(in, out, length, inChannels);
+                else if (inChannels == channels) out.put(in); // Passthrough while the Java side is being collected
+                return FMOD_OK;
+            } catch (Throwable t) { // Never unwind into the mixer
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+                return FMOD_ERR_DSP_SILENCE;
+            }
+        }
+
+        private static FloatBuffer view(Pointer buffer, int floats) {
+            return buffer.getByteBuffer(0, 4L * floats).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        }
+
+        private int set(int index, float value) {
+            if (index < 0 || values.length <= index) return FMOD_ERR_INVALID_PARAM;
+            VALUES.setOpaque(values, index, value);
+            return FMOD_OK;
+        }
+
+        private int get(int index, Pointer value, Pointer valueStr, int type) {
+            if (index < 0 || values.length <= index || parameters[index].type() != type) return FMOD_ERR_INVALID_PARAM;
+            float current = (float) VALUES.getOpaque(values, index);
+            if (value != null) {
+                if (type == FMOD_DSP_PARAMETER_TYPE_FLOAT) value.setFloat(0, current);
+                else value.setInt(0, (int) current);
+            }
+            if (valueStr != null) writeString(valueStr, 0, type == FMOD_DSP_PARAMETER_TYPE_FLOAT ? Float.toString(current) : Integer.toString((int) current), FMOD_DSP_GETPARAM_VALUESTR_LENGTH);
+            return FMOD_OK;
+        }
+
+        private static int align(int offset) {
+            return (offset + P - 1) & -P;
+        }
+
+        /// Writes a NUL terminated UTF-8 string truncated to a fixed size field.
+        private static void writeString(Pointer target, long offset, String value, int size) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, size - 1);
+            target.write(offset, bytes, 0, length);
+            target.setByte(offset + length, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.invoke.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * Open-addressed map from native addresses (or any long) to values, readable without locking.
+ * <p>
+ * Slots hold immutable entries published with release semantics, so {@link #get(long)} only probes the current table.
+ * Writers serialize on the map, tombstoning removed slots and rehashing into a fresh table once half of the slots are used,
+ * which readers pick up through a volatile read. A reader racing a writer sees the map either before or after the write.
+ * </p>
+ */
+final class FMODLongMap<V> {
+
+    private record Entry<V>(long key, V value) {
+    }
+
+    private static final Entry<?> TOMBSTONE = new Entry<>(0, null);
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Entry[].class);
+
+    private volatile Entry<?>[] table;
+    private int size, used; // Guarded by this, used counting tombstones too
+
+    FMODLongMap(int expectedSize) {
+        table = new Entry<?>[tableLength(expectedSize)];
+    }
+
+    /// Power of two length keeping a load factor under one half.
+    private static int tableLength(int size) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, size) * 4 - 1) << 1);
+    }
+
+    private static int index(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask; // Fibonacci hashing, addresses being aligned
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable V get(long key) {
+        Entry<?>[] table = this.table;
+        int mask = table.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            Entry<?> entry = (Entry<?>) SLOTS.getAcquire(table, i);
+            if (entry == null) return null;
+            if (entry != TOMBSTONE && entry.key == key) return (V) entry.value;
+        }
+    }
+
+    /// Maps a key to a value, returns the previous value if any.
+    synchronized @Nullable V put(long key, V value) {
+        return put(key, value, false);
+    }
+
+    /// Maps a key to a value unless already mapped, returns the current value if any.
+    synchronized @Nullable V putIfAbsent(long key, V value) {
+        return put(key, value, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable V put(long key, V value, boolean onlyIfAbsent) {
+        Entry<?>[] table = this.table;
+        int mask = table.length - 1, free = -1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            Entry<?> entry = table[i];
+            if (entry == null) {
+                if (free < 0) {
+                    free = i;
+                    used++;
+                }
+                break;
+            }
+            if (entry == TOMBSTONE) {
+                if (free < 0) free = i;
+            } else if (entry.key == key) {
+                if (!onlyIfAbsent) SLOTS.setRelease(table, i, new Entry<>(key, value));
+                return (V) entry.value;
+            }
+        }
+        SLOTS.setRelease(table, free, new Entry<>(key, value));
+        size++;
+        if (table.length < used * 2) rehash();
+        return null;
+    }
+
+    /// Unmaps a key, returns its value if any.
+    synchronized @Nullable V remove(long key) {
+        return remove(key, null, false);
+    }
+
+    /// Unmaps a key only if it still maps to the given value (by identity), returns whether it did.
+    synchronized boolean remove(long key, V value) {
+        return remove(key, value, true) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable V remove(long key, @Nullable V value, boolean onlyIfSame) {
+        Entry<?>[] table = this.table;
+        int mask = table.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            Entry<?> entry = table[i];
+            if (entry == null) return null;
+            if (entry == TOMBSTONE || entry.key != key) continue;
+            if (onlyIfSame && entry.value != value) return null;
+            SLOTS.setRelease(table, i, TOMBSTONE);
+            size--;
+            return (V) entry.value;
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /// Moves every live entry into a new table sized for them, dropping tombstones.
+    private void rehash() {
+        Entry<?>[] old = table, fresh = new Entry<?>[tableLength(size)];
+        int mask = fresh.length - 1;
+        for (Entry<?> entry : old) {
+            if (entry == null || entry == TOMBSTONE) continue;
+            int i = index(entry.key, mask);
+            while (fresh[i] != null) i = (i + 1) & mask;
+            fresh[i] = entry;
+        }
+        used = size;
+        table = fresh; // Volatile write publishes the filled table
+    }
+}
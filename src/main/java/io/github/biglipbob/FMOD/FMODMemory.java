@@ -0,0 +1,165 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.foreign.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.jna.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODMemory} class replaces FMOD's memory allocator, once per process and before any system is created.
+ * <p>
+ * {@link #initializePool(MemorySegment)} hands FMOD a fixed native pool it allocates from on its own, sparing the mixer thread
+ * any contention or fragmentation of the process heap. FMOD fails with FMOD_ERR_MEMORY once the pool is exhausted:
+ * size it from {@link FMOD#getMemoryStats(boolean)} peaks under load.
+ * </p>
+ * <p>
+ * {@link #initializeTracked(int)} instead routes the chosen allocation types through Java callbacks, accounting live and peak bytes per
+ * FMOD_MEMORY type to attribute leaks. Every allocation then crosses into the JVM, which is meant for diagnostics rather than production.
+ * </p>
+ *
+ * <p>For more details, refer to the FMOD Memory API documentation:
+ * <a href="https://www.fmod.com/docs/2.03/api/core-api-common.html#fmod_memory_initialize">FMOD_Memory_Initialize</a>
+ * </p>
+ */
+public final class FMODMemory {
+
+    /// Allocations of one FMOD_MEMORY type since tracking started.
+    public record TypeStats(int type, long currentBytes, long peakBytes, long liveAllocations, long allocations) {
+    }
+
+    private static final int POOL_GRANULARITY = 512; // FMOD requires pool lengths in multiples of 512
+    private static final int HEADER = 16; // Size and type prefix, keeping the returned block 16 bytes aligned
+    private static final int[] TYPES = {FMOD_MEMORY_NORMAL, FMOD_MEMORY_STREAM_FILE, FMOD_MEMORY_STREAM_DECODE, FMOD_MEMORY_SAMPLEDATA, FMOD_MEMORY_DSP_BUFFER, FMOD_MEMORY_PLUGIN};
+
+    private static final AtomicLongArray CURRENT = new AtomicLongArray(TYPES.length), PEAK = new AtomicLongArray(TYPES.length);
+    private static final AtomicLongArray LIVE = new AtomicLongArray(TYPES.length), ALLOCATIONS = new AtomicLongArray(TYPES.length);
+
+    private static @Nullable Object installed; // The pool segment or the callbacks, kept reachable as long as FMOD may use them
+
+    private FMODMemory() {
+    }
+
+    // ---------------------------------------- //
+    // Fixed pool
+    // ---------------------------------------- //
+
+    /// Hands FMOD a native pool to allocate everything from, its length rounded down to a multiple of 512 bytes.
+    /// The segment must stay alive for the whole process, ie allocated from the global or an automatic arena, or a direct buffer kept referenced.
+    public static synchronized void initializePool(MemorySegment pool) {
+        if (!pool.isNative()) throw new IllegalArgumentException("Pool must be native");
+        long length = Math.min(pool.byteSize(), Integer.MAX_VALUE) / POOL_GRANULARITY * POOL_GRANULARITY;
+        if (length == 0) throw new IllegalArgumentException("Pool must be at least " + POOL_GRANULARITY + " bytes");
+        checkNotInstalled();
+        initializeFMOD();
+
+        int result = CALL.FMOD_Memory_Initialize(new Pointer(pool.address()), (int) length, null, null, null, 0);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Memory_Initialize", result);
+        installed = pool;
+    }
+
+    /// Allocates a pool of the given size that lives as long as the process and hands it to FMOD.
+    public static MemorySegment initializePool(long size) {
+        MemorySegment pool = Arena.global().allocate(Math.max(POOL_GRANULARITY, (size + POOL_GRANULARITY - 1) / POOL_GRANULARITY * POOL_GRANULARITY), HEADER);
+        initializePool(pool);
+        return pool;
+    }
+
+    // ---------------------------------------- //
+    // Tracked allocator
+    // ---------------------------------------- //
+
+    /// Routes the allocations of the given FMOD_MEMORY types (FMOD_MEMORY_ALL for every one) through tracking callbacks backed by malloc.
+    public static synchronized void initializeTracked(int memTypeFlags) {
+        checkNotInstalled();
+        initializeFMOD();
+
+        FMODFFI.FMODMemoryAllocCallbackFFI alloc = (size, type, source) -> allocate(size, type);
+        FMODFFI.FMODMemoryReallocCallbackFFI realloc = (ptr, size, type, source) -> reallocate(ptr, size, type);
+        FMODFFI.FMODMemoryFreeCallbackFFI free = (ptr, type, source) -> free(ptr);
+        CallbackThreadInitializer initializer = new CallbackThreadInitializer(true, false, "FMOD Allocator"); // Stay attached, allocations are frequent
+        Native.setCallbackThreadInitializer(alloc, initializer);
+        Native.setCallbackThreadInitializer(realloc, initializer);
+        Native.setCallbackThreadInitializer(free, initializer);
+
+        int result = CALL.FMOD_Memory_Initialize(null, 0, alloc, realloc, free, memTypeFlags);
+        if (result != FMOD_OK) throw new FMODException("FMOD_Memory_Initialize", result);
+        installed = List.of(alloc, realloc, free);
+    }
+
+    /// Whether FMOD allocates through the tracking callbacks.
+    public static synchronized boolean isTracked() {
+        return installed instanceof List<?>;
+    }
+
+    /// Live and peak allocations per FMOD_MEMORY type, types without any allocation omitted.
+    public static List<TypeStats> getTrackedStats() {
+        List<TypeStats> stats = new ArrayList<>();
+        for (int i = 0; i < TYPES.length; i++) {
+            if (ALLOCATIONS.get(i) == 0) continue;
+            stats.add(new TypeStats(TYPES[i], CURRENT.get(i), PEAK.get(i), LIVE.get(i), ALLOCATIONS.get(i)));
+        }
+        return stats;
+    }
+
+    /// Bytes currently allocated through the tracking callbacks, across every type.
+    public static long getTrackedBytes() {
+        long total = 0;
+        for (int i = 0; i < TYPES.length; i++) total += CURRENT.get(i);
+        return total;
+    }
+
+    private static void checkNotInstalled() {
+        if (installed != null) throw new IllegalStateException("FMOD's allocator is already replaced");
+    }
+
+    // ---------------------------------------- //
+    // Callbacks, on any FMOD thread
+    // ---------------------------------------- //
+
+    /// Type index of an allocation, by its lowest type bit (FMOD_MEMORY_PERSISTENT is a lifetime hint, not a type).
+    private static int index(int type) {
+        int bits = type & ((FMOD_MEMORY_PLUGIN << 1) - 1);
+        return bits == 0 ? 0 : Integer.numberOfTrailingZeros(bits) + 1;
+    }
+
+    private static @Nullable Pointer allocate(int size, int type) {
+        long block = Native.malloc(HEADER + (long) size);
+        if (block == 0) return null; // FMOD reports FMOD_ERR_MEMORY
+        int index = index(type);
+        Pointer header = new Pointer(block);
+        header.setInt(0, size);
+        header.setInt(4, index);
+        long current = CURRENT.addAndGet(index, size);
+        PEAK.accumulateAndGet(index, current, Math::max);
+        LIVE.incrementAndGet(index);
+        ALLOCATIONS.incrementAndGet(index);
+        return header.share(HEADER);
+    }
+
+    private static @Nullable Pointer reallocate(@Nullable Pointer ptr, int size, int type) {
+        if (ptr == null) return allocate(size, type);
+        Pointer moved = allocate(size, type);
+        if (moved == null) return null; // The original block stays valid
+        int previous = ptr.getInt(-HEADER);
+        int copied = Math.min(previous, size);
+        if (copied != 0) moved.getByteBuffer(0, copied).put(ptr.getByteBuffer(0, copied));
+        free(ptr);
+        return moved;
+    }
+
+    private static void free(@Nullable Pointer ptr) {
+        if (ptr == null) return;
+        long block = Pointer.nativeValue(ptr) - HEADER;
+        Pointer header = new Pointer(block);
+        int size = header.getInt(0), index = header.getInt(4); // Accounted to the type it was allocated as
+        CURRENT.addAndGet(index, -size);
+        LIVE.decrementAndGet(index);
+        Native.free(block);
+    }
+}
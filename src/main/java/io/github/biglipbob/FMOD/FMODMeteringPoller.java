@@ -0,0 +1,134 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.Arrays;
+
+import com.sun.jna.*;
+
+import io.github.biglipbob.utils.Tuplet;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODMeteringPoller} class reads the peak and RMS levels of many DSPs at once, ie the fader of every bus of a mixing console.
+ * <p>
+ * Each registered DSP gets its own preallocated FMOD_DSP_METERING_INFO block, {@link #poll} fills all of them inside a single
+ * {@link FMODSystemRef#lockDSP()} window then copies the levels into caller provided {@code float[dsps][channels]} rows,
+ * instead of marshalling two {@link FMODDSPMeteringInfo} structures per DSP and call. Slots whose DSP was released are cleared on the way.
+ * </p>
+ */
+public final class FMODMeteringPoller {
+
+    private static final int INFO_SIZE = 264, PEAKS_OFFSET = 4, RMS_OFFSET = 132, CHANNELS_OFFSET = 260; // FMOD_DSP_METERING_INFO
+
+    private final FMODSystemRef system;
+    private final boolean input;
+    private final FMODDSPRef[] dsps;
+    private final Memory infos;
+    private final Pointer[] blocks;
+    private final int[] channels;
+    private int size; // One past the highest assigned slot
+
+    /// Meters the input or the output signal of up to capacity DSPs.
+    public FMODMeteringPoller(FMODSystemRef system, int capacity, boolean input) {
+        this.system = system;
+        this.input = input;
+        this.dsps = new FMODDSPRef[capacity];
+        this.infos = new Memory((long) INFO_SIZE * capacity);
+        this.blocks = new Pointer[capacity];
+        for (int slot = 0; slot < capacity; slot++) blocks[slot] = infos.share((long) INFO_SIZE * slot, INFO_SIZE);
+        this.channels = new int[capacity];
+    }
+
+    public int getCapacity() {
+        return dsps.length;
+    }
+
+    // ---------------------------------------- //
+    // Slots
+    // ---------------------------------------- //
+
+    /// Registers a DSP in the first free slot, enabling its metering, returns the slot.
+    public int add(FMODDSPRef dsp) {
+        for (int slot = 0; slot < dsps.length; slot++) {
+            if (dsps[slot] != null) continue;
+            Tuplet<Boolean> enabled = dsp.getMeteringEnabled();
+            dsp.setMeteringEnabled(input || enabled.first(), !input || enabled.second());
+            dsps[slot] = dsp;
+            channels[slot] = 0;
+            size = Math.max(size, slot + 1);
+            return slot;
+        }
+        throw new IllegalStateException("All " + dsps.length + " slots are taken");
+    }
+
+    /// Registers the fader DSP of a channel or a channel group, returns the slot.
+    public int add(FMODChannelControl control) {
+        return add(control.getFaderDSP());
+    }
+
+    /// Frees a slot, leaving the metering of its DSP enabled.
+    public void remove(int slot) {
+        dsps[slot] = null;
+        channels[slot] = 0;
+        while (size > 0 && dsps[size - 1] == null) size--;
+    }
+
+    public @Nullable FMODDSPRef getDSP(int slot) {
+        return dsps[slot];
+    }
+
+    /// Number of channels metered in a slot as of the last poll, 0 for a free slot.
+    public int getChannels(int slot) {
+        return channels[slot];
+    }
+
+    // ---------------------------------------- //
+    // Polling
+    // ---------------------------------------- //
+
+    /// Reads the levels of every registered DSP under one DSP lock, then copies each slot's peaks (and RMS levels if asked)
+    /// into the row of the same index, as many channels as fit. Rows of slots cleared on the way are zeroed. Returns the number of slots read.
+    public int poll(float[][] peaks, float @Nullable [][] rms) {
+        int read = 0;
+        system.lockDSP();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                FMODDSPRef dsp = dsps[slot];
+                if (dsp == null) continue;
+                int result = getMeteringInfo(dsp, slot);
+                if (result == FMOD_ERR_INVALID_HANDLE) {
+                    dsps[slot] = null; // Released along with its channel or group
+                    channels[slot] = 0;
+                    Arrays.fill(peaks[slot], 0); // Silences the released DSP's last levels
+                    if (rms != null) Arrays.fill(rms[slot], 0);
+                    continue;
+                }
+                if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetMeteringInfo", result);
+                read++;
+            }
+        } finally {
+            system.unlockDSP();
+        }
+        while (size > 0 && dsps[size - 1] == null) size--;
+
+        for (int slot = 0; slot < size; slot++) {
+            if (dsps[slot] == null) continue;
+            Pointer block = blocks[slot];
+            int count = channels[slot] = block.getShort(CHANNELS_OFFSET);
+            block.read(PEAKS_OFFSET, peaks[slot], 0, Math.min(count, peaks[slot].length));
+            if (rms != null) block.read(RMS_OFFSET, rms[slot], 0, Math.min(count, rms[slot].length));
+        }
+        return read;
+    }
+
+    private int getMeteringInfo(FMODDSPRef dsp, int slot) {
+        if (DIRECT) {
+            long block = Pointer.nativeValue(infos) + (long) INFO_SIZE * slot;
+            return FMODDirect.FMOD_DSP_GetMeteringInfo(Pointer.nativeValue(dsp.ptr), input ? block : 0, input ? 0 : block);
+        }
+        return CALL.FMOD_DSP_GetMeteringInfo(dsp.ptr, input ? blocks[slot] : null, input ? null : blocks[slot]);
+    }
+}
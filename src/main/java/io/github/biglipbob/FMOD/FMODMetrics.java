@@ -0,0 +1,175 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.FMOD_OK;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODMetrics} class instruments every FMOD call with per-function counts, error counts and latency histograms.
+ * <p>
+ * {@link #enable()} wraps the bound backend in a decorating {@link FMODFFI} proxy, also emitting an {@link FMODCallEvent} JFR event per slow call
+ * (only created while a recording enables them). The proxy boxes the arguments of every call, so expect some allocation while enabled.
+ * Direct mapping is turned off meanwhile so no call bypasses the proxy. {@link #disable()} puts the original backend back:
+ * while disabled nothing is decorated, so instrumentation costs nothing.
+ * </p>
+ * <p>
+ * Latencies are recorded in log-linear buckets (8 per power of two, HdrHistogram style), percentiles being within 12.5% of the exact value.
+ * </p>
+ */
+public final class FMODMetrics {
+
+    /// Statistics of one FMOD function since enabled or reset, latencies in nanoseconds.
+    public record CallStats(String function, long calls, long errors, long totalNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+    }
+
+    private static final int SUB_BUCKETS = 8, BUCKETS = 61 * SUB_BUCKETS; // Up to 2^63ns
+
+    private static final class Counter {
+        final String function;
+        final LongAdder calls = new LongAdder(), errors = new LongAdder(), totalNanos = new LongAdder();
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        final AtomicLong maxNanos = new AtomicLong();
+
+        Counter(String function) {
+            this.function = function;
+        }
+
+        void record(long nanos, int result) {
+            calls.increment();
+            if (result != FMOD_OK) errors.increment();
+            totalNanos.add(nanos);
+            buckets.incrementAndGet(bucket(nanos));
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        void reset() {
+            calls.reset();
+            errors.reset();
+            totalNanos.reset();
+            for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+            maxNanos.set(0);
+        }
+
+        CallStats snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) total += counts[i] = buckets.get(i);
+            return new CallStats(function, calls.sum(), errors.sum(), totalNanos.sum(), percentile(counts, total, 0.5), percentile(counts, total, 0.99), maxNanos.get());
+        }
+    }
+
+    private static final Map<Method, Counter> COUNTERS = new HashMap<>(); // Filled once, read-only afterward
+    private static final FMODCallEvent EVENT_TYPE = new FMODCallEvent(); // Never committed, only asked whether any recording wants call events
+    private static @Nullable FMODFFI original;
+    private static boolean originalDirect;
+
+    static {
+        for (Method method : FMODFFI.class.getMethods())
+            if (method.getDeclaringClass() == FMODFFI.class) COUNTERS.put(method, new Counter(method.getName()));
+    }
+
+    private FMODMetrics() {
+    }
+
+    /// Starts instrumenting every FMOD call, initializing FMOD beforehand if needed.
+    public static synchronized void enable() {
+        if (original != null) return;
+        initializeFMOD();
+        FMODFFI backend = CALL;
+        original = backend;
+        originalDirect = DIRECT;
+        DIRECT = false;
+        CALL = (FMODFFI) Proxy.newProxyInstance(FMODFFI.class.getClassLoader(), new Class<?>[]{FMODFFI.class}, (proxy, method, args) -> invoke(backend, method, args));
+    }
+
+    /// Stops instrumenting, restoring the original backend. Collected statistics are kept.
+    public static synchronized void disable() {
+        if (original == null) return;
+        CALL = original;
+        DIRECT = originalDirect;
+        original = null;
+    }
+
+    public static synchronized boolean isEnabled() {
+        return original != null;
+    }
+
+    /// Statistics of every function called at least once, by descending total time.
+    public static List<CallStats> snapshot() {
+        List<CallStats> stats = new ArrayList<>();
+        for (Counter counter : COUNTERS.values()) {
+            CallStats snapshot = counter.snapshot();
+            if (snapshot.calls() != 0) stats.add(snapshot);
+        }
+        stats.sort(Comparator.comparingLong(CallStats::totalNanos).reversed());
+        return stats;
+    }
+
+    /// Clears every statistic.
+    public static void reset() {
+        for (Counter counter : COUNTERS.values()) counter.reset();
+    }
+
+    // ---------------------------------------- //
+    // Instrumentation
+    // ---------------------------------------- //
+
+    private static Object invoke(FMODFFI backend, Method method, Object[] args) throws Throwable {
+        Counter counter = COUNTERS.get(method);
+        if (counter == null) return method.invoke(backend, args); // Object methods
+        FMODCallEvent event = EVENT_TYPE.isEnabled() ? new FMODCallEvent() : null;
+        if (event != null) event.begin();
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = method.invoke(backend, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        long nanos = System.nanoTime() - start;
+        int result = value instanceof Integer code ? code : FMOD_OK;
+        counter.record(nanos, result);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.function = counter.function;
+                event.result = result;
+                event.commit();
+            }
+        }
+        return value;
+    }
+
+    // ---------------------------------------- //
+    // Histogram
+    // ---------------------------------------- //
+
+    private static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) Math.max(0, nanos);
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos); // At least 3
+        int sub = (int) (nanos >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+        return (exponent - 2) * SUB_BUCKETS + sub;
+    }
+
+    /// Highest value falling in a bucket.
+    private static long highest(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = bucket / SUB_BUCKETS + 2, sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - 3)) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(quantile * total), seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (rank <= seen) return highest(i);
+        }
+        return highest(BUCKETS - 1);
+    }
+}
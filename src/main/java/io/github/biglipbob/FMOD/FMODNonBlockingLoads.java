@@ -0,0 +1,92 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.PointerByReference;
+
+import static io.github.biglipbob.FMOD.FMODFFI.FMODSoundNonBlockCallbackFFI;
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+/**
+ * Bookkeeping of the {@code FMOD_NONBLOCKING} loads started by {@link FMODSystemRef#createSoundAsync}.
+ * <p>
+ * Each load is tagged with a token through {@code exinfo.userdata}, which the single pinned non-block callback reads back
+ * from the sound. The future completes once both the creation call has returned and the callback has fired, whichever comes last,
+ * on the load's executor since FMOD forbids releasing a sound from within its own non-block callback.
+ * </p>
+ */
+final class FMODNonBlockingLoads {
+
+    private static final AtomicLong TOKENS = new AtomicLong(1);
+    private static final Map<Long, PendingLoad> PENDING = new ConcurrentHashMap<>();
+    private static final FMODSoundNonBlockCallbackFFI CALLBACK = FMODNonBlockingLoads::onLoaded; // Strongly held for the lifetime of the class
+    static final Pointer CALLBACK_POINTER = CallbackReference.getFunctionPointer(CALLBACK);
+    private static final ThreadLocal<PointerByReference> TOKEN_REF = ThreadLocal.withInitial(PointerByReference::new); // Not FMODScratch, createSound may still be reading its out handle
+
+    private FMODNonBlockingLoads() {
+    }
+
+    static final class PendingLoad {
+        final long token = TOKENS.getAndIncrement();
+        final CompletableFuture<FMODSound> future = new CompletableFuture<>();
+        private final Executor executor;
+        private final AtomicInteger arrivals = new AtomicInteger(2); // creation returned + callback fired
+        private FMODSound sound;
+        private int result = FMOD_OK;
+
+        private PendingLoad(Executor executor) {
+            this.executor = executor;
+        }
+
+        /// Called once FMOD_System_CreateSound handed out the sound handle.
+        void created(FMODSound sound) {
+            this.sound = sound;
+            arrive();
+        }
+
+        /// Called if FMOD_System_CreateSound itself failed, the callback will never fire.
+        void failed(Throwable cause) {
+            PENDING.remove(token);
+            future.completeExceptionally(cause);
+        }
+
+        private void arrive() {
+            if (arrivals.decrementAndGet() == 0) executor.execute(this::complete);
+        }
+
+        private void complete() {
+            try {
+                CALL.FMOD_Sound_SetUserData(sound.ptr, null); // Drops the token
+                if (result == FMOD_OK && sound.getOpenStateType() != FMOD_OPENSTATE_ERROR) {
+                    future.complete(sound);
+                    return;
+                }
+                sound.close();
+                future.completeExceptionally(new FMODException("FMOD_System_CreateSound", result != FMOD_OK ? result : FMOD_ERR_FILE_BAD));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    /// Registers a new load whose completion runs on the given executor.
+    static PendingLoad register(Executor executor) {
+        PendingLoad load = new PendingLoad(executor);
+        PENDING.put(load.token, load);
+        return load;
+    }
+
+    private static int onLoaded(Pointer sound, int result) { // On FMOD's async loader thread, or the caller's on immediate failures
+        PointerByReference tokenRef = TOKEN_REF.get();
+        if (CALL.FMOD_Sound_GetUserData(sound, tokenRef) != FMOD_OK) return FMOD_OK;
+        PendingLoad load = PENDING.remove(Pointer.nativeValue(tokenRef.getValue()));
+        if (load == null) return FMOD_OK; // Streams also call back on seeks and restarts
+        load.result = result;
+        load.arrive();
+        return FMOD_OK;
+    }
+}
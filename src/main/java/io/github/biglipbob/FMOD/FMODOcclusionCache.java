@@ -0,0 +1,87 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.*;
+
+import io.github.biglipbob.utils.Tuplet;
+
+/**
+ * The {@code FMODOcclusionCache} memoizes {@link FMODSystemRef#getGeometryOcclusion(float[], float[])} by quantized listener and source cells.
+ * <p>
+ * Positions snap to cubic cells and the occlusion is computed once between the centers of both cells,
+ * so every pair of positions falling in the same cells shares one ray cast. The least recently used pairs are evicted past the capacity.
+ * Cached results go stale as geometry moves or changes: {@link #invalidate()} after editing any geometry object.
+ * </p>
+ */
+public final class FMODOcclusionCache {
+
+    private record Key(long listener, long source) {
+    }
+
+    private final FMODSystemRef system;
+    private final float cellSize;
+    private final LinkedHashMap<Key, Long> entries; // Direct and reverb occlusion bits packed in a long
+    private final float[] listenerCenter = new float[3], sourceCenter = new float[3];
+    private long hits, misses;
+
+    public FMODOcclusionCache(FMODSystemRef system, float cellSize, int capacity) {
+        if (cellSize <= 0 || capacity <= 0) throw new IllegalArgumentException("Sizes must be positive");
+        this.system = system;
+        this.cellSize = cellSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                return capacity < size();
+            }
+        };
+    }
+
+    /// Retrieves the direct and reverb occlusion between the cells of a listener and a source into a pair.
+    public Tuplet<Float> getOcclusion(float[] listenerPos, float[] sourcePos) {
+        long packed = lookup(listenerPos, sourcePos);
+        return new Tuplet<>(Float.intBitsToFloat((int) (packed >>> 32)), Float.intBitsToFloat((int) packed));
+    }
+
+    /// Retrieves the direct and reverb occlusion between the cells of a listener and a source into the first two slots of out.
+    public void getOcclusion(float[] listenerPos, float[] sourcePos, float[] out) {
+        long packed = lookup(listenerPos, sourcePos);
+        out[0] = Float.intBitsToFloat((int) (packed >>> 32));
+        out[1] = Float.intBitsToFloat((int) packed);
+    }
+
+    private synchronized long lookup(float[] listenerPos, float[] sourcePos) {
+        Key key = new Key(cell(listenerPos, listenerCenter), cell(sourcePos, sourceCenter));
+        Long cached = entries.get(key);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        Tuplet<Float> occlusion = system.getGeometryOcclusion(listenerCenter, sourceCenter);
+        long packed = ((long) Float.floatToRawIntBits(occlusion.first()) << 32) | (Float.floatToRawIntBits(occlusion.second()) & 0xFFFFFFFFL);
+        entries.put(key, packed);
+        return packed;
+    }
+
+    /// Packs the cell of a position and writes its center.
+    private long cell(float[] position, float[] center) {
+        long key = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            int index = (int) Math.floor(position[axis] / cellSize);
+            center[axis] = (index + 0.5f) * cellSize;
+            key = (key << 21) | (index & 0x1FFFFFL);
+        }
+        return key;
+    }
+
+    /// Drops every cached result, to be called after moving or editing geometry.
+    public synchronized void invalidate() {
+        entries.clear();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
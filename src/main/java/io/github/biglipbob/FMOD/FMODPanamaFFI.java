@@ -0,0 +1,2381 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.foreign.*;
+import java.lang.invoke.*;
+import java.util.Optional;
+
+import com.sun.jna.ptr.*;
+import com.sun.jna.*;
+
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * The {@code FMODPanamaFFI} class implements {@link FMODFFI} on top of the Foreign Function &amp; Memory API.
+ * <p>
+ * Every entry point is bound once to a downcall {@link MethodHandle}, skipping JNA's interface proxy, reflection and
+ * per-call argument marshalling. JNA types are only unwrapped to their raw addresses at the boundary,
+ * which keeps the rest of the wrapper (the {@code *Ref} classes) unchanged regardless of the selected {@link FMODBackend}.
+ * </p>
+ *
+ * <p>Symbols are resolved through a {@link SymbolLookup}, so a fake native library (ie upcall stubs) can stand in for libfmod.
+ * Missing symbols only fail when called, matching JNA's lazy resolution.</p>
+ */
+@SuppressWarnings({"unused", "SpellCheckingInspection"})
+final class FMODPanamaFFI implements FMODFFI {
+    private static final Linker LINKER = Linker.nativeLinker();
+
+    private final MethodHandle FMOD_System_Create;
+    private final MethodHandle FMOD_System_Init;
+    private final MethodHandle FMOD_System_Update;
+    private final MethodHandle FMOD_System_Close;
+    private final MethodHandle FMOD_System_Release;
+    private final MethodHandle FMOD_Debug_Initialize;
+    private final MethodHandle FMOD_Thread_SetAttributes;
+    private final MethodHandle FMOD_Memory_Initialize;
+    private final MethodHandle FMOD_Memory_GetStats;
+    private final MethodHandle FMOD_File_SetDiskBusy;
+    private final MethodHandle FMOD_File_GetDiskBusy;
+    private final MethodHandle FMOD_System_SetOutput;
+    private final MethodHandle FMOD_System_GetOutput;
+    private final MethodHandle FMOD_System_GetNumDrivers;
+    private final MethodHandle FMOD_System_GetDriverInfo;
+    private final MethodHandle FMOD_System_SetDriver;
+    private final MethodHandle FMOD_System_GetDriver;
+    private final MethodHandle FMOD_System_SetSoftwareChannels;
+    private final MethodHandle FMOD_System_GetSoftwareChannels;
+    private final MethodHandle FMOD_System_SetSoftwareFormat;
+    private final MethodHandle FMOD_System_GetSoftwareFormat;
+    private final MethodHandle FMOD_System_SetDSPBufferSize;
+    private final MethodHandle FMOD_System_GetDSPBufferSize;
+    private final MethodHandle FMOD_System_SetFileSystem;
+    private final MethodHandle FMOD_System_AttachFileSystem;
+    private final MethodHandle FMOD_System_SetAdvancedSettings;
+    private final MethodHandle FMOD_System_GetAdvancedSettings;
+    private final MethodHandle FMOD_System_SetCallback;
+    private final MethodHandle FMOD_System_SetPluginPath;
+    private final MethodHandle FMOD_System_LoadPlugin;
+    private final MethodHandle FMOD_System_UnloadPlugin;
+    private final MethodHandle FMOD_System_GetNumNestedPlugins;
+    private final MethodHandle FMOD_System_GetNestedPlugin;
+    private final MethodHandle FMOD_System_GetNumPlugins;
+    private final MethodHandle FMOD_System_GetPluginHandle;
+    private final MethodHandle FMOD_System_GetPluginInfo;
+    private final MethodHandle FMOD_System_SetOutputByPlugin;
+    private final MethodHandle FMOD_System_GetOutputByPlugin;
+    private final MethodHandle FMOD_System_CreateDSPByPlugin;
+    private final MethodHandle FMOD_System_GetDSPInfoByPlugin;
+    private final MethodHandle FMOD_System_RegisterCodec;
+    private final MethodHandle FMOD_System_RegisterDSP;
+    private final MethodHandle FMOD_System_RegisterOutput;
+    private final MethodHandle FMOD_System_SetSpeakerPosition;
+    private final MethodHandle FMOD_System_GetSpeakerPosition;
+    private final MethodHandle FMOD_System_SetStreamBufferSize;
+    private final MethodHandle FMOD_System_GetStreamBufferSize;
+    private final MethodHandle FMOD_System_Set3DSettings;
+    private final MethodHandle FMOD_System_Get3DSettings;
+    private final MethodHandle FMOD_System_Set3DNumListeners;
+    private final MethodHandle FMOD_System_Get3DNumListeners;
+    private final MethodHandle FMOD_System_Set3DListenerAttributes;
+    private final MethodHandle FMOD_System_Get3DListenerAttributes;
+    private final MethodHandle FMOD_System_Set3DRolloffCallback;
+    private final MethodHandle FMOD_System_MixerSuspend;
+    private final MethodHandle FMOD_System_MixerResume;
+    private final MethodHandle FMOD_System_GetDefaultMixMatrix;
+    private final MethodHandle FMOD_System_GetSpeakerModeChannels;
+    private final MethodHandle FMOD_System_GetVersion;
+    private final MethodHandle FMOD_System_GetOutputHandle;
+    private final MethodHandle FMOD_System_GetChannelsPlaying;
+    private final MethodHandle FMOD_System_GetCPUUsage;
+    private final MethodHandle FMOD_System_GetFileUsage;
+    private final MethodHandle FMOD_System_CreateSound;
+    private final MethodHandle FMOD_System_CreateStream;
+    private final MethodHandle FMOD_System_CreateDSP;
+    private final MethodHandle FMOD_System_CreateDSPByType;
+    private final MethodHandle FMOD_System_CreateChannelGroup;
+    private final MethodHandle FMOD_System_CreateSoundGroup;
+    private final MethodHandle FMOD_System_CreateReverb3D;
+    private final MethodHandle FMOD_System_PlaySound;
+    private final MethodHandle FMOD_System_PlayDSP;
+    private final MethodHandle FMOD_System_GetChannel;
+    private final MethodHandle FMOD_System_GetDSPInfoByType;
+    private final MethodHandle FMOD_System_GetMasterChannelGroup;
+    private final MethodHandle FMOD_System_GetMasterSoundGroup;
+    private final MethodHandle FMOD_System_AttachChannelGroupToPort;
+    private final MethodHandle FMOD_System_DetachChannelGroupFromPort;
+    private final MethodHandle FMOD_System_SetReverbProperties;
+    private final MethodHandle FMOD_System_GetReverbProperties;
+    private final MethodHandle FMOD_System_LockDSP;
+    private final MethodHandle FMOD_System_UnlockDSP;
+    private final MethodHandle FMOD_System_GetRecordNumDrivers;
+    private final MethodHandle FMOD_System_GetRecordDriverInfo;
+    private final MethodHandle FMOD_System_GetRecordPosition;
+    private final MethodHandle FMOD_System_RecordStart;
+    private final MethodHandle FMOD_System_RecordStop;
+    private final MethodHandle FMOD_System_IsRecording;
+    private final MethodHandle FMOD_System_CreateGeometry;
+    private final MethodHandle FMOD_System_SetGeometrySettings;
+    private final MethodHandle FMOD_System_GetGeometrySettings;
+    private final MethodHandle FMOD_System_LoadGeometry;
+    private final MethodHandle FMOD_System_GetGeometryOcclusion;
+    private final MethodHandle FMOD_System_SetNetworkProxy;
+    private final MethodHandle FMOD_System_GetNetworkProxy;
+    private final MethodHandle FMOD_System_SetNetworkTimeout;
+    private final MethodHandle FMOD_System_GetNetworkTimeout;
+    private final MethodHandle FMOD_System_SetUserData;
+    private final MethodHandle FMOD_System_GetUserData;
+    private final MethodHandle FMOD_Sound_Release;
+    private final MethodHandle FMOD_Sound_GetSystemObject;
+    private final MethodHandle FMOD_Sound_Lock;
+    private final MethodHandle FMOD_Sound_Unlock;
+    private final MethodHandle FMOD_Sound_SetDefaults;
+    private final MethodHandle FMOD_Sound_GetDefaults;
+    private final MethodHandle FMOD_Sound_Set3DMinMaxDistance;
+    private final MethodHandle FMOD_Sound_Get3DMinMaxDistance;
+    private final MethodHandle FMOD_Sound_Set3DConeSettings;
+    private final MethodHandle FMOD_Sound_Get3DConeSettings;
+    private final MethodHandle FMOD_Sound_Set3DCustomRolloff;
+    private final MethodHandle FMOD_Sound_Get3DCustomRolloff;
+    private final MethodHandle FMOD_Sound_GetSubSound;
+    private final MethodHandle FMOD_Sound_GetSubSoundParent;
+    private final MethodHandle FMOD_Sound_GetName;
+    private final MethodHandle FMOD_Sound_GetLength;
+    private final MethodHandle FMOD_Sound_GetFormat;
+    private final MethodHandle FMOD_Sound_GetNumSubSounds;
+    private final MethodHandle FMOD_Sound_GetNumTags;
+    private final MethodHandle FMOD_Sound_GetTag;
+    private final MethodHandle FMOD_Sound_GetOpenState;
+    private final MethodHandle FMOD_Sound_ReadData;
+    private final MethodHandle FMOD_Sound_SeekData;
+    private final MethodHandle FMOD_Sound_SetSoundGroup;
+    private final MethodHandle FMOD_Sound_GetSoundGroup;
+    private final MethodHandle FMOD_Sound_GetNumSyncPoints;
+    private final MethodHandle FMOD_Sound_GetSyncPoint;
+    private final MethodHandle FMOD_Sound_GetSyncPointInfo;
+    private final MethodHandle FMOD_Sound_AddSyncPoint;
+    private final MethodHandle FMOD_Sound_DeleteSyncPoint;
+    private final MethodHandle FMOD_Sound_SetMode;
+    private final MethodHandle FMOD_Sound_GetMode;
+    private final MethodHandle FMOD_Sound_SetLoopCount;
+    private final MethodHandle FMOD_Sound_GetLoopCount;
+    private final MethodHandle FMOD_Sound_SetLoopPoints;
+    private final MethodHandle FMOD_Sound_GetLoopPoints;
+    private final MethodHandle FMOD_Sound_GetMusicNumChannels;
+    private final MethodHandle FMOD_Sound_SetMusicChannelVolume;
+    private final MethodHandle FMOD_Sound_GetMusicChannelVolume;
+    private final MethodHandle FMOD_Sound_SetMusicSpeed;
+    private final MethodHandle FMOD_Sound_GetMusicSpeed;
+    private final MethodHandle FMOD_Sound_SetUserData;
+    private final MethodHandle FMOD_Sound_GetUserData;
+    private final MethodHandle FMOD_Channel_GetSystemObject;
+    private final MethodHandle FMOD_Channel_Stop;
+    private final MethodHandle FMOD_Channel_SetPaused;
+    private final MethodHandle FMOD_Channel_GetPaused;
+    private final MethodHandle FMOD_Channel_SetVolume;
+    private final MethodHandle FMOD_Channel_GetVolume;
+    private final MethodHandle FMOD_Channel_SetVolumeRamp;
+    private final MethodHandle FMOD_Channel_GetVolumeRamp;
+    private final MethodHandle FMOD_Channel_GetAudibility;
+    private final MethodHandle FMOD_Channel_SetPitch;
+    private final MethodHandle FMOD_Channel_GetPitch;
+    private final MethodHandle FMOD_Channel_SetMute;
+    private final MethodHandle FMOD_Channel_GetMute;
+    private final MethodHandle FMOD_Channel_SetReverbProperties;
+    private final MethodHandle FMOD_Channel_GetReverbProperties;
+    private final MethodHandle FMOD_Channel_SetLowPassGain;
+    private final MethodHandle FMOD_Channel_GetLowPassGain;
+    private final MethodHandle FMOD_Channel_SetMode;
+    private final MethodHandle FMOD_Channel_GetMode;
+    private final MethodHandle FMOD_Channel_SetCallback;
+    private final MethodHandle FMOD_Channel_IsPlaying;
+    private final MethodHandle FMOD_Channel_SetPan;
+    private final MethodHandle FMOD_Channel_SetMixLevelsOutput;
+    private final MethodHandle FMOD_Channel_SetMixLevelsInput;
+    private final MethodHandle FMOD_Channel_SetMixMatrix;
+    private final MethodHandle FMOD_Channel_GetMixMatrix;
+    private final MethodHandle FMOD_Channel_GetDSPClock;
+    private final MethodHandle FMOD_Channel_SetDelay;
+    private final MethodHandle FMOD_Channel_GetDelay;
+    private final MethodHandle FMOD_Channel_AddFadePoint;
+    private final MethodHandle FMOD_Channel_SetFadePointRamp;
+    private final MethodHandle FMOD_Channel_RemoveFadePoints;
+    private final MethodHandle FMOD_Channel_GetFadePoints;
+    private final MethodHandle FMOD_Channel_GetDSP;
+    private final MethodHandle FMOD_Channel_AddDSP;
+    private final MethodHandle FMOD_Channel_RemoveDSP;
+    private final MethodHandle FMOD_Channel_GetNumDSPs;
+    private final MethodHandle FMOD_Channel_SetDSPIndex;
+    private final MethodHandle FMOD_Channel_GetDSPIndex;
+    private final MethodHandle FMOD_Channel_Set3DAttributes;
+    private final MethodHandle FMOD_Channel_Get3DAttributes;
+    private final MethodHandle FMOD_Channel_Set3DMinMaxDistance;
+    private final MethodHandle FMOD_Channel_Get3DMinMaxDistance;
+    private final MethodHandle FMOD_Channel_Set3DConeSettings;
+    private final MethodHandle FMOD_Channel_Get3DConeSettings;
+    private final MethodHandle FMOD_Channel_Set3DConeOrientation;
+    private final MethodHandle FMOD_Channel_Get3DConeOrientation;
+    private final MethodHandle FMOD_Channel_Set3DCustomRolloff;
+    private final MethodHandle FMOD_Channel_Get3DCustomRolloff;
+    private final MethodHandle FMOD_Channel_Set3DOcclusion;
+    private final MethodHandle FMOD_Channel_Get3DOcclusion;
+    private final MethodHandle FMOD_Channel_Set3DSpread;
+    private final MethodHandle FMOD_Channel_Get3DSpread;
+    private final MethodHandle FMOD_Channel_Set3DLevel;
+    private final MethodHandle FMOD_Channel_Get3DLevel;
+    private final MethodHandle FMOD_Channel_Set3DDopplerLevel;
+    private final MethodHandle FMOD_Channel_Get3DDopplerLevel;
+    private final MethodHandle FMOD_Channel_Set3DDistanceFilter;
+    private final MethodHandle FMOD_Channel_Get3DDistanceFilter;
+    private final MethodHandle FMOD_Channel_SetUserData;
+    private final MethodHandle FMOD_Channel_GetUserData;
+    private final MethodHandle FMOD_Channel_SetFrequency;
+    private final MethodHandle FMOD_Channel_GetFrequency;
+    private final MethodHandle FMOD_Channel_SetPriority;
+    private final MethodHandle FMOD_Channel_GetPriority;
+    private final MethodHandle FMOD_Channel_SetPosition;
+    private final MethodHandle FMOD_Channel_GetPosition;
+    private final MethodHandle FMOD_Channel_SetChannelGroup;
+    private final MethodHandle FMOD_Channel_GetChannelGroup;
+    private final MethodHandle FMOD_Channel_SetLoopCount;
+    private final MethodHandle FMOD_Channel_GetLoopCount;
+    private final MethodHandle FMOD_Channel_SetLoopPoints;
+    private final MethodHandle FMOD_Channel_GetLoopPoints;
+    private final MethodHandle FMOD_Channel_IsVirtual;
+    private final MethodHandle FMOD_Channel_GetCurrentSound;
+    private final MethodHandle FMOD_Channel_GetIndex;
+    private final MethodHandle FMOD_ChannelGroup_GetSystemObject;
+    private final MethodHandle FMOD_ChannelGroup_Stop;
+    private final MethodHandle FMOD_ChannelGroup_SetPaused;
+    private final MethodHandle FMOD_ChannelGroup_GetPaused;
+    private final MethodHandle FMOD_ChannelGroup_SetVolume;
+    private final MethodHandle FMOD_ChannelGroup_GetVolume;
+    private final MethodHandle FMOD_ChannelGroup_SetVolumeRamp;
+    private final MethodHandle FMOD_ChannelGroup_GetVolumeRamp;
+    private final MethodHandle FMOD_ChannelGroup_GetAudibility;
+    private final MethodHandle FMOD_ChannelGroup_SetPitch;
+    private final MethodHandle FMOD_ChannelGroup_GetPitch;
+    private final MethodHandle FMOD_ChannelGroup_SetMute;
+    private final MethodHandle FMOD_ChannelGroup_GetMute;
+    private final MethodHandle FMOD_ChannelGroup_SetReverbProperties;
+    private final MethodHandle FMOD_ChannelGroup_GetReverbProperties;
+    private final MethodHandle FMOD_ChannelGroup_SetLowPassGain;
+    private final MethodHandle FMOD_ChannelGroup_GetLowPassGain;
+    private final MethodHandle FMOD_ChannelGroup_SetMode;
+    private final MethodHandle FMOD_ChannelGroup_GetMode;
+    private final MethodHandle FMOD_ChannelGroup_SetCallback;
+    private final MethodHandle FMOD_ChannelGroup_IsPlaying;
+    private final MethodHandle FMOD_ChannelGroup_SetPan;
+    private final MethodHandle FMOD_ChannelGroup_SetMixLevelsOutput;
+    private final MethodHandle FMOD_ChannelGroup_SetMixLevelsInput;
+    private final MethodHandle FMOD_ChannelGroup_SetMixMatrix;
+    private final MethodHandle FMOD_ChannelGroup_GetMixMatrix;
+    private final MethodHandle FMOD_ChannelGroup_GetDSPClock;
+    private final MethodHandle FMOD_ChannelGroup_SetDelay;
+    private final MethodHandle FMOD_ChannelGroup_GetDelay;
+    private final MethodHandle FMOD_ChannelGroup_AddFadePoint;
+    private final MethodHandle FMOD_ChannelGroup_SetFadePointRamp;
+    private final MethodHandle FMOD_ChannelGroup_RemoveFadePoints;
+    private final MethodHandle FMOD_ChannelGroup_GetFadePoints;
+    private final MethodHandle FMOD_ChannelGroup_GetDSP;
+    private final MethodHandle FMOD_ChannelGroup_AddDSP;
+    private final MethodHandle FMOD_ChannelGroup_RemoveDSP;
+    private final MethodHandle FMOD_ChannelGroup_GetNumDSPs;
+    private final MethodHandle FMOD_ChannelGroup_SetDSPIndex;
+    private final MethodHandle FMOD_ChannelGroup_GetDSPIndex;
+    private final MethodHandle FMOD_ChannelGroup_Set3DAttributes;
+    private final MethodHandle FMOD_ChannelGroup_Get3DAttributes;
+    private final MethodHandle FMOD_ChannelGroup_Set3DMinMaxDistance;
+    private final MethodHandle FMOD_ChannelGroup_Get3DMinMaxDistance;
+    private final MethodHandle FMOD_ChannelGroup_Set3DConeSettings;
+    private final MethodHandle FMOD_ChannelGroup_Get3DConeSettings;
+    private final MethodHandle FMOD_ChannelGroup_Set3DConeOrientation;
+    private final MethodHandle FMOD_ChannelGroup_Get3DConeOrientation;
+    private final MethodHandle FMOD_ChannelGroup_Set3DCustomRolloff;
+    private final MethodHandle FMOD_ChannelGroup_Get3DCustomRolloff;
+    private final MethodHandle FMOD_ChannelGroup_Set3DOcclusion;
+    private final MethodHandle FMOD_ChannelGroup_Get3DOcclusion;
+    private final MethodHandle FMOD_ChannelGroup_Set3DSpread;
+    private final MethodHandle FMOD_ChannelGroup_Get3DSpread;
+    private final MethodHandle FMOD_ChannelGroup_Set3DLevel;
+    private final MethodHandle FMOD_ChannelGroup_Get3DLevel;
+    private final MethodHandle FMOD_ChannelGroup_Set3DDopplerLevel;
+    private final MethodHandle FMOD_ChannelGroup_Get3DDopplerLevel;
+    private final MethodHandle FMOD_ChannelGroup_Set3DDistanceFilter;
+    private final MethodHandle FMOD_ChannelGroup_Get3DDistanceFilter;
+    private final MethodHandle FMOD_ChannelGroup_SetUserData;
+    private final MethodHandle FMOD_ChannelGroup_GetUserData;
+    private final MethodHandle FMOD_ChannelGroup_Release;
+    private final MethodHandle FMOD_ChannelGroup_AddGroup;
+    private final MethodHandle FMOD_ChannelGroup_GetNumGroups;
+    private final MethodHandle FMOD_ChannelGroup_GetGroup;
+    private final MethodHandle FMOD_ChannelGroup_GetParentGroup;
+    private final MethodHandle FMOD_ChannelGroup_GetName;
+    private final MethodHandle FMOD_ChannelGroup_GetNumChannels;
+    private final MethodHandle FMOD_ChannelGroup_GetChannel;
+    private final MethodHandle FMOD_SoundGroup_Release;
+    private final MethodHandle FMOD_SoundGroup_GetSystemObject;
+    private final MethodHandle FMOD_SoundGroup_SetMaxAudible;
+    private final MethodHandle FMOD_SoundGroup_GetMaxAudible;
+    private final MethodHandle FMOD_SoundGroup_SetMaxAudibleBehavior;
+    private final MethodHandle FMOD_SoundGroup_GetMaxAudibleBehavior;
+    private final MethodHandle FMOD_SoundGroup_SetMuteFadeSpeed;
+    private final MethodHandle FMOD_SoundGroup_GetMuteFadeSpeed;
+    private final MethodHandle FMOD_SoundGroup_SetVolume;
+    private final MethodHandle FMOD_SoundGroup_GetVolume;
+    private final MethodHandle FMOD_SoundGroup_Stop;
+    private final MethodHandle FMOD_SoundGroup_GetName;
+    private final MethodHandle FMOD_SoundGroup_GetNumSounds;
+    private final MethodHandle FMOD_SoundGroup_GetSound;
+    private final MethodHandle FMOD_SoundGroup_GetNumPlaying;
+    private final MethodHandle FMOD_SoundGroup_SetUserData;
+    private final MethodHandle FMOD_SoundGroup_GetUserData;
+    private final MethodHandle FMOD_DSP_Release;
+    private final MethodHandle FMOD_DSP_GetSystemObject;
+    private final MethodHandle FMOD_DSP_AddInput;
+    private final MethodHandle FMOD_DSP_DisconnectFrom;
+    private final MethodHandle FMOD_DSP_DisconnectAll;
+    private final MethodHandle FMOD_DSP_GetNumInputs;
+    private final MethodHandle FMOD_DSP_GetNumOutputs;
+    private final MethodHandle FMOD_DSP_GetInput;
+    private final MethodHandle FMOD_DSP_GetOutput;
+    private final MethodHandle FMOD_DSP_SetActive;
+    private final MethodHandle FMOD_DSP_GetActive;
+    private final MethodHandle FMOD_DSP_SetBypass;
+    private final MethodHandle FMOD_DSP_GetBypass;
+    private final MethodHandle FMOD_DSP_SetWetDryMix;
+    private final MethodHandle FMOD_DSP_GetWetDryMix;
+    private final MethodHandle FMOD_DSP_SetChannelFormat;
+    private final MethodHandle FMOD_DSP_GetChannelFormat;
+    private final MethodHandle FMOD_DSP_GetOutputChannelFormat;
+    private final MethodHandle FMOD_DSP_Reset;
+    private final MethodHandle FMOD_DSP_SetCallback;
+    private final MethodHandle FMOD_DSP_SetParameterFloat;
+    private final MethodHandle FMOD_DSP_SetParameterInt;
+    private final MethodHandle FMOD_DSP_SetParameterBool;
+    private final MethodHandle FMOD_DSP_SetParameterData;
+    private final MethodHandle FMOD_DSP_GetParameterFloat;
+    private final MethodHandle FMOD_DSP_GetParameterInt;
+    private final MethodHandle FMOD_DSP_GetParameterBool;
+    private final MethodHandle FMOD_DSP_GetParameterData;
+    private final MethodHandle FMOD_DSP_GetNumParameters;
+    private final MethodHandle FMOD_DSP_GetParameterInfo;
+    private final MethodHandle FMOD_DSP_GetDataParameterIndex;
+    private final MethodHandle FMOD_DSP_ShowConfigDialog;
+    private final MethodHandle FMOD_DSP_GetInfo;
+    private final MethodHandle FMOD_DSP_GetType;
+    private final MethodHandle FMOD_DSP_GetIdle;
+    private final MethodHandle FMOD_DSP_SetUserData;
+    private final MethodHandle FMOD_DSP_GetUserData;
+    private final MethodHandle FMOD_DSP_SetMeteringEnabled;
+    private final MethodHandle FMOD_DSP_GetMeteringEnabled;
+    private final MethodHandle FMOD_DSP_GetMeteringInfo;
+    private final MethodHandle FMOD_DSP_GetCPUUsage;
+    private final MethodHandle FMOD_DSPConnection_GetInput;
+    private final MethodHandle FMOD_DSPConnection_GetOutput;
+    private final MethodHandle FMOD_DSPConnection_SetMix;
+    private final MethodHandle FMOD_DSPConnection_GetMix;
+    private final MethodHandle FMOD_DSPConnection_SetMixMatrix;
+    private final MethodHandle FMOD_DSPConnection_GetMixMatrix;
+    private final MethodHandle FMOD_DSPConnection_GetType;
+    private final MethodHandle FMOD_DSPConnection_SetUserData;
+    private final MethodHandle FMOD_DSPConnection_GetUserData;
+    private final MethodHandle FMOD_Geometry_Release;
+    private final MethodHandle FMOD_Geometry_AddPolygon;
+    private final MethodHandle FMOD_Geometry_GetNumPolygons;
+    private final MethodHandle FMOD_Geometry_GetMaxPolygons;
+    private final MethodHandle FMOD_Geometry_GetPolygonNumVertices;
+    private final MethodHandle FMOD_Geometry_SetPolygonVertex;
+    private final MethodHandle FMOD_Geometry_GetPolygonVertex;
+    private final MethodHandle FMOD_Geometry_SetPolygonAttributes;
+    private final MethodHandle FMOD_Geometry_GetPolygonAttributes;
+    private final MethodHandle FMOD_Geometry_SetActive;
+    private final MethodHandle FMOD_Geometry_GetActive;
+    private final MethodHandle FMOD_Geometry_SetRotation;
+    private final MethodHandle FMOD_Geometry_GetRotation;
+    private final MethodHandle FMOD_Geometry_SetPosition;
+    private final MethodHandle FMOD_Geometry_GetPosition;
+    private final MethodHandle FMOD_Geometry_SetScale;
+    private final MethodHandle FMOD_Geometry_GetScale;
+    private final MethodHandle FMOD_Geometry_Save;
+    private final MethodHandle FMOD_Geometry_SetUserData;
+    private final MethodHandle FMOD_Geometry_GetUserData;
+    private final MethodHandle FMOD_Reverb3D_Release;
+    private final MethodHandle FMOD_Reverb3D_Set3DAttributes;
+    private final MethodHandle FMOD_Reverb3D_Get3DAttributes;
+    private final MethodHandle FMOD_Reverb3D_SetProperties;
+    private final MethodHandle FMOD_Reverb3D_GetProperties;
+    private final MethodHandle FMOD_Reverb3D_SetActive;
+    private final MethodHandle FMOD_Reverb3D_GetActive;
+    private final MethodHandle FMOD_Reverb3D_SetUserData;
+    private final MethodHandle FMOD_Reverb3D_GetUserData;
+
+    FMODPanamaFFI(SymbolLookup lookup) {
+        FMOD_System_Create = bind(lookup, "FMOD_System_Create", ADDRESS, JAVA_INT);
+        FMOD_System_Init = bind(lookup, "FMOD_System_Init", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS);
+        FMOD_System_Update = bind(lookup, "FMOD_System_Update", ADDRESS);
+        FMOD_System_Close = bind(lookup, "FMOD_System_Close", ADDRESS);
+        FMOD_System_Release = bind(lookup, "FMOD_System_Release", ADDRESS);
+        FMOD_Debug_Initialize = bind(lookup, "FMOD_Debug_Initialize", JAVA_INT, JAVA_INT, ADDRESS, ADDRESS);
+        FMOD_Thread_SetAttributes = bind(lookup, "FMOD_Thread_SetAttributes", JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_Memory_Initialize = bind(lookup, "FMOD_Memory_Initialize", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Memory_GetStats = bind(lookup, "FMOD_Memory_GetStats", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_File_SetDiskBusy = bind(lookup, "FMOD_File_SetDiskBusy", JAVA_INT);
+        FMOD_File_GetDiskBusy = bind(lookup, "FMOD_File_GetDiskBusy", ADDRESS);
+        FMOD_System_SetOutput = bind(lookup, "FMOD_System_SetOutput", ADDRESS, JAVA_INT);
+        FMOD_System_GetOutput = bind(lookup, "FMOD_System_GetOutput", ADDRESS, ADDRESS);
+        FMOD_System_GetNumDrivers = bind(lookup, "FMOD_System_GetNumDrivers", ADDRESS, ADDRESS);
+        FMOD_System_GetDriverInfo = bind(lookup, "FMOD_System_GetDriverInfo", ADDRESS, JAVA_INT, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_SetDriver = bind(lookup, "FMOD_System_SetDriver", ADDRESS, JAVA_INT);
+        FMOD_System_GetDriver = bind(lookup, "FMOD_System_GetDriver", ADDRESS, ADDRESS);
+        FMOD_System_SetSoftwareChannels = bind(lookup, "FMOD_System_SetSoftwareChannels", ADDRESS, JAVA_INT);
+        FMOD_System_GetSoftwareChannels = bind(lookup, "FMOD_System_GetSoftwareChannels", ADDRESS, ADDRESS);
+        FMOD_System_SetSoftwareFormat = bind(lookup, "FMOD_System_SetSoftwareFormat", ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_System_GetSoftwareFormat = bind(lookup, "FMOD_System_GetSoftwareFormat", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_SetDSPBufferSize = bind(lookup, "FMOD_System_SetDSPBufferSize", ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_System_GetDSPBufferSize = bind(lookup, "FMOD_System_GetDSPBufferSize", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_SetFileSystem = bind(lookup, "FMOD_System_SetFileSystem", ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_System_AttachFileSystem = bind(lookup, "FMOD_System_AttachFileSystem", ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_SetAdvancedSettings = bind(lookup, "FMOD_System_SetAdvancedSettings", ADDRESS, ADDRESS);
+        FMOD_System_GetAdvancedSettings = bind(lookup, "FMOD_System_GetAdvancedSettings", ADDRESS, ADDRESS);
+        FMOD_System_SetCallback = bind(lookup, "FMOD_System_SetCallback", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_System_SetPluginPath = bind(lookup, "FMOD_System_SetPluginPath", ADDRESS, ADDRESS);
+        FMOD_System_LoadPlugin = bind(lookup, "FMOD_System_LoadPlugin", ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_System_UnloadPlugin = bind(lookup, "FMOD_System_UnloadPlugin", ADDRESS, JAVA_INT);
+        FMOD_System_GetNumNestedPlugins = bind(lookup, "FMOD_System_GetNumNestedPlugins", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetNestedPlugin = bind(lookup, "FMOD_System_GetNestedPlugin", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS);
+        FMOD_System_GetNumPlugins = bind(lookup, "FMOD_System_GetNumPlugins", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetPluginHandle = bind(lookup, "FMOD_System_GetPluginHandle", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS);
+        FMOD_System_GetPluginInfo = bind(lookup, "FMOD_System_GetPluginInfo", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_SetOutputByPlugin = bind(lookup, "FMOD_System_SetOutputByPlugin", ADDRESS, JAVA_INT);
+        FMOD_System_GetOutputByPlugin = bind(lookup, "FMOD_System_GetOutputByPlugin", ADDRESS, ADDRESS);
+        FMOD_System_CreateDSPByPlugin = bind(lookup, "FMOD_System_CreateDSPByPlugin", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetDSPInfoByPlugin = bind(lookup, "FMOD_System_GetDSPInfoByPlugin", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_RegisterCodec = bind(lookup, "FMOD_System_RegisterCodec", ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_System_RegisterDSP = bind(lookup, "FMOD_System_RegisterDSP", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_RegisterOutput = bind(lookup, "FMOD_System_RegisterOutput", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_SetSpeakerPosition = bind(lookup, "FMOD_System_SetSpeakerPosition", ADDRESS, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT);
+        FMOD_System_GetSpeakerPosition = bind(lookup, "FMOD_System_GetSpeakerPosition", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_SetStreamBufferSize = bind(lookup, "FMOD_System_SetStreamBufferSize", ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_System_GetStreamBufferSize = bind(lookup, "FMOD_System_GetStreamBufferSize", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_Set3DSettings = bind(lookup, "FMOD_System_Set3DSettings", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_System_Get3DSettings = bind(lookup, "FMOD_System_Get3DSettings", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_Set3DNumListeners = bind(lookup, "FMOD_System_Set3DNumListeners", ADDRESS, JAVA_INT);
+        FMOD_System_Get3DNumListeners = bind(lookup, "FMOD_System_Get3DNumListeners", ADDRESS, ADDRESS);
+        FMOD_System_Set3DListenerAttributes = bind(lookup, "FMOD_System_Set3DListenerAttributes", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_Get3DListenerAttributes = bind(lookup, "FMOD_System_Get3DListenerAttributes", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_Set3DRolloffCallback = bind(lookup, "FMOD_System_Set3DRolloffCallback", ADDRESS, ADDRESS);
+        FMOD_System_MixerSuspend = bind(lookup, "FMOD_System_MixerSuspend", ADDRESS);
+        FMOD_System_MixerResume = bind(lookup, "FMOD_System_MixerResume", ADDRESS);
+        FMOD_System_GetDefaultMixMatrix = bind(lookup, "FMOD_System_GetDefaultMixMatrix", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT);
+        FMOD_System_GetSpeakerModeChannels = bind(lookup, "FMOD_System_GetSpeakerModeChannels", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetVersion = bind(lookup, "FMOD_System_GetVersion", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_GetOutputHandle = bind(lookup, "FMOD_System_GetOutputHandle", ADDRESS, ADDRESS);
+        FMOD_System_GetChannelsPlaying = bind(lookup, "FMOD_System_GetChannelsPlaying", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_GetCPUUsage = bind(lookup, "FMOD_System_GetCPUUsage", ADDRESS, ADDRESS);
+        FMOD_System_GetFileUsage = bind(lookup, "FMOD_System_GetFileUsage", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_CreateSound = bind(lookup, "FMOD_System_CreateSound", ADDRESS, ADDRESS, JAVA_INT, ADDRESS, ADDRESS);
+        FMOD_System_CreateStream = bind(lookup, "FMOD_System_CreateStream", ADDRESS, ADDRESS, JAVA_INT, ADDRESS, ADDRESS);
+        FMOD_System_CreateDSP = bind(lookup, "FMOD_System_CreateDSP", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_CreateDSPByType = bind(lookup, "FMOD_System_CreateDSPByType", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_CreateChannelGroup = bind(lookup, "FMOD_System_CreateChannelGroup", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_CreateSoundGroup = bind(lookup, "FMOD_System_CreateSoundGroup", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_CreateReverb3D = bind(lookup, "FMOD_System_CreateReverb3D", ADDRESS, ADDRESS);
+        FMOD_System_PlaySound = bind(lookup, "FMOD_System_PlaySound", ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_PlayDSP = bind(lookup, "FMOD_System_PlayDSP", ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetChannel = bind(lookup, "FMOD_System_GetChannel", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetDSPInfoByType = bind(lookup, "FMOD_System_GetDSPInfoByType", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetMasterChannelGroup = bind(lookup, "FMOD_System_GetMasterChannelGroup", ADDRESS, ADDRESS);
+        FMOD_System_GetMasterSoundGroup = bind(lookup, "FMOD_System_GetMasterSoundGroup", ADDRESS, ADDRESS);
+        FMOD_System_AttachChannelGroupToPort = bind(lookup, "FMOD_System_AttachChannelGroupToPort", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT);
+        FMOD_System_DetachChannelGroupFromPort = bind(lookup, "FMOD_System_DetachChannelGroupFromPort", ADDRESS, ADDRESS);
+        FMOD_System_SetReverbProperties = bind(lookup, "FMOD_System_SetReverbProperties", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetReverbProperties = bind(lookup, "FMOD_System_GetReverbProperties", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_LockDSP = bind(lookup, "FMOD_System_LockDSP", ADDRESS);
+        FMOD_System_UnlockDSP = bind(lookup, "FMOD_System_UnlockDSP", ADDRESS);
+        FMOD_System_GetRecordNumDrivers = bind(lookup, "FMOD_System_GetRecordNumDrivers", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_GetRecordDriverInfo = bind(lookup, "FMOD_System_GetRecordDriverInfo", ADDRESS, JAVA_INT, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_GetRecordPosition = bind(lookup, "FMOD_System_GetRecordPosition", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_RecordStart = bind(lookup, "FMOD_System_RecordStart", ADDRESS, JAVA_INT, ADDRESS, JAVA_INT);
+        FMOD_System_RecordStop = bind(lookup, "FMOD_System_RecordStop", ADDRESS, JAVA_INT);
+        FMOD_System_IsRecording = bind(lookup, "FMOD_System_IsRecording", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_CreateGeometry = bind(lookup, "FMOD_System_CreateGeometry", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS);
+        FMOD_System_SetGeometrySettings = bind(lookup, "FMOD_System_SetGeometrySettings", ADDRESS, JAVA_FLOAT);
+        FMOD_System_GetGeometrySettings = bind(lookup, "FMOD_System_GetGeometrySettings", ADDRESS, ADDRESS);
+        FMOD_System_LoadGeometry = bind(lookup, "FMOD_System_LoadGeometry", ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_System_GetGeometryOcclusion = bind(lookup, "FMOD_System_GetGeometryOcclusion", ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_System_SetNetworkProxy = bind(lookup, "FMOD_System_SetNetworkProxy", ADDRESS, ADDRESS);
+        FMOD_System_GetNetworkProxy = bind(lookup, "FMOD_System_GetNetworkProxy", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_System_SetNetworkTimeout = bind(lookup, "FMOD_System_SetNetworkTimeout", ADDRESS, JAVA_INT);
+        FMOD_System_GetNetworkTimeout = bind(lookup, "FMOD_System_GetNetworkTimeout", ADDRESS, ADDRESS);
+        FMOD_System_SetUserData = bind(lookup, "FMOD_System_SetUserData", ADDRESS, ADDRESS);
+        FMOD_System_GetUserData = bind(lookup, "FMOD_System_GetUserData", ADDRESS, ADDRESS);
+        FMOD_Sound_Release = bind(lookup, "FMOD_Sound_Release", ADDRESS);
+        FMOD_Sound_GetSystemObject = bind(lookup, "FMOD_Sound_GetSystemObject", ADDRESS, ADDRESS);
+        FMOD_Sound_Lock = bind(lookup, "FMOD_Sound_Lock", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_Unlock = bind(lookup, "FMOD_Sound_Unlock", ADDRESS, ADDRESS, ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_Sound_SetDefaults = bind(lookup, "FMOD_Sound_SetDefaults", ADDRESS, JAVA_FLOAT, JAVA_INT);
+        FMOD_Sound_GetDefaults = bind(lookup, "FMOD_Sound_GetDefaults", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_Set3DMinMaxDistance = bind(lookup, "FMOD_Sound_Set3DMinMaxDistance", ADDRESS, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Sound_Get3DMinMaxDistance = bind(lookup, "FMOD_Sound_Get3DMinMaxDistance", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_Set3DConeSettings = bind(lookup, "FMOD_Sound_Set3DConeSettings", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Sound_Get3DConeSettings = bind(lookup, "FMOD_Sound_Get3DConeSettings", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_Set3DCustomRolloff = bind(lookup, "FMOD_Sound_Set3DCustomRolloff", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Sound_Get3DCustomRolloff = bind(lookup, "FMOD_Sound_Get3DCustomRolloff", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_GetSubSound = bind(lookup, "FMOD_Sound_GetSubSound", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Sound_GetSubSoundParent = bind(lookup, "FMOD_Sound_GetSubSoundParent", ADDRESS, ADDRESS);
+        FMOD_Sound_GetName = bind(lookup, "FMOD_Sound_GetName", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Sound_GetLength = bind(lookup, "FMOD_Sound_GetLength", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Sound_GetFormat = bind(lookup, "FMOD_Sound_GetFormat", ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_GetNumSubSounds = bind(lookup, "FMOD_Sound_GetNumSubSounds", ADDRESS, ADDRESS);
+        FMOD_Sound_GetNumTags = bind(lookup, "FMOD_Sound_GetNumTags", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_GetTag = bind(lookup, "FMOD_Sound_GetTag", ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Sound_GetOpenState = bind(lookup, "FMOD_Sound_GetOpenState", ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_ReadData = bind(lookup, "FMOD_Sound_ReadData", ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Sound_SeekData = bind(lookup, "FMOD_Sound_SeekData", ADDRESS, JAVA_INT);
+        FMOD_Sound_SetSoundGroup = bind(lookup, "FMOD_Sound_SetSoundGroup", ADDRESS, ADDRESS);
+        FMOD_Sound_GetSoundGroup = bind(lookup, "FMOD_Sound_GetSoundGroup", ADDRESS, ADDRESS);
+        FMOD_Sound_GetNumSyncPoints = bind(lookup, "FMOD_Sound_GetNumSyncPoints", ADDRESS, ADDRESS);
+        FMOD_Sound_GetSyncPoint = bind(lookup, "FMOD_Sound_GetSyncPoint", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Sound_GetSyncPointInfo = bind(lookup, "FMOD_Sound_GetSyncPointInfo", ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS, JAVA_INT);
+        FMOD_Sound_AddSyncPoint = bind(lookup, "FMOD_Sound_AddSyncPoint", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, ADDRESS);
+        FMOD_Sound_DeleteSyncPoint = bind(lookup, "FMOD_Sound_DeleteSyncPoint", ADDRESS, ADDRESS);
+        FMOD_Sound_SetMode = bind(lookup, "FMOD_Sound_SetMode", ADDRESS, JAVA_INT);
+        FMOD_Sound_GetMode = bind(lookup, "FMOD_Sound_GetMode", ADDRESS, ADDRESS);
+        FMOD_Sound_SetLoopCount = bind(lookup, "FMOD_Sound_SetLoopCount", ADDRESS, JAVA_INT);
+        FMOD_Sound_GetLoopCount = bind(lookup, "FMOD_Sound_GetLoopCount", ADDRESS, ADDRESS);
+        FMOD_Sound_SetLoopPoints = bind(lookup, "FMOD_Sound_SetLoopPoints", ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_Sound_GetLoopPoints = bind(lookup, "FMOD_Sound_GetLoopPoints", ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Sound_GetMusicNumChannels = bind(lookup, "FMOD_Sound_GetMusicNumChannels", ADDRESS, ADDRESS);
+        FMOD_Sound_SetMusicChannelVolume = bind(lookup, "FMOD_Sound_SetMusicChannelVolume", ADDRESS, JAVA_INT, JAVA_FLOAT);
+        FMOD_Sound_GetMusicChannelVolume = bind(lookup, "FMOD_Sound_GetMusicChannelVolume", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Sound_SetMusicSpeed = bind(lookup, "FMOD_Sound_SetMusicSpeed", ADDRESS, JAVA_FLOAT);
+        FMOD_Sound_GetMusicSpeed = bind(lookup, "FMOD_Sound_GetMusicSpeed", ADDRESS, ADDRESS);
+        FMOD_Sound_SetUserData = bind(lookup, "FMOD_Sound_SetUserData", ADDRESS, ADDRESS);
+        FMOD_Sound_GetUserData = bind(lookup, "FMOD_Sound_GetUserData", ADDRESS, ADDRESS);
+        FMOD_Channel_GetSystemObject = bind(lookup, "FMOD_Channel_GetSystemObject", ADDRESS, ADDRESS);
+        FMOD_Channel_Stop = bind(lookup, "FMOD_Channel_Stop", ADDRESS);
+        FMOD_Channel_SetPaused = bind(lookup, "FMOD_Channel_SetPaused", ADDRESS, JAVA_INT);
+        FMOD_Channel_GetPaused = bind(lookup, "FMOD_Channel_GetPaused", ADDRESS, ADDRESS);
+        FMOD_Channel_SetVolume = bind(lookup, "FMOD_Channel_SetVolume", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_GetVolume = bind(lookup, "FMOD_Channel_GetVolume", ADDRESS, ADDRESS);
+        FMOD_Channel_SetVolumeRamp = bind(lookup, "FMOD_Channel_SetVolumeRamp", ADDRESS, JAVA_INT);
+        FMOD_Channel_GetVolumeRamp = bind(lookup, "FMOD_Channel_GetVolumeRamp", ADDRESS, ADDRESS);
+        FMOD_Channel_GetAudibility = bind(lookup, "FMOD_Channel_GetAudibility", ADDRESS, ADDRESS);
+        FMOD_Channel_SetPitch = bind(lookup, "FMOD_Channel_SetPitch", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_GetPitch = bind(lookup, "FMOD_Channel_GetPitch", ADDRESS, ADDRESS);
+        FMOD_Channel_SetMute = bind(lookup, "FMOD_Channel_SetMute", ADDRESS, JAVA_INT);
+        FMOD_Channel_GetMute = bind(lookup, "FMOD_Channel_GetMute", ADDRESS, ADDRESS);
+        FMOD_Channel_SetReverbProperties = bind(lookup, "FMOD_Channel_SetReverbProperties", ADDRESS, JAVA_INT, JAVA_FLOAT);
+        FMOD_Channel_GetReverbProperties = bind(lookup, "FMOD_Channel_GetReverbProperties", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Channel_SetLowPassGain = bind(lookup, "FMOD_Channel_SetLowPassGain", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_GetLowPassGain = bind(lookup, "FMOD_Channel_GetLowPassGain", ADDRESS, ADDRESS);
+        FMOD_Channel_SetMode = bind(lookup, "FMOD_Channel_SetMode", ADDRESS, JAVA_INT);
+        FMOD_Channel_GetMode = bind(lookup, "FMOD_Channel_GetMode", ADDRESS, ADDRESS);
+        FMOD_Channel_SetCallback = bind(lookup, "FMOD_Channel_SetCallback", ADDRESS, ADDRESS);
+        FMOD_Channel_IsPlaying = bind(lookup, "FMOD_Channel_IsPlaying", ADDRESS, ADDRESS);
+        FMOD_Channel_SetPan = bind(lookup, "FMOD_Channel_SetPan", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_SetMixLevelsOutput = bind(lookup, "FMOD_Channel_SetMixLevelsOutput", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Channel_SetMixLevelsInput = bind(lookup, "FMOD_Channel_SetMixLevelsInput", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Channel_SetMixMatrix = bind(lookup, "FMOD_Channel_SetMixMatrix", ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_Channel_GetMixMatrix = bind(lookup, "FMOD_Channel_GetMixMatrix", ADDRESS, ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Channel_GetDSPClock = bind(lookup, "FMOD_Channel_GetDSPClock", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_SetDelay = bind(lookup, "FMOD_Channel_SetDelay", ADDRESS, JAVA_LONG, JAVA_LONG, JAVA_INT);
+        FMOD_Channel_GetDelay = bind(lookup, "FMOD_Channel_GetDelay", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_AddFadePoint = bind(lookup, "FMOD_Channel_AddFadePoint", ADDRESS, JAVA_LONG, JAVA_FLOAT);
+        FMOD_Channel_SetFadePointRamp = bind(lookup, "FMOD_Channel_SetFadePointRamp", ADDRESS, JAVA_LONG, JAVA_FLOAT);
+        FMOD_Channel_RemoveFadePoints = bind(lookup, "FMOD_Channel_RemoveFadePoints", ADDRESS, JAVA_LONG, JAVA_LONG);
+        FMOD_Channel_GetFadePoints = bind(lookup, "FMOD_Channel_GetFadePoints", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_GetDSP = bind(lookup, "FMOD_Channel_GetDSP", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Channel_AddDSP = bind(lookup, "FMOD_Channel_AddDSP", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Channel_RemoveDSP = bind(lookup, "FMOD_Channel_RemoveDSP", ADDRESS, ADDRESS);
+        FMOD_Channel_GetNumDSPs = bind(lookup, "FMOD_Channel_GetNumDSPs", ADDRESS, ADDRESS);
+        FMOD_Channel_SetDSPIndex = bind(lookup, "FMOD_Channel_SetDSPIndex", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Channel_GetDSPIndex = bind(lookup, "FMOD_Channel_GetDSPIndex", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DAttributes = bind(lookup, "FMOD_Channel_Set3DAttributes", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_Get3DAttributes = bind(lookup, "FMOD_Channel_Get3DAttributes", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DMinMaxDistance = bind(lookup, "FMOD_Channel_Set3DMinMaxDistance", ADDRESS, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Channel_Get3DMinMaxDistance = bind(lookup, "FMOD_Channel_Get3DMinMaxDistance", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DConeSettings = bind(lookup, "FMOD_Channel_Set3DConeSettings", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Channel_Get3DConeSettings = bind(lookup, "FMOD_Channel_Get3DConeSettings", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DConeOrientation = bind(lookup, "FMOD_Channel_Set3DConeOrientation", ADDRESS, ADDRESS);
+        FMOD_Channel_Get3DConeOrientation = bind(lookup, "FMOD_Channel_Get3DConeOrientation", ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DCustomRolloff = bind(lookup, "FMOD_Channel_Set3DCustomRolloff", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Channel_Get3DCustomRolloff = bind(lookup, "FMOD_Channel_Get3DCustomRolloff", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DOcclusion = bind(lookup, "FMOD_Channel_Set3DOcclusion", ADDRESS, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Channel_Get3DOcclusion = bind(lookup, "FMOD_Channel_Get3DOcclusion", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DSpread = bind(lookup, "FMOD_Channel_Set3DSpread", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_Get3DSpread = bind(lookup, "FMOD_Channel_Get3DSpread", ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DLevel = bind(lookup, "FMOD_Channel_Set3DLevel", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_Get3DLevel = bind(lookup, "FMOD_Channel_Get3DLevel", ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DDopplerLevel = bind(lookup, "FMOD_Channel_Set3DDopplerLevel", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_Get3DDopplerLevel = bind(lookup, "FMOD_Channel_Get3DDopplerLevel", ADDRESS, ADDRESS);
+        FMOD_Channel_Set3DDistanceFilter = bind(lookup, "FMOD_Channel_Set3DDistanceFilter", ADDRESS, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Channel_Get3DDistanceFilter = bind(lookup, "FMOD_Channel_Get3DDistanceFilter", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Channel_SetUserData = bind(lookup, "FMOD_Channel_SetUserData", ADDRESS, ADDRESS);
+        FMOD_Channel_GetUserData = bind(lookup, "FMOD_Channel_GetUserData", ADDRESS, ADDRESS);
+        FMOD_Channel_SetFrequency = bind(lookup, "FMOD_Channel_SetFrequency", ADDRESS, JAVA_FLOAT);
+        FMOD_Channel_GetFrequency = bind(lookup, "FMOD_Channel_GetFrequency", ADDRESS, ADDRESS);
+        FMOD_Channel_SetPriority = bind(lookup, "FMOD_Channel_SetPriority", ADDRESS, JAVA_INT);
+        FMOD_Channel_GetPriority = bind(lookup, "FMOD_Channel_GetPriority", ADDRESS, ADDRESS);
+        FMOD_Channel_SetPosition = bind(lookup, "FMOD_Channel_SetPosition", ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_Channel_GetPosition = bind(lookup, "FMOD_Channel_GetPosition", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_Channel_SetChannelGroup = bind(lookup, "FMOD_Channel_SetChannelGroup", ADDRESS, ADDRESS);
+        FMOD_Channel_GetChannelGroup = bind(lookup, "FMOD_Channel_GetChannelGroup", ADDRESS, ADDRESS);
+        FMOD_Channel_SetLoopCount = bind(lookup, "FMOD_Channel_SetLoopCount", ADDRESS, JAVA_INT);
+        FMOD_Channel_GetLoopCount = bind(lookup, "FMOD_Channel_GetLoopCount", ADDRESS, ADDRESS);
+        FMOD_Channel_SetLoopPoints = bind(lookup, "FMOD_Channel_SetLoopPoints", ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_Channel_GetLoopPoints = bind(lookup, "FMOD_Channel_GetLoopPoints", ADDRESS, ADDRESS, JAVA_INT, ADDRESS, JAVA_INT);
+        FMOD_Channel_IsVirtual = bind(lookup, "FMOD_Channel_IsVirtual", ADDRESS, ADDRESS);
+        FMOD_Channel_GetCurrentSound = bind(lookup, "FMOD_Channel_GetCurrentSound", ADDRESS, ADDRESS);
+        FMOD_Channel_GetIndex = bind(lookup, "FMOD_Channel_GetIndex", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetSystemObject = bind(lookup, "FMOD_ChannelGroup_GetSystemObject", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Stop = bind(lookup, "FMOD_ChannelGroup_Stop", ADDRESS);
+        FMOD_ChannelGroup_SetPaused = bind(lookup, "FMOD_ChannelGroup_SetPaused", ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_GetPaused = bind(lookup, "FMOD_ChannelGroup_GetPaused", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetVolume = bind(lookup, "FMOD_ChannelGroup_SetVolume", ADDRESS, JAVA_FLOAT);
+        FMOD_ChannelGroup_GetVolume = bind(lookup, "FMOD_ChannelGroup_GetVolume", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetVolumeRamp = bind(lookup, "FMOD_ChannelGroup_SetVolumeRamp", ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_GetVolumeRamp = bind(lookup, "FMOD_ChannelGroup_GetVolumeRamp", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetAudibility = bind(lookup, "FMOD_ChannelGroup_GetAudibility", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetPitch = bind(lookup, "FMOD_ChannelGroup_SetPitch", ADDRESS, JAVA_FLOAT);
+        FMOD_ChannelGroup_GetPitch = bind(lookup, "FMOD_ChannelGroup_GetPitch", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetMute = bind(lookup, "FMOD_ChannelGroup_SetMute", ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_GetMute = bind(lookup, "FMOD_ChannelGroup_GetMute", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetReverbProperties = bind(lookup, "FMOD_ChannelGroup_SetReverbProperties", ADDRESS, JAVA_INT, JAVA_FLOAT);
+        FMOD_ChannelGroup_GetReverbProperties = bind(lookup, "FMOD_ChannelGroup_GetReverbProperties", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_ChannelGroup_SetLowPassGain = bind(lookup, "FMOD_ChannelGroup_SetLowPassGain", ADDRESS, JAVA_FLOAT);
+        FMOD_ChannelGroup_GetLowPassGain = bind(lookup, "FMOD_ChannelGroup_GetLowPassGain", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetMode = bind(lookup, "FMOD_ChannelGroup_SetMode", ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_GetMode = bind(lookup, "FMOD_ChannelGroup_GetMode", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetCallback = bind(lookup, "FMOD_ChannelGroup_SetCallback", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_IsPlaying = bind(lookup, "FMOD_ChannelGroup_IsPlaying", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetPan = bind(lookup, "FMOD_ChannelGroup_SetPan", ADDRESS, JAVA_FLOAT);
+        FMOD_ChannelGroup_SetMixLevelsOutput = bind(lookup, "FMOD_ChannelGroup_SetMixLevelsOutput", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_ChannelGroup_SetMixLevelsInput = bind(lookup, "FMOD_ChannelGroup_SetMixLevelsInput", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_SetMixMatrix = bind(lookup, "FMOD_ChannelGroup_SetMixMatrix", ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_ChannelGroup_GetMixMatrix = bind(lookup, "FMOD_ChannelGroup_GetMixMatrix", ADDRESS, ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_GetDSPClock = bind(lookup, "FMOD_ChannelGroup_GetDSPClock", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetDelay = bind(lookup, "FMOD_ChannelGroup_SetDelay", ADDRESS, JAVA_LONG, JAVA_LONG, JAVA_INT);
+        FMOD_ChannelGroup_GetDelay = bind(lookup, "FMOD_ChannelGroup_GetDelay", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_AddFadePoint = bind(lookup, "FMOD_ChannelGroup_AddFadePoint", ADDRESS, JAVA_LONG, JAVA_FLOAT);
+        FMOD_ChannelGroup_SetFadePointRamp = bind(lookup, "FMOD_ChannelGroup_SetFadePointRamp", ADDRESS, JAVA_LONG, JAVA_FLOAT);
+        FMOD_ChannelGroup_RemoveFadePoints = bind(lookup, "FMOD_ChannelGroup_RemoveFadePoints", ADDRESS, JAVA_LONG, JAVA_LONG);
+        FMOD_ChannelGroup_GetFadePoints = bind(lookup, "FMOD_ChannelGroup_GetFadePoints", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetDSP = bind(lookup, "FMOD_ChannelGroup_GetDSP", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_ChannelGroup_AddDSP = bind(lookup, "FMOD_ChannelGroup_AddDSP", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_ChannelGroup_RemoveDSP = bind(lookup, "FMOD_ChannelGroup_RemoveDSP", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetNumDSPs = bind(lookup, "FMOD_ChannelGroup_GetNumDSPs", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetDSPIndex = bind(lookup, "FMOD_ChannelGroup_SetDSPIndex", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_GetDSPIndex = bind(lookup, "FMOD_ChannelGroup_GetDSPIndex", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DAttributes = bind(lookup, "FMOD_ChannelGroup_Set3DAttributes", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Get3DAttributes = bind(lookup, "FMOD_ChannelGroup_Get3DAttributes", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DMinMaxDistance = bind(lookup, "FMOD_ChannelGroup_Set3DMinMaxDistance", ADDRESS, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_ChannelGroup_Get3DMinMaxDistance = bind(lookup, "FMOD_ChannelGroup_Get3DMinMaxDistance", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DConeSettings = bind(lookup, "FMOD_ChannelGroup_Set3DConeSettings", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_ChannelGroup_Get3DConeSettings = bind(lookup, "FMOD_ChannelGroup_Get3DConeSettings", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DConeOrientation = bind(lookup, "FMOD_ChannelGroup_Set3DConeOrientation", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Get3DConeOrientation = bind(lookup, "FMOD_ChannelGroup_Get3DConeOrientation", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DCustomRolloff = bind(lookup, "FMOD_ChannelGroup_Set3DCustomRolloff", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_Get3DCustomRolloff = bind(lookup, "FMOD_ChannelGroup_Get3DCustomRolloff", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DOcclusion = bind(lookup, "FMOD_ChannelGroup_Set3DOcclusion", ADDRESS, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_ChannelGroup_Get3DOcclusion = bind(lookup, "FMOD_ChannelGroup_Get3DOcclusion", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DSpread = bind(lookup, "FMOD_ChannelGroup_Set3DSpread", ADDRESS, JAVA_FLOAT);
+        FMOD_ChannelGroup_Get3DSpread = bind(lookup, "FMOD_ChannelGroup_Get3DSpread", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DLevel = bind(lookup, "FMOD_ChannelGroup_Set3DLevel", ADDRESS, JAVA_FLOAT);
+        FMOD_ChannelGroup_Get3DLevel = bind(lookup, "FMOD_ChannelGroup_Get3DLevel", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DDopplerLevel = bind(lookup, "FMOD_ChannelGroup_Set3DDopplerLevel", ADDRESS, JAVA_FLOAT);
+        FMOD_ChannelGroup_Get3DDopplerLevel = bind(lookup, "FMOD_ChannelGroup_Get3DDopplerLevel", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Set3DDistanceFilter = bind(lookup, "FMOD_ChannelGroup_Set3DDistanceFilter", ADDRESS, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_ChannelGroup_Get3DDistanceFilter = bind(lookup, "FMOD_ChannelGroup_Get3DDistanceFilter", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_SetUserData = bind(lookup, "FMOD_ChannelGroup_SetUserData", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetUserData = bind(lookup, "FMOD_ChannelGroup_GetUserData", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_Release = bind(lookup, "FMOD_ChannelGroup_Release", ADDRESS);
+        FMOD_ChannelGroup_AddGroup = bind(lookup, "FMOD_ChannelGroup_AddGroup", ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_ChannelGroup_GetNumGroups = bind(lookup, "FMOD_ChannelGroup_GetNumGroups", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetGroup = bind(lookup, "FMOD_ChannelGroup_GetGroup", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_ChannelGroup_GetParentGroup = bind(lookup, "FMOD_ChannelGroup_GetParentGroup", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetName = bind(lookup, "FMOD_ChannelGroup_GetName", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_ChannelGroup_GetNumChannels = bind(lookup, "FMOD_ChannelGroup_GetNumChannels", ADDRESS, ADDRESS);
+        FMOD_ChannelGroup_GetChannel = bind(lookup, "FMOD_ChannelGroup_GetChannel", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_SoundGroup_Release = bind(lookup, "FMOD_SoundGroup_Release", ADDRESS);
+        FMOD_SoundGroup_GetSystemObject = bind(lookup, "FMOD_SoundGroup_GetSystemObject", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_SetMaxAudible = bind(lookup, "FMOD_SoundGroup_SetMaxAudible", ADDRESS, JAVA_INT);
+        FMOD_SoundGroup_GetMaxAudible = bind(lookup, "FMOD_SoundGroup_GetMaxAudible", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_SetMaxAudibleBehavior = bind(lookup, "FMOD_SoundGroup_SetMaxAudibleBehavior", ADDRESS, JAVA_INT);
+        FMOD_SoundGroup_GetMaxAudibleBehavior = bind(lookup, "FMOD_SoundGroup_GetMaxAudibleBehavior", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_SetMuteFadeSpeed = bind(lookup, "FMOD_SoundGroup_SetMuteFadeSpeed", ADDRESS, JAVA_FLOAT);
+        FMOD_SoundGroup_GetMuteFadeSpeed = bind(lookup, "FMOD_SoundGroup_GetMuteFadeSpeed", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_SetVolume = bind(lookup, "FMOD_SoundGroup_SetVolume", ADDRESS, JAVA_FLOAT);
+        FMOD_SoundGroup_GetVolume = bind(lookup, "FMOD_SoundGroup_GetVolume", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_Stop = bind(lookup, "FMOD_SoundGroup_Stop", ADDRESS);
+        FMOD_SoundGroup_GetName = bind(lookup, "FMOD_SoundGroup_GetName", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_SoundGroup_GetNumSounds = bind(lookup, "FMOD_SoundGroup_GetNumSounds", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_GetSound = bind(lookup, "FMOD_SoundGroup_GetSound", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_SoundGroup_GetNumPlaying = bind(lookup, "FMOD_SoundGroup_GetNumPlaying", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_SetUserData = bind(lookup, "FMOD_SoundGroup_SetUserData", ADDRESS, ADDRESS);
+        FMOD_SoundGroup_GetUserData = bind(lookup, "FMOD_SoundGroup_GetUserData", ADDRESS, ADDRESS);
+        FMOD_DSP_Release = bind(lookup, "FMOD_DSP_Release", ADDRESS);
+        FMOD_DSP_GetSystemObject = bind(lookup, "FMOD_DSP_GetSystemObject", ADDRESS, ADDRESS);
+        FMOD_DSP_AddInput = bind(lookup, "FMOD_DSP_AddInput", ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_DSP_DisconnectFrom = bind(lookup, "FMOD_DSP_DisconnectFrom", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSP_DisconnectAll = bind(lookup, "FMOD_DSP_DisconnectAll", ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_DSP_GetNumInputs = bind(lookup, "FMOD_DSP_GetNumInputs", ADDRESS, ADDRESS);
+        FMOD_DSP_GetNumOutputs = bind(lookup, "FMOD_DSP_GetNumOutputs", ADDRESS, ADDRESS);
+        FMOD_DSP_GetInput = bind(lookup, "FMOD_DSP_GetInput", ADDRESS, JAVA_INT, ADDRESS, ADDRESS);
+        FMOD_DSP_GetOutput = bind(lookup, "FMOD_DSP_GetOutput", ADDRESS, JAVA_INT, ADDRESS, ADDRESS);
+        FMOD_DSP_SetActive = bind(lookup, "FMOD_DSP_SetActive", ADDRESS, JAVA_INT);
+        FMOD_DSP_GetActive = bind(lookup, "FMOD_DSP_GetActive", ADDRESS, ADDRESS);
+        FMOD_DSP_SetBypass = bind(lookup, "FMOD_DSP_SetBypass", ADDRESS, JAVA_INT);
+        FMOD_DSP_GetBypass = bind(lookup, "FMOD_DSP_GetBypass", ADDRESS, ADDRESS);
+        FMOD_DSP_SetWetDryMix = bind(lookup, "FMOD_DSP_SetWetDryMix", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_DSP_GetWetDryMix = bind(lookup, "FMOD_DSP_GetWetDryMix", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSP_SetChannelFormat = bind(lookup, "FMOD_DSP_SetChannelFormat", ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_DSP_GetChannelFormat = bind(lookup, "FMOD_DSP_GetChannelFormat", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSP_GetOutputChannelFormat = bind(lookup, "FMOD_DSP_GetOutputChannelFormat", ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSP_Reset = bind(lookup, "FMOD_DSP_Reset", ADDRESS);
+        FMOD_DSP_SetCallback = bind(lookup, "FMOD_DSP_SetCallback", ADDRESS, ADDRESS);
+        FMOD_DSP_SetParameterFloat = bind(lookup, "FMOD_DSP_SetParameterFloat", ADDRESS, JAVA_INT, JAVA_FLOAT);
+        FMOD_DSP_SetParameterInt = bind(lookup, "FMOD_DSP_SetParameterInt", ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_DSP_SetParameterBool = bind(lookup, "FMOD_DSP_SetParameterBool", ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_DSP_SetParameterData = bind(lookup, "FMOD_DSP_SetParameterData", ADDRESS, JAVA_INT, ADDRESS, JAVA_INT);
+        FMOD_DSP_GetParameterFloat = bind(lookup, "FMOD_DSP_GetParameterFloat", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_DSP_GetParameterInt = bind(lookup, "FMOD_DSP_GetParameterInt", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_DSP_GetParameterBool = bind(lookup, "FMOD_DSP_GetParameterBool", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_DSP_GetParameterData = bind(lookup, "FMOD_DSP_GetParameterData", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_DSP_GetNumParameters = bind(lookup, "FMOD_DSP_GetNumParameters", ADDRESS, ADDRESS);
+        FMOD_DSP_GetParameterInfo = bind(lookup, "FMOD_DSP_GetParameterInfo", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_DSP_GetDataParameterIndex = bind(lookup, "FMOD_DSP_GetDataParameterIndex", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_DSP_ShowConfigDialog = bind(lookup, "FMOD_DSP_ShowConfigDialog", ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_DSP_GetInfo = bind(lookup, "FMOD_DSP_GetInfo", ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSP_GetType = bind(lookup, "FMOD_DSP_GetType", ADDRESS, ADDRESS);
+        FMOD_DSP_GetIdle = bind(lookup, "FMOD_DSP_GetIdle", ADDRESS, ADDRESS);
+        FMOD_DSP_SetUserData = bind(lookup, "FMOD_DSP_SetUserData", ADDRESS, ADDRESS);
+        FMOD_DSP_GetUserData = bind(lookup, "FMOD_DSP_GetUserData", ADDRESS, ADDRESS);
+        FMOD_DSP_SetMeteringEnabled = bind(lookup, "FMOD_DSP_SetMeteringEnabled", ADDRESS, JAVA_INT, JAVA_INT);
+        FMOD_DSP_GetMeteringEnabled = bind(lookup, "FMOD_DSP_GetMeteringEnabled", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSP_GetMeteringInfo = bind(lookup, "FMOD_DSP_GetMeteringInfo", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSP_GetCPUUsage = bind(lookup, "FMOD_DSP_GetCPUUsage", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_DSPConnection_GetInput = bind(lookup, "FMOD_DSPConnection_GetInput", ADDRESS, ADDRESS);
+        FMOD_DSPConnection_GetOutput = bind(lookup, "FMOD_DSPConnection_GetOutput", ADDRESS, ADDRESS);
+        FMOD_DSPConnection_SetMix = bind(lookup, "FMOD_DSPConnection_SetMix", ADDRESS, JAVA_FLOAT);
+        FMOD_DSPConnection_GetMix = bind(lookup, "FMOD_DSPConnection_GetMix", ADDRESS, ADDRESS);
+        FMOD_DSPConnection_SetMixMatrix = bind(lookup, "FMOD_DSPConnection_SetMixMatrix", ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT);
+        FMOD_DSPConnection_GetMixMatrix = bind(lookup, "FMOD_DSPConnection_GetMixMatrix", ADDRESS, ADDRESS, ADDRESS, ADDRESS, JAVA_INT);
+        FMOD_DSPConnection_GetType = bind(lookup, "FMOD_DSPConnection_GetType", ADDRESS, ADDRESS);
+        FMOD_DSPConnection_SetUserData = bind(lookup, "FMOD_DSPConnection_SetUserData", ADDRESS, ADDRESS);
+        FMOD_DSPConnection_GetUserData = bind(lookup, "FMOD_DSPConnection_GetUserData", ADDRESS, ADDRESS);
+        FMOD_Geometry_Release = bind(lookup, "FMOD_Geometry_Release", ADDRESS);
+        FMOD_Geometry_AddPolygon = bind(lookup, "FMOD_Geometry_AddPolygon", ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT, JAVA_INT, ADDRESS, ADDRESS);
+        FMOD_Geometry_GetNumPolygons = bind(lookup, "FMOD_Geometry_GetNumPolygons", ADDRESS, ADDRESS);
+        FMOD_Geometry_GetMaxPolygons = bind(lookup, "FMOD_Geometry_GetMaxPolygons", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Geometry_GetPolygonNumVertices = bind(lookup, "FMOD_Geometry_GetPolygonNumVertices", ADDRESS, JAVA_INT, ADDRESS);
+        FMOD_Geometry_SetPolygonVertex = bind(lookup, "FMOD_Geometry_SetPolygonVertex", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS);
+        FMOD_Geometry_GetPolygonVertex = bind(lookup, "FMOD_Geometry_GetPolygonVertex", ADDRESS, JAVA_INT, JAVA_INT, ADDRESS);
+        FMOD_Geometry_SetPolygonAttributes = bind(lookup, "FMOD_Geometry_SetPolygonAttributes", ADDRESS, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT);
+        FMOD_Geometry_GetPolygonAttributes = bind(lookup, "FMOD_Geometry_GetPolygonAttributes", ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Geometry_SetActive = bind(lookup, "FMOD_Geometry_SetActive", ADDRESS, JAVA_INT);
+        FMOD_Geometry_GetActive = bind(lookup, "FMOD_Geometry_GetActive", ADDRESS, ADDRESS);
+        FMOD_Geometry_SetRotation = bind(lookup, "FMOD_Geometry_SetRotation", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Geometry_GetRotation = bind(lookup, "FMOD_Geometry_GetRotation", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Geometry_SetPosition = bind(lookup, "FMOD_Geometry_SetPosition", ADDRESS, ADDRESS);
+        FMOD_Geometry_GetPosition = bind(lookup, "FMOD_Geometry_GetPosition", ADDRESS, ADDRESS);
+        FMOD_Geometry_SetScale = bind(lookup, "FMOD_Geometry_SetScale", ADDRESS, ADDRESS);
+        FMOD_Geometry_GetScale = bind(lookup, "FMOD_Geometry_GetScale", ADDRESS, ADDRESS);
+        FMOD_Geometry_Save = bind(lookup, "FMOD_Geometry_Save", ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Geometry_SetUserData = bind(lookup, "FMOD_Geometry_SetUserData", ADDRESS, ADDRESS);
+        FMOD_Geometry_GetUserData = bind(lookup, "FMOD_Geometry_GetUserData", ADDRESS, ADDRESS);
+        FMOD_Reverb3D_Release = bind(lookup, "FMOD_Reverb3D_Release", ADDRESS);
+        FMOD_Reverb3D_Set3DAttributes = bind(lookup, "FMOD_Reverb3D_Set3DAttributes", ADDRESS, ADDRESS, JAVA_FLOAT, JAVA_FLOAT);
+        FMOD_Reverb3D_Get3DAttributes = bind(lookup, "FMOD_Reverb3D_Get3DAttributes", ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+        FMOD_Reverb3D_SetProperties = bind(lookup, "FMOD_Reverb3D_SetProperties", ADDRESS, ADDRESS);
+        FMOD_Reverb3D_GetProperties = bind(lookup, "FMOD_Reverb3D_GetProperties", ADDRESS, ADDRESS);
+        FMOD_Reverb3D_SetActive = bind(lookup, "FMOD_Reverb3D_SetActive", ADDRESS, JAVA_INT);
+        FMOD_Reverb3D_GetActive = bind(lookup, "FMOD_Reverb3D_GetActive", ADDRESS, ADDRESS);
+        FMOD_Reverb3D_SetUserData = bind(lookup, "FMOD_Reverb3D_SetUserData", ADDRESS, ADDRESS);
+        FMOD_Reverb3D_GetUserData = bind(lookup, "FMOD_Reverb3D_GetUserData", ADDRESS, ADDRESS);
+    }
+
+    /// Resolves symbols through JNA's library loading, reusing its search paths.
+    static SymbolLookup lookup(NativeLibrary library) {
+        return name -> {
+            try {
+                return Optional.of(MemorySegment.ofAddress(Pointer.nativeValue(library.getFunction(name))));
+            } catch (UnsatisfiedLinkError e) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    private static MethodHandle bind(SymbolLookup lookup, String name, MemoryLayout... args) {
+        FunctionDescriptor descriptor = FunctionDescriptor.of(JAVA_INT, args);
+        return lookup.find(name).map(symbol -> LINKER.downcallHandle(symbol, descriptor)).orElseGet(() -> {
+            MethodHandle thrower = MethodHandles.throwException(int.class, UnsatisfiedLinkError.class).bindTo(new UnsatisfiedLinkError("Error looking up function '" + name + "'"));
+            return MethodHandles.dropArguments(thrower, 0, descriptor.toMethodType().parameterList());
+        });
+    }
+
+    private static MemorySegment address(Pointer ptr) {
+        return ptr != null ? MemorySegment.ofAddress(Pointer.nativeValue(ptr)) : MemorySegment.NULL;
+    }
+
+    private static MemorySegment address(ByReference ref) {
+        return ref != null ? address(ref.getPointer()) : MemorySegment.NULL;
+    }
+
+    private static MemorySegment address(Callback callback) { // JNA keeps the trampoline alive as long as the callback object is reachable
+        return callback != null ? address(CallbackReference.getFunctionPointer(callback)) : MemorySegment.NULL;
+    }
+
+    private static MemorySegment string(Arena arena, String value) { // FMOD exclusively uses UTF-8
+        return value != null ? arena.allocateFrom(value) : MemorySegment.NULL;
+    }
+
+    private static MemorySegment array(Arena arena, float[] values) {
+        return values != null ? arena.allocateFrom(JAVA_FLOAT, values) : MemorySegment.NULL;
+    }
+
+    private static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException e) return e;
+        if (t instanceof Error e) throw e;
+        return new IllegalStateException(t);
+    }
+
+    @Override public int FMOD_System_Create(PointerByReference system, int headerVersion) {
+        try { return (int) FMOD_System_Create.invokeExact(address(system), headerVersion); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Init(Pointer system, int maxChannels, int flags, Pointer extraDriverData) {
+        try { return (int) FMOD_System_Init.invokeExact(address(system), maxChannels, flags, address(extraDriverData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Update(Pointer system) {
+        try { return (int) FMOD_System_Update.invokeExact(address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Close(Pointer system) {
+        try { return (int) FMOD_System_Close.invokeExact(address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Release(Pointer system) {
+        try { return (int) FMOD_System_Release.invokeExact(address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Debug_Initialize(int flags, int mode, FMODDebugCallbackFFI callback, String filename) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_Debug_Initialize.invokeExact(flags, mode, address(callback), string(arena, filename)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Thread_SetAttributes(int type, int affinity, int priority, int stackSize) {
+        try { return (int) FMOD_Thread_SetAttributes.invokeExact(type, affinity, priority, stackSize); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Memory_Initialize(Pointer poolMem, int poolLen, FMODMemoryAllocCallbackFFI userAlloc, FMODMemoryReallocCallbackFFI userRealloc, FMODMemoryFreeCallbackFFI userFree, int memTypeFlags) {
+        try { return (int) FMOD_Memory_Initialize.invokeExact(address(poolMem), poolLen, address(userAlloc), address(userRealloc), address(userFree), memTypeFlags); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Memory_GetStats(IntByReference currentAlloced, IntByReference maxAlloced, int blockingBool) {
+        try { return (int) FMOD_Memory_GetStats.invokeExact(address(currentAlloced), address(maxAlloced), blockingBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_File_SetDiskBusy(int busy) {
+        try { return (int) FMOD_File_SetDiskBusy.invokeExact(busy); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_File_GetDiskBusy(IntByReference busy) {
+        try { return (int) FMOD_File_GetDiskBusy.invokeExact(address(busy)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetOutput(Pointer system, int output) {
+        try { return (int) FMOD_System_SetOutput.invokeExact(address(system), output); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetOutput(Pointer system, IntByReference output) {
+        try { return (int) FMOD_System_GetOutput.invokeExact(address(system), address(output)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetNumDrivers(Pointer system, IntByReference numDrivers) {
+        try { return (int) FMOD_System_GetNumDrivers.invokeExact(address(system), address(numDrivers)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetDriverInfo(Pointer system, int id, Pointer name, int nameLen, Pointer guid, IntByReference systemRate, IntByReference speakerMode, IntByReference speakerModeChannels) {
+        try { return (int) FMOD_System_GetDriverInfo.invokeExact(address(system), id, address(name), nameLen, address(guid), address(systemRate), address(speakerMode), address(speakerModeChannels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetDriver(Pointer system, int driver) {
+        try { return (int) FMOD_System_SetDriver.invokeExact(address(system), driver); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetDriver(Pointer system, IntByReference driver) {
+        try { return (int) FMOD_System_GetDriver.invokeExact(address(system), address(driver)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetSoftwareChannels(Pointer system, int numSoftwareChannels) {
+        try { return (int) FMOD_System_SetSoftwareChannels.invokeExact(address(system), numSoftwareChannels); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetSoftwareChannels(Pointer system, IntByReference numSoftwareChannels) {
+        try { return (int) FMOD_System_GetSoftwareChannels.invokeExact(address(system), address(numSoftwareChannels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetSoftwareFormat(Pointer system, int sampleRate, int speakerMode, int numRawSpeakers) {
+        try { return (int) FMOD_System_SetSoftwareFormat.invokeExact(address(system), sampleRate, speakerMode, numRawSpeakers); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetSoftwareFormat(Pointer system, IntByReference sampleRate, IntByReference speakerMode, IntByReference numRawSpeakers) {
+        try { return (int) FMOD_System_GetSoftwareFormat.invokeExact(address(system), address(sampleRate), address(speakerMode), address(numRawSpeakers)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetDSPBufferSize(Pointer system, int bufferLength, int numBuffers) {
+        try { return (int) FMOD_System_SetDSPBufferSize.invokeExact(address(system), bufferLength, numBuffers); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetDSPBufferSize(Pointer system, IntByReference bufferLength, IntByReference numBuffers) {
+        try { return (int) FMOD_System_GetDSPBufferSize.invokeExact(address(system), address(bufferLength), address(numBuffers)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetFileSystem(Pointer system, FMODFileOpenCallbackFFI userOpen, FMODFileCloseCallbackFFI userClose, FMODFileReadCallbackFFI userRead, FMODFileSeekCallbackFFI userSeek, FMODFileAsyncReadCallbackFFI userAsyncRead, FMODFileAsyncCancelCallbackFFI userAsyncCancel, int blockAlign) {
+        try { return (int) FMOD_System_SetFileSystem.invokeExact(address(system), address(userOpen), address(userClose), address(userRead), address(userSeek), address(userAsyncRead), address(userAsyncCancel), blockAlign); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_AttachFileSystem(Pointer system, FMODFileOpenCallbackFFI userOpen, FMODFileCloseCallbackFFI userClose, FMODFileReadCallbackFFI userRead, FMODFileSeekCallbackFFI userSeek) {
+        try { return (int) FMOD_System_AttachFileSystem.invokeExact(address(system), address(userOpen), address(userClose), address(userRead), address(userSeek)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetAdvancedSettings(Pointer system, Pointer settings) {
+        try { return (int) FMOD_System_SetAdvancedSettings.invokeExact(address(system), address(settings)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetAdvancedSettings(Pointer system, Pointer settings) {
+        try { return (int) FMOD_System_GetAdvancedSettings.invokeExact(address(system), address(settings)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetCallback(Pointer system, FMODSystemCallbackFFI callback, int callbackMask) {
+        try { return (int) FMOD_System_SetCallback.invokeExact(address(system), address(callback), callbackMask); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetPluginPath(Pointer system, String path) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_System_SetPluginPath.invokeExact(address(system), string(arena, path)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_LoadPlugin(Pointer system, String filename, IntByReference handle, int priority) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_System_LoadPlugin.invokeExact(address(system), string(arena, filename), address(handle), priority); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_UnloadPlugin(Pointer system, int handle) {
+        try { return (int) FMOD_System_UnloadPlugin.invokeExact(address(system), handle); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetNumNestedPlugins(Pointer system, int handle, IntByReference count) {
+        try { return (int) FMOD_System_GetNumNestedPlugins.invokeExact(address(system), handle, address(count)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetNestedPlugin(Pointer system, int handle, int index, IntByReference nestedHandle) {
+        try { return (int) FMOD_System_GetNestedPlugin.invokeExact(address(system), handle, index, address(nestedHandle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetNumPlugins(Pointer system, int pluginType, IntByReference numPlugins) {
+        try { return (int) FMOD_System_GetNumPlugins.invokeExact(address(system), pluginType, address(numPlugins)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetPluginHandle(Pointer system, int pluginType, int index, IntByReference handle) {
+        try { return (int) FMOD_System_GetPluginHandle.invokeExact(address(system), pluginType, index, address(handle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetPluginInfo(Pointer system, int handle, IntByReference pluginType, Pointer name, int nameLen, IntByReference version) {
+        try { return (int) FMOD_System_GetPluginInfo.invokeExact(address(system), handle, address(pluginType), address(name), nameLen, address(version)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetOutputByPlugin(Pointer system, int handle) {
+        try { return (int) FMOD_System_SetOutputByPlugin.invokeExact(address(system), handle); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetOutputByPlugin(Pointer system, IntByReference handle) {
+        try { return (int) FMOD_System_GetOutputByPlugin.invokeExact(address(system), address(handle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateDSPByPlugin(Pointer system, int handle, PointerByReference dsp) {
+        try { return (int) FMOD_System_CreateDSPByPlugin.invokeExact(address(system), handle, address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetDSPInfoByPlugin(Pointer system, int handle, PointerByReference description) {
+        try { return (int) FMOD_System_GetDSPInfoByPlugin.invokeExact(address(system), handle, address(description)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_RegisterCodec(Pointer system, Pointer description, IntByReference handle, int priority) {
+        try { return (int) FMOD_System_RegisterCodec.invokeExact(address(system), address(description), address(handle), priority); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_RegisterDSP(Pointer system, Pointer description, IntByReference handle) {
+        try { return (int) FMOD_System_RegisterDSP.invokeExact(address(system), address(description), address(handle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_RegisterOutput(Pointer system, Pointer description, IntByReference handle) {
+        try { return (int) FMOD_System_RegisterOutput.invokeExact(address(system), address(description), address(handle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetSpeakerPosition(Pointer system, int speaker, float x, float y, int activeBool) {
+        try { return (int) FMOD_System_SetSpeakerPosition.invokeExact(address(system), speaker, x, y, activeBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetSpeakerPosition(Pointer system, int speaker, FloatByReference x, FloatByReference y, IntByReference activeBool) {
+        try { return (int) FMOD_System_GetSpeakerPosition.invokeExact(address(system), speaker, address(x), address(y), address(activeBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetStreamBufferSize(Pointer system, int fileBufferSize, int fileBufferSizeType) {
+        try { return (int) FMOD_System_SetStreamBufferSize.invokeExact(address(system), fileBufferSize, fileBufferSizeType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetStreamBufferSize(Pointer system, IntByReference fileBufferSize, IntByReference fileBufferSizeType) {
+        try { return (int) FMOD_System_GetStreamBufferSize.invokeExact(address(system), address(fileBufferSize), address(fileBufferSizeType)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Set3DSettings(Pointer system, float dopplerScale, float distanceFactor, float rolloffScale) {
+        try { return (int) FMOD_System_Set3DSettings.invokeExact(address(system), dopplerScale, distanceFactor, rolloffScale); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Get3DSettings(Pointer system, FloatByReference dopplerScale, FloatByReference distanceFactor, FloatByReference rolloffScale) {
+        try { return (int) FMOD_System_Get3DSettings.invokeExact(address(system), address(dopplerScale), address(distanceFactor), address(rolloffScale)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Set3DNumListeners(Pointer system, int numListeners) {
+        try { return (int) FMOD_System_Set3DNumListeners.invokeExact(address(system), numListeners); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Get3DNumListeners(Pointer system, IntByReference numListeners) {
+        try { return (int) FMOD_System_Get3DNumListeners.invokeExact(address(system), address(numListeners)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Set3DListenerAttributes(Pointer system, int listener, Pointer pos, Pointer vel, Pointer forward, Pointer up) {
+        try { return (int) FMOD_System_Set3DListenerAttributes.invokeExact(address(system), listener, address(pos), address(vel), address(forward), address(up)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Get3DListenerAttributes(Pointer system, int listener, Pointer pos, Pointer vel, Pointer forward, Pointer up) {
+        try { return (int) FMOD_System_Get3DListenerAttributes.invokeExact(address(system), listener, address(pos), address(vel), address(forward), address(up)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_Set3DRolloffCallback(Pointer system, FMOD3DRolloffCallbackFFI callback) {
+        try { return (int) FMOD_System_Set3DRolloffCallback.invokeExact(address(system), address(callback)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_MixerSuspend(Pointer system) {
+        try { return (int) FMOD_System_MixerSuspend.invokeExact(address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_MixerResume(Pointer system) {
+        try { return (int) FMOD_System_MixerResume.invokeExact(address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetDefaultMixMatrix(Pointer system, int sourceSpeakerMode, int targetSpeakerMode, Pointer matrix, int matrixHop) {
+        try { return (int) FMOD_System_GetDefaultMixMatrix.invokeExact(address(system), sourceSpeakerMode, targetSpeakerMode, address(matrix), matrixHop); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetSpeakerModeChannels(Pointer system, int mode, IntByReference channels) {
+        try { return (int) FMOD_System_GetSpeakerModeChannels.invokeExact(address(system), mode, address(channels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetVersion(Pointer system, IntByReference version, IntByReference buildNumber) {
+        try { return (int) FMOD_System_GetVersion.invokeExact(address(system), address(version), address(buildNumber)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetOutputHandle(Pointer system, PointerByReference handle) {
+        try { return (int) FMOD_System_GetOutputHandle.invokeExact(address(system), address(handle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetChannelsPlaying(Pointer system, IntByReference channels, IntByReference realChannels) {
+        try { return (int) FMOD_System_GetChannelsPlaying.invokeExact(address(system), address(channels), address(realChannels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetCPUUsage(Pointer system, Pointer usage) {
+        try { return (int) FMOD_System_GetCPUUsage.invokeExact(address(system), address(usage)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetFileUsage(Pointer system, LongByReference sampleBytesRead, LongByReference streamBytesRead, LongByReference otherBytesRead) {
+        try { return (int) FMOD_System_GetFileUsage.invokeExact(address(system), address(sampleBytesRead), address(streamBytesRead), address(otherBytesRead)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateSound(Pointer system, Pointer data, int mode, Pointer exinfo, PointerByReference sound) {
+        try { return (int) FMOD_System_CreateSound.invokeExact(address(system), address(data), mode, address(exinfo), address(sound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateSound(Pointer system, String name, int mode, Pointer exinfo, PointerByReference sound) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_System_CreateSound.invokeExact(address(system), string(arena, name), mode, address(exinfo), address(sound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateStream(Pointer system, Pointer data, int mode, Pointer exinfo, PointerByReference sound) {
+        try { return (int) FMOD_System_CreateStream.invokeExact(address(system), address(data), mode, address(exinfo), address(sound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateStream(Pointer system, String name, int mode, Pointer exinfo, PointerByReference sound) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_System_CreateStream.invokeExact(address(system), string(arena, name), mode, address(exinfo), address(sound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateDSP(Pointer system, Pointer description, PointerByReference dsp) {
+        try { return (int) FMOD_System_CreateDSP.invokeExact(address(system), address(description), address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateDSPByType(Pointer system, int type, PointerByReference dsp) {
+        try { return (int) FMOD_System_CreateDSPByType.invokeExact(address(system), type, address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateChannelGroup(Pointer system, String name, PointerByReference channelGroup) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_System_CreateChannelGroup.invokeExact(address(system), string(arena, name), address(channelGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateSoundGroup(Pointer system, String name, PointerByReference soundGroup) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_System_CreateSoundGroup.invokeExact(address(system), string(arena, name), address(soundGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateReverb3D(Pointer system, PointerByReference reverb) {
+        try { return (int) FMOD_System_CreateReverb3D.invokeExact(address(system), address(reverb)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_PlaySound(Pointer system, Pointer sound, Pointer channelGroup, int pausedBool, PointerByReference channel) {
+        try { return (int) FMOD_System_PlaySound.invokeExact(address(system), address(sound), address(channelGroup), pausedBool, address(channel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_PlayDSP(Pointer system, Pointer dsp, Pointer channelGroup, int pausedBool, PointerByReference channel) {
+        try { return (int) FMOD_System_PlayDSP.invokeExact(address(system), address(dsp), address(channelGroup), pausedBool, address(channel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetChannel(Pointer system, int channelId, PointerByReference channel) {
+        try { return (int) FMOD_System_GetChannel.invokeExact(address(system), channelId, address(channel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetDSPInfoByType(Pointer system, int type, PointerByReference description) {
+        try { return (int) FMOD_System_GetDSPInfoByType.invokeExact(address(system), type, address(description)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetMasterChannelGroup(Pointer system, PointerByReference channelGroup) {
+        try { return (int) FMOD_System_GetMasterChannelGroup.invokeExact(address(system), address(channelGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetMasterSoundGroup(Pointer system, PointerByReference soundGroup) {
+        try { return (int) FMOD_System_GetMasterSoundGroup.invokeExact(address(system), address(soundGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_AttachChannelGroupToPort(Pointer system, int portType, int portIndex, Pointer channelGroup, int passThruBool) {
+        try { return (int) FMOD_System_AttachChannelGroupToPort.invokeExact(address(system), portType, portIndex, address(channelGroup), passThruBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_DetachChannelGroupFromPort(Pointer system, Pointer channelGroup) {
+        try { return (int) FMOD_System_DetachChannelGroupFromPort.invokeExact(address(system), address(channelGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetReverbProperties(Pointer system, int instance, Pointer prop) {
+        try { return (int) FMOD_System_SetReverbProperties.invokeExact(address(system), instance, address(prop)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetReverbProperties(Pointer system, int instance, Pointer prop) {
+        try { return (int) FMOD_System_GetReverbProperties.invokeExact(address(system), instance, address(prop)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_LockDSP(Pointer system) {
+        try { return (int) FMOD_System_LockDSP.invokeExact(address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_UnlockDSP(Pointer system) {
+        try { return (int) FMOD_System_UnlockDSP.invokeExact(address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetRecordNumDrivers(Pointer system, IntByReference numDrivers, IntByReference numConnected) {
+        try { return (int) FMOD_System_GetRecordNumDrivers.invokeExact(address(system), address(numDrivers), address(numConnected)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetRecordDriverInfo(Pointer system, int id, Pointer name, int nameLen, Pointer guid, IntByReference systemRate, IntByReference speakerMode, IntByReference speakerModeChannels, Pointer state) {
+        try { return (int) FMOD_System_GetRecordDriverInfo.invokeExact(address(system), id, address(name), nameLen, address(guid), address(systemRate), address(speakerMode), address(speakerModeChannels), address(state)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetRecordPosition(Pointer system, int id, IntByReference position) {
+        try { return (int) FMOD_System_GetRecordPosition.invokeExact(address(system), id, address(position)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_RecordStart(Pointer system, int id, Pointer sound, int loopBool) {
+        try { return (int) FMOD_System_RecordStart.invokeExact(address(system), id, address(sound), loopBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_RecordStop(Pointer system, int id) {
+        try { return (int) FMOD_System_RecordStop.invokeExact(address(system), id); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_IsRecording(Pointer system, int id, IntByReference recordingBool) {
+        try { return (int) FMOD_System_IsRecording.invokeExact(address(system), id, address(recordingBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_CreateGeometry(Pointer system, int maxPolygons, int maxVertices, PointerByReference geometry) {
+        try { return (int) FMOD_System_CreateGeometry.invokeExact(address(system), maxPolygons, maxVertices, address(geometry)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetGeometrySettings(Pointer system, float maxWorldSize) {
+        try { return (int) FMOD_System_SetGeometrySettings.invokeExact(address(system), maxWorldSize); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetGeometrySettings(Pointer system, FloatByReference maxWorldSize) {
+        try { return (int) FMOD_System_GetGeometrySettings.invokeExact(address(system), address(maxWorldSize)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_LoadGeometry(Pointer system, Pointer data, int dataSize, PointerByReference geometry) {
+        try { return (int) FMOD_System_LoadGeometry.invokeExact(address(system), address(data), dataSize, address(geometry)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetGeometryOcclusion(Pointer system, Pointer listener, Pointer source, FloatByReference direct, FloatByReference reverb) {
+        try { return (int) FMOD_System_GetGeometryOcclusion.invokeExact(address(system), address(listener), address(source), address(direct), address(reverb)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetNetworkProxy(Pointer system, String proxy) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_System_SetNetworkProxy.invokeExact(address(system), string(arena, proxy)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetNetworkProxy(Pointer system, Pointer proxy, int proxyLen) {
+        try { return (int) FMOD_System_GetNetworkProxy.invokeExact(address(system), address(proxy), proxyLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetNetworkTimeout(Pointer system, int timeout) {
+        try { return (int) FMOD_System_SetNetworkTimeout.invokeExact(address(system), timeout); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetNetworkTimeout(Pointer system, IntByReference timeout) {
+        try { return (int) FMOD_System_GetNetworkTimeout.invokeExact(address(system), address(timeout)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_SetUserData(Pointer system, Pointer userData) {
+        try { return (int) FMOD_System_SetUserData.invokeExact(address(system), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_System_GetUserData(Pointer system, PointerByReference userData) {
+        try { return (int) FMOD_System_GetUserData.invokeExact(address(system), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Release(Pointer sound) {
+        try { return (int) FMOD_Sound_Release.invokeExact(address(sound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetSystemObject(Pointer sound, PointerByReference system) {
+        try { return (int) FMOD_Sound_GetSystemObject.invokeExact(address(sound), address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Lock(Pointer sound, int offset, int length, PointerByReference ptr1, PointerByReference ptr2, IntByReference len1, IntByReference len2) {
+        try { return (int) FMOD_Sound_Lock.invokeExact(address(sound), offset, length, address(ptr1), address(ptr2), address(len1), address(len2)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Unlock(Pointer sound, Pointer ptr1, Pointer ptr2, int len1, int len2) {
+        try { return (int) FMOD_Sound_Unlock.invokeExact(address(sound), address(ptr1), address(ptr2), len1, len2); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetDefaults(Pointer sound, float frequency, int priority) {
+        try { return (int) FMOD_Sound_SetDefaults.invokeExact(address(sound), frequency, priority); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetDefaults(Pointer sound, FloatByReference frequency, IntByReference priority) {
+        try { return (int) FMOD_Sound_GetDefaults.invokeExact(address(sound), address(frequency), address(priority)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Set3DMinMaxDistance(Pointer sound, float min, float max) {
+        try { return (int) FMOD_Sound_Set3DMinMaxDistance.invokeExact(address(sound), min, max); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Get3DMinMaxDistance(Pointer sound, FloatByReference min, FloatByReference max) {
+        try { return (int) FMOD_Sound_Get3DMinMaxDistance.invokeExact(address(sound), address(min), address(max)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Set3DConeSettings(Pointer sound, float insideConeAngle, float outsideConeAngle, float outsideVolume) {
+        try { return (int) FMOD_Sound_Set3DConeSettings.invokeExact(address(sound), insideConeAngle, outsideConeAngle, outsideVolume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Get3DConeSettings(Pointer sound, FloatByReference insideConeAngle, FloatByReference outsideConeAngle, FloatByReference outsideVolume) {
+        try { return (int) FMOD_Sound_Get3DConeSettings.invokeExact(address(sound), address(insideConeAngle), address(outsideConeAngle), address(outsideVolume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Set3DCustomRolloff(Pointer sound, Pointer points, int numPoints) {
+        try { return (int) FMOD_Sound_Set3DCustomRolloff.invokeExact(address(sound), address(points), numPoints); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_Get3DCustomRolloff(Pointer sound, PointerByReference points, IntByReference numPoints) {
+        try { return (int) FMOD_Sound_Get3DCustomRolloff.invokeExact(address(sound), address(points), address(numPoints)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetSubSound(Pointer sound, int index, PointerByReference subSound) {
+        try { return (int) FMOD_Sound_GetSubSound.invokeExact(address(sound), index, address(subSound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetSubSoundParent(Pointer sound, PointerByReference parentSound) {
+        try { return (int) FMOD_Sound_GetSubSoundParent.invokeExact(address(sound), address(parentSound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetName(Pointer sound, Pointer name, int nameLen) {
+        try { return (int) FMOD_Sound_GetName.invokeExact(address(sound), address(name), nameLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetLength(Pointer sound, IntByReference length, int lengthType) {
+        try { return (int) FMOD_Sound_GetLength.invokeExact(address(sound), address(length), lengthType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetFormat(Pointer sound, IntByReference type, IntByReference format, IntByReference channels, IntByReference bits) {
+        try { return (int) FMOD_Sound_GetFormat.invokeExact(address(sound), address(type), address(format), address(channels), address(bits)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetNumSubSounds(Pointer sound, IntByReference numSubSounds) {
+        try { return (int) FMOD_Sound_GetNumSubSounds.invokeExact(address(sound), address(numSubSounds)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetNumTags(Pointer sound, IntByReference numTags, IntByReference numTagsUpdated) {
+        try { return (int) FMOD_Sound_GetNumTags.invokeExact(address(sound), address(numTags), address(numTagsUpdated)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetTag(Pointer sound, String name, int index, Pointer tag) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_Sound_GetTag.invokeExact(address(sound), string(arena, name), index, address(tag)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetOpenState(Pointer sound, IntByReference openState, IntByReference percentBuffered, IntByReference starvingBool, IntByReference diskBusyBool) {
+        try { return (int) FMOD_Sound_GetOpenState.invokeExact(address(sound), address(openState), address(percentBuffered), address(starvingBool), address(diskBusyBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_ReadData(Pointer sound, Pointer buffer, int length, IntByReference read) {
+        try { return (int) FMOD_Sound_ReadData.invokeExact(address(sound), address(buffer), length, address(read)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SeekData(Pointer sound, int pcm) {
+        try { return (int) FMOD_Sound_SeekData.invokeExact(address(sound), pcm); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetSoundGroup(Pointer sound, Pointer soundGroup) {
+        try { return (int) FMOD_Sound_SetSoundGroup.invokeExact(address(sound), address(soundGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetSoundGroup(Pointer sound, PointerByReference soundGroup) {
+        try { return (int) FMOD_Sound_GetSoundGroup.invokeExact(address(sound), address(soundGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetNumSyncPoints(Pointer sound, IntByReference numSyncPoints) {
+        try { return (int) FMOD_Sound_GetNumSyncPoints.invokeExact(address(sound), address(numSyncPoints)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetSyncPoint(Pointer sound, int index, PointerByReference point) {
+        try { return (int) FMOD_Sound_GetSyncPoint.invokeExact(address(sound), index, address(point)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetSyncPointInfo(Pointer sound, Pointer point, Pointer name, int nameLen, IntByReference offset, int offsetType) {
+        try { return (int) FMOD_Sound_GetSyncPointInfo.invokeExact(address(sound), address(point), address(name), nameLen, address(offset), offsetType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_AddSyncPoint(Pointer sound, int offset, int offsetType, String name, PointerByReference point) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_Sound_AddSyncPoint.invokeExact(address(sound), offset, offsetType, string(arena, name), address(point)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_DeleteSyncPoint(Pointer sound, Pointer point) {
+        try { return (int) FMOD_Sound_DeleteSyncPoint.invokeExact(address(sound), address(point)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetMode(Pointer sound, int mode) {
+        try { return (int) FMOD_Sound_SetMode.invokeExact(address(sound), mode); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetMode(Pointer sound, IntByReference mode) {
+        try { return (int) FMOD_Sound_GetMode.invokeExact(address(sound), address(mode)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetLoopCount(Pointer sound, int loopCount) {
+        try { return (int) FMOD_Sound_SetLoopCount.invokeExact(address(sound), loopCount); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetLoopCount(Pointer sound, IntByReference loopCount) {
+        try { return (int) FMOD_Sound_GetLoopCount.invokeExact(address(sound), address(loopCount)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetLoopPoints(Pointer sound, int loopStart, int loopStartType, int loopEnd, int loopEndType) {
+        try { return (int) FMOD_Sound_SetLoopPoints.invokeExact(address(sound), loopStart, loopStartType, loopEnd, loopEndType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetLoopPoints(Pointer sound, IntByReference loopStart, IntByReference loopStartType, IntByReference loopEnd, IntByReference loopEndType) {
+        try { return (int) FMOD_Sound_GetLoopPoints.invokeExact(address(sound), address(loopStart), address(loopStartType), address(loopEnd), address(loopEndType)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetMusicNumChannels(Pointer sound, IntByReference numChannels) {
+        try { return (int) FMOD_Sound_GetMusicNumChannels.invokeExact(address(sound), address(numChannels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetMusicChannelVolume(Pointer sound, int channel, float volume) {
+        try { return (int) FMOD_Sound_SetMusicChannelVolume.invokeExact(address(sound), channel, volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetMusicChannelVolume(Pointer sound, int channel, FloatByReference volume) {
+        try { return (int) FMOD_Sound_GetMusicChannelVolume.invokeExact(address(sound), channel, address(volume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetMusicSpeed(Pointer sound, float speed) {
+        try { return (int) FMOD_Sound_SetMusicSpeed.invokeExact(address(sound), speed); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetMusicSpeed(Pointer sound, FloatByReference speed) {
+        try { return (int) FMOD_Sound_GetMusicSpeed.invokeExact(address(sound), address(speed)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_SetUserData(Pointer sound, Pointer userData) {
+        try { return (int) FMOD_Sound_SetUserData.invokeExact(address(sound), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Sound_GetUserData(Pointer sound, PointerByReference userData) {
+        try { return (int) FMOD_Sound_GetUserData.invokeExact(address(sound), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetSystemObject(Pointer channel, PointerByReference system) {
+        try { return (int) FMOD_Channel_GetSystemObject.invokeExact(address(channel), address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Stop(Pointer channel) {
+        try { return (int) FMOD_Channel_Stop.invokeExact(address(channel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetPaused(Pointer channel, int pausedBool) {
+        try { return (int) FMOD_Channel_SetPaused.invokeExact(address(channel), pausedBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetPaused(Pointer channel, IntByReference pausedBool) {
+        try { return (int) FMOD_Channel_GetPaused.invokeExact(address(channel), address(pausedBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetVolume(Pointer channel, float volume) {
+        try { return (int) FMOD_Channel_SetVolume.invokeExact(address(channel), volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetVolume(Pointer channel, FloatByReference volume) {
+        try { return (int) FMOD_Channel_GetVolume.invokeExact(address(channel), address(volume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetVolumeRamp(Pointer channel, int rampBool) {
+        try { return (int) FMOD_Channel_SetVolumeRamp.invokeExact(address(channel), rampBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetVolumeRamp(Pointer channel, IntByReference rampBool) {
+        try { return (int) FMOD_Channel_GetVolumeRamp.invokeExact(address(channel), address(rampBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetAudibility(Pointer channel, FloatByReference audibility) {
+        try { return (int) FMOD_Channel_GetAudibility.invokeExact(address(channel), address(audibility)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetPitch(Pointer channel, float pitch) {
+        try { return (int) FMOD_Channel_SetPitch.invokeExact(address(channel), pitch); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetPitch(Pointer channel, FloatByReference pitch) {
+        try { return (int) FMOD_Channel_GetPitch.invokeExact(address(channel), address(pitch)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetMute(Pointer channel, int muteBool) {
+        try { return (int) FMOD_Channel_SetMute.invokeExact(address(channel), muteBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetMute(Pointer channel, IntByReference muteBool) {
+        try { return (int) FMOD_Channel_GetMute.invokeExact(address(channel), address(muteBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetReverbProperties(Pointer channel, int instance, float wet) {
+        try { return (int) FMOD_Channel_SetReverbProperties.invokeExact(address(channel), instance, wet); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetReverbProperties(Pointer channel, int instance, FloatByReference wet) {
+        try { return (int) FMOD_Channel_GetReverbProperties.invokeExact(address(channel), instance, address(wet)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetLowPassGain(Pointer channel, float gain) {
+        try { return (int) FMOD_Channel_SetLowPassGain.invokeExact(address(channel), gain); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetLowPassGain(Pointer channel, FloatByReference gain) {
+        try { return (int) FMOD_Channel_GetLowPassGain.invokeExact(address(channel), address(gain)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetMode(Pointer channel, int mode) {
+        try { return (int) FMOD_Channel_SetMode.invokeExact(address(channel), mode); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetMode(Pointer channel, IntByReference mode) {
+        try { return (int) FMOD_Channel_GetMode.invokeExact(address(channel), address(mode)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetCallback(Pointer channel, FMODChannelCallbackFFI callback) {
+        try { return (int) FMOD_Channel_SetCallback.invokeExact(address(channel), address(callback)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_IsPlaying(Pointer channel, IntByReference isPlayingBool) {
+        try { return (int) FMOD_Channel_IsPlaying.invokeExact(address(channel), address(isPlayingBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetPan(Pointer channel, float pan) {
+        try { return (int) FMOD_Channel_SetPan.invokeExact(address(channel), pan); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetMixLevelsOutput(Pointer channel, float frontLeft, float frontRight, float center, float lfe, float surroundLeft, float surroundRight, float backLeft, float backRight) {
+        try { return (int) FMOD_Channel_SetMixLevelsOutput.invokeExact(address(channel), frontLeft, frontRight, center, lfe, surroundLeft, surroundRight, backLeft, backRight); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetMixLevelsInput(Pointer channel, float[] levels, int numLevels) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_Channel_SetMixLevelsInput.invokeExact(address(channel), array(arena, levels), numLevels); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetMixMatrix(Pointer channel, Pointer matrix, int outChannels, int inChannels, int inChannelHop) {
+        try { return (int) FMOD_Channel_SetMixMatrix.invokeExact(address(channel), address(matrix), outChannels, inChannels, inChannelHop); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetMixMatrix(Pointer channel, Pointer matrix, IntByReference outChannels, IntByReference inChannels, int inChannelHop) {
+        try { return (int) FMOD_Channel_GetMixMatrix.invokeExact(address(channel), address(matrix), address(outChannels), address(inChannels), inChannelHop); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetDSPClock(Pointer channel, LongByReference dspClock, LongByReference parentClock) {
+        try { return (int) FMOD_Channel_GetDSPClock.invokeExact(address(channel), address(dspClock), address(parentClock)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetDelay(Pointer channel, long dspClockStart, long dspClockEnd, int stopChannelsBool) {
+        try { return (int) FMOD_Channel_SetDelay.invokeExact(address(channel), dspClockStart, dspClockEnd, stopChannelsBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetDelay(Pointer channel, LongByReference dspClockStart, LongByReference dspClockEnd, IntByReference stopChannels) {
+        try { return (int) FMOD_Channel_GetDelay.invokeExact(address(channel), address(dspClockStart), address(dspClockEnd), address(stopChannels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_AddFadePoint(Pointer channel, long dspClock, float volume) {
+        try { return (int) FMOD_Channel_AddFadePoint.invokeExact(address(channel), dspClock, volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetFadePointRamp(Pointer channel, long dspClock, float volume) {
+        try { return (int) FMOD_Channel_SetFadePointRamp.invokeExact(address(channel), dspClock, volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_RemoveFadePoints(Pointer channel, long dspClockStart, long dspClockEnd) {
+        try { return (int) FMOD_Channel_RemoveFadePoints.invokeExact(address(channel), dspClockStart, dspClockEnd); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetFadePoints(Pointer channel, IntByReference numPoints, Pointer pointDspClock, Pointer pointVolume) {
+        try { return (int) FMOD_Channel_GetFadePoints.invokeExact(address(channel), address(numPoints), address(pointDspClock), address(pointVolume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetDSP(Pointer channel, int index, PointerByReference dsp) {
+        try { return (int) FMOD_Channel_GetDSP.invokeExact(address(channel), index, address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_AddDSP(Pointer channel, int index, Pointer dsp) {
+        try { return (int) FMOD_Channel_AddDSP.invokeExact(address(channel), index, address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_RemoveDSP(Pointer channel, Pointer dsp) {
+        try { return (int) FMOD_Channel_RemoveDSP.invokeExact(address(channel), address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetNumDSPs(Pointer channel, IntByReference numDsps) {
+        try { return (int) FMOD_Channel_GetNumDSPs.invokeExact(address(channel), address(numDsps)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetDSPIndex(Pointer channel, Pointer dsp, int index) {
+        try { return (int) FMOD_Channel_SetDSPIndex.invokeExact(address(channel), address(dsp), index); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetDSPIndex(Pointer channel, Pointer dsp, IntByReference index) {
+        try { return (int) FMOD_Channel_GetDSPIndex.invokeExact(address(channel), address(dsp), address(index)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DAttributes(Pointer channel, Pointer pos, Pointer vel) {
+        try { return (int) FMOD_Channel_Set3DAttributes.invokeExact(address(channel), address(pos), address(vel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DAttributes(Pointer channel, Pointer pos, Pointer vel) {
+        try { return (int) FMOD_Channel_Get3DAttributes.invokeExact(address(channel), address(pos), address(vel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DMinMaxDistance(Pointer channel, float min, float max) {
+        try { return (int) FMOD_Channel_Set3DMinMaxDistance.invokeExact(address(channel), min, max); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DMinMaxDistance(Pointer channel, FloatByReference min, FloatByReference max) {
+        try { return (int) FMOD_Channel_Get3DMinMaxDistance.invokeExact(address(channel), address(min), address(max)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DConeSettings(Pointer channel, float insideConeAngle, float outsideConeAngle, float outsideVolume) {
+        try { return (int) FMOD_Channel_Set3DConeSettings.invokeExact(address(channel), insideConeAngle, outsideConeAngle, outsideVolume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DConeSettings(Pointer channel, FloatByReference insideConeAngle, FloatByReference outsideConeAngle, FloatByReference outsideVolume) {
+        try { return (int) FMOD_Channel_Get3DConeSettings.invokeExact(address(channel), address(insideConeAngle), address(outsideConeAngle), address(outsideVolume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DConeOrientation(Pointer channel, Pointer orientation) {
+        try { return (int) FMOD_Channel_Set3DConeOrientation.invokeExact(address(channel), address(orientation)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DConeOrientation(Pointer channel, Pointer orientation) {
+        try { return (int) FMOD_Channel_Get3DConeOrientation.invokeExact(address(channel), address(orientation)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DCustomRolloff(Pointer channel, Pointer points, int numPoints) {
+        try { return (int) FMOD_Channel_Set3DCustomRolloff.invokeExact(address(channel), address(points), numPoints); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DCustomRolloff(Pointer channel, PointerByReference points, IntByReference numPoints) {
+        try { return (int) FMOD_Channel_Get3DCustomRolloff.invokeExact(address(channel), address(points), address(numPoints)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DOcclusion(Pointer channel, float directOcclusion, float reverbOcclusion) {
+        try { return (int) FMOD_Channel_Set3DOcclusion.invokeExact(address(channel), directOcclusion, reverbOcclusion); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DOcclusion(Pointer channel, FloatByReference directOcclusion, FloatByReference reverbOcclusion) {
+        try { return (int) FMOD_Channel_Get3DOcclusion.invokeExact(address(channel), address(directOcclusion), address(reverbOcclusion)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DSpread(Pointer channel, float angle) {
+        try { return (int) FMOD_Channel_Set3DSpread.invokeExact(address(channel), angle); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DSpread(Pointer channel, FloatByReference angle) {
+        try { return (int) FMOD_Channel_Get3DSpread.invokeExact(address(channel), address(angle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DLevel(Pointer channel, float level) {
+        try { return (int) FMOD_Channel_Set3DLevel.invokeExact(address(channel), level); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DLevel(Pointer channel, FloatByReference level) {
+        try { return (int) FMOD_Channel_Get3DLevel.invokeExact(address(channel), address(level)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DDopplerLevel(Pointer channel, float level) {
+        try { return (int) FMOD_Channel_Set3DDopplerLevel.invokeExact(address(channel), level); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DDopplerLevel(Pointer channel, FloatByReference level) {
+        try { return (int) FMOD_Channel_Get3DDopplerLevel.invokeExact(address(channel), address(level)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Set3DDistanceFilter(Pointer channel, int customBool, float customLevel, float centerFreq) {
+        try { return (int) FMOD_Channel_Set3DDistanceFilter.invokeExact(address(channel), customBool, customLevel, centerFreq); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_Get3DDistanceFilter(Pointer channel, IntByReference customBool, FloatByReference customLevel, FloatByReference centerFreq) {
+        try { return (int) FMOD_Channel_Get3DDistanceFilter.invokeExact(address(channel), address(customBool), address(customLevel), address(centerFreq)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetUserData(Pointer channel, Pointer userData) {
+        try { return (int) FMOD_Channel_SetUserData.invokeExact(address(channel), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetUserData(Pointer channel, PointerByReference userData) {
+        try { return (int) FMOD_Channel_GetUserData.invokeExact(address(channel), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetFrequency(Pointer channel, float frequency) {
+        try { return (int) FMOD_Channel_SetFrequency.invokeExact(address(channel), frequency); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetFrequency(Pointer channel, FloatByReference frequency) {
+        try { return (int) FMOD_Channel_GetFrequency.invokeExact(address(channel), address(frequency)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetPriority(Pointer channel, int priority) {
+        try { return (int) FMOD_Channel_SetPriority.invokeExact(address(channel), priority); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetPriority(Pointer channel, IntByReference priority) {
+        try { return (int) FMOD_Channel_GetPriority.invokeExact(address(channel), address(priority)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetPosition(Pointer channel, int position, int posType) {
+        try { return (int) FMOD_Channel_SetPosition.invokeExact(address(channel), position, posType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetPosition(Pointer channel, IntByReference position, int posType) {
+        try { return (int) FMOD_Channel_GetPosition.invokeExact(address(channel), address(position), posType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetChannelGroup(Pointer channel, Pointer channelGroup) {
+        try { return (int) FMOD_Channel_SetChannelGroup.invokeExact(address(channel), address(channelGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetChannelGroup(Pointer channel, PointerByReference channelGroup) {
+        try { return (int) FMOD_Channel_GetChannelGroup.invokeExact(address(channel), address(channelGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetLoopCount(Pointer channel, int loopCount) {
+        try { return (int) FMOD_Channel_SetLoopCount.invokeExact(address(channel), loopCount); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetLoopCount(Pointer channel, IntByReference loopCount) {
+        try { return (int) FMOD_Channel_GetLoopCount.invokeExact(address(channel), address(loopCount)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_SetLoopPoints(Pointer channel, int loopStart, int loopStartType, int loopEnd, int loopEndType) {
+        try { return (int) FMOD_Channel_SetLoopPoints.invokeExact(address(channel), loopStart, loopStartType, loopEnd, loopEndType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetLoopPoints(Pointer channel, IntByReference loopStart, int loopStartType, IntByReference loopEnd, int loopEndType) {
+        try { return (int) FMOD_Channel_GetLoopPoints.invokeExact(address(channel), address(loopStart), loopStartType, address(loopEnd), loopEndType); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_IsVirtual(Pointer channel, IntByReference isVirtual) {
+        try { return (int) FMOD_Channel_IsVirtual.invokeExact(address(channel), address(isVirtual)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetCurrentSound(Pointer channel, PointerByReference sound) {
+        try { return (int) FMOD_Channel_GetCurrentSound.invokeExact(address(channel), address(sound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Channel_GetIndex(Pointer channel, IntByReference index) {
+        try { return (int) FMOD_Channel_GetIndex.invokeExact(address(channel), address(index)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetSystemObject(Pointer channelGroup, PointerByReference system) {
+        try { return (int) FMOD_ChannelGroup_GetSystemObject.invokeExact(address(channelGroup), address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Stop(Pointer channelGroup) {
+        try { return (int) FMOD_ChannelGroup_Stop.invokeExact(address(channelGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetPaused(Pointer channelGroup, int pausedBool) {
+        try { return (int) FMOD_ChannelGroup_SetPaused.invokeExact(address(channelGroup), pausedBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetPaused(Pointer channelGroup, IntByReference pausedBool) {
+        try { return (int) FMOD_ChannelGroup_GetPaused.invokeExact(address(channelGroup), address(pausedBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetVolume(Pointer channelGroup, float volume) {
+        try { return (int) FMOD_ChannelGroup_SetVolume.invokeExact(address(channelGroup), volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetVolume(Pointer channelGroup, FloatByReference volume) {
+        try { return (int) FMOD_ChannelGroup_GetVolume.invokeExact(address(channelGroup), address(volume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetVolumeRamp(Pointer channelGroup, int rampBool) {
+        try { return (int) FMOD_ChannelGroup_SetVolumeRamp.invokeExact(address(channelGroup), rampBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetVolumeRamp(Pointer channelGroup, IntByReference rampBool) {
+        try { return (int) FMOD_ChannelGroup_GetVolumeRamp.invokeExact(address(channelGroup), address(rampBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetAudibility(Pointer channelGroup, FloatByReference audibility) {
+        try { return (int) FMOD_ChannelGroup_GetAudibility.invokeExact(address(channelGroup), address(audibility)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetPitch(Pointer channelGroup, float pitch) {
+        try { return (int) FMOD_ChannelGroup_SetPitch.invokeExact(address(channelGroup), pitch); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetPitch(Pointer channelGroup, FloatByReference pitch) {
+        try { return (int) FMOD_ChannelGroup_GetPitch.invokeExact(address(channelGroup), address(pitch)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMute(Pointer channelGroup, int muteBool) {
+        try { return (int) FMOD_ChannelGroup_SetMute.invokeExact(address(channelGroup), muteBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetMute(Pointer channelGroup, IntByReference muteBool) {
+        try { return (int) FMOD_ChannelGroup_GetMute.invokeExact(address(channelGroup), address(muteBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetReverbProperties(Pointer channelGroup, int instance, float wet) {
+        try { return (int) FMOD_ChannelGroup_SetReverbProperties.invokeExact(address(channelGroup), instance, wet); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetReverbProperties(Pointer channelGroup, int instance, FloatByReference wet) {
+        try { return (int) FMOD_ChannelGroup_GetReverbProperties.invokeExact(address(channelGroup), instance, address(wet)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetLowPassGain(Pointer channelGroup, float gain) {
+        try { return (int) FMOD_ChannelGroup_SetLowPassGain.invokeExact(address(channelGroup), gain); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetLowPassGain(Pointer channelGroup, FloatByReference gain) {
+        try { return (int) FMOD_ChannelGroup_GetLowPassGain.invokeExact(address(channelGroup), address(gain)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMode(Pointer channelGroup, int mode) {
+        try { return (int) FMOD_ChannelGroup_SetMode.invokeExact(address(channelGroup), mode); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetMode(Pointer channelGroup, IntByReference mode) {
+        try { return (int) FMOD_ChannelGroup_GetMode.invokeExact(address(channelGroup), address(mode)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetCallback(Pointer channelGroup, FMODChannelGroupCallbackFFI callback) {
+        try { return (int) FMOD_ChannelGroup_SetCallback.invokeExact(address(channelGroup), address(callback)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_IsPlaying(Pointer channelGroup, IntByReference isPlayingBool) {
+        try { return (int) FMOD_ChannelGroup_IsPlaying.invokeExact(address(channelGroup), address(isPlayingBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetPan(Pointer channelGroup, float pan) {
+        try { return (int) FMOD_ChannelGroup_SetPan.invokeExact(address(channelGroup), pan); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMixLevelsOutput(Pointer channelGroup, float frontLeft, float frontRight, float center, float lfe, float surroundLeft, float surroundRight, float backLeft, float backRight) {
+        try { return (int) FMOD_ChannelGroup_SetMixLevelsOutput.invokeExact(address(channelGroup), frontLeft, frontRight, center, lfe, surroundLeft, surroundRight, backLeft, backRight); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMixLevelsInput(Pointer channelGroup, float[] levels, int numLevels) {
+        try (Arena arena = Arena.ofConfined()) { return (int) FMOD_ChannelGroup_SetMixLevelsInput.invokeExact(address(channelGroup), array(arena, levels), numLevels); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMixMatrix(Pointer channelGroup, Pointer matrix, int outChannels, int inChannels, int inChannelHop) {
+        try { return (int) FMOD_ChannelGroup_SetMixMatrix.invokeExact(address(channelGroup), address(matrix), outChannels, inChannels, inChannelHop); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetMixMatrix(Pointer channelGroup, Pointer matrix, IntByReference outChannels, IntByReference inChannels, int inChannelHop) {
+        try { return (int) FMOD_ChannelGroup_GetMixMatrix.invokeExact(address(channelGroup), address(matrix), address(outChannels), address(inChannels), inChannelHop); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDSPClock(Pointer channelGroup, LongByReference dspClock, LongByReference parentClock) {
+        try { return (int) FMOD_ChannelGroup_GetDSPClock.invokeExact(address(channelGroup), address(dspClock), address(parentClock)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetDelay(Pointer channelGroup, long dspClockStart, long dspClockEnd, int stopChannelsBool) {
+        try { return (int) FMOD_ChannelGroup_SetDelay.invokeExact(address(channelGroup), dspClockStart, dspClockEnd, stopChannelsBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDelay(Pointer channelGroup, LongByReference dspClockStart, LongByReference dspClockEnd, IntByReference stopChannels) {
+        try { return (int) FMOD_ChannelGroup_GetDelay.invokeExact(address(channelGroup), address(dspClockStart), address(dspClockEnd), address(stopChannels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_AddFadePoint(Pointer channelGroup, long dspClock, float volume) {
+        try { return (int) FMOD_ChannelGroup_AddFadePoint.invokeExact(address(channelGroup), dspClock, volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetFadePointRamp(Pointer channelGroup, long dspClock, float volume) {
+        try { return (int) FMOD_ChannelGroup_SetFadePointRamp.invokeExact(address(channelGroup), dspClock, volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_RemoveFadePoints(Pointer channelGroup, long dspClockStart, long dspClockEnd) {
+        try { return (int) FMOD_ChannelGroup_RemoveFadePoints.invokeExact(address(channelGroup), dspClockStart, dspClockEnd); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetFadePoints(Pointer channelGroup, IntByReference numPoints, Pointer pointDspClock, Pointer pointVolume) {
+        try { return (int) FMOD_ChannelGroup_GetFadePoints.invokeExact(address(channelGroup), address(numPoints), address(pointDspClock), address(pointVolume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDSP(Pointer channelGroup, int index, PointerByReference dsp) {
+        try { return (int) FMOD_ChannelGroup_GetDSP.invokeExact(address(channelGroup), index, address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_AddDSP(Pointer channelGroup, int index, Pointer dsp) {
+        try { return (int) FMOD_ChannelGroup_AddDSP.invokeExact(address(channelGroup), index, address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_RemoveDSP(Pointer channelGroup, Pointer dsp) {
+        try { return (int) FMOD_ChannelGroup_RemoveDSP.invokeExact(address(channelGroup), address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetNumDSPs(Pointer channelGroup, IntByReference numDsps) {
+        try { return (int) FMOD_ChannelGroup_GetNumDSPs.invokeExact(address(channelGroup), address(numDsps)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetDSPIndex(Pointer channelGroup, Pointer dsp, int index) {
+        try { return (int) FMOD_ChannelGroup_SetDSPIndex.invokeExact(address(channelGroup), address(dsp), index); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDSPIndex(Pointer channelGroup, Pointer dsp, IntByReference index) {
+        try { return (int) FMOD_ChannelGroup_GetDSPIndex.invokeExact(address(channelGroup), address(dsp), address(index)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DAttributes(Pointer channelGroup, Pointer pos, Pointer vel) {
+        try { return (int) FMOD_ChannelGroup_Set3DAttributes.invokeExact(address(channelGroup), address(pos), address(vel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DAttributes(Pointer channelGroup, Pointer pos, Pointer vel) {
+        try { return (int) FMOD_ChannelGroup_Get3DAttributes.invokeExact(address(channelGroup), address(pos), address(vel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DMinMaxDistance(Pointer channelGroup, float min, float max) {
+        try { return (int) FMOD_ChannelGroup_Set3DMinMaxDistance.invokeExact(address(channelGroup), min, max); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DMinMaxDistance(Pointer channelGroup, FloatByReference min, FloatByReference max) {
+        try { return (int) FMOD_ChannelGroup_Get3DMinMaxDistance.invokeExact(address(channelGroup), address(min), address(max)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DConeSettings(Pointer channelGroup, float insideConeAngle, float outsideConeAngle, float outsideVolume) {
+        try { return (int) FMOD_ChannelGroup_Set3DConeSettings.invokeExact(address(channelGroup), insideConeAngle, outsideConeAngle, outsideVolume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DConeSettings(Pointer channelGroup, FloatByReference insideConeAngle, FloatByReference outsideConeAngle, FloatByReference outsideVolume) {
+        try { return (int) FMOD_ChannelGroup_Get3DConeSettings.invokeExact(address(channelGroup), address(insideConeAngle), address(outsideConeAngle), address(outsideVolume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DConeOrientation(Pointer channelGroup, Pointer orientation) {
+        try { return (int) FMOD_ChannelGroup_Set3DConeOrientation.invokeExact(address(channelGroup), address(orientation)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DConeOrientation(Pointer channelGroup, Pointer orientation) {
+        try { return (int) FMOD_ChannelGroup_Get3DConeOrientation.invokeExact(address(channelGroup), address(orientation)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DCustomRolloff(Pointer channelGroup, Pointer points, int numPoints) {
+        try { return (int) FMOD_ChannelGroup_Set3DCustomRolloff.invokeExact(address(channelGroup), address(points), numPoints); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DCustomRolloff(Pointer channelGroup, PointerByReference points, IntByReference numPoints) {
+        try { return (int) FMOD_ChannelGroup_Get3DCustomRolloff.invokeExact(address(channelGroup), address(points), address(numPoints)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DOcclusion(Pointer channelGroup, float directOcclusion, float reverbOcclusion) {
+        try { return (int) FMOD_ChannelGroup_Set3DOcclusion.invokeExact(address(channelGroup), directOcclusion, reverbOcclusion); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DOcclusion(Pointer channelGroup, FloatByReference directOcclusion, FloatByReference reverbOcclusion) {
+        try { return (int) FMOD_ChannelGroup_Get3DOcclusion.invokeExact(address(channelGroup), address(directOcclusion), address(reverbOcclusion)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DSpread(Pointer channelGroup, float angle) {
+        try { return (int) FMOD_ChannelGroup_Set3DSpread.invokeExact(address(channelGroup), angle); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DSpread(Pointer channelGroup, FloatByReference angle) {
+        try { return (int) FMOD_ChannelGroup_Get3DSpread.invokeExact(address(channelGroup), address(angle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DLevel(Pointer channelGroup, float level) {
+        try { return (int) FMOD_ChannelGroup_Set3DLevel.invokeExact(address(channelGroup), level); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DLevel(Pointer channelGroup, FloatByReference level) {
+        try { return (int) FMOD_ChannelGroup_Get3DLevel.invokeExact(address(channelGroup), address(level)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DDopplerLevel(Pointer channelGroup, float level) {
+        try { return (int) FMOD_ChannelGroup_Set3DDopplerLevel.invokeExact(address(channelGroup), level); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DDopplerLevel(Pointer channelGroup, FloatByReference level) {
+        try { return (int) FMOD_ChannelGroup_Get3DDopplerLevel.invokeExact(address(channelGroup), address(level)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DDistanceFilter(Pointer channelGroup, int customBool, float customLevel, float centerFreq) {
+        try { return (int) FMOD_ChannelGroup_Set3DDistanceFilter.invokeExact(address(channelGroup), customBool, customLevel, centerFreq); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DDistanceFilter(Pointer channelGroup, IntByReference customBool, FloatByReference customLevel, FloatByReference centerFreq) {
+        try { return (int) FMOD_ChannelGroup_Get3DDistanceFilter.invokeExact(address(channelGroup), address(customBool), address(customLevel), address(centerFreq)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_SetUserData(Pointer channelGroup, Pointer userData) {
+        try { return (int) FMOD_ChannelGroup_SetUserData.invokeExact(address(channelGroup), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetUserData(Pointer channelGroup, PointerByReference userData) {
+        try { return (int) FMOD_ChannelGroup_GetUserData.invokeExact(address(channelGroup), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_Release(Pointer channelGroup) {
+        try { return (int) FMOD_ChannelGroup_Release.invokeExact(address(channelGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_AddGroup(Pointer channelGroup, Pointer group, int propagateDspClockBool, PointerByReference connection) {
+        try { return (int) FMOD_ChannelGroup_AddGroup.invokeExact(address(channelGroup), address(group), propagateDspClockBool, address(connection)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetNumGroups(Pointer channelGroup, IntByReference numGroups) {
+        try { return (int) FMOD_ChannelGroup_GetNumGroups.invokeExact(address(channelGroup), address(numGroups)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetGroup(Pointer channelGroup, int index, PointerByReference group) {
+        try { return (int) FMOD_ChannelGroup_GetGroup.invokeExact(address(channelGroup), index, address(group)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetParentGroup(Pointer channelGroup, PointerByReference group) {
+        try { return (int) FMOD_ChannelGroup_GetParentGroup.invokeExact(address(channelGroup), address(group)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetName(Pointer channelGroup, Pointer name, int nameLen) {
+        try { return (int) FMOD_ChannelGroup_GetName.invokeExact(address(channelGroup), address(name), nameLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetNumChannels(Pointer channelGroup, IntByReference numChannels) {
+        try { return (int) FMOD_ChannelGroup_GetNumChannels.invokeExact(address(channelGroup), address(numChannels)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_ChannelGroup_GetChannel(Pointer channelGroup, int index, PointerByReference channel) {
+        try { return (int) FMOD_ChannelGroup_GetChannel.invokeExact(address(channelGroup), index, address(channel)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_Release(Pointer soundGroup) {
+        try { return (int) FMOD_SoundGroup_Release.invokeExact(address(soundGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetSystemObject(Pointer soundGroup, PointerByReference system) {
+        try { return (int) FMOD_SoundGroup_GetSystemObject.invokeExact(address(soundGroup), address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_SetMaxAudible(Pointer soundGroup, int maxAudible) {
+        try { return (int) FMOD_SoundGroup_SetMaxAudible.invokeExact(address(soundGroup), maxAudible); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetMaxAudible(Pointer soundGroup, IntByReference maxAudible) {
+        try { return (int) FMOD_SoundGroup_GetMaxAudible.invokeExact(address(soundGroup), address(maxAudible)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_SetMaxAudibleBehavior(Pointer soundGroup, int behavior) {
+        try { return (int) FMOD_SoundGroup_SetMaxAudibleBehavior.invokeExact(address(soundGroup), behavior); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetMaxAudibleBehavior(Pointer soundGroup, IntByReference behavior) {
+        try { return (int) FMOD_SoundGroup_GetMaxAudibleBehavior.invokeExact(address(soundGroup), address(behavior)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_SetMuteFadeSpeed(Pointer soundGroup, float speed) {
+        try { return (int) FMOD_SoundGroup_SetMuteFadeSpeed.invokeExact(address(soundGroup), speed); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetMuteFadeSpeed(Pointer soundGroup, FloatByReference speed) {
+        try { return (int) FMOD_SoundGroup_GetMuteFadeSpeed.invokeExact(address(soundGroup), address(speed)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_SetVolume(Pointer soundGroup, float volume) {
+        try { return (int) FMOD_SoundGroup_SetVolume.invokeExact(address(soundGroup), volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetVolume(Pointer soundGroup, FloatByReference volume) {
+        try { return (int) FMOD_SoundGroup_GetVolume.invokeExact(address(soundGroup), address(volume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_Stop(Pointer soundGroup) {
+        try { return (int) FMOD_SoundGroup_Stop.invokeExact(address(soundGroup)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetName(Pointer soundGroup, Pointer name, int nameLen) {
+        try { return (int) FMOD_SoundGroup_GetName.invokeExact(address(soundGroup), address(name), nameLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetNumSounds(Pointer soundGroup, IntByReference numSounds) {
+        try { return (int) FMOD_SoundGroup_GetNumSounds.invokeExact(address(soundGroup), address(numSounds)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetSound(Pointer soundGroup, int index, PointerByReference sound) {
+        try { return (int) FMOD_SoundGroup_GetSound.invokeExact(address(soundGroup), index, address(sound)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetNumPlaying(Pointer soundGroup, IntByReference numPlaying) {
+        try { return (int) FMOD_SoundGroup_GetNumPlaying.invokeExact(address(soundGroup), address(numPlaying)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_SetUserData(Pointer soundGroup, Pointer userData) {
+        try { return (int) FMOD_SoundGroup_SetUserData.invokeExact(address(soundGroup), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_SoundGroup_GetUserData(Pointer soundGroup, PointerByReference userData) {
+        try { return (int) FMOD_SoundGroup_GetUserData.invokeExact(address(soundGroup), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_Release(Pointer dsp) {
+        try { return (int) FMOD_DSP_Release.invokeExact(address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetSystemObject(Pointer dsp, PointerByReference system) {
+        try { return (int) FMOD_DSP_GetSystemObject.invokeExact(address(dsp), address(system)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_AddInput(Pointer dsp, Pointer input, PointerByReference connection, int type) {
+        try { return (int) FMOD_DSP_AddInput.invokeExact(address(dsp), address(input), address(connection), type); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_DisconnectFrom(Pointer dsp, Pointer target, Pointer connection) {
+        try { return (int) FMOD_DSP_DisconnectFrom.invokeExact(address(dsp), address(target), address(connection)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_DisconnectAll(Pointer dsp, int inputsBool, int outputsBool) {
+        try { return (int) FMOD_DSP_DisconnectAll.invokeExact(address(dsp), inputsBool, outputsBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetNumInputs(Pointer dsp, IntByReference numInputs) {
+        try { return (int) FMOD_DSP_GetNumInputs.invokeExact(address(dsp), address(numInputs)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetNumOutputs(Pointer dsp, IntByReference numOutputs) {
+        try { return (int) FMOD_DSP_GetNumOutputs.invokeExact(address(dsp), address(numOutputs)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetInput(Pointer dsp, int index, PointerByReference input, PointerByReference inputConnection) {
+        try { return (int) FMOD_DSP_GetInput.invokeExact(address(dsp), index, address(input), address(inputConnection)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetOutput(Pointer dsp, int index, PointerByReference output, PointerByReference outputConnection) {
+        try { return (int) FMOD_DSP_GetOutput.invokeExact(address(dsp), index, address(output), address(outputConnection)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetActive(Pointer dsp, int activeBool) {
+        try { return (int) FMOD_DSP_SetActive.invokeExact(address(dsp), activeBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetActive(Pointer dsp, IntByReference activeBool) {
+        try { return (int) FMOD_DSP_GetActive.invokeExact(address(dsp), address(activeBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetBypass(Pointer dsp, int bypassBool) {
+        try { return (int) FMOD_DSP_SetBypass.invokeExact(address(dsp), bypassBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetBypass(Pointer dsp, IntByReference bypassBool) {
+        try { return (int) FMOD_DSP_GetBypass.invokeExact(address(dsp), address(bypassBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetWetDryMix(Pointer dsp, float prewet, float postwet, float dry) {
+        try { return (int) FMOD_DSP_SetWetDryMix.invokeExact(address(dsp), prewet, postwet, dry); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetWetDryMix(Pointer dsp, FloatByReference prewet, FloatByReference postwet, FloatByReference dry) {
+        try { return (int) FMOD_DSP_GetWetDryMix.invokeExact(address(dsp), address(prewet), address(postwet), address(dry)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetChannelFormat(Pointer dsp, int channelMask, int numChannels, int sourceSpeakerMode) {
+        try { return (int) FMOD_DSP_SetChannelFormat.invokeExact(address(dsp), channelMask, numChannels, sourceSpeakerMode); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetChannelFormat(Pointer dsp, IntByReference channelMask, IntByReference numChannels, IntByReference sourceSpeakerMode) {
+        try { return (int) FMOD_DSP_GetChannelFormat.invokeExact(address(dsp), address(channelMask), address(numChannels), address(sourceSpeakerMode)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetOutputChannelFormat(Pointer dsp, int inMask, int inChannels, int inSpeakerMode, IntByReference outMask, IntByReference outChannels, IntByReference outSpeakerMode) {
+        try { return (int) FMOD_DSP_GetOutputChannelFormat.invokeExact(address(dsp), inMask, inChannels, inSpeakerMode, address(outMask), address(outChannels), address(outSpeakerMode)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_Reset(Pointer dsp) {
+        try { return (int) FMOD_DSP_Reset.invokeExact(address(dsp)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetCallback(Pointer dsp, FMODDSPCallbackFFI callback) {
+        try { return (int) FMOD_DSP_SetCallback.invokeExact(address(dsp), address(callback)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetParameterFloat(Pointer dsp, int index, float value) {
+        try { return (int) FMOD_DSP_SetParameterFloat.invokeExact(address(dsp), index, value); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetParameterInt(Pointer dsp, int index, int value) {
+        try { return (int) FMOD_DSP_SetParameterInt.invokeExact(address(dsp), index, value); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetParameterBool(Pointer dsp, int index, int valueBool) {
+        try { return (int) FMOD_DSP_SetParameterBool.invokeExact(address(dsp), index, valueBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetParameterData(Pointer dsp, int index, Pointer data, int length) {
+        try { return (int) FMOD_DSP_SetParameterData.invokeExact(address(dsp), index, address(data), length); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetParameterFloat(Pointer dsp, int index, FloatByReference value, Pointer valueStr, int valueStrLen) {
+        try { return (int) FMOD_DSP_GetParameterFloat.invokeExact(address(dsp), index, address(value), address(valueStr), valueStrLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetParameterInt(Pointer dsp, int index, IntByReference value, Pointer valueStr, int valueStrLen) {
+        try { return (int) FMOD_DSP_GetParameterInt.invokeExact(address(dsp), index, address(value), address(valueStr), valueStrLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetParameterBool(Pointer dsp, int index, IntByReference valueBool, Pointer valueStr, int valueStrLen) {
+        try { return (int) FMOD_DSP_GetParameterBool.invokeExact(address(dsp), index, address(valueBool), address(valueStr), valueStrLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetParameterData(Pointer dsp, int index, PointerByReference data, IntByReference length, Pointer valueStr, int valueStrLen) {
+        try { return (int) FMOD_DSP_GetParameterData.invokeExact(address(dsp), index, address(data), address(length), address(valueStr), valueStrLen); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetNumParameters(Pointer dsp, IntByReference numParams) {
+        try { return (int) FMOD_DSP_GetNumParameters.invokeExact(address(dsp), address(numParams)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetParameterInfo(Pointer dsp, int index, PointerByReference desc) {
+        try { return (int) FMOD_DSP_GetParameterInfo.invokeExact(address(dsp), index, address(desc)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetDataParameterIndex(Pointer dsp, int dataType, IntByReference index) {
+        try { return (int) FMOD_DSP_GetDataParameterIndex.invokeExact(address(dsp), dataType, address(index)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_ShowConfigDialog(Pointer dsp, Pointer hwnd, int showBool) {
+        try { return (int) FMOD_DSP_ShowConfigDialog.invokeExact(address(dsp), address(hwnd), showBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetInfo(Pointer dsp, Pointer name, IntByReference version, IntByReference channels, IntByReference configWidth, IntByReference configHeight) {
+        try { return (int) FMOD_DSP_GetInfo.invokeExact(address(dsp), address(name), address(version), address(channels), address(configWidth), address(configHeight)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetType(Pointer dsp, IntByReference type) {
+        try { return (int) FMOD_DSP_GetType.invokeExact(address(dsp), address(type)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetIdle(Pointer dsp, IntByReference idle) {
+        try { return (int) FMOD_DSP_GetIdle.invokeExact(address(dsp), address(idle)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetUserData(Pointer dsp, Pointer userData) {
+        try { return (int) FMOD_DSP_SetUserData.invokeExact(address(dsp), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetUserData(Pointer dsp, PointerByReference userData) {
+        try { return (int) FMOD_DSP_GetUserData.invokeExact(address(dsp), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_SetMeteringEnabled(Pointer dsp, int inputEnabledBool, int outputEnabledBool) {
+        try { return (int) FMOD_DSP_SetMeteringEnabled.invokeExact(address(dsp), inputEnabledBool, outputEnabledBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetMeteringEnabled(Pointer dsp, IntByReference inputEnabledBool, IntByReference outputEnabledBool) {
+        try { return (int) FMOD_DSP_GetMeteringEnabled.invokeExact(address(dsp), address(inputEnabledBool), address(outputEnabledBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetMeteringInfo(Pointer dsp, Pointer inputInfo, Pointer outputInfo) {
+        try { return (int) FMOD_DSP_GetMeteringInfo.invokeExact(address(dsp), address(inputInfo), address(outputInfo)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSP_GetCPUUsage(Pointer dsp, IntByReference exclusiveBool, IntByReference inclusiveBool) {
+        try { return (int) FMOD_DSP_GetCPUUsage.invokeExact(address(dsp), address(exclusiveBool), address(inclusiveBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_GetInput(Pointer dspConnection, PointerByReference input) {
+        try { return (int) FMOD_DSPConnection_GetInput.invokeExact(address(dspConnection), address(input)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_GetOutput(Pointer dspConnection, PointerByReference output) {
+        try { return (int) FMOD_DSPConnection_GetOutput.invokeExact(address(dspConnection), address(output)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_SetMix(Pointer dspConnection, float volume) {
+        try { return (int) FMOD_DSPConnection_SetMix.invokeExact(address(dspConnection), volume); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_GetMix(Pointer dspConnection, FloatByReference volume) {
+        try { return (int) FMOD_DSPConnection_GetMix.invokeExact(address(dspConnection), address(volume)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_SetMixMatrix(Pointer dspConnection, Pointer matrix, int outChannels, int inChannels, int inChannelHop) {
+        try { return (int) FMOD_DSPConnection_SetMixMatrix.invokeExact(address(dspConnection), address(matrix), outChannels, inChannels, inChannelHop); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_GetMixMatrix(Pointer dspConnection, Pointer matrix, IntByReference outChannels, IntByReference inChannels, int inChannelHop) {
+        try { return (int) FMOD_DSPConnection_GetMixMatrix.invokeExact(address(dspConnection), address(matrix), address(outChannels), address(inChannels), inChannelHop); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_GetType(Pointer dspConnection, IntByReference type) {
+        try { return (int) FMOD_DSPConnection_GetType.invokeExact(address(dspConnection), address(type)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_SetUserData(Pointer dspConnection, Pointer userData) {
+        try { return (int) FMOD_DSPConnection_SetUserData.invokeExact(address(dspConnection), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_DSPConnection_GetUserData(Pointer dspConnection, PointerByReference userData) {
+        try { return (int) FMOD_DSPConnection_GetUserData.invokeExact(address(dspConnection), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_Release(Pointer geometry) {
+        try { return (int) FMOD_Geometry_Release.invokeExact(address(geometry)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_AddPolygon(Pointer geometry, float directOcclusion, float reverbOcclusion, int doublesidedBool, int numVertices, Pointer vertices, IntByReference polygonIndex) {
+        try { return (int) FMOD_Geometry_AddPolygon.invokeExact(address(geometry), directOcclusion, reverbOcclusion, doublesidedBool, numVertices, address(vertices), address(polygonIndex)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetNumPolygons(Pointer geometry, IntByReference numPolygons) {
+        try { return (int) FMOD_Geometry_GetNumPolygons.invokeExact(address(geometry), address(numPolygons)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetMaxPolygons(Pointer geometry, IntByReference maxPolygons, IntByReference maxVertices) {
+        try { return (int) FMOD_Geometry_GetMaxPolygons.invokeExact(address(geometry), address(maxPolygons), address(maxVertices)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetPolygonNumVertices(Pointer geometry, int index, IntByReference numVertices) {
+        try { return (int) FMOD_Geometry_GetPolygonNumVertices.invokeExact(address(geometry), index, address(numVertices)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_SetPolygonVertex(Pointer geometry, int index, int vertexIndex, Pointer vertex) {
+        try { return (int) FMOD_Geometry_SetPolygonVertex.invokeExact(address(geometry), index, vertexIndex, address(vertex)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetPolygonVertex(Pointer geometry, int index, int vertexIndex, Pointer vertex) {
+        try { return (int) FMOD_Geometry_GetPolygonVertex.invokeExact(address(geometry), index, vertexIndex, address(vertex)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_SetPolygonAttributes(Pointer geometry, int index, float directOcclusion, float reverbOcclusion, int doublesidedBool) {
+        try { return (int) FMOD_Geometry_SetPolygonAttributes.invokeExact(address(geometry), index, directOcclusion, reverbOcclusion, doublesidedBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetPolygonAttributes(Pointer geometry, int index, FloatByReference directOcclusion, FloatByReference reverbOcclusion, IntByReference doublesided) {
+        try { return (int) FMOD_Geometry_GetPolygonAttributes.invokeExact(address(geometry), index, address(directOcclusion), address(reverbOcclusion), address(doublesided)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_SetActive(Pointer geometry, int activeBool) {
+        try { return (int) FMOD_Geometry_SetActive.invokeExact(address(geometry), activeBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetActive(Pointer geometry, IntByReference activeBool) {
+        try { return (int) FMOD_Geometry_GetActive.invokeExact(address(geometry), address(activeBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_SetRotation(Pointer geometry, Pointer forward, Pointer up) {
+        try { return (int) FMOD_Geometry_SetRotation.invokeExact(address(geometry), address(forward), address(up)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetRotation(Pointer geometry, Pointer forward, Pointer up) {
+        try { return (int) FMOD_Geometry_GetRotation.invokeExact(address(geometry), address(forward), address(up)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_SetPosition(Pointer geometry, Pointer position) {
+        try { return (int) FMOD_Geometry_SetPosition.invokeExact(address(geometry), address(position)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetPosition(Pointer geometry, Pointer position) {
+        try { return (int) FMOD_Geometry_GetPosition.invokeExact(address(geometry), address(position)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_SetScale(Pointer geometry, Pointer scale) {
+        try { return (int) FMOD_Geometry_SetScale.invokeExact(address(geometry), address(scale)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetScale(Pointer geometry, Pointer scale) {
+        try { return (int) FMOD_Geometry_GetScale.invokeExact(address(geometry), address(scale)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_Save(Pointer geometry, Pointer data, IntByReference dataSize) {
+        try { return (int) FMOD_Geometry_Save.invokeExact(address(geometry), address(data), address(dataSize)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_SetUserData(Pointer geometry, Pointer userData) {
+        try { return (int) FMOD_Geometry_SetUserData.invokeExact(address(geometry), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Geometry_GetUserData(Pointer geometry, PointerByReference userData) {
+        try { return (int) FMOD_Geometry_GetUserData.invokeExact(address(geometry), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_Release(Pointer reverb3d) {
+        try { return (int) FMOD_Reverb3D_Release.invokeExact(address(reverb3d)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_Set3DAttributes(Pointer reverb3d, Pointer position, float minDistance, float maxDistance) {
+        try { return (int) FMOD_Reverb3D_Set3DAttributes.invokeExact(address(reverb3d), address(position), minDistance, maxDistance); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_Get3DAttributes(Pointer reverb3d, Pointer position, FloatByReference minDistance, FloatByReference maxDistance) {
+        try { return (int) FMOD_Reverb3D_Get3DAttributes.invokeExact(address(reverb3d), address(position), address(minDistance), address(maxDistance)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_SetProperties(Pointer reverb3d, Pointer properties) {
+        try { return (int) FMOD_Reverb3D_SetProperties.invokeExact(address(reverb3d), address(properties)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_GetProperties(Pointer reverb3d, Pointer properties) {
+        try { return (int) FMOD_Reverb3D_GetProperties.invokeExact(address(reverb3d), address(properties)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_SetActive(Pointer reverb3d, int activeBool) {
+        try { return (int) FMOD_Reverb3D_SetActive.invokeExact(address(reverb3d), activeBool); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_GetActive(Pointer reverb3d, IntByReference activeBool) {
+        try { return (int) FMOD_Reverb3D_GetActive.invokeExact(address(reverb3d), address(activeBool)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_SetUserData(Pointer reverb3d, Pointer userData) {
+        try { return (int) FMOD_Reverb3D_SetUserData.invokeExact(address(reverb3d), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+
+    @Override public int FMOD_Reverb3D_GetUserData(Pointer reverb3d, PointerByReference userData) {
+        try { return (int) FMOD_Reverb3D_GetUserData.invokeExact(address(reverb3d), address(userData)); } catch (Throwable t) { throw propagate(t); }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.biglipbob.FMOD;
+
+import java.nio.*;
+import java.util.*;
+
+import io.github.biglipbob.utils.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+/**
+ * The {@code FMODPcmDecoder} drains a sound through {@link FMODSoundRef#readData(ByteBuffer)} in fixed-size blocks of frames,
+ * converting its PCM format to floats in [-1, 1].
+ * <p>
+ * The caller-supplied {@link #read(float[])} and {@link #readPlanar(float[][])} reuse a single direct staging buffer and never allocate,
+ * the {@link Iterator} view hands out a fresh interleaved block on every {@link #next()} for convenience.
+ * The sound should be opened with {@code FMOD_OPENONLY} so nothing else consumes its decoder.
+ * </p>
+ */
+public final class FMODPcmDecoder implements Iterator<float[]> {
+
+    private final FMODSoundRef sound;
+    private final int format, channels, bytesPerSample, blockFrames;
+    private final ByteBuffer staging;
+    private boolean exhausted;
+    private float[] pending; // Iterator look-ahead
+
+    public FMODPcmDecoder(FMODSoundRef sound, int blockFrames) {
+        if (blockFrames <= 0) throw new IllegalArgumentException("Block must hold at least one frame");
+        Quadruplet<Integer> soundFormat = sound.getFormat();
+        this.sound = sound;
+        this.format = soundFormat.second();
+        this.channels = soundFormat.third();
+        this.bytesPerSample = switch (format) {
+            case FMOD_SOUND_FORMAT_PCM8 -> 1;
+            case FMOD_SOUND_FORMAT_PCM16 -> 2;
+            case FMOD_SOUND_FORMAT_PCM24 -> 3;
+            case FMOD_SOUND_FORMAT_PCM32, FMOD_SOUND_FORMAT_PCMFLOAT -> 4;
+            default -> throw new IllegalArgumentException("Not a PCM format: " + format);
+        };
+        this.blockFrames = blockFrames;
+        this.staging = ByteBuffer.allocateDirect(blockFrames * channels * bytesPerSample).order(ByteOrder.nativeOrder());
+        sound.seekData(0);
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getBlockFrames() {
+        return blockFrames;
+    }
+
+    // ---------------------------------------- //
+    // Block reads
+    // ---------------------------------------- //
+
+    /// Decodes up to one block into an interleaved array of at least blockFrames * channels samples, returns the frame count, or -1 once drained.
+    public int read(float[] interleaved) {
+        int frames = fill();
+        for (int i = 0, samples = frames * channels; i < samples; i++) interleaved[i] = sample(i);
+        return frames;
+    }
+
+    /// Decodes up to one block into one array of at least blockFrames samples per channel, returns the frame count, or -1 once drained.
+    public int readPlanar(float[][] planar) {
+        int frames = fill();
+        for (int frame = 0; frame < frames; frame++)
+            for (int channel = 0; channel < channels; channel++) planar[channel][frame] = sample(frame * channels + channel);
+        return frames;
+    }
+
+    /// Fills the staging buffer with whole frames, returns how many, or -1 once drained.
+    private int fill() {
+        if (exhausted) return -1;
+        staging.clear();
+        while (staging.hasRemaining()) {
+            if (sound.readData(staging) < 0) {
+                exhausted = true;
+                break;
+            }
+        }
+        int frames = staging.position() / (channels * bytesPerSample);
+        return frames == 0 && exhausted ? -1 : frames;
+    }
+
+    private float sample(int index) {
+        int at = index * bytesPerSample;
+        return switch (format) {
+            case FMOD_SOUND_FORMAT_PCM8 -> staging.get(at) / 128f;
+            case FMOD_SOUND_FORMAT_PCM16 -> staging.getShort(at) / 32768f;
+            case FMOD_SOUND_FORMAT_PCM24 -> ((staging.get(at + 2) << 16) | ((staging.get(at + 1) & 0xFF) << 8) | (staging.get(at) & 0xFF)) / 8388608f;
+            case FMOD_SOUND_FORMAT_PCM32 -> staging.getInt(at) / 2147483648f;
+            default -> staging.getFloat(at);
+        };
+    }
+
+    // ---------------------------------------- //
+    // Iterator
+    // ---------------------------------------- //
+
+    @Override public boolean hasNext() {
+        if (pending != null) return true;
+        float[] block = new float[blockFrames * channels];
+        int frames = read(block);
+        if (frames < 0) return false;
+        pending = frames == blockFrames ? block : Arrays.copyOf(block, frames * channels);
+        return true;
+    }
+
+    /// Returns the next interleaved block, the last one may be shorter.
+    @Override public float[] next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        float[] block = pending;
+        pending = null;
+        return block;
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.invoke.*;
+import java.nio.*;
+
+import com.sun.jna.*;
+
+import static io.github.biglipbob.FMOD.FMODFFI.*;
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+/**
+ * The {@code FMODPcmStreamSource} feeds a user stream ({@link FMODSystemRef#createUserStream(int, int, int, FMODPcmStreamSource)})
+ * from a single producer thread through a lock-free single-producer single-consumer ring.
+ * <p>
+ * The producer writes float or short samples, converted on the fly to the stream's format ({@code FMOD_SOUND_FORMAT_PCM16} or
+ * {@code FMOD_SOUND_FORMAT_PCMFLOAT}), the ring being drained by FMOD's stream thread straight into the native decode buffer.
+ * When the ring runs dry the rest of the block is filled with silence and counted as an underrun,
+ * the buffer depth trading latency for resilience against producer stalls.
+ * </p>
+ */
+public final class FMODPcmStreamSource {
+
+    private static final VarHandle HEAD, TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(FMODPcmStreamSource.class, "head", long.class);
+            TAIL = lookup.findVarHandle(FMODPcmStreamSource.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /// Ring geometry, immutable once bound so both threads read a consistent view through one volatile read.
+    private record Ring(int format, int channels, int bytesPerSample, int frameBytes, int mask, ByteBuffer buffer) { // Native order, capacity a power of two
+    }
+
+    private final int bufferFrames, decodeFrames;
+    private volatile Ring ring; // Null until bound
+
+    @SuppressWarnings("unused") private volatile long head; // Bytes consumed, FMOD's stream thread only
+    @SuppressWarnings("unused") private volatile long tail; // Bytes produced, producer thread only
+    private volatile boolean started;
+    private volatile long underruns, underrunBytes; // Stream thread only writes them
+
+    private ByteBuffer target; // Cached view of FMOD's decode buffer
+    private long targetAddress;
+
+    final FMODSoundPcmReadCallbackFFI readCallback = this::onRead;
+    final FMODSoundPcmSetPosCallbackFFI setPositionCallback = (sound, subSound, position, posType) -> FMOD_OK; // Not seekable
+
+    /// Buffers up to bufferFrames frames ahead (rounded up to a power of two), FMOD pulling decodeFrames frames at a time.
+    public FMODPcmStreamSource(int bufferFrames, int decodeFrames) {
+        if (bufferFrames <= 0 || decodeFrames <= 0) throw new IllegalArgumentException("Sizes must be positive");
+        this.bufferFrames = bufferFrames;
+        this.decodeFrames = decodeFrames;
+        Native.setCallbackThreadInitializer(readCallback, new CallbackThreadInitializer(true, false, "FMOD Stream"));
+    }
+
+    /// Allocates the ring for the stream's format, once.
+    synchronized void bind(int format, int channels) {
+        if (ring != null) throw new IllegalStateException("Source already feeds a stream");
+        int bytesPerSample = switch (format) {
+            case FMOD_SOUND_FORMAT_PCM16 -> 2;
+            case FMOD_SOUND_FORMAT_PCMFLOAT -> 4;
+            default -> throw new IllegalArgumentException("Only PCM16 and PCMFLOAT user streams are supported: " + format);
+        };
+        if (channels <= 0) throw new IllegalArgumentException("Invalid channel count: " + channels);
+        int frameBytes = channels * bytesPerSample;
+        int capacity = Integer.highestOneBit(Math.max(1, bufferFrames * frameBytes - 1)) << 1;
+        ring = new Ring(format, channels, bytesPerSample, frameBytes, capacity - 1, ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder())); // Published last
+    }
+
+    public int getDecodeFrames() {
+        return decodeFrames;
+    }
+
+    // ---------------------------------------- //
+    // Producer
+    // ---------------------------------------- //
+
+    /// Writes as many whole frames of interleaved samples as fit without waiting, returns the number of samples written.
+    public int write(float[] samples, int offset, int length) {
+        Ring ring = bound();
+        ByteBuffer buffer = ring.buffer;
+        int count = reserve(ring, length), step = ring.bytesPerSample, mask = ring.mask;
+        boolean pcmFloat = ring.format == FMOD_SOUND_FORMAT_PCMFLOAT;
+        long at = tail;
+        for (int i = 0; i < count; i++, at += step) {
+            int index = (int) at & mask;
+            float sample = samples[offset + i];
+            if (pcmFloat) buffer.putFloat(index, sample);
+            else buffer.putShort(index, (short) Math.round(Math.clamp(sample, -1f, 1f) * Short.MAX_VALUE));
+        }
+        return publish(ring, count);
+    }
+
+    /// Writes as many whole frames of interleaved samples as fit without waiting, returns the number of samples written.
+    public int write(short[] samples, int offset, int length) {
+        Ring ring = bound();
+        ByteBuffer buffer = ring.buffer;
+        int count = reserve(ring, length), step = ring.bytesPerSample, mask = ring.mask;
+        boolean pcm16 = ring.format == FMOD_SOUND_FORMAT_PCM16;
+        long at = tail;
+        for (int i = 0; i < count; i++, at += step) {
+            int index = (int) at & mask;
+            short sample = samples[offset + i];
+            if (pcm16) buffer.putShort(index, sample);
+            else buffer.putFloat(index, sample / 32768f);
+        }
+        return publish(ring, count);
+    }
+
+    private Ring bound() {
+        Ring ring = this.ring;
+        if (ring == null) throw new IllegalStateException("Source is not bound to a stream yet");
+        return ring;
+    }
+
+    /// Number of whole samples of the request that fit in the free space.
+    private int reserve(Ring ring, int length) {
+        long free = ring.buffer.capacity() - (tail - (long) HEAD.getAcquire(this));
+        int frames = (int) Math.min(length / ring.channels, free / ring.frameBytes);
+        return frames * ring.channels;
+    }
+
+    private int publish(Ring ring, int count) {
+        TAIL.setRelease(this, tail + (long) count * ring.bytesPerSample);
+        started = true;
+        return count;
+    }
+
+    /// Number of frames buffered and not yet pulled by FMOD.
+    public int getBufferedFrames() {
+        Ring ring = this.ring;
+        return ring == null ? 0 : (int) (((long) TAIL.getAcquire(this) - (long) HEAD.getAcquire(this)) / ring.frameBytes);
+    }
+
+    public int getCapacityFrames() {
+        Ring ring = this.ring;
+        return ring == null ? 0 : ring.buffer.capacity() / ring.frameBytes;
+    }
+
+    // ---------------------------------------- //
+    // Underruns
+    // ---------------------------------------- //
+
+    /// Number of decode blocks which could not be entirely filled since the producer started.
+    public long getUnderruns() {
+        return underruns;
+    }
+
+    /// Number of silent frames inserted due to underruns.
+    public long getUnderrunFrames() {
+        Ring ring = this.ring;
+        return ring == null ? 0 : underrunBytes / ring.frameBytes;
+    }
+
+    // ---------------------------------------- //
+    // Consumer (FMOD stream thread)
+    // ---------------------------------------- //
+
+    private int onRead(Pointer sound, Pointer data, int dataLen) {
+        Ring ring = this.ring; // Bound before the stream was created
+        ByteBuffer buffer = ring.buffer;
+        if (target == null || targetAddress != Pointer.nativeValue(data) || target.capacity() != dataLen) {
+            target = data.getByteBuffer(0, dataLen);
+            targetAddress = Pointer.nativeValue(data);
+        }
+        long from = head;
+        int count = (int) Math.min((long) TAIL.getAcquire(this) - from, dataLen);
+        int index = (int) from & ring.mask, first = Math.min(count, buffer.capacity() - index);
+        target.put(0, buffer, index, first);
+        if (first < count) target.put(first, buffer, 0, count - first); // Wrapped around
+        HEAD.setRelease(this, from + count);
+
+        if (count < dataLen) {
+            data.setMemory(count, dataLen - count, (byte) 0);
+            if (started) {
+                underruns++;
+                underrunBytes += dataLen - count;
+            }
+        }
+        return FMOD_OK;
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.biglipbob.FMOD;
+
+import java.nio.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.jna.Pointer;
+
+import io.github.biglipbob.utils.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODRecordingSession} captures a recording device into a looping user sound and streams every new segment to its subscribers.
+ * <p>
+ * A poller thread reads the record position every period, locks the segment recorded since the previous poll
+ * and converts it to floats into a single reusable direct buffer, published to every subscriber with outstanding demand,
+ * so capture never allocates past startup. The published {@link FloatBuffer} is only valid for the duration of
+ * {@link Flow.Subscriber#onNext(Object)}: subscribers copy out what they keep. Segments finding no demand are dropped and counted.
+ * </p>
+ * <p>
+ * {@link #loopback(FMODSystemRef, FMODSoundRef, long)} stands in for a device where there is none (ie {@code FMOD_OUTPUTTYPE_NOSOUND}),
+ * playing a looping sample sound silently and capturing it as if it was being recorded.
+ * </p>
+ *
+ * <p>For more details, refer to the FMOD Recording documentation:
+ * <a href="https://www.fmod.com/docs/2.03/api/core-api-system.html#system_recordstart">FMOD System::recordStart</a>
+ * </p>
+ */
+public final class FMODRecordingSession implements Flow.Publisher<FloatBuffer>, AutoCloseable {
+
+    private final class Subscription implements Flow.Subscription {
+        final Flow.Subscriber<? super FloatBuffer> subscriber;
+        final AtomicLong demand = new AtomicLong();
+
+        Subscription(Flow.Subscriber<? super FloatBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+        }
+
+        @Override public void cancel() {
+            subscriptions.remove(this);
+        }
+    }
+
+    private final FMODSystemRef system;
+    private final FMODSoundRef sound;
+    private final @Nullable FMODSound ownedSound;
+    private final @Nullable FMODChannel loopbackChannel;
+    private final int driverIndex, format, channels, bytesPerSample, lengthFrames;
+    private final float frequency;
+    private final ByteBuffer staging;
+    private final FloatBuffer samples;
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService poller;
+    private int lastPosition;
+    private volatile long segments, droppedSegments, frames;
+    private volatile boolean closed;
+
+    private FMODRecordingSession(FMODSystemRef system, FMODSoundRef sound, @Nullable FMODSound ownedSound, @Nullable FMODChannel loopbackChannel, int driverIndex, long pollPeriodNanos) {
+        Quadruplet<Integer> soundFormat = sound.getFormat();
+        this.system = system;
+        this.sound = sound;
+        this.ownedSound = ownedSound;
+        this.loopbackChannel = loopbackChannel;
+        this.driverIndex = driverIndex;
+        this.format = soundFormat.second();
+        this.channels = soundFormat.third();
+        this.bytesPerSample = switch (format) {
+            case FMOD_SOUND_FORMAT_PCM16 -> 2;
+            case FMOD_SOUND_FORMAT_PCMFLOAT -> 4;
+            default -> throw new IllegalArgumentException("Only PCM16 and PCMFLOAT sounds can be captured: " + format);
+        };
+        this.frequency = sound.getDefaults().first();
+        this.lengthFrames = sound.getLength(FMOD_TIMEUNIT_PCM);
+        this.staging = ByteBuffer.allocateDirect(lengthFrames * channels * bytesPerSample).order(ByteOrder.nativeOrder());
+        this.samples = ByteBuffer.allocateDirect(lengthFrames * channels * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        this.lastPosition = position();
+        this.poller = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("FMOD Recording").daemon().factory());
+        poller.scheduleAtFixedRate(this::poll, pollPeriodNanos, pollPeriodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /// Records a device into a looping float sound of bufferMillis, polled every pollPeriodNanos (a few milliseconds for low latency).
+    public static FMODRecordingSession record(FMODSystemRef system, int driverIndex, int sampleRate, int channels, int bufferMillis, long pollPeriodNanos) {
+        FMODCreateSoundExInfo exInfo = new FMODCreateSoundExInfo();
+        exInfo.format = FMOD_SOUND_FORMAT_PCMFLOAT;
+        exInfo.numchannels = channels;
+        exInfo.defaultfrequency = sampleRate;
+        exInfo.length = (int) ((long) sampleRate * bufferMillis / 1000) * channels * 4;
+        FMODSound sound = system.createSound((Pointer) null, FMOD_OPENUSER | FMOD_LOOP_NORMAL | FMOD_2D, exInfo);
+        try {
+            system.recordStart(driverIndex, sound, true);
+            return new FMODRecordingSession(system, sound, sound, null, driverIndex, pollPeriodNanos);
+        } catch (RuntimeException e) {
+            sound.close();
+            throw e;
+        }
+    }
+
+    /// Captures a looping sample sound played at volume 0 in place of a device, for headless setups without any recording driver.
+    public static FMODRecordingSession loopback(FMODSystemRef system, FMODSoundRef sound, long pollPeriodNanos) {
+        FMODChannel channel = system.playSound(sound, null, true);
+        try {
+            channel.setMode(FMOD_LOOP_NORMAL);
+            channel.setLoopCount(-1);
+            channel.setVolume(0);
+            FMODRecordingSession session = new FMODRecordingSession(system, sound, null, channel, -1, pollPeriodNanos);
+            channel.setPaused(false);
+            return session;
+        } catch (RuntimeException e) {
+            channel.stop();
+            throw e;
+        }
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public float getFrequency() {
+        return frequency;
+    }
+
+    // ---------------------------------------- //
+    // Publisher
+    // ---------------------------------------- //
+
+    /// Segments are delivered on the poller thread, the buffer holding interleaved samples from its position to its limit.
+    @Override public void subscribe(Flow.Subscriber<? super FloatBuffer> subscriber) {
+        Subscription subscription = new Subscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        if (closed) subscriber.onComplete();
+        else subscriptions.add(subscription);
+    }
+
+    /// Number of segments captured.
+    public long getSegments() {
+        return segments;
+    }
+
+    /// Number of segments dropped for subscribers without demand.
+    public long getDroppedSegments() {
+        return droppedSegments;
+    }
+
+    /// Number of frames captured.
+    public long getFrames() {
+        return frames;
+    }
+
+    // ---------------------------------------- //
+    // Capture (poller thread)
+    // ---------------------------------------- //
+
+    private int position() {
+        return loopbackChannel != null ? loopbackChannel.getPosition(FMOD_TIMEUNIT_PCM) : system.getRecordPosition(driverIndex);
+    }
+
+    private void poll() {
+        try {
+            int position = position();
+            int count = Math.floorMod(position - lastPosition, lengthFrames);
+            if (count == 0) return;
+            capture(lastPosition, count);
+            lastPosition = position;
+            publish(count);
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    /// Copies count frames from a frame offset of the sound into the sample buffer, the lock wrapping around the end if needed.
+    private void capture(int offset, int count) {
+        int frameBytes = channels * bytesPerSample;
+        Quadruple<Pointer, Pointer, Integer, Integer> lock = sound.lock(offset * frameBytes, count * frameBytes);
+        try {
+            staging.clear();
+            staging.put(lock.first().getByteBuffer(0, lock.third()));
+            if (lock.second() != null && lock.fourth() > 0) staging.put(lock.second().getByteBuffer(0, lock.fourth()));
+        } finally {
+            sound.unlock(lock.first(), lock.second(), lock.third(), lock.fourth());
+        }
+        samples.clear();
+        for (int i = 0, n = count * channels; i < n; i++)
+            samples.put(format == FMOD_SOUND_FORMAT_PCMFLOAT ? staging.getFloat(i * 4) : staging.getShort(i * 2) / 32768f);
+        samples.flip();
+    }
+
+    private void publish(int count) {
+        segments++;
+        frames += count;
+        for (Subscription subscription : subscriptions) {
+            if (subscription.demand.get() == 0) {
+                droppedSegments++;
+                continue;
+            }
+            subscription.demand.decrementAndGet();
+            samples.rewind();
+            try {
+                subscription.subscriber.onNext(samples);
+            } catch (Throwable t) {
+                subscription.cancel();
+                subscription.subscriber.onError(t);
+            }
+        }
+    }
+
+    private void fail(Throwable t) {
+        poller.shutdown();
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+            subscription.subscriber.onError(t);
+        }
+    }
+
+    // ---------------------------------------- //
+    // Lifecycle
+    // ---------------------------------------- //
+
+    /// Stops capturing, completes every subscriber and releases the record sound.
+    @Override public void close() {
+        if (closed) return;
+        closed = true;
+        poller.close(); // Waits for an ongoing poll
+        try {
+            if (loopbackChannel != null) loopbackChannel.stop();
+            else system.recordStop(driverIndex);
+        } finally {
+            if (ownedSound != null) ownedSound.close();
+            for (Subscription subscription : subscriptions) {
+                subscription.cancel();
+                subscription.subscriber.onComplete();
+            }
+        }
+    }
+}
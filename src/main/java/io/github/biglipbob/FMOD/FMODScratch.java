@@ -0,0 +1,37 @@
+package io.github.biglipbob.FMOD;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.*;
+
+/**
+ * Per-thread reusable out parameters, so that getters allocate neither a {@link ByReference} nor its native {@link Memory} on every call.
+ * <p>
+ * A scratch value is only valid until the next FMOD call made on the same thread: read it right after the call that filled it,
+ * and never hand one out of the method that borrowed it. Methods needing several out parameters of the same type use successive slots.
+ * </p>
+ */
+final class FMODScratch {
+
+    private static final ThreadLocal<FMODScratch> LOCAL = ThreadLocal.withInitial(FMODScratch::new);
+
+    final IntByReference int0 = new IntByReference(), int1 = new IntByReference(), int2 = new IntByReference(), int3 = new IntByReference();
+    final FloatByReference float0 = new FloatByReference(), float1 = new FloatByReference(), float2 = new FloatByReference();
+    final LongByReference long0 = new LongByReference(), long1 = new LongByReference(), long2 = new LongByReference();
+    final PointerByReference pointer0 = new PointerByReference(), pointer1 = new PointerByReference();
+
+    // Room for four FMOD_VECTORs (ie position, velocity, forward and up), pre-sliced
+    final Memory vectors = new Memory(48);
+    final Pointer vector0 = vectors, vector1 = vectors.share(12), vector2 = vectors.share(24), vector3 = vectors.share(36);
+
+    // Raw addresses for the FMODDirect entry points
+    final long int0Address = Pointer.nativeValue(int0.getPointer());
+    final long float0Address = Pointer.nativeValue(float0.getPointer());
+
+    private FMODScratch() {
+    }
+
+    /// Retrieves the calling thread's scratch.
+    static FMODScratch get() {
+        return LOCAL.get();
+    }
+}
@@ -22,7 +22,25 @@ public class FMODSound extends FMODSoundRef implements AutoCloseable {
 
     FMODSound(Pointer ptr) {
         super(ptr);
-        cleanable = CLEANER.register(this, () -> release(ptr));
+        FMODHandles.Handle handle = FMODHandles.register(this, ptr);
+        cleanable = CLEANER.register(this, () -> {
+            handle.released(); // Before releasing, so the address is never handed out dead
+            release(ptr);
+        });
+    }
+
+    /// Also runs the given action once the sound is released, ie to unmap the memory it points to.
+    FMODSound(Pointer ptr, Runnable onRelease) {
+        super(ptr);
+        FMODHandles.Handle handle = FMODHandles.register(this, ptr);
+        cleanable = CLEANER.register(this, () -> {
+            handle.released();
+            try {
+                release(ptr);
+            } finally {
+                onRelease.run();
+            }
+        });
     }
 
     private static void release(Pointer ptr) {
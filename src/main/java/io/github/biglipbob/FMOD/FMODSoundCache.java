@@ -0,0 +1,205 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODSoundCache} interns sounds by resource path, mode and extended info contents, so hot assets are decoded once.
+ * <p>
+ * Each {@link #acquire} hands out a {@link Lease} counting as a reference on the cached sound. Once the decoded footprint
+ * ({@code FMOD_TIMEUNIT_PCMBYTES}) of all entries exceeds the byte budget, the least recently used unreferenced sounds are released.
+ * Referenced sounds are never evicted, so the budget may be temporarily exceeded.
+ * Streams are not cached as a stream can only be played by one channel at a time.
+ * </p>
+ */
+public final class FMODSoundCache implements AutoCloseable {
+
+    /// The extended info is keyed by its written bytes, compared by content.
+    private record Key(String path, int mode, byte @Nullable [] exInfo) {
+        @Override public boolean equals(Object o) {
+            return o instanceof Key key && path.equals(key.path) && mode == key.mode && Arrays.equals(exInfo, key.exInfo);
+        }
+
+        @Override public int hashCode() {
+            return (path.hashCode() * 31 + mode) * 31 + Arrays.hashCode(exInfo);
+        }
+    }
+
+    private static final class Entry {
+        final Key key;
+        final CompletableFuture<FMODSound> loaded = new CompletableFuture<>();
+        long bytes;
+        int references;
+
+        Entry(Key key) {
+            this.key = key;
+        }
+    }
+
+    private final FMODSystemRef system;
+    private final long budgetBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // Access ordered, eldest first
+    private long totalBytes, hits, misses, evictions;
+
+    public FMODSoundCache(FMODSystemRef system, long budgetBytes) {
+        if (budgetBytes < 0) throw new IllegalArgumentException("Negative budget: " + budgetBytes);
+        this.system = system;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /// A reference on a cached sound, to be closed once no channel plays it anymore.
+    public final class Lease implements AutoCloseable {
+        private final Entry entry;
+        private final FMODSound sound;
+        private boolean closed;
+
+        private Lease(Entry entry, FMODSound sound) {
+            this.entry = entry;
+            this.sound = sound;
+        }
+
+        /// The cached sound, owned by the cache, only valid until the lease is closed.
+        public FMODSoundRef getSound() {
+            return sound;
+        }
+
+        /// Plays the cached sound on a Channel.
+        public FMODChannel play(@Nullable FMODChannelGroupRef group, boolean paused) {
+            return system.playSound(sound, group, paused);
+        }
+
+        @Override public void close() {
+            List<FMODSound> evicted;
+            synchronized (FMODSoundCache.this) {
+                if (closed) return;
+                closed = true;
+                entry.references--;
+                evicted = evict();
+            }
+            evicted.forEach(FMODSound::close);
+        }
+    }
+
+    // ---------------------------------------- //
+    // Lookups
+    // ---------------------------------------- //
+
+    /// Retrieves the cached sound, creating it if needed. Concurrent misses on the same key decode only once.
+    public Lease acquire(String path, int mode, @Nullable FMODCreateSoundExInfo exInfo) {
+        if ((mode & FMOD_CREATESTREAM) != 0) throw new IllegalArgumentException("Streams can't be shared");
+        Key key = new Key(path, mode, exInfo != null ? bytes(exInfo) : null);
+        Entry entry;
+        boolean loader = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                entries.put(key, entry = new Entry(key));
+                loader = true;
+            } else hits++;
+            entry.references++;
+        }
+        if (loader) load(entry, exInfo);
+
+        try {
+            return new Lease(entry, entry.loaded.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public Lease acquire(String path, int mode) {
+        return acquire(path, mode, null);
+    }
+
+    public Lease acquire(String path) {
+        return acquire(path, 0);
+    }
+
+    private void load(Entry entry, @Nullable FMODCreateSoundExInfo exInfo) {
+        FMODSound sound;
+        long bytes;
+        try {
+            sound = system.createSound(entry.key.path(), entry.key.mode(), exInfo);
+            bytes = Integer.toUnsignedLong(sound.getLength(FMOD_TIMEUNIT_PCMBYTES));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                entries.remove(entry.key, entry);
+            }
+            entry.loaded.completeExceptionally(e);
+            return;
+        }
+        List<FMODSound> evicted;
+        synchronized (this) {
+            entry.bytes = bytes;
+            totalBytes += bytes;
+            evicted = evict();
+        }
+        entry.loaded.complete(sound);
+        evicted.forEach(FMODSound::close);
+    }
+
+    /// Unlinks least recently used unreferenced entries until back under budget, the caller releases them outside the lock.
+    private List<FMODSound> evict() {
+        if (totalBytes <= budgetBytes) return List.of();
+        List<FMODSound> evicted = new ArrayList<>();
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext() && budgetBytes < totalBytes; ) {
+            Entry entry = it.next();
+            if (entry.references != 0 || !entry.loaded.isDone()) continue;
+            it.remove();
+            totalBytes -= entry.bytes;
+            evictions++;
+            evicted.add(entry.loaded.join());
+        }
+        return evicted;
+    }
+
+    private static byte[] bytes(FMODCreateSoundExInfo exInfo) {
+        exInfo.write();
+        return exInfo.getPointer().getByteArray(0, exInfo.size());
+    }
+
+    // ---------------------------------------- //
+    // Statistics
+    // ---------------------------------------- //
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /// Retrieves the decoded footprint of all cached sounds.
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /// Releases every cached sound, including those still leased.
+    @Override public void close() {
+        List<Entry> all;
+        synchronized (this) {
+            all = new ArrayList<>(entries.values());
+            entries.clear();
+            totalBytes = 0;
+        }
+        for (Entry entry : all) if (entry.loaded.isDone() && !entry.loaded.isCompletedExceptionally()) entry.loaded.join().close();
+    }
+}
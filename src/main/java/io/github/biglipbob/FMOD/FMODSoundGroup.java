@@ -22,7 +22,11 @@ public class FMODSoundGroup extends FMODSoundGroupRef implements AutoCloseable {
 
     FMODSoundGroup(Pointer ptr) {
         super(ptr);
-        cleanable = CLEANER.register(this, () -> release(ptr));
+        FMODHandles.Handle handle = FMODHandles.register(this, ptr);
+        cleanable = CLEANER.register(this, () -> {
+            handle.released(); // Before releasing, so the address is never handed out dead
+            release(ptr);
+        });
     }
 
     private static void release(Pointer ptr) {
@@ -6,6 +6,8 @@ import com.sun.jna.*;
 import static io.github.biglipbob.FMOD.FMODConstants.FMOD_OK;
 import static io.github.biglipbob.FMOD.FMOD.*;
 
+import org.jetbrains.annotations.*;
+
 /**
  * The {@code FMODSoundGroupRef} class is used for managing a collection of sounds as a group.
  * It allows volume adjustments, limits, and shared properties among sounds.
@@ -88,7 +90,7 @@ public class FMODSoundGroupRef {
         PointerByReference ref = new PointerByReference();
         int result = CALL.FMOD_SoundGroup_GetSound(ptr, index, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_SoundGroup_GetSound", result);
-        return new FMODSoundRef(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODSoundRef.class, FMODSoundRef::new);
     }
 
     public int getNumPlaying() {
@@ -123,18 +125,18 @@ public class FMODSoundGroupRef {
         PointerByReference ref = new PointerByReference();
         int result = CALL.FMOD_SoundGroup_GetSystemObject(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_SoundGroup_GetSystemObject", result);
-        return new FMODSystemRef(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODSystemRef.class, FMODSystemRef::new);
     }
 
-    Object getUserData() {
+    @Nullable Object getUserData() {
         PointerByReference ref = new PointerByReference();
         int result = CALL.FMOD_SoundGroup_GetUserData(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_SoundGroup_GetUserData", result);
-        return USERDATA.get(ref.getValue());
+        return USERDATA.get(Pointer.nativeValue(ref.getValue()));
     }
 
-    void setUserData(Object userdata) {
-        USERDATA.put(ptr, userdata);
+    void setUserData(@Nullable Object userdata) {
+        putUserData(ptr, userdata);
         int result = CALL.FMOD_SoundGroup_SetUserData(ptr, ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_SoundGroup_SetUserData", result);
     }
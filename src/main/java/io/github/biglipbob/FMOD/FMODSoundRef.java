@@ -1,5 +1,8 @@
 package io.github.biglipbob.FMOD;
 
+import java.lang.foreign.MemorySegment;
+import java.nio.*;
+
 import com.sun.jna.ptr.*;
 import com.sun.jna.*;
 import io.github.biglipbob.utils.*;
@@ -39,7 +42,8 @@ public class FMODSoundRef {
 
     /// Returns format information about the sound.
     public Quadruplet<Integer> getFormat() {
-        IntByReference typeRef = new IntByReference(), formatRef = new IntByReference(), channelsRef = new IntByReference(), bitsRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference typeRef = scratch.int0, formatRef = scratch.int1, channelsRef = scratch.int2, bitsRef = scratch.int3;
         int result = CALL.FMOD_Sound_GetFormat(ptr, typeRef, formatRef, channelsRef, bitsRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetFormat", result);
         return new Quadruplet<>(typeRef.getValue(), formatRef.getValue(), channelsRef.getValue(), bitsRef.getValue());
@@ -47,7 +51,7 @@ public class FMODSoundRef {
 
     /// Retrieves the length using the specified time unit.
     public int getLength(int lengthType) {
-        IntByReference lenRef = new IntByReference();
+        IntByReference lenRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetLength(ptr, lenRef, lengthType);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetLength", result);
         return lenRef.getValue();
@@ -60,14 +64,15 @@ public class FMODSoundRef {
 
     /// Retrieves the number of metadata tags.
     public Tuplet<Integer> getNumTags() {
-        IntByReference tagsRef = new IntByReference(), updatedRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference tagsRef = scratch.int0, updatedRef = scratch.int1;
         int result = CALL.FMOD_Sound_GetNumTags(ptr, tagsRef, updatedRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetNumTags", result);
         return new Tuplet<>(tagsRef.getValue(), updatedRef.getValue());
     }
 
     public int getNumTagsStored() {
-        IntByReference tagsRef = new IntByReference();
+        IntByReference tagsRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetNumTags(ptr, tagsRef, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetNumTags", result);
         return tagsRef.getValue();
@@ -75,7 +80,7 @@ public class FMODSoundRef {
 
     /// Extra: Retrieves the number of tags currently present.
     public int getNumTagsCurrent() {
-        IntByReference tagsRef = new IntByReference();
+        IntByReference tagsRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetNumTags(ptr, tagsRef, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetNumTags", result);
         return tagsRef.getValue();
@@ -83,7 +88,7 @@ public class FMODSoundRef {
 
     /// Extra: Retrieves the number of tags updated.
     public int getNumTagsUpdated() {
-        IntByReference updatedRef = new IntByReference();
+        IntByReference updatedRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetNumTags(ptr, null, updatedRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetNumTags", result);
         return updatedRef.getValue();
@@ -120,15 +125,16 @@ public class FMODSoundRef {
 
     /// Retrieves the default playback attributes of a sound.
     public Tuple<Float, Integer> getDefaults() {
-        FloatByReference freqRef = new FloatByReference();
-        IntByReference priorityRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference freqRef = scratch.float0;
+        IntByReference priorityRef = scratch.int0;
         int result = CALL.FMOD_Sound_GetDefaults(ptr, freqRef, priorityRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetDefaults", result);
         return new Tuple<>(freqRef.getValue(), priorityRef.getValue());
     }
 
     public float getFrequency() {
-        FloatByReference freqRef = new FloatByReference();
+        FloatByReference freqRef = FMODScratch.get().float0;
         int result = CALL.FMOD_Sound_GetDefaults(ptr, freqRef, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetDefaults", result);
         return freqRef.getValue();
@@ -136,7 +142,7 @@ public class FMODSoundRef {
 
     /// Retrieves the mode of a sound.
     public int getMode() {
-        IntByReference modeRef = new IntByReference();
+        IntByReference modeRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetMode(ptr, modeRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_getMode", result);
         return modeRef.getValue();
@@ -150,7 +156,7 @@ public class FMODSoundRef {
 
     /// Retrieves the loop count of a sound.
     public int getLoopCount() {
-        IntByReference loopRef = new IntByReference();
+        IntByReference loopRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetLoopCount(ptr, loopRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_getLoopCount", result);
         return loopRef.getValue();
@@ -170,7 +176,8 @@ public class FMODSoundRef {
 
     /// Retrieves the loop points of a sound.
     public Quadruplet<Integer> getLoopPoints() {
-        IntByReference loopStartRef = new IntByReference(), startTypeRef = new IntByReference(), loopEndRef = new IntByReference(), endTypeRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference loopStartRef = scratch.int0, startTypeRef = scratch.int1, loopEndRef = scratch.int2, endTypeRef = scratch.int3;
         int result = CALL.FMOD_Sound_GetLoopPoints(ptr, loopStartRef, startTypeRef, loopEndRef, endTypeRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_getLoopPoints", result);
         return new Quadruplet<>(loopStartRef.getValue(), startTypeRef.getValue(), loopEndRef.getValue(), endTypeRef.getValue());
@@ -205,10 +212,10 @@ public class FMODSoundRef {
 
     /// Retrieves the sound group of a sound.
     public FMODSoundGroupRef getSoundGroup() {
-        PointerByReference soundGroupRef = new PointerByReference();
+        PointerByReference soundGroupRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Sound_GetSoundGroup(ptr, soundGroupRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_getSoundGroup", result);
-        return new FMODSoundGroupRef(soundGroupRef.getValue());
+        return FMODHandles.intern(soundGroupRef.getValue(), FMODSoundGroupRef.class, FMODSoundGroupRef::new);
     }
 
     /// Sets the sound group of a sound.
@@ -219,7 +226,7 @@ public class FMODSoundRef {
 
     /// Retrieves the number of subsounds contained within a sound.
     public int getNumSubSounds() {
-        IntByReference subSoundsRef = new IntByReference();
+        IntByReference subSoundsRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetNumSubSounds(ptr, subSoundsRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_getNumSubSounds", result);
         return subSoundsRef.getValue();
@@ -227,19 +234,18 @@ public class FMODSoundRef {
 
     /// Retrieves a subsound by INDEX.
     public FMODSoundRef getSubSound(int index) {
-        PointerByReference subSoundRef = new PointerByReference();
+        PointerByReference subSoundRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Sound_GetSubSound(ptr, index, subSoundRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_getSubSound", result);
-        return new FMODSoundRef(subSoundRef.getValue());
+        return FMODHandles.intern(subSoundRef.getValue(), FMODSoundRef.class, FMODSoundRef::new);
     }
 
     /// Retrieves the parent sound of a subsound.
     public @Nullable FMODSoundRef getSubSoundParent() {
-        PointerByReference subSoundRef = new PointerByReference();
+        PointerByReference subSoundRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Sound_GetSubSoundParent(ptr, subSoundRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_getSubSoundParent", result);
-        Pointer value = subSoundRef.getValue();
-        return value != null ? new FMODSoundRef(value) : null;
+        return FMODHandles.intern(subSoundRef.getValue(), FMODSoundRef.class, FMODSoundRef::new);
     }
 
 
@@ -249,14 +255,15 @@ public class FMODSoundRef {
 
     /// Retrieves the open state of a sound.
     public Quadruple<Integer, Integer, Boolean, Boolean> getOpenState() {
-        IntByReference stateRef = new IntByReference(), percentRef = new IntByReference(), starvarRef = new IntByReference(), diskRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference stateRef = scratch.int0, percentRef = scratch.int1, starvarRef = scratch.int2, diskRef = scratch.int3;
         int result = CALL.FMOD_Sound_GetOpenState(ptr, stateRef, percentRef, starvarRef, diskRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetState", result);
         return new Quadruple<>(stateRef.getValue(), percentRef.getValue(), starvarRef.getValue() != 0, diskRef.getValue() != 0);
     }
 
     public int getOpenStateType() {
-        IntByReference stateRef = new IntByReference();
+        IntByReference stateRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetOpenState(ptr, stateRef, null, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetState", result);
         return stateRef.getValue();
@@ -266,7 +273,7 @@ public class FMODSoundRef {
     /// If too much data is read, it is possible FMOD_ERR_FILE_EOF will be returned, meaning it is out of data. The 'read' parameter will reflect this by returning a smaller number of bytes read than was requested.
     public byte[] readData(int length) {
         try (Memory buffer = new Memory(length)) {
-            IntByReference readRef = new IntByReference();
+            IntByReference readRef = FMODScratch.get().int0;
 
             int result = CALL.FMOD_Sound_ReadData(ptr, buffer.getPointer(0), length, readRef);
             if (result != FMOD_OK) throw new FMODException("FMOD_Sound_ReadData", result);
@@ -274,6 +281,36 @@ public class FMODSoundRef {
         }
     }
 
+    /// Reads data from a sound into the remaining space of a direct buffer, advancing its position.
+    /// Returns the number of bytes read, or -1 once out of data.
+    public int readData(ByteBuffer buffer) {
+        if (!buffer.isDirect()) throw new IllegalArgumentException("Buffer must be direct");
+        if (buffer.isReadOnly()) throw new ReadOnlyBufferException();
+        int read = readData(Pointer.nativeValue(Native.getDirectBufferPointer(buffer)) + buffer.position(), buffer.remaining());
+        if (0 < read) buffer.position(buffer.position() + read);
+        return read;
+    }
+
+    /// Reads data from a sound straight into a native segment, from its start.
+    /// Returns the number of bytes read, or -1 once out of data.
+    public int readData(MemorySegment segment) {
+        if (!segment.isNative()) throw new IllegalArgumentException("Segment must be native");
+        if (segment.isReadOnly()) throw new IllegalArgumentException("Segment is read-only");
+        return readData(segment.address(), (int) Math.min(segment.byteSize(), Integer.MAX_VALUE));
+    }
+
+    private int readData(long address, int length) {
+        if (length == 0) return 0;
+        IntByReference readRef = FMODScratch.get().int0;
+        int result = CALL.FMOD_Sound_ReadData(ptr, new Pointer(address), length, readRef);
+        if (result == FMOD_ERR_FILE_EOF) {
+            int read = readRef.getValue();
+            return read != 0 ? read : -1;
+        }
+        if (result != FMOD_OK) throw new FMODException("FMOD_Sound_ReadData", result);
+        return readRef.getValue();
+    }
+
     /// Seeks to a specific offset in a sound.
     public void seekData(int offset) {
         int result = CALL.FMOD_Sound_SeekData(ptr, offset);
@@ -282,8 +319,9 @@ public class FMODSoundRef {
 
     /// Locks a portion of the sound's sample data.
     public Quadruple<Pointer, Pointer, Integer, Integer> lock(int offset, int length) {
-        PointerByReference oneRef = new PointerByReference(), twoRef = new PointerByReference();
-        IntByReference oneLenRef = new IntByReference(), twoLenRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        PointerByReference oneRef = scratch.pointer0, twoRef = scratch.pointer1;
+        IntByReference oneLenRef = scratch.int0, twoLenRef = scratch.int1;
         int result = CALL.FMOD_Sound_Lock(ptr, offset, length, oneRef, twoRef, oneLenRef, twoLenRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_Lock", result);
         return new Quadruple<>(oneRef.getValue(), twoRef.getValue(), oneLenRef.getValue(), twoLenRef.getValue());
@@ -302,7 +340,7 @@ public class FMODSoundRef {
 
     /// Gets the number of music channels inside a music file.
     public int getMusicNumChannels() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetMusicNumChannels(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetMusicNumChannels", result);
         return ref.getValue();
@@ -316,7 +354,7 @@ public class FMODSoundRef {
 
     /// Retrieves the volume of a music channel.
     public float getMusicChannelVolume(int channelIndex) {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_Sound_GetMusicChannelVolume(ptr, channelIndex, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetMusicChannelVolume", result);
         return ref.getValue();
@@ -324,7 +362,7 @@ public class FMODSoundRef {
 
     /// Gets the relative speed of music.
     public float getMusicSpeed() {
-        FloatByReference ref = new FloatByReference();
+        FloatByReference ref = FMODScratch.get().float0;
         int result = CALL.FMOD_Sound_GetMusicSpeed(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetMusicSpeed", result);
         return ref.getValue();
@@ -343,7 +381,7 @@ public class FMODSoundRef {
 
     /// Retrieve a sync point.
     public FMODSyncPoint getSyncPoint(int index) {
-        PointerByReference syncPointRef = new PointerByReference();
+        PointerByReference syncPointRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Sound_GetSyncPoint(ptr, index, syncPointRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetSyncPoint", result);
         return new FMODSyncPoint(syncPointRef.getValue());
@@ -351,7 +389,7 @@ public class FMODSoundRef {
 
     /// Retrieves information on an embedded sync point.
     public int getSyncPointOffset(FMODSyncPoint syncPoint, int timeunit) {
-        IntByReference offsetRef = new IntByReference();
+        IntByReference offsetRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetSyncPointInfo(ptr, syncPoint.ptr, null, 0, offsetRef, timeunit);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetSyncPointInfo", result);
         return offsetRef.getValue();
@@ -364,7 +402,7 @@ public class FMODSoundRef {
 
     /// Retrieves the number of sync points stored within a sound.
     public int getNumSyncPoints() {
-        IntByReference syncPointsRef = new IntByReference();
+        IntByReference syncPointsRef = FMODScratch.get().int0;
         int result = CALL.FMOD_Sound_GetNumSyncPoints(ptr, syncPointsRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetNumSyncPoints", result);
         return syncPointsRef.getValue();
@@ -372,7 +410,7 @@ public class FMODSoundRef {
 
     /// Adds a sync point at a specific time within the sound.
     public FMODSyncPoint addSyncPoint(int offset, int timeunit, String name) {
-        PointerByReference syncPointRef = new PointerByReference();
+        PointerByReference syncPointRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Sound_AddSyncPoint(ptr, offset, timeunit, name, syncPointRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_AddSyncPoint", result);
         return new FMODSyncPoint(syncPointRef.getValue());
@@ -406,23 +444,23 @@ public class FMODSoundRef {
 
     /// Retrieves the parent System object.
     public FMODSystemRef getSystem() {
-        PointerByReference ref = new PointerByReference();
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Sound_GetSystemObject(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetSystemObject", result);
-        return new FMODSystemRef(ref.getValue());
+        return FMODHandles.intern(ref.getValue(), FMODSystemRef.class, FMODSystemRef::new);
     }
 
     /// Retrieves a user value associated with this object.
-    Object getUserData() {
-        PointerByReference ref = new PointerByReference();
+    @Nullable Object getUserData() {
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_Sound_GetUserData(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_GetUserData", result);
-        return USERDATA.get(ref.getValue());
+        return USERDATA.get(Pointer.nativeValue(ref.getValue()));
     }
 
     /// Sets a user value associated with this object.
-    void setUserData(Object userdata) {
-        USERDATA.put(ptr, userdata);
+    void setUserData(@Nullable Object userdata) {
+        putUserData(ptr, userdata);
         int result = CALL.FMOD_Sound_SetUserData(ptr, ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_Sound_SetUserData", result);
     }
@@ -0,0 +1,314 @@
+package io.github.biglipbob.FMOD;
+
+import java.util.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODSpatialVoiceManager} culls 3D emitters on the Java side, so only the audible ones ever hold an FMOD channel.
+ * <p>
+ * Emitters are indexed in a uniform grid of cubic cells. Every {@link #update()} gathers the emitters in the cells around each listener,
+ * estimates their audibility from their volume and an inverse roll-off between their minimum and maximum distance,
+ * and plays the loudest ones up to the voice budget. Emitters out of range, under the audibility threshold or over budget stay virtual:
+ * plain Java records costing neither FFI calls nor FMOD virtual voices. Real voices get their attributes pushed through an {@link FMODEmitterBatch}.
+ * </p>
+ * <p>
+ * A voice losing its channel restarts from the beginning when it becomes real again; one-shot emitters are dropped once they finish playing.
+ * This class is not thread-safe, drive it from the thread updating the game world.
+ * </p>
+ */
+public final class FMODSpatialVoiceManager {
+
+    /// A sound source, virtual until audible enough to get a channel.
+    public static final class Emitter {
+        final FMODSoundRef sound;
+        final boolean looping;
+        float x, y, z, minDistance, maxDistance, volume;
+        long cell;
+        int cellIndex, slot = -1;
+        long frame; // Last update it was a candidate in
+        float audibility;
+        boolean removed;
+
+        private Emitter(FMODSoundRef sound, boolean looping) {
+            this.sound = sound;
+            this.looping = looping;
+        }
+
+        public boolean isVirtual() {
+            return slot < 0;
+        }
+
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        /// Estimated audibility as of the last update, 0 when culled by distance.
+        public float getAudibility() {
+            return audibility;
+        }
+    }
+
+    private final FMODSystemRef system;
+    private final @Nullable FMODChannelGroupRef group;
+    private final float cellSize;
+    private final FMODEmitterBatch batch;
+    private final Emitter[] voices; // By batch slot
+    private final int[] freeSlots;
+    private int freeCount;
+    private final Map<Long, ArrayList<Emitter>> cells = new HashMap<>();
+    private float[] listeners = new float[3]; // {x, y, z} per listener
+    private int listenerCount = 1;
+    private float range; // Largest maximum distance of any emitter
+    private float audibilityThreshold = 0.001f;
+    private Emitter[] candidates = new Emitter[64];
+    private final Emitter[] promoted;
+    private long frame;
+    private int emitterCount;
+
+    /// Manages up to maxVoices real channels played into the group (null for the master group), indexing emitters in cells of cellSize.
+    public FMODSpatialVoiceManager(FMODSystemRef system, @Nullable FMODChannelGroupRef group, float cellSize, int maxVoices) {
+        if (cellSize <= 0 || maxVoices <= 0) throw new IllegalArgumentException("Sizes must be positive");
+        this.system = system;
+        this.group = group;
+        this.cellSize = cellSize;
+        this.batch = new FMODEmitterBatch(system, maxVoices);
+        this.voices = new Emitter[maxVoices];
+        this.promoted = new Emitter[maxVoices];
+        this.freeSlots = new int[maxVoices];
+        for (int slot = 0; slot < maxVoices; slot++) freeSlots[freeCount++] = maxVoices - 1 - slot;
+    }
+
+    /// Emitters estimated quieter than this are never played, defaults to 0.001 (-60dB).
+    public void setAudibilityThreshold(float threshold) {
+        this.audibilityThreshold = threshold;
+    }
+
+    public int getEmitterCount() {
+        return emitterCount;
+    }
+
+    public int getRealVoiceCount() {
+        return voices.length - freeCount;
+    }
+
+    // ---------------------------------------- //
+    // Listeners
+    // ---------------------------------------- //
+
+    /// Sets a 3D listener on the system and as a culling origin, as {x, y, z} triplets (vel, forward and up may be null to leave them unchanged).
+    public void setListener(int listener, float[] pos, float @Nullable [] vel, float @Nullable [] forward, float @Nullable [] up) {
+        system.set3DListenerAttributes(listener, pos, vel, forward, up);
+        if (listenerCount <= listener) {
+            listeners = Arrays.copyOf(listeners, (listener + 1) * 3);
+            listenerCount = listener + 1;
+            system.set3DNumListeners(listenerCount);
+        }
+        System.arraycopy(pos, 0, listeners, listener * 3, 3);
+    }
+
+    // ---------------------------------------- //
+    // Emitters
+    // ---------------------------------------- //
+
+    /// Adds a virtual emitter, looping sounds keep it around until removed.
+    public Emitter add(FMODSoundRef sound, float x, float y, float z, float minDistance, float maxDistance, float volume) {
+        if (minDistance <= 0 || maxDistance < minDistance) throw new IllegalArgumentException("Invalid distances: " + minDistance + ", " + maxDistance);
+        Emitter emitter = new Emitter(sound, (sound.getMode() & (FMOD_LOOP_NORMAL | FMOD_LOOP_BIDI)) != 0);
+        emitter.minDistance = minDistance;
+        emitter.maxDistance = maxDistance;
+        emitter.volume = volume;
+        range = Math.max(range, maxDistance);
+        place(emitter, x, y, z);
+        emitterCount++;
+        return emitter;
+    }
+
+    /// Moves an emitter, only its grid cell is touched until the next update.
+    public void move(Emitter emitter, float x, float y, float z) {
+        if (emitter.removed) return;
+        long cell = cellOf(x, y, z);
+        if (cell != emitter.cell) {
+            unplace(emitter);
+            place(emitter, x, y, z);
+            return;
+        }
+        emitter.x = x;
+        emitter.y = y;
+        emitter.z = z;
+    }
+
+    /// Sets the volume of an emitter, applied right away to its channel if real.
+    public void setVolume(Emitter emitter, float volume) {
+        emitter.volume = volume;
+        FMODChannel channel = emitter.isVirtual() ? null : batch.getChannel(emitter.slot);
+        if (channel == null) return;
+        try {
+            channel.setVolume(volume);
+        } catch (FMODException e) { // Finished or stolen since, reclaimed on the next update
+            if (e.getCode() != FMOD_ERR_INVALID_HANDLE && e.getCode() != FMOD_ERR_CHANNEL_STOLEN) throw e;
+        }
+    }
+
+    /// Removes an emitter, stopping its channel if real.
+    public void remove(Emitter emitter) {
+        if (emitter.removed) return;
+        if (!emitter.isVirtual()) demote(emitter);
+        unplace(emitter);
+        emitter.removed = true;
+        emitterCount--;
+    }
+
+    private void place(Emitter emitter, float x, float y, float z) {
+        emitter.x = x;
+        emitter.y = y;
+        emitter.z = z;
+        emitter.cell = cellOf(x, y, z);
+        ArrayList<Emitter> members = cells.computeIfAbsent(emitter.cell, key -> new ArrayList<>());
+        emitter.cellIndex = members.size();
+        members.add(emitter);
+    }
+
+    private void unplace(Emitter emitter) {
+        ArrayList<Emitter> members = cells.get(emitter.cell);
+        Emitter last = members.removeLast(); // Swap-remove
+        if (last != emitter) {
+            members.set(emitter.cellIndex, last);
+            last.cellIndex = emitter.cellIndex;
+        }
+        if (members.isEmpty()) cells.remove(emitter.cell);
+    }
+
+    private long cellOf(float x, float y, float z) {
+        return key((int) Math.floor(x / cellSize), (int) Math.floor(y / cellSize), (int) Math.floor(z / cellSize));
+    }
+
+    private static long key(int cx, int cy, int cz) {
+        return ((cx & 0x1FFFFFL) << 42) | ((cy & 0x1FFFFFL) << 21) | (cz & 0x1FFFFFL);
+    }
+
+    // ---------------------------------------- //
+    // Update
+    // ---------------------------------------- //
+
+    /// Culls and ranks emitters around the listeners, then plays, stops and moves channels accordingly. Call once per frame.
+    public void update() {
+        frame++;
+        reclaimFinished();
+
+        int count = gather();
+        Arrays.sort(candidates, 0, count, (a, b) -> Float.compare(b.audibility, a.audibility));
+        int selected = Math.min(count, voices.length);
+        for (int i = selected; i < count; i++) candidates[i].frame = 0; // Over budget, losing their voice if any
+
+        for (int slot = 0; slot < voices.length; slot++) {
+            Emitter voice = voices[slot];
+            if (voice != null && voice.frame != frame) demote(voice);
+        }
+
+        int promotions = 0;
+        for (int i = 0; i < selected; i++) {
+            Emitter emitter = candidates[i];
+            if (emitter.isVirtual() && promote(emitter)) promoted[promotions++] = emitter;
+            if (!emitter.isVirtual()) batch.setPosition(emitter.slot, emitter.x, emitter.y, emitter.z);
+        }
+        Arrays.fill(candidates, 0, count, null);
+
+        batch.apply();
+        for (int i = 0; i < promotions; i++) {
+            FMODChannel channel = batch.getChannel(promoted[i].slot);
+            if (channel != null) channel.setPaused(false); // Only audible once positioned
+            promoted[i] = null;
+        }
+    }
+
+    /// Frees the voices whose channel ended, dropping one-shot emitters for good.
+    private void reclaimFinished() {
+        for (int slot = 0; slot < voices.length; slot++) {
+            Emitter voice = voices[slot];
+            if (voice == null) continue;
+            FMODChannel channel = batch.getChannel(slot);
+            if (channel != null && channel.isValid()) continue;
+            release(voice);
+            if (!voice.looping) remove(voice);
+        }
+    }
+
+    /// Collects the audible emitters near any listener into the candidates, returns how many.
+    private int gather() {
+        int count = 0;
+        int reach = (int) Math.ceil(range / cellSize);
+        long volume = (2L * reach + 1) * (2L * reach + 1) * (2L * reach + 1);
+        if (listenerCount * volume > cells.size()) { // Sparse world, cheaper to visit every cell
+            for (ArrayList<Emitter> members : cells.values()) count = gather(members, count);
+            return count;
+        }
+        for (int listener = 0; listener < listenerCount; listener++) {
+            int lx = (int) Math.floor(listeners[listener * 3] / cellSize), ly = (int) Math.floor(listeners[listener * 3 + 1] / cellSize), lz = (int) Math.floor(listeners[listener * 3 + 2] / cellSize);
+            for (int cx = lx - reach; cx <= lx + reach; cx++)
+                for (int cy = ly - reach; cy <= ly + reach; cy++)
+                    for (int cz = lz - reach; cz <= lz + reach; cz++) {
+                        ArrayList<Emitter> members = cells.get(key(cx, cy, cz));
+                        if (members != null) count = gather(members, count);
+                    }
+        }
+        return count;
+    }
+
+    private int gather(ArrayList<Emitter> members, int count) {
+        for (int i = 0, n = members.size(); i < n; i++) {
+            Emitter emitter = members.get(i);
+            if (emitter.frame == frame) continue; // Already seen from another listener
+            emitter.audibility = audibility(emitter);
+            if (emitter.audibility < audibilityThreshold || emitter.audibility == 0) continue;
+            emitter.frame = frame;
+            if (count == candidates.length) candidates = Arrays.copyOf(candidates, count * 2);
+            candidates[count++] = emitter;
+        }
+        return count;
+    }
+
+    /// Volume attenuated by FMOD's default inverse roll-off from the closest listener, 0 past the maximum distance.
+    private float audibility(Emitter emitter) {
+        float closest = Float.MAX_VALUE;
+        for (int listener = 0; listener < listenerCount; listener++) {
+            float dx = emitter.x - listeners[listener * 3], dy = emitter.y - listeners[listener * 3 + 1], dz = emitter.z - listeners[listener * 3 + 2];
+            closest = Math.min(closest, dx * dx + dy * dy + dz * dz);
+        }
+        if (emitter.maxDistance * emitter.maxDistance < closest) return 0;
+        float distance = (float) Math.sqrt(closest);
+        return emitter.volume * Math.min(1, emitter.minDistance / distance);
+    }
+
+    private boolean promote(Emitter emitter) {
+        if (freeCount == 0) return false;
+        FMODChannel channel = system.playSound(emitter.sound, group, true);
+        try {
+            channel.setVolume(emitter.volume);
+            channel.set3DMinMaxDistance(emitter.minDistance, emitter.maxDistance);
+        } catch (RuntimeException e) {
+            channel.tryStop(); // Still paused, never handed a slot
+            throw e;
+        }
+        int slot = freeSlots[--freeCount];
+        voices[slot] = emitter;
+        emitter.slot = slot;
+        batch.setChannel(slot, channel);
+        return true;
+    }
+
+    private void demote(Emitter emitter) {
+        FMODChannel channel = batch.getChannel(emitter.slot);
+        if (channel != null) channel.tryStop();
+        release(emitter);
+    }
+
+    private void release(Emitter emitter) {
+        batch.setChannel(emitter.slot, null);
+        voices[emitter.slot] = null;
+        freeSlots[freeCount++] = emitter.slot;
+        emitter.slot = -1;
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.biglipbob.FMOD;
+
+import java.nio.FloatBuffer;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.*;
+import static io.github.biglipbob.FMOD.FMOD.*;
+
+/**
+ * The {@code FMODSpectrumReader} class polls the spectrum of an FFT DSP into caller provided arrays, without reflection nor allocation.
+ * <p>
+ * Unlike {@link FMODSpectrumData}, the FMOD_DSP_PARAMETER_FFT block is read in place through retargeted pointers:
+ * its length and channel count, then each channel's bins straight into the destination. Spectra may also be reduced to
+ * log-spaced bands with an optional decaying peak hold, see {@link #withBands}.
+ * </p>
+ * <p>
+ * A reader reuses its out parameters and staging arrays, so it must only be polled by one thread at a time.
+ * </p>
+ */
+public final class FMODSpectrumReader {
+
+    private static final int SPECTRUM_OFFSET = 8; // int length, int numchannels, float *spectrum[32]
+    private static final int MAX_CHANNELS = 32;
+
+    private final FMODDSPRef dsp;
+    private final PointerByReference dataRef = new PointerByReference();
+    private final IntByReference lengthRef = new IntByReference();
+    private final long dataAddress = Pointer.nativeValue(dataRef.getPointer()), lengthAddress = Pointer.nativeValue(lengthRef.getPointer());
+    private final Pointer block = new Pointer(0), bins = new Pointer(0); // Retargeted onto the parameter block and a channel's bins
+    private int length, channels;
+    private float[] staging = new float[0];
+
+    // Band reduction, unused until configured
+    private int bandCount;
+    private float minFrequency, maxFrequency, sampleRate, peakDecay;
+    private int[] bandStarts = new int[0]; // bandCount + 1 bin boundaries, for bandsLength bins
+    private int bandsLength = -1;
+    private float[][] peaks = new float[0][];
+
+    public FMODSpectrumReader(FMODDSPRef dsp) {
+        this.dsp = dsp;
+    }
+
+    /// Fetches the latest spectrum block, returns the number of bins per channel (0 until the DSP processed a first window).
+    public int poll() {
+        int result = DIRECT
+                ? FMODDirect.FMOD_DSP_GetParameterData(Pointer.nativeValue(dsp.ptr), FMOD_DSP_FFT_SPECTRUMDATA, dataAddress, lengthAddress, null, 0)
+                : CALL.FMOD_DSP_GetParameterData(dsp.ptr, FMOD_DSP_FFT_SPECTRUMDATA, dataRef, lengthRef, null, 0);
+        if (result != FMOD_OK) throw new FMODException("FMOD_DSP_GetParameterData", result);
+        long address = Native.POINTER_SIZE == 8 ? dataRef.getPointer().getLong(0) : dataRef.getPointer().getInt(0) & 0xFFFFFFFFL;
+        if (address == 0) return length = channels = 0;
+        Pointer.nativeValue(block, address);
+        length = block.getInt(0);
+        channels = Math.min(block.getInt(4), MAX_CHANNELS);
+        return length;
+    }
+
+    /// Number of bins per channel of the last poll.
+    public int getLength() {
+        return length;
+    }
+
+    /// Number of channels of the last poll.
+    public int getChannels() {
+        return channels;
+    }
+
+    /// Polls then copies each channel's bins into the matching row, as many as fit. Returns the number of bins per channel.
+    public int read(float[][] out) {
+        poll();
+        for (int channel = 0; channel < Math.min(channels, out.length); channel++)
+            bins(channel).read(0, out[channel], 0, Math.min(length, out[channel].length));
+        return length;
+    }
+
+    /// Polls then puts every channel's bins one after another into the remaining space of a buffer, advancing its position.
+    /// Returns the number of bins per channel.
+    public int read(FloatBuffer out) {
+        poll();
+        if (out.remaining() < length * channels) throw new IllegalArgumentException("Buffer too small: " + out.remaining() + " < " + length * channels);
+        float[] values = staging(length);
+        for (int channel = 0; channel < channels; channel++) {
+            bins(channel).read(0, values, 0, length);
+            out.put(values, 0, length);
+        }
+        return length;
+    }
+
+    /// Points at the bins of a channel of the last polled block.
+    private Pointer bins(int channel) {
+        long address = Native.POINTER_SIZE == 8
+                ? block.getLong(SPECTRUM_OFFSET + 8L * channel)
+                : block.getInt(SPECTRUM_OFFSET + 4L * channel) & 0xFFFFFFFFL;
+        Pointer.nativeValue(bins, address);
+        return bins;
+    }
+
+    private float[] staging(int length) {
+        if (staging.length < length) staging = new float[length];
+        return staging;
+    }
+
+    // ---------------------------------------- //
+    // Bands
+    // ---------------------------------------- //
+
+    /// Reduces spectra to count log-spaced bands between two frequencies for {@link #readBands(float[][])}, sampleRate being the mixer's.
+    /// Each band holds its loudest bin; with a peakDecay in (0, 1) a band falls to at most peakDecay times its previous value per read.
+    public FMODSpectrumReader withBands(int count, float minFrequency, float maxFrequency, float sampleRate, float peakDecay) {
+        if (count <= 0) throw new IllegalArgumentException("Band count must be positive");
+        if (!(0 < minFrequency && minFrequency < maxFrequency)) throw new IllegalArgumentException("Invalid frequency range");
+        if (!(0 <= peakDecay && peakDecay < 1)) throw new IllegalArgumentException("Peak decay must be in [0, 1)");
+        this.bandCount = count;
+        this.minFrequency = minFrequency;
+        this.maxFrequency = maxFrequency;
+        this.sampleRate = sampleRate;
+        this.peakDecay = peakDecay;
+        this.bandStarts = new int[count + 1];
+        this.bandsLength = -1;
+        this.peaks = new float[MAX_CHANNELS][count];
+        return this;
+    }
+
+    /// Polls then reduces each channel into the band count first slots of the matching row. Returns the number of channels read.
+    public int readBands(float[][] out) {
+        if (bandCount == 0) throw new IllegalStateException("Bands are not configured");
+        poll();
+        if (length == 0) return 0;
+        if (bandsLength != length) computeBandStarts();
+        float[] values = staging(length);
+        int read = Math.min(channels, out.length);
+        for (int channel = 0; channel < read; channel++) {
+            bins(channel).read(0, values, 0, length);
+            float[] bands = out[channel], peak = peaks[channel];
+            for (int band = 0; band < bandCount; band++) {
+                float max = 0;
+                for (int bin = bandStarts[band]; bin < bandStarts[band + 1]; bin++) max = Math.max(max, values[bin]);
+                if (0 < peakDecay) max = peak[band] = Math.max(max, peak[band] * peakDecay);
+                bands[band] = max;
+            }
+        }
+        return read;
+    }
+
+    /// Splits the bins below Nyquist into log-spaced bands, every band covering at least one bin while some are left.
+    private void computeBandStarts() {
+        float binWidth = sampleRate / length; // A window of length entries spans the whole sample rate, mirrored past its middle
+        int nyquist = length / 2;
+        double ratio = maxFrequency / minFrequency;
+        int previous = 0;
+        for (int band = 0; band <= bandCount; band++) {
+            double frequency = minFrequency * Math.pow(ratio, (double) band / bandCount);
+            int start = Math.min(nyquist, (int) Math.round(frequency / binWidth));
+            if (0 < band) start = Math.max(start, Math.min(nyquist, previous + 1));
+            bandStarts[band] = previous = start;
+        }
+        bandsLength = length;
+    }
+}
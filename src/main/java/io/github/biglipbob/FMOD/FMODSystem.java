@@ -3,6 +3,8 @@ package io.github.biglipbob.FMOD;
 import java.lang.ref.Cleaner;
 import com.sun.jna.Pointer;
 
+import org.jetbrains.annotations.*;
+
 import static io.github.biglipbob.FMOD.FMODConstants.FMOD_OK;
 import static io.github.biglipbob.FMOD.FMOD.*;
 
@@ -19,10 +21,16 @@ import static io.github.biglipbob.FMOD.FMOD.*;
  */
 public class FMODSystem extends FMODSystemRef implements AutoCloseable {
     final Cleaner.Cleanable cleanable;
+    private volatile @Nullable FMODCommandQueue commands;
+    private volatile @Nullable FMODCallbackQueue callbacks;
 
     FMODSystem(Pointer ptr) {
         super(ptr);
-        cleanable = CLEANER.register(this, () -> release(ptr));
+        FMODHandles.Handle handle = FMODHandles.register(this, ptr);
+        cleanable = CLEANER.register(this, () -> {
+            handle.released(); // Before releasing, so the address is never handed out dead
+            release(ptr);
+        });
     }
 
     /// Closes and frees this object and its resources.
@@ -33,9 +41,50 @@ public class FMODSystem extends FMODSystemRef implements AutoCloseable {
             result = CALL.FMOD_System_Release(ptr);
         }
         if (result != FMOD_OK) throw new FMODException("FMOD_System_Release", result);
+        FMODFileSystem.install(ptr, null);
+    }
+
+    // ---------------------------------------- //
+    // Owner thread
+    // ---------------------------------------- //
+
+    /// Hands this system over to a dedicated owner thread, which runs the queued commands then updates FMOD every period.
+    public synchronized FMODCommandQueue startOwnerThread(int capacity, long updatePeriodNanos) {
+        if (commands != null) throw new IllegalStateException("Owner thread already started");
+        FMODCommandQueue queue = new FMODCommandQueue(capacity);
+        queue.owner = Thread.ofPlatform().name("FMOD System Owner").daemon().unstarted(() -> queue.run(this, updatePeriodNanos));
+        commands = queue;
+        queue.owner.start();
+        return queue;
+    }
+
+    /// Retrieves the command queue of the owner thread, if started.
+    public @Nullable FMODCommandQueue getCommandQueue() {
+        return commands;
+    }
+
+    /// Delivers the events of a callback queue right after each update, on the updating thread.
+    public void setCallbackQueue(FMODCallbackQueue queue) {
+        queue.claim();
+        callbacks = queue;
+    }
+
+    /// Runs the queued commands then updates the FMOD system, only the owner thread may do so once started.
+    @Override public void update() {
+        FMODCommandQueue queue = commands;
+        if (queue != null) {
+            if (Thread.currentThread() != queue.owner) throw new IllegalStateException("Updated by its owner thread only");
+            queue.drain();
+            if (queue.shutdown) return;
+        }
+        super.update();
+        FMODCallbackQueue callbacks = this.callbacks;
+        if (callbacks != null) callbacks.deliverPending(); // Channel callbacks mostly fire during the update
     }
 
     @Override public void close() {
+        FMODCommandQueue queue = commands;
+        if (queue != null) queue.stop(); // No more calls may reach the system past this point
         cleanable.clean();
     }
 }
\ No newline at end of file
@@ -1,5 +1,12 @@
 package io.github.biglipbob.FMOD;
 
+import java.io.*;
+import java.lang.foreign.*;
+import java.lang.ref.Reference;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
 import com.sun.jna.*;
 import com.sun.jna.ptr.*;
 
@@ -28,7 +35,7 @@ public class FMODSystemRef {
 
     /// Updates the FMOD system.
     public void update() {
-        int result = CALL.FMOD_System_Update(ptr);
+        int result = DIRECT ? FMODDirect.FMOD_System_Update(Pointer.nativeValue(ptr)) : CALL.FMOD_System_Update(ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_Update", result);
     }
 
@@ -75,7 +82,7 @@ public class FMODSystemRef {
 
     /// Retrieves the maximum number of software mixed Channels possible.
     public int getSoftwareChannels() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_System_GetSoftwareChannels(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetSoftwareChannels", result);
         return ref.getValue();
@@ -95,7 +102,8 @@ public class FMODSystemRef {
 
     /// Retrieves the output format for the software mixer.
     public Triplet<Integer> getSoftwareFormat() {
-        IntByReference rateRef = new IntByReference(), modeRef = new IntByReference(), rawRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference rateRef = scratch.int0, modeRef = scratch.int1, rawRef = scratch.int2;
         int result = CALL.FMOD_System_GetSoftwareFormat(ptr, rateRef, modeRef, rawRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetSoftwareFormat", result);
         return new Triplet<>(rateRef.getValue(), modeRef.getValue(), rawRef.getValue());
@@ -108,7 +116,7 @@ public class FMODSystemRef {
 
     /// Extra: Retrieves the software format rate.
     public int getSampleRate() {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_System_GetSoftwareFormat(ptr, ref, null, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetSoftwareFormat", result);
         return ref.getValue();
@@ -122,7 +130,8 @@ public class FMODSystemRef {
 
     /// Retrieves the buffer size settings for the FMOD software mixing engine.
     public Tuplet<Integer> getDSPBufferSize() {
-        IntByReference sizeRef = new IntByReference(), numRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference sizeRef = scratch.int0, numRef = scratch.int1;
         int result = CALL.FMOD_System_GetDSPBufferSize(ptr, sizeRef, numRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetDSPBufferSize", result);
         return new Tuplet<>(sizeRef.getValue(), numRef.getValue());
@@ -130,7 +139,7 @@ public class FMODSystemRef {
 
     /// Retrieves the buffer length for the FMOD software mixing engine.
     public int getDSPBufferLength() {
-        IntByReference sizeRef = new IntByReference();
+        IntByReference sizeRef = FMODScratch.get().int0;
         int result = CALL.FMOD_System_GetDSPBufferSize(ptr, sizeRef, null);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetDSPBufferSize", result);
         return sizeRef.getValue();
@@ -138,7 +147,7 @@ public class FMODSystemRef {
 
     /// Retrieves the buffer length for the FMOD software mixing engine.
     public int getDSPBufferCount() {
-        IntByReference countRef = new IntByReference();
+        IntByReference countRef = FMODScratch.get().int0;
         int result = CALL.FMOD_System_GetDSPBufferSize(ptr, null, countRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetDSPBufferSize", result);
         return countRef.getValue();
@@ -152,7 +161,8 @@ public class FMODSystemRef {
 
     /// Retrieves the default file buffer size for newly opened streams.
     public int getStreamBufferSize() {
-        IntByReference size = new IntByReference(), type = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference size = scratch.int0, type = scratch.int1;
         int result = CALL.FMOD_System_GetStreamBufferSize(ptr, size, type);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetStreamBufferSize", result);
         if (type.getValue() != FMOD_TIMEUNIT_RAWBYTES)
@@ -189,24 +199,42 @@ public class FMODSystemRef {
 
     /// Retrieves the position of the specified speaker for the current speaker mode.
     public Triple<Float, Float, Boolean> getSpeakerPosition(int speaker) {
-        FloatByReference x = new FloatByReference(), y = new FloatByReference();
-        IntByReference active = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference x = scratch.float0, y = scratch.float1;
+        IntByReference active = scratch.int0;
         int result = CALL.FMOD_System_GetSpeakerPosition(ptr, speaker, x, y, active);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetSpeakerPosition", result);
         return new Triple<>(x.getValue(), y.getValue(), active.getValue() != 0);
     }
 
     /// Sets the global 3D settings.
-    // stub: public void set3DSettings(float dopplerScale, float distanceFactor, float rolloffScale) { }
+    public void set3DSettings(float dopplerScale, float distanceFactor, float rolloffScale) {
+        int result = CALL.FMOD_System_Set3DSettings(ptr, dopplerScale, distanceFactor, rolloffScale);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_Set3DSettings", result);
+    }
 
     /// Retrieves the global 3D settings.
-    // stub: public Triplet<Float> get3DSettings() { return null; }
+    public Triplet<Float> get3DSettings() {
+        FMODScratch scratch = FMODScratch.get();
+        FloatByReference dopplerRef = scratch.float0, distanceRef = scratch.float1, rolloffRef = scratch.float2;
+        int result = CALL.FMOD_System_Get3DSettings(ptr, dopplerRef, distanceRef, rolloffRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_Get3DSettings", result);
+        return new Triplet<>(dopplerRef.getValue(), distanceRef.getValue(), rolloffRef.getValue());
+    }
 
     /// Sets the number of 3D listeners.
-    // stub: public void set3DNumListeners(int numListeners) { }
+    public void set3DNumListeners(int numListeners) {
+        int result = CALL.FMOD_System_Set3DNumListeners(ptr, numListeners);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_Set3DNumListeners", result);
+    }
 
     /// Retrieves the number of 3D listeners.
-    // stub: public int get3DNumListeners() { return 0; }
+    public int get3DNumListeners() {
+        IntByReference listenersRef = FMODScratch.get().int0;
+        int result = CALL.FMOD_System_Get3DNumListeners(ptr, listenersRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_Get3DNumListeners", result);
+        return listenersRef.getValue();
+    }
 
     /// Sets a callback to allow custom calculation of distance attenuation.
     // stub: public void set3DRolloffCallback(Callback callback) { }
@@ -215,8 +243,21 @@ public class FMODSystemRef {
     // File system setup
     // ---------------------------------------- //
 
-    /// Set callbacks to implement all file I/O instead of using the platform native method.
-    // stub: public void setFileSystem(/* parameters */) { }
+    /// Set callbacks to implement all file I/O instead of using the platform native method, null restores FMOD's own.
+    /// Must be called before creating any sound, blockAlign being the alignment of reads in bytes (-1 for FMOD's default).
+    public void setFileSystem(@Nullable FMODFileSystem fileSystem, int blockAlign) {
+        boolean async = fileSystem != null && fileSystem.getExecutor() != null;
+        int result = fileSystem == null
+                ? CALL.FMOD_System_SetFileSystem(ptr, null, null, null, null, null, null, blockAlign)
+                : CALL.FMOD_System_SetFileSystem(ptr, fileSystem.openCallback, fileSystem.closeCallback, fileSystem.readCallback, fileSystem.seekCallback,
+                async ? fileSystem.asyncReadCallback : null, async ? fileSystem.asyncCancelCallback : null, blockAlign);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_SetFileSystem", result);
+        FMODFileSystem.install(ptr, fileSystem);
+    }
+
+    public void setFileSystem(@Nullable FMODFileSystem fileSystem) {
+        setFileSystem(fileSystem, -1);
+    }
 
     /// 'Piggyback' on FMOD file reading routines to capture data as it's read.
     // stub: public void attachFileSystem(/* parameters */) { }
@@ -291,7 +332,7 @@ public class FMODSystemRef {
 
     /// Retrieve the network timeout value.
     public int getNetworkTimeout() {
-        IntByReference timeoutRef = new IntByReference();
+        IntByReference timeoutRef = FMODScratch.get().int0;
         int result = CALL.FMOD_System_GetNetworkTimeout(ptr, timeoutRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_NetworkTimeout", result);
         return timeoutRef.getValue();
@@ -309,7 +350,8 @@ public class FMODSystemRef {
 
     /// Retrieves the FMOD version and build number.
     public Tuplet<Integer> getVersion() {
-        IntByReference verRef = new IntByReference(), buildRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference verRef = scratch.int0, buildRef = scratch.int1;
         int result = CALL.FMOD_System_GetVersion(ptr, verRef, buildRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetVersion", result);
         return new Tuplet<>(buildRef.getValue(), verRef.getValue());
@@ -317,7 +359,7 @@ public class FMODSystemRef {
 
     /// Retrieves an output type specific internal native interface.
     private Pointer getOutputHandle() {
-        PointerByReference handleRef = new PointerByReference();
+        PointerByReference handleRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_GetOutputHandle(ptr, handleRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetOutputHandle", result);
         return handleRef.getValue();
@@ -325,25 +367,42 @@ public class FMODSystemRef {
 
     /// Retrieves the number of currently playing Channels.
     public Tuplet<Integer> getChannelsPlaying() {
-        IntByReference channelsRef = new IntByReference();
-        IntByReference realRef = new IntByReference();
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference channelsRef = scratch.int0;
+        IntByReference realRef = scratch.int1;
         int result = CALL.FMOD_System_GetChannelsPlaying(ptr, channelsRef, realRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetChannelsPlaying", result);
         return new Tuplet<>(channelsRef.getValue(), realRef.getValue());
     }
 
-    /// Retrieves the CPU usage of the Core API.
-    // stub: public float getCPUUsage() { return 0; }
+    /// Retrieves the CPU usage of the Core API, in percent of a core per thread.
+    public FMODCPUUsage getCPUUsage() {
+        return getCPUUsage(new FMODCPUUsage());
+    }
+
+    /// Retrieves the CPU usage of the Core API into an existing structure, returned for convenience.
+    public FMODCPUUsage getCPUUsage(FMODCPUUsage usage) {
+        int result = CALL.FMOD_System_GetCPUUsage(ptr, usage.getPointer());
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_GetCPUUsage", result);
+        usage.read();
+        return usage;
+    }
 
-    /// Retrieves information about file reads.
-    // stub: public String getFileUsage() { return null; }
+    /// Retrieves the number of bytes read from files for samples, streams and other purposes.
+    public Triplet<Long> getFileUsage() {
+        FMODScratch scratch = FMODScratch.get();
+        LongByReference sampleRef = scratch.long0, streamRef = scratch.long1, otherRef = scratch.long2;
+        int result = CALL.FMOD_System_GetFileUsage(ptr, sampleRef, streamRef, otherRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_GetFileUsage", result);
+        return new Triplet<>(sampleRef.getValue(), streamRef.getValue(), otherRef.getValue());
+    }
 
     /// Retrieves the default mix matrix.
     // stub: public float[] getDefaultMixMatrix() { return null; }
 
     /// Retrieves the channel count for a given speaker mode.
     public int getSpeakerModeChannels(int mode) {
-        IntByReference ref = new IntByReference();
+        IntByReference ref = FMODScratch.get().int0;
         int result = CALL.FMOD_System_GetSpeakerModeChannels(ptr, mode, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetSpeakerModeChannels", result);
         return ref.getValue();
@@ -355,7 +414,7 @@ public class FMODSystemRef {
 
     /// Loads a sound into memory.
     public FMODSound createSound(Pointer data, int mode, FMODCreateSoundExInfo exInfo) {
-        PointerByReference soundRef = new PointerByReference();
+        PointerByReference soundRef = FMODScratch.get().pointer0;
         if (exInfo != null) exInfo.write();
         int result = CALL.FMOD_System_CreateSound(ptr, data, mode, exInfo != null ? exInfo.getPointer() : null, soundRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateSound", result);
@@ -363,7 +422,7 @@ public class FMODSystemRef {
     }
 
     public FMODSound createSound(String resource, int mode, FMODCreateSoundExInfo exInfo) {
-        PointerByReference soundRef = new PointerByReference();
+        PointerByReference soundRef = FMODScratch.get().pointer0;
         if (exInfo != null) exInfo.write();
         int result = CALL.FMOD_System_CreateSound(ptr, resource, mode, exInfo != null ? exInfo.getPointer() : null, soundRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateSound", result);
@@ -383,9 +442,97 @@ public class FMODSystemRef {
         return createSound(resource, FMOD_CREATESTREAM);
     }
 
+    /// Memory maps a file and opens it in place (FMOD_OPENMEMORY_POINT), the mapping lives as long as the returned sound.
+    /// The file must not be truncated while the sound is alive.
+    public FMODSound createSoundMapped(Path path, int mode) {
+        Arena arena = Arena.ofShared(); // The cleaner thread unmaps it
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (0xFFFFFFFFL < size) throw new IllegalArgumentException("File too large to be opened from memory: " + path);
+            MemorySegment mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+
+            FMODCreateSoundExInfo exInfo = new FMODCreateSoundExInfo();
+            exInfo.length = (int) size;
+            exInfo.write();
+            PointerByReference soundRef = FMODScratch.get().pointer0;
+            int result = CALL.FMOD_System_CreateSound(ptr, new Pointer(mapping.address()), mode | FMOD_OPENMEMORY_POINT, exInfo.getPointer(), soundRef);
+            if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateSound", result);
+            return new FMODSound(soundRef.getValue(), arena::close);
+        } catch (IOException e) {
+            arena.close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public FMODSound createSoundMapped(Path path) {
+        return createSoundMapped(path, 0);
+    }
+
+    /// Creates an endless stream (FMOD_OPENUSER) whose samples are pulled from the given source, to be fed by a producer thread.
+    public FMODSound createUserStream(int format, int channels, int sampleRate, FMODPcmStreamSource source) {
+        source.bind(format, channels);
+        FMODCreateSoundExInfo exInfo = new FMODCreateSoundExInfo();
+        exInfo.format = format;
+        exInfo.numchannels = channels;
+        exInfo.defaultfrequency = sampleRate;
+        exInfo.decodebuffersize = source.getDecodeFrames();
+        exInfo.length = sampleRate * channels * (format == FMOD_SOUND_FORMAT_PCM16 ? 2 : 4) * 5; // Loops over, only sizes FMOD's view of the stream
+        exInfo.pcmreadcallback = CallbackReference.getFunctionPointer(source.readCallback);
+        exInfo.pcmsetposcallback = CallbackReference.getFunctionPointer(source.setPositionCallback);
+        exInfo.write();
+
+        PointerByReference soundRef = FMODScratch.get().pointer0;
+        int result = CALL.FMOD_System_CreateSound(ptr, (Pointer) null, FMOD_OPENUSER | FMOD_CREATESTREAM | FMOD_LOOP_NORMAL, exInfo.getPointer(), soundRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateSound", result);
+        return new FMODSound(soundRef.getValue(), () -> Reference.reachabilityFence(source)); // Pins the callbacks until released
+    }
+
+    /// Loads a sound on FMOD's asynchronous loader thread (FMOD_NONBLOCKING), the future completes on the given executor once it is ready.
+    /// The non-block callback and user data fields of the extended info are overridden for the call, then restored.
+    public CompletableFuture<FMODSound> createSoundAsync(String resource, int mode, @Nullable FMODCreateSoundExInfo exInfo, Executor executor) {
+        if (exInfo == null) exInfo = new FMODCreateSoundExInfo();
+        FMODNonBlockingLoads.PendingLoad load = FMODNonBlockingLoads.register(executor);
+        Pointer nonBlockCallback = exInfo.nonblockcallback, userData = exInfo.userdata;
+        exInfo.nonblockcallback = FMODNonBlockingLoads.CALLBACK_POINTER;
+        exInfo.userdata = new Pointer(load.token);
+        try {
+            load.created(createSound(resource, mode | FMOD_NONBLOCKING, exInfo));
+        } catch (RuntimeException e) {
+            load.failed(e);
+        } finally {
+            exInfo.nonblockcallback = nonBlockCallback; // Reusing it must not make later loads report to this one
+            exInfo.userdata = userData;
+        }
+        return load.future;
+    }
+
+    public CompletableFuture<FMODSound> createSoundAsync(String resource, int mode, @Nullable FMODCreateSoundExInfo exInfo) {
+        return createSoundAsync(resource, mode, exInfo, ForkJoinPool.commonPool());
+    }
+
+    public CompletableFuture<FMODSound> createSoundAsync(String resource, int mode) {
+        return createSoundAsync(resource, mode, null);
+    }
+
+    public CompletableFuture<FMODSound> createSoundAsync(String resource) {
+        return createSoundAsync(resource, 0);
+    }
+
+    /// Opens a sound for streaming without blocking on the initial buffering.
+    public CompletableFuture<FMODSound> createStreamAsync(String resource, int mode) {
+        return createSoundAsync(resource, mode | FMOD_CREATESTREAM);
+    }
+
+    public CompletableFuture<FMODSound> createStreamAsync(String resource) {
+        return createStreamAsync(resource, 0);
+    }
+
     /// Helper: Internal method to create a DSP by type pointer.
     Pointer createDSPByTypePointer(int dspType) {
-        PointerByReference dspRef = new PointerByReference();
+        PointerByReference dspRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_CreateDSPByType(ptr, dspType, dspRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateDSPByType", result);
         return dspRef.getValue();
@@ -398,7 +545,7 @@ public class FMODSystemRef {
 
     /// Create a ChannelGroup object.
     public FMODChannelGroup createChannelGroup(String name) {
-        PointerByReference groupRef = new PointerByReference();
+        PointerByReference groupRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_CreateChannelGroup(ptr, name, groupRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateChannelGroup", result);
         return new FMODChannelGroup(groupRef.getValue());
@@ -406,7 +553,7 @@ public class FMODSystemRef {
 
     /// Creates a SoundGroup object.
     public FMODSoundGroup createSoundGroup(String name) {
-        PointerByReference groupRef = new PointerByReference();
+        PointerByReference groupRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_CreateSoundGroup(ptr, name, groupRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateSoundGroup", result);
         return new FMODSoundGroup(groupRef.getValue());
@@ -417,27 +564,27 @@ public class FMODSystemRef {
     // stub: public Object createReverb3D() { return null; }
 
     /// Plays a Sound on a Channel.
-    public FMODChannel playSound(FMODSound sound, @Nullable FMODChannelGroupRef group, boolean paused) {
-        PointerByReference channelRef = new PointerByReference();
+    public FMODChannel playSound(FMODSoundRef sound, @Nullable FMODChannelGroupRef group, boolean paused) {
+        PointerByReference channelRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_PlaySound(ptr, sound.ptr, group != null ? group.ptr : null, paused ? 1 : 0, channelRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_PlaySound", result);
-        return new FMODChannel(channelRef.getValue());
+        return FMODHandles.intern(channelRef.getValue(), FMODChannel.class, FMODChannel::new);
     }
 
     /// Plays a DSP on a Channel.
     public FMODChannel playDSP(FMODDSPRef dsp, @Nullable FMODChannelGroupRef group, boolean paused) {
-        PointerByReference channelRef = new PointerByReference();
+        PointerByReference channelRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_PlayDSP(ptr, dsp.ptr, group != null ? group.ptr : null, paused ? 1 : 0, channelRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_PlayDSP", result);
-        return new FMODChannel(channelRef.getValue());
+        return FMODHandles.intern(channelRef.getValue(), FMODChannel.class, FMODChannel::new);
     }
 
     /// Retrieves a handle to a Channel by ID.
     public FMODChannel getChannel(int channelID) {
-        PointerByReference channelRef = new PointerByReference();
+        PointerByReference channelRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_GetChannel(ptr, channelID, channelRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_getChannel", result);
-        return new FMODChannel(channelRef.getValue());
+        return FMODHandles.intern(channelRef.getValue(), FMODChannel.class, FMODChannel::new);
     }
 
     /// Retrieve the description structure for a built-in DSP plug-in.
@@ -445,29 +592,47 @@ public class FMODSystemRef {
 
     /// Retrieves the master ChannelGroup.
     public FMODChannelGroupRef getMasterChannelGroup() {
-        PointerByReference groupRef = new PointerByReference();
+        PointerByReference groupRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_GetMasterChannelGroup(ptr, groupRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetMasterChannelGroup", result);
-        return new FMODChannelGroupRef(groupRef.getValue());
+        return FMODHandles.intern(groupRef.getValue(), FMODChannelGroupRef.class, FMODChannelGroupRef::new);
     }
 
     /// Retrieves the default SoundGroup.
     public FMODSoundGroupRef getMasterSoundGroup() {
-        PointerByReference groupRef = new PointerByReference();
+        PointerByReference groupRef = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_GetMasterSoundGroup(ptr, groupRef);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetMasterSoundGroup", result);
-        return new FMODSoundGroupRef(groupRef.getValue());
+        return FMODHandles.intern(groupRef.getValue(), FMODSoundGroupRef.class, FMODSoundGroupRef::new);
     }
 
     // ---------------------------------------- //
     // Runtime control
     // ---------------------------------------- //
 
-    /// Sets the position, velocity and orientation of the 3D listener.
-    // stub: public void set3DListenerAttributes(int listener, float[] pos, float[] vel, float[] forward, float[] up) { }
-
-    /// Retrieves the 3D listener attributes.
-    // stub: public Object get3DListenerAttributes(int listener) { return null; }
+    /// Sets the position, velocity and orientation of a 3D listener, as {x, y, z} triplets (any may be null to leave it unchanged).
+    public void set3DListenerAttributes(int listener, float @Nullable [] pos, float @Nullable [] vel, float @Nullable [] forward, float @Nullable [] up) {
+        FMODScratch scratch = FMODScratch.get();
+        if (pos != null) scratch.vector0.write(0, pos, 0, 3);
+        if (vel != null) scratch.vector1.write(0, vel, 0, 3);
+        if (forward != null) scratch.vector2.write(0, forward, 0, 3);
+        if (up != null) scratch.vector3.write(0, up, 0, 3);
+        int result = CALL.FMOD_System_Set3DListenerAttributes(ptr, listener, pos != null ? scratch.vector0 : null, vel != null ? scratch.vector1 : null,
+                forward != null ? scratch.vector2 : null, up != null ? scratch.vector3 : null);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_Set3DListenerAttributes", result);
+    }
+
+    /// Retrieves the attributes of a 3D listener into {x, y, z} triplets (any may be null).
+    public void get3DListenerAttributes(int listener, float @Nullable [] pos, float @Nullable [] vel, float @Nullable [] forward, float @Nullable [] up) {
+        FMODScratch scratch = FMODScratch.get();
+        int result = CALL.FMOD_System_Get3DListenerAttributes(ptr, listener, pos != null ? scratch.vector0 : null, vel != null ? scratch.vector1 : null,
+                forward != null ? scratch.vector2 : null, up != null ? scratch.vector3 : null);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_Get3DListenerAttributes", result);
+        if (pos != null) scratch.vector0.read(0, pos, 0, 3);
+        if (vel != null) scratch.vector1.read(0, vel, 0, 3);
+        if (forward != null) scratch.vector2.read(0, forward, 0, 3);
+        if (up != null) scratch.vector3.read(0, up, 0, 3);
+    }
 
     /// Sets parameters for the global reverb environment.
     // stub: public void setReverbProperties(Object reverbProps) { }
@@ -485,42 +650,99 @@ public class FMODSystemRef {
     // Recording
     // ---------------------------------------- //
 
-    /// Retrieves the number of recording devices.
-    // stub: public int getRecordNumDrivers() { return 0; }
-
-    /// Retrieves information about a recording device.
-    // stub: public String getRecordDriverInfo(int driverIndex) { return null; }
+    /// Retrieves the number of recording devices, available and connected.
+    public Tuplet<Integer> getRecordNumDrivers() {
+        FMODScratch scratch = FMODScratch.get();
+        IntByReference driversRef = scratch.int0, connectedRef = scratch.int1;
+        int result = CALL.FMOD_System_GetRecordNumDrivers(ptr, driversRef, connectedRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_GetRecordNumDrivers", result);
+        return new Tuplet<>(driversRef.getValue(), connectedRef.getValue());
+    }
+
+    /// Retrieves the name of a recording device.
+    public String getRecordDriverInfo(int driverIndex) {
+        try (Memory name = new Memory(256)) {
+            int result = CALL.FMOD_System_GetRecordDriverInfo(ptr, driverIndex, name, (int) name.size(), null, null, null, null, null);
+            if (result != FMOD_OK) throw new FMODException("FMOD_System_GetRecordDriverInfo", result);
+            return name.getString(0, "UTF-8");
+        }
+    }
 
-    /// Retrieves the current recording position in PCM sampleCount.
-    // stub: public int getRecordPosition() { return 0; }
+    /// Retrieves the current recording position in PCM samples within the record sound.
+    public int getRecordPosition(int driverIndex) {
+        IntByReference positionRef = FMODScratch.get().int0;
+        int result = CALL.FMOD_System_GetRecordPosition(ptr, driverIndex, positionRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_GetRecordPosition", result);
+        return positionRef.getValue();
+    }
 
-    /// Starts the recording engine.
-    // stub: public void recordStart() { }
+    /// Starts recording into a user created sound, wrapping around to its start if looping.
+    public void recordStart(int driverIndex, FMODSoundRef sound, boolean loop) {
+        int result = CALL.FMOD_System_RecordStart(ptr, driverIndex, sound.ptr, loop ? 1 : 0);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_RecordStart", result);
+    }
 
-    /// Stops the recording engine.
-    // stub: public void recordStop() { }
+    /// Stops recording on a device.
+    public void recordStop(int driverIndex) {
+        int result = CALL.FMOD_System_RecordStop(ptr, driverIndex);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_RecordStop", result);
+    }
 
-    /// Retrieves the state of the recording API.
-    // stub: public boolean isRecording() { return false; }
+    /// Retrieves whether a device is recording.
+    public boolean isRecording(int driverIndex) {
+        IntByReference recordingRef = FMODScratch.get().int0;
+        int result = CALL.FMOD_System_IsRecording(ptr, driverIndex, recordingRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_IsRecording", result);
+        return recordingRef.getValue() != 0;
+    }
 
     // ---------------------------------------- //
     // Geometry management
     // ---------------------------------------- //
 
-    /// Creates a geometry object.
-    // stub: public Object createGeometry(int maxPolygons, int maxVertices) { return null; }
+    /// Creates a geometry object able to hold up to maxPolygons polygons made of maxVertices vertices in total.
+    public FMODGeometry createGeometry(int maxPolygons, int maxVertices) {
+        PointerByReference geometryRef = FMODScratch.get().pointer0;
+        int result = CALL.FMOD_System_CreateGeometry(ptr, maxPolygons, maxVertices, geometryRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_CreateGeometry", result);
+        return new FMODGeometry(geometryRef.getValue());
+    }
 
     /// Sets the maximum world size for the geometry engine.
-    // stub: public void setGeometrySettings(float maxWorldSize) { }
+    public void setGeometrySettings(float maxWorldSize) {
+        int result = CALL.FMOD_System_SetGeometrySettings(ptr, maxWorldSize);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_SetGeometrySettings", result);
+    }
 
     /// Retrieves the maximum world size for the geometry engine.
-    // stub: public float getGeometrySettings() { return 0; }
+    public float getGeometrySettings() {
+        FloatByReference sizeRef = FMODScratch.get().float0;
+        int result = CALL.FMOD_System_GetGeometrySettings(ptr, sizeRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_GetGeometrySettings", result);
+        return sizeRef.getValue();
+    }
 
-    /// Creates a geometry object from pre-saved data.
-    // stub: public Object loadGeometry(byte[] data) { return null; }
+    /// Creates a geometry object from data saved by FMODGeometry::save.
+    public FMODGeometry loadGeometry(byte[] data) {
+        try (Memory buffer = new Memory(Math.max(1, data.length))) {
+            buffer.write(0, data, 0, data.length);
+            PointerByReference geometryRef = FMODScratch.get().pointer0;
+            int result = CALL.FMOD_System_LoadGeometry(ptr, buffer, data.length, geometryRef);
+            if (result != FMOD_OK) throw new FMODException("FMOD_System_LoadGeometry", result);
+            return new FMODGeometry(geometryRef.getValue());
+        }
+    }
 
-    /// Calculates geometry occlusion between a listener and a sound source.
-    // stub: public float getGeometryOcclusion(Object geometry, float[] sourcePos, float[] listenerPos) { return 0; }
+    /// Calculates the direct and reverb occlusion between a listener and a sound source, given as {x, y, z} triplets.
+    public Tuplet<Float> getGeometryOcclusion(float[] listenerPos, float[] sourcePos) {
+        FMODScratch scratch = FMODScratch.get();
+        scratch.vector0.write(0, listenerPos, 0, 3);
+        scratch.vector1.write(0, sourcePos, 0, 3);
+        FloatByReference directRef = scratch.float0, reverbRef = scratch.float1;
+        int result = CALL.FMOD_System_GetGeometryOcclusion(ptr, scratch.vector0, scratch.vector1, directRef, reverbRef);
+        if (result != FMOD_OK) throw new FMODException("FMOD_System_GetGeometryOcclusion", result);
+        return new Tuplet<>(directRef.getValue(), reverbRef.getValue());
+    }
 
     // ---------------------------------------- //
     // General
@@ -545,16 +767,16 @@ public class FMODSystemRef {
     }
 
     /// Retrieves a user value associated with this object.
-    Object getUserData() {
-        PointerByReference ref = new PointerByReference();
+    @Nullable Object getUserData() {
+        PointerByReference ref = FMODScratch.get().pointer0;
         int result = CALL.FMOD_System_GetUserData(ptr, ref);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_GetUserData", result);
-        return USERDATA.get(ref.getValue());
+        return USERDATA.get(Pointer.nativeValue(ref.getValue()));
     }
 
     /// Sets a user value associated with this object.
-    void setUserData(Object userdata) {
-        USERDATA.put(ptr, userdata);
+    void setUserData(@Nullable Object userdata) {
+        putUserData(ptr, userdata);
         int result = CALL.FMOD_System_SetUserData(ptr, ptr);
         if (result != FMOD_OK) throw new FMODException("FMOD_System_SetUserData", result);
     }
@@ -0,0 +1,208 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.*;
+
+import io.github.biglipbob.utils.*;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * The {@code FMODSystemStats} class samples the health of a system: CPU usage per FMOD thread, file reads, memory and channel counts.
+ * <p>
+ * Samples are taken by {@link #sample()}, periodically once {@link #start(long, TimeUnit)}ed, reusing a single {@link FMODCPUUsage} structure.
+ * The latest sample is exposed both as an immutable {@link Snapshot} to pull and as an MXBean once {@link #register(String)}ed.
+ * Systems driven by an owner thread are sampled through its command queue, as they must not be called from elsewhere.
+ * </p>
+ * <p>
+ * A failed periodic sample is counted and kept as the last error, sampling going on until closed or the system handle turns invalid.
+ * Exporters should check {@link Snapshot#failedSamples()} and the sample age rather than trust the latest values blindly.
+ * </p>
+ */
+public final class FMODSystemStats implements FMODSystemStatsMXBean, AutoCloseable {
+
+    /// One sample, CPU usages in percent of a core, memory in bytes, along with the periodic samples failed so far.
+    public record Snapshot(long timestampNanos, float dspCPU, float streamCPU, float geometryCPU, float updateCPU, float convolution1CPU, float convolution2CPU,
+                           long sampleBytesRead, long streamBytesRead, long otherBytesRead, int currentAllocatedBytes, int maxAllocatedBytes,
+                           int channelsPlaying, int realChannels, long failedSamples) {
+        public int virtualChannels() {
+            return channelsPlaying - realChannels;
+        }
+    }
+
+    private static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final FMODSystemRef system;
+    private final FMODCPUUsage usage = new FMODCPUUsage(); // Guarded by itself
+    private volatile Snapshot latest = EMPTY;
+    private volatile long samples;
+    private final AtomicLong failedSamples = new AtomicLong();
+    private volatile @Nullable Throwable lastError;
+    private @Nullable ScheduledExecutorService sampler;
+    private @Nullable ObjectName name;
+
+    public FMODSystemStats(FMODSystemRef system) {
+        this.system = system;
+    }
+
+    /// Samples every period on a daemon thread, until closed.
+    public synchronized FMODSystemStats start(long period, TimeUnit unit) {
+        if (sampler != null) throw new IllegalStateException("Already sampling");
+        FMODCommandQueue queue = system instanceof FMODSystem owned ? owned.getCommandQueue() : null;
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("FMOD Stats").daemon().factory());
+        Runnable task = queue != null ? () -> {
+            try {
+                queue.execute(() -> sampleOrRecord(sampler));
+            } catch (RejectedExecutionException e) { // The owner thread is gone along with the system
+                sampler.shutdown();
+            }
+        } : () -> sampleOrRecord(sampler);
+        this.sampler = sampler;
+        sampler.scheduleAtFixedRate(task, 0, period, unit);
+        return this;
+    }
+
+    /// Periodic sample, never throwing so the schedule is never cancelled by a failure. Stops for good once the system handle is invalid.
+    private void sampleOrRecord(ScheduledExecutorService sampler) {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            lastError = e;
+            failedSamples.incrementAndGet();
+            if (e instanceof FMODException fmod && fmod.getCode() == FMODConstants.FMOD_ERR_INVALID_HANDLE) sampler.shutdown(); // Released system
+        }
+    }
+
+    /// Takes a sample now, on the calling thread.
+    public Snapshot sample() {
+        synchronized (usage) {
+            system.getCPUUsage(usage);
+            Triplet<Long> files = system.getFileUsage();
+            Tuplet<Integer> memory = FMOD.getMemoryStats(false);
+            Tuplet<Integer> channels = system.getChannelsPlaying();
+            Snapshot snapshot = new Snapshot(System.nanoTime(), usage.dsp, usage.stream, usage.geometry, usage.update, usage.convolution1, usage.convolution2,
+                    files.first(), files.second(), files.third(), memory.first(), memory.second(), channels.first(), channels.second(), failedSamples.get());
+            latest = snapshot;
+            samples++;
+            return snapshot;
+        }
+    }
+
+    /// The latest sample, all zeroes before the first one.
+    public Snapshot getSnapshot() {
+        return latest;
+    }
+
+    /// Cause of the last failed periodic sample, if any.
+    public @Nullable Throwable getLastError() {
+        return lastError;
+    }
+
+    // ---------------------------------------- //
+    // JMX
+    // ---------------------------------------- //
+
+    /// Registers the statistics on the platform MBean server as io.github.biglipbob.FMOD:type=SystemStats,name=name, until closed.
+    public synchronized FMODSystemStats register(String name) {
+        if (this.name != null) throw new IllegalStateException("Already registered as " + this.name);
+        try {
+            ObjectName objectName = new ObjectName("io.github.biglipbob.FMOD:type=SystemStats,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            this.name = objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + name, e);
+        }
+        return this;
+    }
+
+    @Override public float getDspCPU() {
+        return latest.dspCPU();
+    }
+
+    @Override public float getStreamCPU() {
+        return latest.streamCPU();
+    }
+
+    @Override public float getGeometryCPU() {
+        return latest.geometryCPU();
+    }
+
+    @Override public float getUpdateCPU() {
+        return latest.updateCPU();
+    }
+
+    @Override public float getConvolutionCPU() {
+        Snapshot snapshot = latest;
+        return snapshot.convolution1CPU() + snapshot.convolution2CPU();
+    }
+
+    @Override public long getSampleBytesRead() {
+        return latest.sampleBytesRead();
+    }
+
+    @Override public long getStreamBytesRead() {
+        return latest.streamBytesRead();
+    }
+
+    @Override public long getOtherBytesRead() {
+        return latest.otherBytesRead();
+    }
+
+    @Override public int getCurrentAllocatedBytes() {
+        return latest.currentAllocatedBytes();
+    }
+
+    @Override public int getMaxAllocatedBytes() {
+        return latest.maxAllocatedBytes();
+    }
+
+    @Override public int getChannelsPlaying() {
+        return latest.channelsPlaying();
+    }
+
+    @Override public int getRealChannels() {
+        return latest.realChannels();
+    }
+
+    @Override public int getVirtualChannels() {
+        return latest.virtualChannels();
+    }
+
+    @Override public long getSamples() {
+        return samples;
+    }
+
+    @Override public long getFailedSamples() {
+        return failedSamples.get();
+    }
+
+    @Override public @Nullable String getLastErrorMessage() {
+        Throwable error = lastError;
+        return error != null ? error.toString() : null;
+    }
+
+    @Override public long getLastSampleAgeMillis() {
+        long timestamp = latest.timestampNanos();
+        return timestamp != 0 ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timestamp) : -1;
+    }
+
+    /// Stops sampling and unregisters the MXBean.
+    @Override public void close() {
+        ScheduledExecutorService sampler;
+        synchronized (this) {
+            sampler = this.sampler;
+            this.sampler = null;
+        }
+        if (sampler != null) sampler.close(); // Outside the lock, waiting for an ongoing sample
+        synchronized (this) {
+            if (name == null) return;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (JMException ignored) { // Already unregistered by someone else
+            }
+            name = null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.biglipbob.FMOD;
+
+/// JMX view of the latest {@link FMODSystemStats} sample, CPU usages in percent of a core.
+public interface FMODSystemStatsMXBean {
+
+    float getDspCPU();
+
+    float getStreamCPU();
+
+    float getGeometryCPU();
+
+    float getUpdateCPU();
+
+    float getConvolutionCPU();
+
+    long getSampleBytesRead();
+
+    long getStreamBytesRead();
+
+    long getOtherBytesRead();
+
+    int getCurrentAllocatedBytes();
+
+    int getMaxAllocatedBytes();
+
+    int getChannelsPlaying();
+
+    int getRealChannels();
+
+    int getVirtualChannels();
+
+    long getSamples();
+
+    /// Periodic samples which failed, the other values being as of the last successful one.
+    long getFailedSamples();
+
+    /// Description of the last failed periodic sample, null if none failed.
+    String getLastErrorMessage();
+
+    /// Milliseconds since the last successful sample, -1 before the first one.
+    long getLastSampleAgeMillis();
+}
@@ -2,6 +2,7 @@ package io.github.biglipbob.FMOD.dsp;
 
 import io.github.biglipbob.FMOD.FMODDSP;
 import io.github.biglipbob.FMOD.FMODSpectrumData;
+import io.github.biglipbob.FMOD.FMODSpectrumReader;
 import io.github.biglipbob.FMOD.FMODSystemRef;
 
 import static io.github.biglipbob.FMOD.FMODConstants.*;
@@ -64,6 +65,11 @@ public class DSPFFT extends FMODDSP {
         return getParameterValueData(FMOD_DSP_FFT_SPECTRUMDATA, FMODSpectrumData.class);
     }
 
+    // FMOD_DSP_FFT_SPECTRUMDATA - Polled without allocating, for visualizers
+    public FMODSpectrumReader createSpectrumReader() {
+        return new FMODSpectrumReader(this);
+    }
+
     // FMOD_DSP_FFT_RMS - RO - float
     public float getRMS() {
         return getParameterValueFloat(FMOD_DSP_FFT_RMS);
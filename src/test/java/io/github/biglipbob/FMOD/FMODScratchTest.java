@@ -0,0 +1,66 @@
+package io.github.biglipbob.FMOD;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.jna.*;
+import com.sun.management.ThreadMXBean;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Getters borrowing their out parameters from {@link FMODScratch} must not allocate, measured against {@link FMODStubFFI}.
+class FMODScratchTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long TOLERANCE = 1024; // Bytes, for the measuring itself
+
+    private static FMODFFI previousCall;
+    private static boolean previousDirect;
+
+    @BeforeAll
+    static void installStub() {
+        previousCall = FMOD.CALL;
+        previousDirect = FMOD.DIRECT;
+        FMOD.CALL = new FMODStubFFI();
+        FMOD.DIRECT = false;
+    }
+
+    @AfterAll
+    static void restore() {
+        FMOD.CALL = previousCall;
+        FMOD.DIRECT = previousDirect;
+    }
+
+    @Test
+    void channelGettersDoNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeAllocationCounting(threads);
+        FMODChannel channel = new FMODChannel(new Memory(8));
+
+        long sink = poll(channel, ITERATIONS); // Warm up, creating the thread's scratch and compiling the getters
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += poll(channel, ITERATIONS);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < TOLERANCE, () -> allocated + " bytes allocated over " + ITERATIONS + " polls");
+        assertNotEquals(Long.MIN_VALUE, sink);
+    }
+
+    private static long poll(FMODChannel channel, int iterations) {
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += (long) channel.getVolume();
+            sink += channel.isPlaying() ? 1 : 0;
+            sink += channel.getPosition();
+            sink += channel.getDSPClockCurrent();
+        }
+        return sink;
+    }
+
+    private static void assumeAllocationCounting(ThreadMXBean threads) {
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counting is unsupported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+}
@@ -0,0 +1,1628 @@
+package io.github.biglipbob.FMOD;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.*;
+
+import static io.github.biglipbob.FMOD.FMODConstants.FMOD_OK;
+
+/**
+ * A do-nothing {@link FMODFFI} backend isolating the overhead of the wrapper layer: every call returns {@code FMOD_OK},
+ * handle out parameters receive the fixed handle of their object kind (so interned wrappers of different kinds never share an address)
+ * and other pointer out parameters receive {@link #DATA}, remaining out parameters are left untouched.
+ * Tests and benchmarks override the few calls whose outputs drive the wrapper (ie matrix sizes or parameter data).
+ * Written by hand against {@link FMODFFI}: new entry points must be added here for the test sources to compile.
+ */
+@SuppressWarnings("SpellCheckingInspection")
+class FMODStubFFI implements FMODFFI {
+
+    // One handle per object kind, backed by real memory so stray reads stay harmless
+    static final Pointer SYSTEM = new Memory(256), SOUND = new Memory(256), CHANNEL = new Memory(256), CHANNEL_GROUP = new Memory(256),
+            SOUND_GROUP = new Memory(256), DSP = new Memory(256), CONNECTION = new Memory(256), REVERB = new Memory(256),
+            GEOMETRY = new Memory(256), SYNC_POINT = new Memory(256);
+
+    /// Handed out for any other pointer out parameter (user data, descriptions, locked sample data...).
+    static final Pointer DATA = new Memory(256);
+
+    @Override public int FMOD_System_Create(PointerByReference system, int headerVersion) {
+        if (system != null) system.setValue(SYSTEM);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Init(Pointer system, int maxChannels, int flags, Pointer extraDriverData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Update(Pointer system) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Close(Pointer system) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Release(Pointer system) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Debug_Initialize(int flags, int mode, FMODDebugCallbackFFI callback, String filename) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Thread_SetAttributes(int type, int affinity, int priority, int stackSize) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Memory_Initialize(Pointer poolMem, int poolLen, FMODMemoryAllocCallbackFFI userAlloc, FMODMemoryReallocCallbackFFI userRealloc, FMODMemoryFreeCallbackFFI userFree, int memTypeFlags) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Memory_GetStats(IntByReference currentAlloced, IntByReference maxAlloced, int blockingBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_File_SetDiskBusy(int busy) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_File_GetDiskBusy(IntByReference busy) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetOutput(Pointer system, int output) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetOutput(Pointer system, IntByReference output) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetNumDrivers(Pointer system, IntByReference numDrivers) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetDriverInfo(Pointer system, int id, Pointer name, int nameLen, Pointer guid, IntByReference systemRate, IntByReference speakerMode, IntByReference speakerModeChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetDriver(Pointer system, int driver) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetDriver(Pointer system, IntByReference driver) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetSoftwareChannels(Pointer system, int numSoftwareChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetSoftwareChannels(Pointer system, IntByReference numSoftwareChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetSoftwareFormat(Pointer system, int sampleRate, int speakerMode, int numRawSpeakers) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetSoftwareFormat(Pointer system, IntByReference sampleRate, IntByReference speakerMode, IntByReference numRawSpeakers) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetDSPBufferSize(Pointer system, int bufferLength, int numBuffers) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetDSPBufferSize(Pointer system, IntByReference bufferLength, IntByReference numBuffers) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetFileSystem(Pointer system, FMODFileOpenCallbackFFI userOpen, FMODFileCloseCallbackFFI userClose, FMODFileReadCallbackFFI userRead, FMODFileSeekCallbackFFI userSeek, FMODFileAsyncReadCallbackFFI userAsyncRead, FMODFileAsyncCancelCallbackFFI userAsyncCancel, int blockAlign) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_AttachFileSystem(Pointer system, FMODFileOpenCallbackFFI userOpen, FMODFileCloseCallbackFFI userClose, FMODFileReadCallbackFFI userRead, FMODFileSeekCallbackFFI userSeek) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetAdvancedSettings(Pointer system, Pointer settings) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetAdvancedSettings(Pointer system, Pointer settings) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetCallback(Pointer system, FMODSystemCallbackFFI callback, int callbackMask) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetPluginPath(Pointer system, String path) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_LoadPlugin(Pointer system, String filename, IntByReference handle, int priority) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_UnloadPlugin(Pointer system, int handle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetNumNestedPlugins(Pointer system, int handle, IntByReference count) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetNestedPlugin(Pointer system, int handle, int index, IntByReference nestedHandle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetNumPlugins(Pointer system, int pluginType, IntByReference numPlugins) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetPluginHandle(Pointer system, int pluginType, int index, IntByReference handle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetPluginInfo(Pointer system, int handle, IntByReference pluginType, Pointer name, int nameLen, IntByReference version) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetOutputByPlugin(Pointer system, int handle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetOutputByPlugin(Pointer system, IntByReference handle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateDSPByPlugin(Pointer system, int handle, PointerByReference dsp) {
+        if (dsp != null) dsp.setValue(DSP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetDSPInfoByPlugin(Pointer system, int handle, PointerByReference description) {
+        if (description != null) description.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_RegisterCodec(Pointer system, Pointer description, IntByReference handle, int priority) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_RegisterDSP(Pointer system, Pointer description, IntByReference handle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_RegisterOutput(Pointer system, Pointer description, IntByReference handle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetSpeakerPosition(Pointer system, int speaker, float x, float y, int activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetSpeakerPosition(Pointer system, int speaker, FloatByReference x, FloatByReference y, IntByReference activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetStreamBufferSize(Pointer system, int fileBufferSize, int fileBufferSizeType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetStreamBufferSize(Pointer system, IntByReference fileBufferSize, IntByReference fileBufferSizeType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Set3DSettings(Pointer system, float dopplerScale, float distanceFactor, float rolloffScale) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Get3DSettings(Pointer system, FloatByReference dopplerScale, FloatByReference distanceFactor, FloatByReference rolloffScale) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Set3DNumListeners(Pointer system, int numListeners) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Get3DNumListeners(Pointer system, IntByReference numListeners) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Set3DListenerAttributes(Pointer system, int listener, Pointer pos, Pointer vel, Pointer forward, Pointer up) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Get3DListenerAttributes(Pointer system, int listener, Pointer pos, Pointer vel, Pointer forward, Pointer up) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_Set3DRolloffCallback(Pointer system, FMOD3DRolloffCallbackFFI callback) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_MixerSuspend(Pointer system) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_MixerResume(Pointer system) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetDefaultMixMatrix(Pointer system, int sourceSpeakerMode, int targetSpeakerMode, Pointer matrix, int matrixHop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetSpeakerModeChannels(Pointer system, int mode, IntByReference channels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetVersion(Pointer system, IntByReference version, IntByReference buildNumber) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetOutputHandle(Pointer system, PointerByReference handle) {
+        if (handle != null) handle.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetChannelsPlaying(Pointer system, IntByReference channels, IntByReference realChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetCPUUsage(Pointer system, Pointer usage) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetFileUsage(Pointer system, LongByReference sampleBytesRead, LongByReference streamBytesRead, LongByReference otherBytesRead) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateSound(Pointer system, Pointer data, int mode, Pointer exinfo, PointerByReference sound) {
+        if (sound != null) sound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateSound(Pointer system, String name, int mode, Pointer exinfo, PointerByReference sound) {
+        if (sound != null) sound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateStream(Pointer system, Pointer data, int mode, Pointer exinfo, PointerByReference sound) {
+        if (sound != null) sound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateStream(Pointer system, String name, int mode, Pointer exinfo, PointerByReference sound) {
+        if (sound != null) sound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateDSP(Pointer system, Pointer description, PointerByReference dsp) {
+        if (dsp != null) dsp.setValue(DSP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateDSPByType(Pointer system, int type, PointerByReference dsp) {
+        if (dsp != null) dsp.setValue(DSP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateChannelGroup(Pointer system, String name, PointerByReference channelGroup) {
+        if (channelGroup != null) channelGroup.setValue(CHANNEL_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateSoundGroup(Pointer system, String name, PointerByReference soundGroup) {
+        if (soundGroup != null) soundGroup.setValue(SOUND_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateReverb3D(Pointer system, PointerByReference reverb) {
+        if (reverb != null) reverb.setValue(REVERB);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_PlaySound(Pointer system, Pointer sound, Pointer channelGroup, int pausedBool, PointerByReference channel) {
+        if (channel != null) channel.setValue(CHANNEL);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_PlayDSP(Pointer system, Pointer dsp, Pointer channelGroup, int pausedBool, PointerByReference channel) {
+        if (channel != null) channel.setValue(CHANNEL);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetChannel(Pointer system, int channelId, PointerByReference channel) {
+        if (channel != null) channel.setValue(CHANNEL);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetDSPInfoByType(Pointer system, int type, PointerByReference description) {
+        if (description != null) description.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetMasterChannelGroup(Pointer system, PointerByReference channelGroup) {
+        if (channelGroup != null) channelGroup.setValue(CHANNEL_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetMasterSoundGroup(Pointer system, PointerByReference soundGroup) {
+        if (soundGroup != null) soundGroup.setValue(SOUND_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_AttachChannelGroupToPort(Pointer system, int portType, int portIndex, Pointer channelGroup, int passThruBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_DetachChannelGroupFromPort(Pointer system, Pointer channelGroup) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetReverbProperties(Pointer system, int instance, Pointer prop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetReverbProperties(Pointer system, int instance, Pointer prop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_LockDSP(Pointer system) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_UnlockDSP(Pointer system) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetRecordNumDrivers(Pointer system, IntByReference numDrivers, IntByReference numConnected) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetRecordDriverInfo(Pointer system, int id, Pointer name, int nameLen, Pointer guid, IntByReference systemRate, IntByReference speakerMode, IntByReference speakerModeChannels, Pointer state) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetRecordPosition(Pointer system, int id, IntByReference position) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_RecordStart(Pointer system, int id, Pointer sound, int loopBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_RecordStop(Pointer system, int id) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_IsRecording(Pointer system, int id, IntByReference recordingBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_CreateGeometry(Pointer system, int maxPolygons, int maxVertices, PointerByReference geometry) {
+        if (geometry != null) geometry.setValue(GEOMETRY);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetGeometrySettings(Pointer system, float maxWorldSize) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetGeometrySettings(Pointer system, FloatByReference maxWorldSize) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_LoadGeometry(Pointer system, Pointer data, int dataSize, PointerByReference geometry) {
+        if (geometry != null) geometry.setValue(GEOMETRY);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetGeometryOcclusion(Pointer system, Pointer listener, Pointer source, FloatByReference direct, FloatByReference reverb) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetNetworkProxy(Pointer system, String proxy) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetNetworkProxy(Pointer system, Pointer proxy, int proxyLen) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetNetworkTimeout(Pointer system, int timeout) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetNetworkTimeout(Pointer system, IntByReference timeout) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_SetUserData(Pointer system, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_System_GetUserData(Pointer system, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Release(Pointer sound) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetSystemObject(Pointer sound, PointerByReference system) {
+        if (system != null) system.setValue(SYSTEM);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Lock(Pointer sound, int offset, int length, PointerByReference ptr1, PointerByReference ptr2, IntByReference len1, IntByReference len2) {
+        if (ptr1 != null) ptr1.setValue(DATA);
+        if (ptr2 != null) ptr2.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Unlock(Pointer sound, Pointer ptr1, Pointer ptr2, int len1, int len2) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetDefaults(Pointer sound, float frequency, int priority) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetDefaults(Pointer sound, FloatByReference frequency, IntByReference priority) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Set3DMinMaxDistance(Pointer sound, float min, float max) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Get3DMinMaxDistance(Pointer sound, FloatByReference min, FloatByReference max) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Set3DConeSettings(Pointer sound, float insideConeAngle, float outsideConeAngle, float outsideVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Get3DConeSettings(Pointer sound, FloatByReference insideConeAngle, FloatByReference outsideConeAngle, FloatByReference outsideVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Set3DCustomRolloff(Pointer sound, Pointer points, int numPoints) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_Get3DCustomRolloff(Pointer sound, PointerByReference points, IntByReference numPoints) {
+        if (points != null) points.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetSubSound(Pointer sound, int index, PointerByReference subSound) {
+        if (subSound != null) subSound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetSubSoundParent(Pointer sound, PointerByReference parentSound) {
+        if (parentSound != null) parentSound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetName(Pointer sound, Pointer name, int nameLen) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetLength(Pointer sound, IntByReference length, int lengthType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetFormat(Pointer sound, IntByReference type, IntByReference format, IntByReference channels, IntByReference bits) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetNumSubSounds(Pointer sound, IntByReference numSubSounds) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetNumTags(Pointer sound, IntByReference numTags, IntByReference numTagsUpdated) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetTag(Pointer sound, String name, int index, Pointer tag) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetOpenState(Pointer sound, IntByReference openState, IntByReference percentBuffered, IntByReference starvingBool, IntByReference diskBusyBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_ReadData(Pointer sound, Pointer buffer, int length, IntByReference read) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SeekData(Pointer sound, int pcm) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetSoundGroup(Pointer sound, Pointer soundGroup) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetSoundGroup(Pointer sound, PointerByReference soundGroup) {
+        if (soundGroup != null) soundGroup.setValue(SOUND_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetNumSyncPoints(Pointer sound, IntByReference numSyncPoints) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetSyncPoint(Pointer sound, int index, PointerByReference point) {
+        if (point != null) point.setValue(SYNC_POINT);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetSyncPointInfo(Pointer sound, Pointer point, Pointer name, int nameLen, IntByReference offset, int offsetType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_AddSyncPoint(Pointer sound, int offset, int offsetType, String name, PointerByReference point) {
+        if (point != null) point.setValue(SYNC_POINT);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_DeleteSyncPoint(Pointer sound, Pointer point) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetMode(Pointer sound, int mode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetMode(Pointer sound, IntByReference mode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetLoopCount(Pointer sound, int loopCount) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetLoopCount(Pointer sound, IntByReference loopCount) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetLoopPoints(Pointer sound, int loopStart, int loopStartType, int loopEnd, int loopEndType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetLoopPoints(Pointer sound, IntByReference loopStart, IntByReference loopStartType, IntByReference loopEnd, IntByReference loopEndType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetMusicNumChannels(Pointer sound, IntByReference numChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetMusicChannelVolume(Pointer sound, int channel, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetMusicChannelVolume(Pointer sound, int channel, FloatByReference volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetMusicSpeed(Pointer sound, float speed) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetMusicSpeed(Pointer sound, FloatByReference speed) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_SetUserData(Pointer sound, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Sound_GetUserData(Pointer sound, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetSystemObject(Pointer channel, PointerByReference system) {
+        if (system != null) system.setValue(SYSTEM);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Stop(Pointer channel) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetPaused(Pointer channel, int pausedBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetPaused(Pointer channel, IntByReference pausedBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetVolume(Pointer channel, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetVolume(Pointer channel, FloatByReference volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetVolumeRamp(Pointer channel, int rampBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetVolumeRamp(Pointer channel, IntByReference rampBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetAudibility(Pointer channel, FloatByReference audibility) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetPitch(Pointer channel, float pitch) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetPitch(Pointer channel, FloatByReference pitch) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetMute(Pointer channel, int muteBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetMute(Pointer channel, IntByReference muteBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetReverbProperties(Pointer channel, int instance, float wet) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetReverbProperties(Pointer channel, int instance, FloatByReference wet) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetLowPassGain(Pointer channel, float gain) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetLowPassGain(Pointer channel, FloatByReference gain) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetMode(Pointer channel, int mode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetMode(Pointer channel, IntByReference mode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetCallback(Pointer channel, FMODChannelCallbackFFI callback) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_IsPlaying(Pointer channel, IntByReference isPlayingBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetPan(Pointer channel, float pan) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetMixLevelsOutput(Pointer channel, float frontLeft, float frontRight, float center, float lfe, float surroundLeft, float surroundRight, float backLeft, float backRight) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetMixLevelsInput(Pointer channel, float[] levels, int numLevels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetMixMatrix(Pointer channel, Pointer matrix, int outChannels, int inChannels, int inChannelHop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetMixMatrix(Pointer channel, Pointer matrix, IntByReference outChannels, IntByReference inChannels, int inChannelHop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetDSPClock(Pointer channel, LongByReference dspClock, LongByReference parentClock) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetDelay(Pointer channel, long dspClockStart, long dspClockEnd, int stopChannelsBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetDelay(Pointer channel, LongByReference dspClockStart, LongByReference dspClockEnd, IntByReference stopChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_AddFadePoint(Pointer channel, long dspClock, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetFadePointRamp(Pointer channel, long dspClock, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_RemoveFadePoints(Pointer channel, long dspClockStart, long dspClockEnd) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetFadePoints(Pointer channel, IntByReference numPoints, Pointer pointDspClock, Pointer pointVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetDSP(Pointer channel, int index, PointerByReference dsp) {
+        if (dsp != null) dsp.setValue(DSP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_AddDSP(Pointer channel, int index, Pointer dsp) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_RemoveDSP(Pointer channel, Pointer dsp) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetNumDSPs(Pointer channel, IntByReference numDsps) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetDSPIndex(Pointer channel, Pointer dsp, int index) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetDSPIndex(Pointer channel, Pointer dsp, IntByReference index) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DAttributes(Pointer channel, Pointer pos, Pointer vel) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DAttributes(Pointer channel, Pointer pos, Pointer vel) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DMinMaxDistance(Pointer channel, float min, float max) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DMinMaxDistance(Pointer channel, FloatByReference min, FloatByReference max) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DConeSettings(Pointer channel, float insideConeAngle, float outsideConeAngle, float outsideVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DConeSettings(Pointer channel, FloatByReference insideConeAngle, FloatByReference outsideConeAngle, FloatByReference outsideVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DConeOrientation(Pointer channel, Pointer orientation) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DConeOrientation(Pointer channel, Pointer orientation) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DCustomRolloff(Pointer channel, Pointer points, int numPoints) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DCustomRolloff(Pointer channel, PointerByReference points, IntByReference numPoints) {
+        if (points != null) points.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DOcclusion(Pointer channel, float directOcclusion, float reverbOcclusion) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DOcclusion(Pointer channel, FloatByReference directOcclusion, FloatByReference reverbOcclusion) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DSpread(Pointer channel, float angle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DSpread(Pointer channel, FloatByReference angle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DLevel(Pointer channel, float level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DLevel(Pointer channel, FloatByReference level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DDopplerLevel(Pointer channel, float level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DDopplerLevel(Pointer channel, FloatByReference level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Set3DDistanceFilter(Pointer channel, int customBool, float customLevel, float centerFreq) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_Get3DDistanceFilter(Pointer channel, IntByReference customBool, FloatByReference customLevel, FloatByReference centerFreq) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetUserData(Pointer channel, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetUserData(Pointer channel, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetFrequency(Pointer channel, float frequency) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetFrequency(Pointer channel, FloatByReference frequency) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetPriority(Pointer channel, int priority) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetPriority(Pointer channel, IntByReference priority) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetPosition(Pointer channel, int position, int posType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetPosition(Pointer channel, IntByReference position, int posType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetChannelGroup(Pointer channel, Pointer channelGroup) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetChannelGroup(Pointer channel, PointerByReference channelGroup) {
+        if (channelGroup != null) channelGroup.setValue(CHANNEL_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetLoopCount(Pointer channel, int loopCount) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetLoopCount(Pointer channel, IntByReference loopCount) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_SetLoopPoints(Pointer channel, int loopStart, int loopStartType, int loopEnd, int loopEndType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetLoopPoints(Pointer channel, IntByReference loopStart, int loopStartType, IntByReference loopEnd, int loopEndType) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_IsVirtual(Pointer channel, IntByReference isVirtual) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetCurrentSound(Pointer channel, PointerByReference sound) {
+        if (sound != null) sound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Channel_GetIndex(Pointer channel, IntByReference index) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetSystemObject(Pointer channelGroup, PointerByReference system) {
+        if (system != null) system.setValue(SYSTEM);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Stop(Pointer channelGroup) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetPaused(Pointer channelGroup, int pausedBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetPaused(Pointer channelGroup, IntByReference pausedBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetVolume(Pointer channelGroup, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetVolume(Pointer channelGroup, FloatByReference volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetVolumeRamp(Pointer channelGroup, int rampBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetVolumeRamp(Pointer channelGroup, IntByReference rampBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetAudibility(Pointer channelGroup, FloatByReference audibility) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetPitch(Pointer channelGroup, float pitch) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetPitch(Pointer channelGroup, FloatByReference pitch) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMute(Pointer channelGroup, int muteBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetMute(Pointer channelGroup, IntByReference muteBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetReverbProperties(Pointer channelGroup, int instance, float wet) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetReverbProperties(Pointer channelGroup, int instance, FloatByReference wet) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetLowPassGain(Pointer channelGroup, float gain) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetLowPassGain(Pointer channelGroup, FloatByReference gain) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMode(Pointer channelGroup, int mode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetMode(Pointer channelGroup, IntByReference mode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetCallback(Pointer channelGroup, FMODChannelGroupCallbackFFI callback) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_IsPlaying(Pointer channelGroup, IntByReference isPlayingBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetPan(Pointer channelGroup, float pan) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMixLevelsOutput(Pointer channelGroup, float frontLeft, float frontRight, float center, float lfe, float surroundLeft, float surroundRight, float backLeft, float backRight) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMixLevelsInput(Pointer channelGroup, float[] levels, int numLevels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetMixMatrix(Pointer channelGroup, Pointer matrix, int outChannels, int inChannels, int inChannelHop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetMixMatrix(Pointer channelGroup, Pointer matrix, IntByReference outChannels, IntByReference inChannels, int inChannelHop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDSPClock(Pointer channelGroup, LongByReference dspClock, LongByReference parentClock) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetDelay(Pointer channelGroup, long dspClockStart, long dspClockEnd, int stopChannelsBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDelay(Pointer channelGroup, LongByReference dspClockStart, LongByReference dspClockEnd, IntByReference stopChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_AddFadePoint(Pointer channelGroup, long dspClock, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetFadePointRamp(Pointer channelGroup, long dspClock, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_RemoveFadePoints(Pointer channelGroup, long dspClockStart, long dspClockEnd) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetFadePoints(Pointer channelGroup, IntByReference numPoints, Pointer pointDspClock, Pointer pointVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDSP(Pointer channelGroup, int index, PointerByReference dsp) {
+        if (dsp != null) dsp.setValue(DSP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_AddDSP(Pointer channelGroup, int index, Pointer dsp) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_RemoveDSP(Pointer channelGroup, Pointer dsp) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetNumDSPs(Pointer channelGroup, IntByReference numDsps) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetDSPIndex(Pointer channelGroup, Pointer dsp, int index) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetDSPIndex(Pointer channelGroup, Pointer dsp, IntByReference index) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DAttributes(Pointer channelGroup, Pointer pos, Pointer vel) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DAttributes(Pointer channelGroup, Pointer pos, Pointer vel) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DMinMaxDistance(Pointer channelGroup, float min, float max) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DMinMaxDistance(Pointer channelGroup, FloatByReference min, FloatByReference max) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DConeSettings(Pointer channelGroup, float insideConeAngle, float outsideConeAngle, float outsideVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DConeSettings(Pointer channelGroup, FloatByReference insideConeAngle, FloatByReference outsideConeAngle, FloatByReference outsideVolume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DConeOrientation(Pointer channelGroup, Pointer orientation) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DConeOrientation(Pointer channelGroup, Pointer orientation) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DCustomRolloff(Pointer channelGroup, Pointer points, int numPoints) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DCustomRolloff(Pointer channelGroup, PointerByReference points, IntByReference numPoints) {
+        if (points != null) points.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DOcclusion(Pointer channelGroup, float directOcclusion, float reverbOcclusion) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DOcclusion(Pointer channelGroup, FloatByReference directOcclusion, FloatByReference reverbOcclusion) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DSpread(Pointer channelGroup, float angle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DSpread(Pointer channelGroup, FloatByReference angle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DLevel(Pointer channelGroup, float level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DLevel(Pointer channelGroup, FloatByReference level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DDopplerLevel(Pointer channelGroup, float level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DDopplerLevel(Pointer channelGroup, FloatByReference level) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Set3DDistanceFilter(Pointer channelGroup, int customBool, float customLevel, float centerFreq) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Get3DDistanceFilter(Pointer channelGroup, IntByReference customBool, FloatByReference customLevel, FloatByReference centerFreq) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_SetUserData(Pointer channelGroup, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetUserData(Pointer channelGroup, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_Release(Pointer channelGroup) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_AddGroup(Pointer channelGroup, Pointer group, int propagateDspClockBool, PointerByReference connection) {
+        if (connection != null) connection.setValue(CONNECTION);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetNumGroups(Pointer channelGroup, IntByReference numGroups) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetGroup(Pointer channelGroup, int index, PointerByReference group) {
+        if (group != null) group.setValue(CHANNEL_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetParentGroup(Pointer channelGroup, PointerByReference group) {
+        if (group != null) group.setValue(CHANNEL_GROUP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetName(Pointer channelGroup, Pointer name, int nameLen) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetNumChannels(Pointer channelGroup, IntByReference numChannels) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_ChannelGroup_GetChannel(Pointer channelGroup, int index, PointerByReference channel) {
+        if (channel != null) channel.setValue(CHANNEL);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_Release(Pointer soundGroup) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetSystemObject(Pointer soundGroup, PointerByReference system) {
+        if (system != null) system.setValue(SYSTEM);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_SetMaxAudible(Pointer soundGroup, int maxAudible) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetMaxAudible(Pointer soundGroup, IntByReference maxAudible) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_SetMaxAudibleBehavior(Pointer soundGroup, int behavior) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetMaxAudibleBehavior(Pointer soundGroup, IntByReference behavior) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_SetMuteFadeSpeed(Pointer soundGroup, float speed) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetMuteFadeSpeed(Pointer soundGroup, FloatByReference speed) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_SetVolume(Pointer soundGroup, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetVolume(Pointer soundGroup, FloatByReference volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_Stop(Pointer soundGroup) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetName(Pointer soundGroup, Pointer name, int nameLen) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetNumSounds(Pointer soundGroup, IntByReference numSounds) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetSound(Pointer soundGroup, int index, PointerByReference sound) {
+        if (sound != null) sound.setValue(SOUND);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetNumPlaying(Pointer soundGroup, IntByReference numPlaying) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_SetUserData(Pointer soundGroup, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_SoundGroup_GetUserData(Pointer soundGroup, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_Release(Pointer dsp) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetSystemObject(Pointer dsp, PointerByReference system) {
+        if (system != null) system.setValue(SYSTEM);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_AddInput(Pointer dsp, Pointer input, PointerByReference connection, int type) {
+        if (connection != null) connection.setValue(CONNECTION);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_DisconnectFrom(Pointer dsp, Pointer target, Pointer connection) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_DisconnectAll(Pointer dsp, int inputsBool, int outputsBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetNumInputs(Pointer dsp, IntByReference numInputs) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetNumOutputs(Pointer dsp, IntByReference numOutputs) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetInput(Pointer dsp, int index, PointerByReference input, PointerByReference inputConnection) {
+        if (input != null) input.setValue(DSP);
+        if (inputConnection != null) inputConnection.setValue(CONNECTION);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetOutput(Pointer dsp, int index, PointerByReference output, PointerByReference outputConnection) {
+        if (output != null) output.setValue(DSP);
+        if (outputConnection != null) outputConnection.setValue(CONNECTION);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetActive(Pointer dsp, int activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetActive(Pointer dsp, IntByReference activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetBypass(Pointer dsp, int bypassBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetBypass(Pointer dsp, IntByReference bypassBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetWetDryMix(Pointer dsp, float prewet, float postwet, float dry) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetWetDryMix(Pointer dsp, FloatByReference prewet, FloatByReference postwet, FloatByReference dry) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetChannelFormat(Pointer dsp, int channelMask, int numChannels, int sourceSpeakerMode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetChannelFormat(Pointer dsp, IntByReference channelMask, IntByReference numChannels, IntByReference sourceSpeakerMode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetOutputChannelFormat(Pointer dsp, int inMask, int inChannels, int inSpeakerMode, IntByReference outMask, IntByReference outChannels, IntByReference outSpeakerMode) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_Reset(Pointer dsp) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetCallback(Pointer dsp, FMODDSPCallbackFFI callback) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetParameterFloat(Pointer dsp, int index, float value) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetParameterInt(Pointer dsp, int index, int value) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetParameterBool(Pointer dsp, int index, int valueBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetParameterData(Pointer dsp, int index, Pointer data, int length) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetParameterFloat(Pointer dsp, int index, FloatByReference value, Pointer valueStr, int valueStrLen) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetParameterInt(Pointer dsp, int index, IntByReference value, Pointer valueStr, int valueStrLen) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetParameterBool(Pointer dsp, int index, IntByReference valueBool, Pointer valueStr, int valueStrLen) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetParameterData(Pointer dsp, int index, PointerByReference data, IntByReference length, Pointer valueStr, int valueStrLen) {
+        if (data != null) data.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetNumParameters(Pointer dsp, IntByReference numParams) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetParameterInfo(Pointer dsp, int index, PointerByReference desc) {
+        if (desc != null) desc.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetDataParameterIndex(Pointer dsp, int dataType, IntByReference index) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_ShowConfigDialog(Pointer dsp, Pointer hwnd, int showBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetInfo(Pointer dsp, Pointer name, IntByReference version, IntByReference channels, IntByReference configWidth, IntByReference configHeight) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetType(Pointer dsp, IntByReference type) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetIdle(Pointer dsp, IntByReference idle) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetUserData(Pointer dsp, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetUserData(Pointer dsp, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_SetMeteringEnabled(Pointer dsp, int inputEnabledBool, int outputEnabledBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetMeteringEnabled(Pointer dsp, IntByReference inputEnabledBool, IntByReference outputEnabledBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetMeteringInfo(Pointer dsp, Pointer inputInfo, Pointer outputInfo) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSP_GetCPUUsage(Pointer dsp, IntByReference exclusiveBool, IntByReference inclusiveBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_GetInput(Pointer dspConnection, PointerByReference input) {
+        if (input != null) input.setValue(DSP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_GetOutput(Pointer dspConnection, PointerByReference output) {
+        if (output != null) output.setValue(DSP);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_SetMix(Pointer dspConnection, float volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_GetMix(Pointer dspConnection, FloatByReference volume) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_SetMixMatrix(Pointer dspConnection, Pointer matrix, int outChannels, int inChannels, int inChannelHop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_GetMixMatrix(Pointer dspConnection, Pointer matrix, IntByReference outChannels, IntByReference inChannels, int inChannelHop) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_GetType(Pointer dspConnection, IntByReference type) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_SetUserData(Pointer dspConnection, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_DSPConnection_GetUserData(Pointer dspConnection, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_Release(Pointer geometry) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_AddPolygon(Pointer geometry, float directOcclusion, float reverbOcclusion, int doublesidedBool, int numVertices, Pointer vertices, IntByReference polygonIndex) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetNumPolygons(Pointer geometry, IntByReference numPolygons) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetMaxPolygons(Pointer geometry, IntByReference maxPolygons, IntByReference maxVertices) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetPolygonNumVertices(Pointer geometry, int index, IntByReference numVertices) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_SetPolygonVertex(Pointer geometry, int index, int vertexIndex, Pointer vertex) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetPolygonVertex(Pointer geometry, int index, int vertexIndex, Pointer vertex) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_SetPolygonAttributes(Pointer geometry, int index, float directOcclusion, float reverbOcclusion, int doublesidedBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetPolygonAttributes(Pointer geometry, int index, FloatByReference directOcclusion, FloatByReference reverbOcclusion, IntByReference doublesided) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_SetActive(Pointer geometry, int activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetActive(Pointer geometry, IntByReference activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_SetRotation(Pointer geometry, Pointer forward, Pointer up) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetRotation(Pointer geometry, Pointer forward, Pointer up) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_SetPosition(Pointer geometry, Pointer position) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetPosition(Pointer geometry, Pointer position) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_SetScale(Pointer geometry, Pointer scale) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetScale(Pointer geometry, Pointer scale) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_Save(Pointer geometry, Pointer data, IntByReference dataSize) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_SetUserData(Pointer geometry, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Geometry_GetUserData(Pointer geometry, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_Release(Pointer reverb3d) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_Set3DAttributes(Pointer reverb3d, Pointer position, float minDistance, float maxDistance) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_Get3DAttributes(Pointer reverb3d, Pointer position, FloatByReference minDistance, FloatByReference maxDistance) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_SetProperties(Pointer reverb3d, Pointer properties) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_GetProperties(Pointer reverb3d, Pointer properties) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_SetActive(Pointer reverb3d, int activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_GetActive(Pointer reverb3d, IntByReference activeBool) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_SetUserData(Pointer reverb3d, Pointer userData) {
+        return FMOD_OK;
+    }
+
+    @Override public int FMOD_Reverb3D_GetUserData(Pointer reverb3d, PointerByReference userData) {
+        if (userData != null) userData.setValue(DATA);
+        return FMOD_OK;
+    }
+}